@@ -0,0 +1,408 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.sun.management.ThreadMXBean;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that measures the bytes allocated by an invocation on the current
+ * thread by {@link ThreadMXBean#getThreadAllocatedBytes(long)} .
+ *
+ * <p>
+ * The invocation is run many times for the warmup first, so that the JIT
+ * compiler has optimized it and the allocations removed by the escape analysis
+ * are not counted. It is then run many times between two readings of the
+ * allocated bytes, which is repeated for some rounds. Only the round that
+ * allocated the fewest bytes is kept, so that an object allocated once by the
+ * JVM itself during a round, such as by the JIT compiler or the class loading,
+ * is not counted as the allocation of the invocation. The numbers of the
+ * invocations and the rounds are given by {@link AllocationOptions} .
+ *
+ * <p>
+ * The bytes allocated by the invocation path of {@link ReflectionTestHelper}
+ * itself are calibrated once per shape of the invocation, which is the kind of
+ * the return type and whether the method is static, with a method of the same
+ * shape that allocates nothing. The calibrated invocation is built in the same
+ * way as the measured one, and its bytes are subtracted from the total before
+ * the average per invocation is rounded up, so an invocation that allocates an
+ * object only once in many invocations is never measured as allocating
+ * nothing. The calibration methods have no parameter, so the calibration does
+ * not cover the number of the arguments. The arguments are passed through the
+ * array reused by {@link ReflectionParameter} and are not copied on the path
+ * that invokes a method handle, but any bytes the path allocates for the
+ * arguments, such as by {@link java.lang.reflect.Method#invoke(Object, Object...)}
+ * when the method handle is not available, are counted as the allocation of the
+ * invocation.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AllocationMeter {
+
+    /**
+     * The management interface of the threads, or {@code null} if the
+     * measurement of the allocated bytes is not supported
+     */
+    private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    /**
+     * Checks if the bytes allocated by a thread can be measured in this JVM.
+     *
+     * @return {@code true} if the allocated bytes can be measured, otherwise
+     *         {@code false}
+     */
+    static boolean isSupported() {
+        return THREAD_MX_BEAN != null && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the bytes allocated per invocation by the invocation path of
+     * {@link ReflectionTestHelper} for a method of the shape given by
+     * {@code returnType} and {@code staticInvocation} , which is calibrated on
+     * the first call.
+     *
+     * @param returnType       The return type of the method
+     * @param staticInvocation {@code true} if the method is static
+     * @return The bytes allocated per invocation by the helper itself
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    static long getOverheadBytes(@NonNull final Class<?> returnType, final boolean staticInvocation) {
+        checkSupported();
+        return perInvocation(Calibration.getOverheadBytes(returnType, staticInvocation),
+                Calibration.OPTIONS.getMeasurementIterations());
+    }
+
+    /**
+     * Returns the bytes allocated per invocation of {@code invocation} on the
+     * current thread with the default {@link AllocationOptions} . Nothing is
+     * subtracted, so all the bytes allocated by {@code invocation} are counted.
+     *
+     * @param invocation The invocation to be measured
+     * @return The bytes allocated per invocation rounded up
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    static long measure(@NonNull final Runnable invocation) {
+        checkSupported();
+
+        final AllocationOptions options = AllocationOptions.newInstance();
+        return perInvocation(measureTotal(invocation, options), options.getMeasurementIterations());
+    }
+
+    /**
+     * Returns the bytes allocated per invocation of {@code invocation} on the
+     * current thread, from which the overhead of the helper for a method of the
+     * shape given by {@code returnType} and {@code staticInvocation} is
+     * subtracted.
+     *
+     * <p>
+     * The overhead is calibrated with the default {@link AllocationOptions} and
+     * is scaled to the number of the measured invocations in {@code options} ,
+     * rounded down so that more than the overhead is never subtracted.
+     *
+     * @param invocation       The invocation to be measured
+     * @param returnType       The return type of the invoked method
+     * @param staticInvocation {@code true} if the invoked method is static
+     * @param options          The options of the measurement
+     * @return The bytes allocated per invocation rounded up, which is never
+     *         negative
+     *
+     * @exception NullPointerException          If {@code null} is passed as an
+     *                                          argument
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    static long measure(@NonNull final Runnable invocation, @NonNull final Class<?> returnType,
+            final boolean staticInvocation, @NonNull final AllocationOptions options) {
+        checkSupported();
+
+        final long overheadBytes = Calibration.getOverheadBytes(returnType, staticInvocation)
+                * options.getMeasurementIterations() / Calibration.OPTIONS.getMeasurementIterations();
+        return perInvocation(Math.max(0L, measureTotal(invocation, options) - overheadBytes),
+                options.getMeasurementIterations());
+    }
+
+    /**
+     * Returns the fewest total bytes allocated by the measured invocations of
+     * {@code invocation} in a round on the current thread without subtracting the
+     * overhead of the helper.
+     *
+     * @param invocation The invocation to be measured
+     * @param options    The options of the measurement
+     * @return The fewest total bytes allocated by the measured invocations of a
+     *         round
+     */
+    private static long measureTotal(final Runnable invocation, final AllocationOptions options) {
+
+        for (int i = 0, warmupIterations = options.getWarmupIterations(); i < warmupIterations; i++) {
+            invocation.run();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final int measurementIterations = options.getMeasurementIterations();
+        long minTotalBytes = Long.MAX_VALUE;
+
+        for (int round = 0, measurementRounds = options.getMeasurementRounds(); round < measurementRounds; round++) {
+
+            final long allocatedBytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < measurementIterations; i++) {
+                invocation.run();
+            }
+
+            minTotalBytes = Math.min(minTotalBytes,
+                    THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - allocatedBytesBefore);
+        }
+
+        return minTotalBytes;
+    }
+
+    /**
+     * Returns the bytes per invocation of {@code totalBytes} allocated by the
+     * {@code measurementIterations} invocations of a round, which is rounded up so
+     * that less than one byte per invocation is not truncated to zero.
+     *
+     * @param totalBytes            The total bytes allocated by the measured
+     *                              invocations
+     * @param measurementIterations The number of the measured invocations
+     * @return The bytes allocated per invocation rounded up
+     */
+    private static long perInvocation(final long totalBytes, final int measurementIterations) {
+        return (totalBytes + measurementIterations - 1) / measurementIterations;
+    }
+
+    /**
+     * Checks if the allocated bytes can be measured in this JVM.
+     *
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException(
+                    "The measurement of the allocated bytes is not supported or is disabled in this JVM.");
+        }
+    }
+
+    /**
+     * Returns the management interface of the threads that can measure the
+     * allocated bytes.
+     *
+     * @return The management interface of the threads, or {@code null} if the
+     *         measurement of the allocated bytes is not supported
+     */
+    private static ThreadMXBean getThreadMXBean() {
+
+        final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        if (!(threadMXBean instanceof ThreadMXBean)) {
+            return null;
+        }
+
+        final ThreadMXBean allocationMXBean = (ThreadMXBean) threadMXBean;
+        return allocationMXBean.isThreadAllocatedMemorySupported() ? allocationMXBean : null;
+    }
+
+    /**
+     * The class that holds the overhead of the helper for each shape of the
+     * invocation, which is calibrated by the first measurement of the shape.
+     */
+    private static final class Calibration {
+
+        /**
+         * The options of the calibration, which are the default options
+         */
+        private static final AllocationOptions OPTIONS = AllocationOptions.newInstance();
+
+        /**
+         * The total bytes allocated by the measured invocations through the
+         * invocation path of the helper, mapped by the calibration method of the
+         * same shape
+         */
+        private static final ConcurrentMap<Method, Long> OVERHEAD_BYTES = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the total bytes allocated by the measured invocations through
+         * the invocation path of the helper for a method of the shape given by
+         * {@code returnType} and {@code staticInvocation} .
+         *
+         * @param returnType       The return type of the method
+         * @param staticInvocation {@code true} if the method is static
+         * @return The total bytes allocated by the helper itself
+         */
+        private static long getOverheadBytes(final Class<?> returnType, final boolean staticInvocation) {
+            return OVERHEAD_BYTES.computeIfAbsent(findCalibrationMethod(returnType, staticInvocation),
+                    Calibration::calibrate);
+        }
+
+        /**
+         * Returns the method of {@link CalibrationTarget} whose invocation has the
+         * same shape as the method of {@code returnType} .
+         *
+         * @param returnType       The return type of the method
+         * @param staticInvocation {@code true} if the method is static
+         * @return The method used for the calibration
+         */
+        private static Method findCalibrationMethod(final Class<?> returnType, final boolean staticInvocation) {
+
+            final Class<?> unboxedReturnType = UnboxedType.of(returnType).getType();
+
+            for (final Method method : CalibrationTarget.class.getDeclaredMethods()) {
+                if (method.getReturnType() == unboxedReturnType
+                        && Modifier.isStatic(method.getModifiers()) == staticInvocation) {
+                    return method;
+                }
+            }
+
+            throw new IllegalStateException(
+                    String.format("No calibration method returns %s.", unboxedReturnType.getName()));
+        }
+
+        /**
+         * Measures the total bytes allocated by the invocations of
+         * {@code calibrationMethod} , which allocates nothing, through the
+         * invocation built in the same way as the measured one.
+         *
+         * @param calibrationMethod The method used for the calibration
+         * @return The total bytes allocated by the helper itself
+         */
+        private static long calibrate(final Method calibrationMethod) {
+
+            final ReflectionMethod<CalibrationTarget, Object> reflectionMethod = Modifier
+                    .isStatic(calibrationMethod.getModifiers())
+                            ? ReflectionMethod.of(ReflectionSut.ofStatic(CalibrationTarget.class))
+                            : ReflectionMethod.from(new CalibrationTarget());
+
+            return measureTotal(reflectionMethod.toUnboxedInvocation(calibrationMethod.getName(),
+                    calibrationMethod.getReturnType()), OPTIONS);
+        }
+    }
+
+    /**
+     * The class that declares the methods used for the calibration, one for each
+     * shape of the invocation.
+     */
+    @SuppressWarnings("unused")
+    private static final class CalibrationTarget {
+
+        /**
+         * Returns {@code null} from a static method.
+         *
+         * @return {@code null}
+         */
+        private static Object returnStaticObject() {
+            return null;
+        }
+
+        /**
+         * Returns {@code 0} from a static method.
+         *
+         * @return {@code 0}
+         */
+        private static int returnStaticInt() {
+            return 0;
+        }
+
+        /**
+         * Returns {@code 0L} from a static method.
+         *
+         * @return {@code 0L}
+         */
+        private static long returnStaticLong() {
+            return 0L;
+        }
+
+        /**
+         * Returns {@code 0.0d} from a static method.
+         *
+         * @return {@code 0.0d}
+         */
+        private static double returnStaticDouble() {
+            return 0.0d;
+        }
+
+        /**
+         * Returns {@code false} from a static method.
+         *
+         * @return {@code false}
+         */
+        private static boolean returnStaticBoolean() {
+            return false;
+        }
+
+        /**
+         * Returns {@code null} from an instance method.
+         *
+         * @return {@code null}
+         */
+        private Object returnObject() {
+            return null;
+        }
+
+        /**
+         * Returns {@code 0} from an instance method.
+         *
+         * @return {@code 0}
+         */
+        private int returnInt() {
+            return 0;
+        }
+
+        /**
+         * Returns {@code 0L} from an instance method.
+         *
+         * @return {@code 0L}
+         */
+        private long returnLong() {
+            return 0L;
+        }
+
+        /**
+         * Returns {@code 0.0d} from an instance method.
+         *
+         * @return {@code 0.0d}
+         */
+        private double returnDouble() {
+            return 0.0d;
+        }
+
+        /**
+         * Returns {@code false} from an instance method.
+         *
+         * @return {@code false}
+         */
+        private boolean returnBoolean() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The class that represents the options of the measurement of the allocated
+ * bytes run by
+ * {@link ReflectionTestHelper#measureAllocatedBytes(String, AllocationOptions)}
+ * .
+ *
+ * <p>
+ * The instance of this class is immutable. Each {@code with} method returns a
+ * new instance with the option changed, so an instance can be shared by many
+ * tests.
+ *
+ * <pre>
+ * final AllocationOptions options = AllocationOptions.newInstance().withWarmupIterations(50000)
+ *         .withMeasurementRounds(10);
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AllocationOptions {
+
+    /**
+     * The default number of the invocations run before the measurement
+     */
+    private static final int DEFAULT_WARMUP_ITERATIONS = 20000;
+
+    /**
+     * The default number of the measured invocations in a round
+     */
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10000;
+
+    /**
+     * The default number of the rounds of the measured invocations
+     */
+    private static final int DEFAULT_MEASUREMENT_ROUNDS = 5;
+
+    /**
+     * The options that have the default values
+     */
+    private static final AllocationOptions DEFAULT_OPTIONS = new AllocationOptions(DEFAULT_WARMUP_ITERATIONS,
+            DEFAULT_MEASUREMENT_ITERATIONS, DEFAULT_MEASUREMENT_ROUNDS);
+
+    /**
+     * The number of the invocations run before the measurement
+     */
+    private final int warmupIterations;
+
+    /**
+     * The number of the measured invocations in a round
+     */
+    private final int measurementIterations;
+
+    /**
+     * The number of the rounds of the measured invocations, of which the round
+     * that allocated the fewest bytes is kept
+     */
+    private final int measurementRounds;
+
+    /**
+     * Returns the instance of {@link AllocationOptions} that has the default
+     * values, in which the method is invoked 20,000 times for the warmup and
+     * then 10,000 times in each of 5 rounds for the measurement.
+     *
+     * @return The instance of {@link AllocationOptions}
+     */
+    public static AllocationOptions newInstance() {
+        return DEFAULT_OPTIONS;
+    }
+
+    /**
+     * Returns the new instance of {@link AllocationOptions} whose number of the
+     * invocations run before the measurement is {@code warmupIterations} . The
+     * warmup lets the JIT compiler remove the allocations that do not escape
+     * before they are measured.
+     *
+     * @param warmupIterations The number of the invocations run before the
+     *                         measurement
+     * @return The new instance of {@link AllocationOptions}
+     *
+     * @exception IllegalArgumentException If {@code warmupIterations} is
+     *                                     negative
+     */
+    public AllocationOptions withWarmupIterations(final int warmupIterations) {
+
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Warmup iterations must not be negative but was %d.", warmupIterations));
+        }
+
+        return new AllocationOptions(warmupIterations, this.measurementIterations, this.measurementRounds);
+    }
+
+    /**
+     * Returns the new instance of {@link AllocationOptions} whose number of the
+     * measured invocations in a round is {@code measurementIterations} . The
+     * bytes per invocation are rounded up, so more invocations measure an object
+     * allocated only once in many invocations more precisely.
+     *
+     * @param measurementIterations The number of the measured invocations in a
+     *                              round
+     * @return The new instance of {@link AllocationOptions}
+     *
+     * @exception IllegalArgumentException If {@code measurementIterations} is
+     *                                     less than 1
+     */
+    public AllocationOptions withMeasurementIterations(final int measurementIterations) {
+
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Measurement iterations must be positive but was %d.", measurementIterations));
+        }
+
+        return new AllocationOptions(this.warmupIterations, measurementIterations, this.measurementRounds);
+    }
+
+    /**
+     * Returns the new instance of {@link AllocationOptions} whose number of the
+     * rounds of the measured invocations is {@code measurementRounds} . Only the
+     * round that allocated the fewest bytes is kept, so more rounds ignore the
+     * objects allocated by the JVM itself during a round more reliably.
+     *
+     * @param measurementRounds The number of the rounds of the measured
+     *                          invocations
+     * @return The new instance of {@link AllocationOptions}
+     *
+     * @exception IllegalArgumentException If {@code measurementRounds} is less
+     *                                     than 1
+     */
+    public AllocationOptions withMeasurementRounds(final int measurementRounds) {
+
+        if (measurementRounds < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Measurement rounds must be positive but was %d.", measurementRounds));
+        }
+
+        return new AllocationOptions(this.warmupIterations, this.measurementIterations, measurementRounds);
+    }
+
+    /**
+     * Returns the number of the invocations run before the measurement.
+     *
+     * @return The number of the invocations run before the measurement
+     */
+    public int getWarmupIterations() {
+        return this.warmupIterations;
+    }
+
+    /**
+     * Returns the number of the measured invocations in a round.
+     *
+     * @return The number of the measured invocations in a round
+     */
+    public int getMeasurementIterations() {
+        return this.measurementIterations;
+    }
+
+    /**
+     * Returns the number of the rounds of the measured invocations.
+     *
+     * @return The number of the rounds of the measured invocations
+     */
+    public int getMeasurementRounds() {
+        return this.measurementRounds;
+    }
+}
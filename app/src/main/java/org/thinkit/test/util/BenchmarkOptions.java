@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The class that represents the options of the benchmark run by
+ * {@link ReflectionTestHelper#benchmark(String, BenchmarkOptions)} .
+ *
+ * <p>
+ * The instance of this class is immutable. Each {@code with} method returns a
+ * new instance with the option changed, so an instance can be shared by many
+ * tests.
+ *
+ * <pre>
+ * final BenchmarkOptions options = BenchmarkOptions.newInstance().withWarmupIterations(50000)
+ *         .withMeasurementIterations(200000);
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkOptions {
+
+    /**
+     * The default number of the invocations run before the measurement
+     */
+    private static final int DEFAULT_WARMUP_ITERATIONS = 20000;
+
+    /**
+     * The default number of the measured invocations
+     */
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 100000;
+
+    /**
+     * The options that have the default values
+     */
+    private static final BenchmarkOptions DEFAULT_OPTIONS = new BenchmarkOptions(DEFAULT_WARMUP_ITERATIONS,
+            DEFAULT_MEASUREMENT_ITERATIONS);
+
+    /**
+     * The number of the invocations run before the measurement
+     */
+    private final int warmupIterations;
+
+    /**
+     * The number of the measured invocations
+     */
+    private final int measurementIterations;
+
+    /**
+     * Returns the instance of {@link BenchmarkOptions} that has the default
+     * values, in which the method is invoked 20,000 times for the warmup and
+     * 100,000 times for the measurement.
+     *
+     * @return The instance of {@link BenchmarkOptions}
+     */
+    public static BenchmarkOptions newInstance() {
+        return DEFAULT_OPTIONS;
+    }
+
+    /**
+     * Returns the new instance of {@link BenchmarkOptions} whose number of the
+     * invocations run before the measurement is {@code warmupIterations} . The
+     * warmup lets the JIT compiler optimize the invocation path and the method
+     * before it is measured.
+     *
+     * @param warmupIterations The number of the invocations run before the
+     *                         measurement
+     * @return The new instance of {@link BenchmarkOptions}
+     *
+     * @exception IllegalArgumentException If {@code warmupIterations} is
+     *                                     negative
+     */
+    public BenchmarkOptions withWarmupIterations(final int warmupIterations) {
+
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Warmup iterations must not be negative but was %d.", warmupIterations));
+        }
+
+        return new BenchmarkOptions(warmupIterations, this.measurementIterations);
+    }
+
+    /**
+     * Returns the new instance of {@link BenchmarkOptions} whose number of the
+     * measured invocations is {@code measurementIterations} .
+     *
+     * @param measurementIterations The number of the measured invocations
+     * @return The new instance of {@link BenchmarkOptions}
+     *
+     * @exception IllegalArgumentException If {@code measurementIterations} is
+     *                                     less than 1
+     */
+    public BenchmarkOptions withMeasurementIterations(final int measurementIterations) {
+
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Measurement iterations must be positive but was %d.", measurementIterations));
+        }
+
+        return new BenchmarkOptions(this.warmupIterations, measurementIterations);
+    }
+
+    /**
+     * Returns the number of the invocations run before the measurement.
+     *
+     * @return The number of the invocations run before the measurement
+     */
+    public int getWarmupIterations() {
+        return this.warmupIterations;
+    }
+
+    /**
+     * Returns the number of the measured invocations.
+     *
+     * @return The number of the measured invocations
+     */
+    public int getMeasurementIterations() {
+        return this.measurementIterations;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.Arrays;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that represents the result of the benchmark of a method run by
+ * {@link ReflectionTestHelper#benchmark(String)} .
+ *
+ * <p>
+ * The latency of every measured invocation is kept, so the percentiles are
+ * exact by the nearest-rank method. Each latency includes one call of
+ * {@link System#nanoTime()} , whose cost is usually a few tens of nanoseconds,
+ * and the invocation through a pre-resolved method handle.
+ *
+ * <pre>
+ * final BenchmarkResult result = ReflectionTestHelper.from(ConcreteClass.class).addArgument(String.class, "test")
+ *         .benchmark("parse");
+ * assertTrue(result.getP99Nanos() &lt; 10000);
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class BenchmarkResult {
+
+    /**
+     * The name of the benchmarked method
+     */
+    private final String methodName;
+
+    /**
+     * The number of the measured invocations
+     */
+    private final int iterations;
+
+    /**
+     * The minimum latency in nanoseconds
+     */
+    private final long minNanos;
+
+    /**
+     * The mean latency in nanoseconds
+     */
+    private final double meanNanos;
+
+    /**
+     * The median latency in nanoseconds
+     */
+    private final long p50Nanos;
+
+    /**
+     * The 99th percentile latency in nanoseconds
+     */
+    private final long p99Nanos;
+
+    /**
+     * The maximum latency in nanoseconds
+     */
+    private final long maxNanos;
+
+    /**
+     * The latencies of all measured invocations sorted in ascending order
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final long[] sortedNanos;
+
+    /**
+     * The constructor.
+     *
+     * @param methodName  The name of the benchmarked method
+     * @param sortedNanos The latencies sorted in ascending order
+     */
+    private BenchmarkResult(final String methodName, final long[] sortedNanos) {
+
+        long totalNanos = 0L;
+
+        for (final long nanos : sortedNanos) {
+            totalNanos += nanos;
+        }
+
+        this.methodName = methodName;
+        this.iterations = sortedNanos.length;
+        this.sortedNanos = sortedNanos;
+        this.minNanos = sortedNanos[0];
+        this.meanNanos = (double) totalNanos / sortedNanos.length;
+        this.p50Nanos = percentileOf(sortedNanos, 50.0d);
+        this.p99Nanos = percentileOf(sortedNanos, 99.0d);
+        this.maxNanos = sortedNanos[sortedNanos.length - 1];
+    }
+
+    /**
+     * Returns the new instance of {@link BenchmarkResult} based on the arguments.
+     * The array of the latencies is sorted in place and is held by the returned
+     * instance.
+     *
+     * @param methodName The name of the benchmarked method
+     * @param nanos      The latencies of the measured invocations
+     * @return The new instance of {@link BenchmarkResult}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code nanos} is empty
+     */
+    static BenchmarkResult of(@NonNull final String methodName, @NonNull final long[] nanos) {
+
+        if (nanos.length == 0) {
+            throw new IllegalArgumentException("At least one latency must be measured.");
+        }
+
+        Arrays.sort(nanos);
+        return new BenchmarkResult(methodName, nanos);
+    }
+
+    /**
+     * Returns the name of the benchmarked method.
+     *
+     * @return The name of the benchmarked method
+     */
+    public String getMethodName() {
+        return this.methodName;
+    }
+
+    /**
+     * Returns the number of the measured invocations.
+     *
+     * @return The number of the measured invocations
+     */
+    public int getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * Returns the minimum latency.
+     *
+     * @return The minimum latency in nanoseconds
+     */
+    public long getMinNanos() {
+        return this.minNanos;
+    }
+
+    /**
+     * Returns the mean latency.
+     *
+     * @return The mean latency in nanoseconds
+     */
+    public double getMeanNanos() {
+        return this.meanNanos;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return The median latency in nanoseconds
+     */
+    public long getP50Nanos() {
+        return this.p50Nanos;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return The 99th percentile latency in nanoseconds
+     */
+    public long getP99Nanos() {
+        return this.p99Nanos;
+    }
+
+    /**
+     * Returns the maximum latency.
+     *
+     * @return The maximum latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Returns the {@code percentile} th percentile latency by the nearest-rank
+     * method.
+     *
+     * @param percentile The percentile from 0 to 100
+     * @return The percentile latency in nanoseconds
+     *
+     * @exception IllegalArgumentException If {@code percentile} is out of range
+     */
+    public long getPercentileNanos(final double percentile) {
+
+        if (!(percentile >= 0.0d && percentile <= 100.0d)) {
+            throw new IllegalArgumentException(
+                    String.format("Percentile must be from 0 to 100 but was %s.", percentile));
+        }
+
+        return percentileOf(this.sortedNanos, percentile);
+    }
+
+    /**
+     * Returns the {@code percentile} th percentile of {@code sortedNanos} by the
+     * nearest-rank method.
+     *
+     * @param sortedNanos The latencies sorted in ascending order
+     * @param percentile  The percentile from 0 to 100
+     * @return The percentile latency
+     */
+    private static long percentileOf(final long[] sortedNanos, final double percentile) {
+        final int rank = (int) Math.ceil(sortedNanos.length * percentile / 100.0d);
+        return sortedNanos[Math.max(0, rank - 1)];
+    }
+}
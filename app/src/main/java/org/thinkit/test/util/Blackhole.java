@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The class that consumes the values returned from the benchmarked method, so
+ * that the JIT compiler cannot remove the invocation as dead code. The value is
+ * compared with nothing and is written to a volatile field only at
+ * exponentially growing intervals chosen by a pseudo-random sequence, which
+ * keeps the cost of the consumption to a few arithmetic operations.
+ *
+ * <p>
+ * The instance of this class is not thread-safe and is used by one benchmark.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class Blackhole {
+
+    /**
+     * The field to which the consumed values are sometimes written
+     */
+    private volatile Object sink;
+
+    /**
+     * The state of the pseudo-random sequence
+     */
+    private int seed = 1;
+
+    /**
+     * The mask that decides when the value is written to {@link #sink}
+     */
+    private int mask = 1;
+
+    /**
+     * Consumes {@code value} .
+     *
+     * @param value The value to be consumed
+     */
+    void consume(final Object value) {
+
+        final int next = this.seed * 1664525 + 1013904223;
+        this.seed = next;
+
+        if ((next & this.mask) == 0) {
+            this.sink = value;
+            this.mask = (this.mask << 1) + 1;
+        }
+    }
+
+    /**
+     * Returns the value written to this blackhole last.
+     *
+     * @return The value written last, or {@code null} if no value has been
+     *         written
+     */
+    Object getSink() {
+        return this.sink;
+    }
+}
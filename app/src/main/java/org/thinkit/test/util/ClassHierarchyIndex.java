@@ -0,0 +1,260 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that indexes the fields and methods declared in a class and all of
+ * its superclasses, including private members. The index is built once by
+ * walking the class hierarchy, after which a member is found by a single hash
+ * lookup regardless of the depth of the hierarchy.
+ *
+ * <p>
+ * When a field or a method with the same signature is declared in more than
+ * one class of the hierarchy, the one declared in the class nearest to the
+ * indexed class wins, in the same way as the Java language resolves a field
+ * access. A field shadowed by a subclass can be found through the index of the
+ * superclass that declares it.
+ *
+ * <p>
+ * When no method matches the signature exactly, the method is resolved from the
+ * overloaded methods with the same name by {@link OverloadResolver} , so that
+ * the argument types may be subtypes, wrappers or primitives of the parameter
+ * types, or may be passed to a variable arity parameter.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+final class ClassHierarchyIndex {
+
+    /**
+     * The indexed class
+     */
+    private final Class<?> type;
+
+    /**
+     * The fields mapped by name
+     */
+    @ToString.Exclude
+    private final Map<String, Field> fields;
+
+    /**
+     * The methods mapped by signature
+     */
+    @ToString.Exclude
+    private final Map<MethodSignature, Method> methods;
+
+    /**
+     * The methods mapped by name, which are the candidates of the overload
+     * resolution
+     */
+    @ToString.Exclude
+    private final Map<String, List<Method>> methodsByName;
+
+    /**
+     * The constructor.
+     *
+     * @param type The class to be indexed
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private ClassHierarchyIndex(@NonNull final Class<?> type) {
+        this.type = type;
+        this.fields = new HashMap<>();
+        this.methods = new HashMap<>();
+        this.methodsByName = new HashMap<>();
+
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            for (final Field field : clazz.getDeclaredFields()) {
+                this.fields.putIfAbsent(field.getName(), field);
+            }
+
+            for (final Method method : clazz.getDeclaredMethods()) {
+                final MethodSignature signature = MethodSignature.of(method.getName(), method.getParameterTypes());
+                final Method indexedMethod = this.methods.putIfAbsent(signature, method);
+
+                if (indexedMethod != null && indexedMethod.isBridge() && !method.isBridge()
+                        && indexedMethod.getDeclaringClass() == clazz) {
+                    this.methods.put(signature, method);
+                }
+            }
+        }
+
+        for (final Method method : this.methods.values()) {
+            this.methodsByName.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link ClassHierarchyIndex} based on the
+     * argument.
+     *
+     * @param type The class to be indexed
+     * @return The new instance of {@link ClassHierarchyIndex}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static ClassHierarchyIndex of(@NonNull final Class<?> type) {
+        return new ClassHierarchyIndex(type);
+    }
+
+    /**
+     * Returns the field associated with {@code fieldName} declared in the indexed
+     * class or the nearest superclass.
+     *
+     * @param fieldName The field name
+     * @return The field
+     *
+     * @throws NoSuchFieldException If a field with the specified name is not found
+     */
+    Field getField(@NonNull final String fieldName) throws NoSuchFieldException {
+
+        final Field field = this.findField(fieldName);
+
+        if (field == null) {
+            throw this.newNoSuchFieldException(fieldName);
+        }
+
+        return field;
+    }
+
+    /**
+     * Returns the field associated with {@code fieldName} declared in the indexed
+     * class or the nearest superclass, or {@code null} if there is no such field.
+     * Unlike {@link #getField(String)} , no exception is created for a missing
+     * field.
+     *
+     * @param fieldName The field name
+     * @return The field, or {@code null} if a field with the specified name is not
+     *         found
+     */
+    Field findField(@NonNull final String fieldName) {
+        return this.fields.get(fieldName);
+    }
+
+    /**
+     * Returns the method associated with {@code signature} declared in the indexed
+     * class or the nearest superclass. If no method matches exactly, the most
+     * specific method applicable to the parameter types of {@code signature} is
+     * resolved from the methods with the same name.
+     *
+     * @param signature The method signature, whose parameter types are regarded as
+     *                  the argument types in the overload resolution
+     * @return The method
+     *
+     * @throws NoSuchMethodException If a matching method is not found or the
+     *                               overload resolution is ambiguous
+     */
+    Method getMethod(@NonNull final MethodSignature signature) throws NoSuchMethodException {
+
+        final OverloadResolution<Method> resolution = this.findMethod(signature);
+
+        if (resolution.isAmbiguous()) {
+            throw resolution.newAmbiguityException();
+        } else if (!resolution.isFound()) {
+            throw this.newNoSuchMethodException(signature);
+        }
+
+        return resolution.get();
+    }
+
+    /**
+     * Resolves the method associated with {@code signature} in the same way as
+     * {@link #getMethod(MethodSignature)} without creating an exception. An
+     * ambiguous overload resolution is reported as such by the returned
+     * {@link OverloadResolution} , so that it is not mistaken for a missing
+     * method.
+     *
+     * @param signature The method signature, whose parameter types are regarded as
+     *                  the argument types in the overload resolution
+     * @return The result that holds the method, or represents that a matching
+     *         method is not found or the overload resolution is ambiguous
+     */
+    OverloadResolution<Method> findMethod(@NonNull final MethodSignature signature) {
+
+        final Method method = this.methods.get(signature);
+
+        if (method != null) {
+            return OverloadResolution.found(method);
+        }
+
+        final List<Method> candidates = this.methodsByName.get(signature.getName());
+
+        if (candidates == null) {
+            return OverloadResolution.absent();
+        }
+
+        return OverloadResolver.find(candidates, signature.getParameterTypes());
+    }
+
+    /**
+     * Returns the exception that reports the field associated with
+     * {@code fieldName} is not found.
+     *
+     * @param fieldName The field name
+     * @return The exception to be thrown
+     */
+    NoSuchFieldException newNoSuchFieldException(@NonNull final String fieldName) {
+        return new NoSuchFieldException(String.format("%s.%s", this.type.getName(), fieldName));
+    }
+
+    /**
+     * Returns the exception that reports the method associated with
+     * {@code signature} is not found. An ambiguous overload resolution is reported
+     * by {@link OverloadResolution#newAmbiguityException()} instead.
+     *
+     * @param signature The method signature
+     * @return The exception to be thrown
+     */
+    NoSuchMethodException newNoSuchMethodException(@NonNull final MethodSignature signature) {
+        return new NoSuchMethodException(toMethodString(this.type, signature));
+    }
+
+    /**
+     * Returns the string representation of the method in the same format as the
+     * message of {@link NoSuchMethodException} thrown by
+     * {@link Class#getDeclaredMethod(String, Class...)} .
+     *
+     * @param type      The class in which the method is looked up
+     * @param signature The method signature
+     * @return The string representation of the method
+     */
+    private static String toMethodString(final Class<?> type, final MethodSignature signature) {
+
+        final StringBuilder builder = new StringBuilder(type.getName()).append('.').append(signature.getName())
+                .append('(');
+        final Class<?>[] parameterTypes = signature.getParameterTypes();
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(parameterTypes[i] == null ? "null" : parameterTypes[i].getName());
+        }
+
+        return builder.append(')').toString();
+    }
+}
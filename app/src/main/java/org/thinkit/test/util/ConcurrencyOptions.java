@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The class that represents the options of the concurrent invocation by
+ * {@link PreparedMethod#invokeAllConcurrently(java.util.List, ConcurrencyOptions)}
+ * .
+ *
+ * <p>
+ * The instance of this class is immutable. Each {@code with} method returns a
+ * new instance with the option changed, so an instance can be shared by many
+ * tests.
+ *
+ * <pre>
+ * final ConcurrencyOptions options = ConcurrencyOptions.newInstance().withMaxConcurrency(100)
+ *         .withTimeout(Duration.ofSeconds(1));
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConcurrencyOptions {
+
+    /**
+     * The default maximum number of the invocations running at the same time
+     */
+    private static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    /**
+     * The options that have the default values
+     */
+    private static final ConcurrencyOptions DEFAULT_OPTIONS = new ConcurrencyOptions(DEFAULT_MAX_CONCURRENCY, null);
+
+    /**
+     * The maximum number of the invocations running at the same time
+     */
+    private final int maxConcurrency;
+
+    /**
+     * The maximum time allowed for each invocation, or {@code null} if there is
+     * no limit
+     */
+    private final Duration timeout;
+
+    /**
+     * Returns the instance of {@link ConcurrencyOptions} that has the default
+     * values, in which at most 64 invocations run at the same time without any
+     * time limit.
+     *
+     * @return The instance of {@link ConcurrencyOptions}
+     */
+    public static ConcurrencyOptions newInstance() {
+        return DEFAULT_OPTIONS;
+    }
+
+    /**
+     * Returns the new instance of {@link ConcurrencyOptions} whose maximum number
+     * of the invocations running at the same time is {@code maxConcurrency} .
+     * When virtual threads are not available, this is also the maximum number of
+     * the platform threads created.
+     *
+     * @param maxConcurrency The maximum number of the invocations running at the
+     *                       same time
+     * @return The new instance of {@link ConcurrencyOptions}
+     *
+     * @exception IllegalArgumentException If {@code maxConcurrency} is less than
+     *                                     1
+     */
+    public ConcurrencyOptions withMaxConcurrency(final int maxConcurrency) {
+
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Max concurrency must be positive but was %d.", maxConcurrency));
+        }
+
+        return new ConcurrencyOptions(maxConcurrency, this.timeout);
+    }
+
+    /**
+     * Returns the new instance of {@link ConcurrencyOptions} whose maximum time
+     * allowed for each invocation is {@code timeout} . The time is measured from
+     * the start of each invocation, and an invocation that does not complete in
+     * time is interrupted.
+     *
+     * @param timeout The maximum time allowed for each invocation
+     * @return The new instance of {@link ConcurrencyOptions}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code timeout} is zero or negative
+     */
+    public ConcurrencyOptions withTimeout(@NonNull final Duration timeout) {
+
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException(String.format("Timeout must be positive but was %s.", timeout));
+        }
+
+        return new ConcurrencyOptions(this.maxConcurrency, timeout);
+    }
+
+    /**
+     * Returns the maximum number of the invocations running at the same time.
+     *
+     * @return The maximum number of the invocations running at the same time
+     */
+    public int getMaxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    /**
+     * Returns the maximum time allowed for each invocation.
+     *
+     * @return The maximum time allowed for each invocation, or
+     *         {@link Optional#empty()} if there is no limit
+     */
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(this.timeout);
+    }
+}
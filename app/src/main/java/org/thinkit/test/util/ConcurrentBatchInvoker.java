@@ -0,0 +1,462 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that runs a batch of invocations concurrently on virtual threads,
+ * which is suitable for the methods that block on I/O.
+ *
+ * <p>
+ * The virtual thread executor is obtained by calling
+ * {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, so this
+ * library can still be compiled and run on the JDK versions without virtual
+ * threads. If the method does not exist, or virtual threads are a preview
+ * feature that is not enabled, a fixed pool of daemon platform threads is used
+ * instead.
+ *
+ * <p>
+ * The number of the invocations running at the same time is limited by a
+ * {@link Semaphore} , and each invocation is interrupted by a watchdog when it
+ * does not complete within the timeout measured from its start. A timed out
+ * invocation releases its permit at once, even if it does not respond to the
+ * interruption.
+ *
+ * <p>
+ * When an invocation fails or times out, no more tuples are submitted and the
+ * invocations still outstanding are cancelled at once by the failed task, so
+ * the rest of the input is not invoked after the first failure.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ConcurrentBatchInvoker {
+
+    /**
+     * The factory method of the virtual thread executor, or {@code null} if the
+     * JDK does not provide it
+     */
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = findVirtualThreadExecutorFactory();
+
+    /**
+     * The factory of the daemon platform threads
+     */
+    private static final ThreadFactory DAEMON_THREAD_FACTORY = runnable -> {
+        final Thread thread = new Thread(runnable, "reflection-test-helper-invoker");
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    /**
+     * Invokes {@code invocation} with each of {@code argumentTuples}
+     * concurrently and returns the results in the order of the tuples. If any
+     * invocation fails or times out, no more tuples are submitted, the
+     * invocations still outstanding are interrupted, and the error of the first
+     * failed tuple in order is thrown.
+     *
+     * @param argumentTuples The tuples of the arguments
+     * @param invocation     The invocation of the method, whose errors are
+     *                       already converted by {@code failureMode}
+     * @param options        The options of the concurrent invocation
+     * @param failureMode    The mode that defines how the errors are reported
+     * @return The results in the order of the tuples
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static Object[] invokeAll(@NonNull final Object[][] argumentTuples,
+            @NonNull final Function<Object[], Object> invocation, @NonNull final ConcurrencyOptions options,
+            @NonNull final FailureMode failureMode) {
+
+        final Object[] results = new Object[argumentTuples.length];
+
+        if (results.length == 0) {
+            return results;
+        }
+
+        final int maxConcurrency = Math.min(options.getMaxConcurrency(), argumentTuples.length);
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final Duration timeout = options.getTimeout().orElse(null);
+        final ExecutorService executor = newExecutor(maxConcurrency);
+        final ScheduledThreadPoolExecutor watchdog = timeout == null ? null : newWatchdog();
+        final long timeoutNanos = timeout == null ? 0L : timeout.toNanos();
+        final InvocationBatch batch = new InvocationBatch();
+        final List<InvocationTask> futures = new ArrayList<>(argumentTuples.length);
+
+        try {
+            for (final Object[] arguments : argumentTuples) {
+                permits.acquire();
+
+                final InvocationTask future = new InvocationTask(() -> invocation.apply(arguments), permits, watchdog,
+                        timeoutNanos, batch);
+
+                futures.add(future);
+                batch.add(future);
+
+                if (batch.isFailed()) {
+                    future.abandon();
+                    break;
+                }
+
+                executor.execute(future);
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                results[i] = await(futures.get(i), timeout, failureMode);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failureMode.toRuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+
+            if (watchdog != null) {
+                watchdog.shutdownNow();
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Checks if the invocations run on virtual threads.
+     *
+     * @return {@code true} if virtual threads are available, otherwise
+     *         {@code false}
+     */
+    static boolean isVirtualThreadAvailable() {
+
+        final ExecutorService executor = newVirtualThreadExecutor();
+
+        if (executor == null) {
+            return false;
+        }
+
+        executor.shutdownNow();
+        return true;
+    }
+
+    /**
+     * Returns the new executor that runs each invocation on a new virtual thread,
+     * or a fixed pool of {@code platformThreads} daemon platform threads if
+     * virtual threads are not available.
+     *
+     * @param platformThreads The number of the platform threads used if virtual
+     *                        threads are not available
+     * @return The new executor
+     */
+    private static ExecutorService newExecutor(final int platformThreads) {
+
+        final ExecutorService executor = newVirtualThreadExecutor();
+
+        if (executor != null) {
+            return executor;
+        }
+
+        return Executors.newFixedThreadPool(platformThreads, DAEMON_THREAD_FACTORY);
+    }
+
+    /**
+     * Returns the new virtual thread executor.
+     *
+     * @return The new virtual thread executor, or {@code null} if virtual threads
+     *         are not available
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY == null) {
+            return null;
+        }
+
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            // Virtual threads are a preview feature that is not enabled
+            return null;
+        }
+    }
+
+    /**
+     * Returns the factory method of the virtual thread executor.
+     *
+     * @return The factory method, or {@code null} if the JDK does not provide it
+     */
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the new watchdog that interrupts the invocations that time out. The
+     * timers of the completed invocations are removed at once, so the memory used
+     * does not depend on the number of the invocations.
+     *
+     * @return The new watchdog
+     */
+    private static ScheduledThreadPoolExecutor newWatchdog() {
+        final ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1, DAEMON_THREAD_FACTORY);
+        watchdog.setRemoveOnCancelPolicy(true);
+        return watchdog;
+    }
+
+    /**
+     * Waits for {@code future} to complete and returns its result.
+     *
+     * @param future      The future of the invocation
+     * @param timeout     The maximum time allowed for each invocation, or
+     *                    {@code null} if there is no limit
+     * @param failureMode The mode that defines how the errors are reported
+     * @return The result of the invocation, or {@code null} if the invocation is
+     *         abandoned after another invocation has failed
+     *
+     * @throws InterruptedException If the current thread is interrupted while
+     *                              waiting
+     */
+    private static Object await(final InvocationTask future, final Duration timeout, final FailureMode failureMode)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (CancellationException e) {
+
+            if (future.isAbandoned()) {
+                // The error of the failed invocation is thrown when it is awaited
+                return null;
+            }
+
+            throw failureMode.toRuntimeException(
+                    new TimeoutException(String.format("The invocation did not complete within %s.", timeout)));
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw failureMode.toRuntimeException(new InvocationTargetException(cause));
+        }
+    }
+
+    /**
+     * The batch of the submitted invocations, which records the first failure and
+     * abandons the invocations still outstanding at that time.
+     */
+    private static final class InvocationBatch {
+
+        /**
+         * The submitted invocations
+         */
+        private final Queue<InvocationTask> tasks = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The flag that indicates whether an invocation has failed
+         */
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        /**
+         * Adds {@code task} to this batch. The caller must check
+         * {@link #isFailed()} after adding, since a task added after the failure is
+         * not abandoned by {@link #fail()} .
+         *
+         * @param task The task to be added
+         */
+        void add(final InvocationTask task) {
+            this.tasks.add(task);
+        }
+
+        /**
+         * Checks if an invocation of this batch has failed.
+         *
+         * @return {@code true} if an invocation has failed, otherwise
+         *         {@code false}
+         */
+        boolean isFailed() {
+            return this.failed.get();
+        }
+
+        /**
+         * Records the failure of an invocation. On the first failure, every other
+         * task of this batch that is not done yet is abandoned.
+         */
+        void fail() {
+            if (this.failed.compareAndSet(false, true)) {
+                for (final InvocationTask task : this.tasks) {
+                    task.abandon();
+                }
+            }
+        }
+    }
+
+    /**
+     * The task of an invocation, which releases its permit when it completes and
+     * is cancelled by the watchdog when it does not complete within the timeout
+     * measured from its start. When it fails or times out, the failure is
+     * recorded to its batch.
+     */
+    private static final class InvocationTask extends FutureTask<Object> {
+
+        /**
+         * The permits of the invocations running at the same time
+         */
+        private final Semaphore permits;
+
+        /**
+         * The watchdog, or {@code null} if there is no time limit
+         */
+        private final ScheduledExecutorService watchdog;
+
+        /**
+         * The maximum time allowed for the invocation in nanoseconds
+         */
+        private final long timeoutNanos;
+
+        /**
+         * The batch to which the failure is recorded
+         */
+        private final InvocationBatch batch;
+
+        /**
+         * The flag that indicates whether the invocation has thrown an exception
+         */
+        private volatile boolean failed;
+
+        /**
+         * The flag that indicates whether the task is being cancelled, which is set
+         * only by the first of the watchdog and the batch
+         */
+        private final AtomicBoolean cancelling = new AtomicBoolean();
+
+        /**
+         * The flag that indicates whether the task is cancelled because another
+         * invocation has failed
+         */
+        private volatile boolean abandoned;
+
+        /**
+         * The constructor.
+         *
+         * @param callable     The invocation
+         * @param permits      The permits of the invocations running at the same
+         *                     time
+         * @param watchdog     The watchdog, or {@code null} if there is no time
+         *                     limit
+         * @param timeoutNanos The maximum time allowed for the invocation in
+         *                     nanoseconds
+         * @param batch        The batch to which the failure is recorded
+         */
+        InvocationTask(final Callable<Object> callable, final Semaphore permits,
+                final ScheduledExecutorService watchdog, final long timeoutNanos, final InvocationBatch batch) {
+            super(callable);
+            this.permits = permits;
+            this.watchdog = watchdog;
+            this.timeoutNanos = timeoutNanos;
+            this.batch = batch;
+        }
+
+        /**
+         * Cancels the task because another invocation has failed, interrupting the
+         * invocation if it is running.
+         */
+        void abandon() {
+            if (this.cancelling.compareAndSet(false, true)) {
+                this.abandoned = true;
+                this.cancel(true);
+            }
+        }
+
+        /**
+         * Cancels the task because it has not completed within the timeout,
+         * interrupting the invocation.
+         */
+        private void timeOut() {
+            if (this.cancelling.compareAndSet(false, true)) {
+                this.cancel(true);
+            }
+        }
+
+        /**
+         * Checks if the task is cancelled because another invocation has failed.
+         *
+         * @return {@code true} if the task is abandoned, otherwise {@code false}
+         */
+        boolean isAbandoned() {
+            return this.abandoned && this.isCancelled();
+        }
+
+        @Override
+        public void run() {
+
+            if (this.watchdog == null) {
+                super.run();
+                return;
+            }
+
+            final ScheduledFuture<?> timer = this.watchdog.schedule(this::timeOut, this.timeoutNanos,
+                    TimeUnit.NANOSECONDS);
+
+            try {
+                super.run();
+            } finally {
+                timer.cancel(false);
+            }
+        }
+
+        @Override
+        protected void setException(final Throwable t) {
+            this.failed = true;
+            super.setException(t);
+        }
+
+        @Override
+        protected void done() {
+
+            this.permits.release();
+
+            if (this.failed || this.isCancelled() && !this.abandoned) {
+                this.batch.fail();
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that invokes a resolved constructor. Like {@link MethodInvoker} ,
+ * the constructor is called through a {@link MethodHandle} adapted to the
+ * generic {@code (Object[])Object} type, and
+ * {@link Constructor#newInstance(Object...)} is used instead if the private
+ * lookup is not permitted or the declaring class is abstract.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+final class ConstructorInvoker {
+
+    /**
+     * The type of the adapted method handle
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * The constructor to be invoked
+     */
+    @Getter
+    private final Constructor<?> constructor;
+
+    /**
+     * The types of the parameters of the constructor
+     */
+    @ToString.Exclude
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * The method handle adapted to {@link #INVOKER_TYPE} , or {@code null} if the
+     * constructor is invoked by {@link Constructor#newInstance(Object...)}
+     */
+    @ToString.Exclude
+    private final MethodHandle methodHandle;
+
+    /**
+     * The constructor.
+     *
+     * @param constructor The accessible constructor to be invoked
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private ConstructorInvoker(@NonNull final Constructor<?> constructor) {
+        this.constructor = constructor;
+        this.parameterTypes = constructor.getParameterTypes();
+        this.methodHandle = toMethodHandle(constructor);
+    }
+
+    /**
+     * Returns the new instance of {@link ConstructorInvoker} based on the
+     * argument.
+     *
+     * @param constructor The accessible constructor to be invoked
+     * @return The new instance of {@link ConstructorInvoker}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static ConstructorInvoker of(@NonNull final Constructor<?> constructor) {
+        return new ConstructorInvoker(constructor);
+    }
+
+    /**
+     * Creates the new instance by invoking the constructor with
+     * {@code arguments} .
+     *
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the constructor
+     * @return The new instance
+     *
+     * @throws InstantiationException    If the declaring class is abstract
+     * @throws IllegalAccessException    If the constructor is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the
+     *                                   constructor
+     * @throws InvocationTargetException If the constructor throws an exception
+     */
+    Object newInstance(@NonNull final Object[] arguments)
+            throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        if (arguments.length != this.parameterTypes.length) {
+            throw new IllegalArgumentException(String.format("Wrong number of arguments: expected %d but was %d.",
+                    this.parameterTypes.length, arguments.length));
+        }
+
+        if (this.methodHandle == null) {
+            return this.constructor.newInstance(arguments);
+        }
+
+        for (int i = 0; i < arguments.length; i++) {
+            this.checkArgument(i, arguments[i]);
+        }
+
+        try {
+            return (Object) this.methodHandle.invokeExact(arguments);
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Checks if the constructor is invoked through a method handle.
+     *
+     * @return {@code true} if the constructor is invoked through a method handle,
+     *         otherwise {@code false}
+     */
+    boolean isMethodHandleInvocation() {
+        return this.methodHandle != null;
+    }
+
+    /**
+     * Checks that {@code argument} can be converted to the type of the
+     * {@code index} th parameter in the same way as
+     * {@link Constructor#newInstance(Object...)} , so that a mismatch is not
+     * mistaken for an exception thrown by the constructor.
+     *
+     * @param index    The index of the argument
+     * @param argument The argument
+     *
+     * @exception IllegalArgumentException If {@code argument} cannot be converted
+     *                                     to the type of the parameter
+     */
+    private void checkArgument(final int index, final Object argument) {
+
+        final Class<?> parameterType = this.parameterTypes[index];
+
+        if (argument == null ? !parameterType.isPrimitive()
+                : parameterType.isInstance(argument)
+                        || OverloadResolver.isLooselyConvertible(argument.getClass(), parameterType)) {
+            return;
+        }
+
+        throw new IllegalArgumentException(String.format("argument type mismatch: %s cannot be passed as %s.",
+                argument == null ? "null" : argument.getClass().getName(), parameterType.getName()));
+    }
+
+    /**
+     * Returns the method handle of {@code constructor} adapted to
+     * {@link #INVOKER_TYPE} .
+     *
+     * @param constructor The accessible constructor
+     * @return The method handle, or {@code null} if the private lookup is not
+     *         permitted or the declaring class is abstract
+     */
+    private static MethodHandle toMethodHandle(final Constructor<?> constructor) {
+
+        final Class<?> declaringClass = constructor.getDeclaringClass();
+
+        if (Modifier.isAbstract(declaringClass.getModifiers())) {
+            return null;
+        }
+
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                    .unreflectConstructor(constructor).asFixedArity()
+                    .asSpreader(Object[].class, constructor.getParameterCount()).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+}
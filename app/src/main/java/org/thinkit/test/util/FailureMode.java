@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * The enum that defines how the errors that occur in the reflection process
+ * are reported to the caller of {@link ReflectionTestHelper} .
+ *
+ * <p>
+ * By default, every error is wrapped in a new {@link IllegalStateException} as
+ * in {@link #WRAPPED} . Since creating an exception captures the stack trace,
+ * tests that drive the private methods of the SUT into their exception paths
+ * many times can use {@link #UNWRAPPED} to receive the exception thrown by the
+ * method itself, or {@link #STACKLESS} to receive a wrapper exception whose
+ * stack trace is not captured.
+ *
+ * <pre>
+ * final ReflectionTestHelper&lt;ConcreteClass, String&gt; reflectionTestHelper = ReflectionTestHelper
+ *         .from(ConcreteClass.class).setFailureMode(FailureMode.UNWRAPPED);
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public enum FailureMode {
+
+    /**
+     * The mode that wraps every error in a new {@link IllegalStateException}
+     */
+    WRAPPED {
+        @Override
+        RuntimeException toRuntimeException(final Exception exception) {
+            return new IllegalStateException(exception);
+        }
+    },
+
+    /**
+     * The mode that rethrows the exception thrown by the invoked method or
+     * constructor as it is. A checked exception is rethrown without being
+     * declared. The other errors in the reflection process, including an argument
+     * or a receiver that cannot be passed to the method, are wrapped in a new
+     * {@link IllegalStateException} in the same way as {@link #WRAPPED} .
+     */
+    UNWRAPPED {
+        @Override
+        RuntimeException toRuntimeException(final Exception exception) {
+
+            if (exception instanceof InvocationTargetException) {
+                final Throwable cause = exception.getCause();
+
+                if (cause instanceof RuntimeException) {
+                    return (RuntimeException) cause;
+                }
+
+                if (cause != null) {
+                    throw FailureMode.<RuntimeException>sneakyThrow(cause);
+                }
+            }
+
+            return new IllegalStateException(exception);
+        }
+    },
+
+    /**
+     * The mode that wraps every error in an {@link IllegalStateException} whose
+     * stack trace is not captured. The exception thrown by the invoked method or
+     * constructor is kept as the cause with its own stack trace.
+     */
+    STACKLESS {
+        @Override
+        RuntimeException toRuntimeException(final Exception exception) {
+            return new StacklessIllegalStateException(exception);
+        }
+    };
+
+    /**
+     * Returns the exception to be thrown to the caller for {@code exception} that
+     * occurred in the reflection process.
+     *
+     * @param exception The exception that occurred in the reflection process
+     * @return The exception to be thrown
+     */
+    abstract RuntimeException toRuntimeException(Exception exception);
+
+    /**
+     * Throws {@code throwable} without declaring it, even if it is a checked
+     * exception.
+     *
+     * @param <X>       The type inferred as the thrown type
+     * @param throwable The throwable to be thrown
+     * @return Never returns
+     *
+     * @throws X Always
+     */
+    @SuppressWarnings("unchecked")
+    private static <X extends Throwable> RuntimeException sneakyThrow(final Throwable throwable) throws X {
+        throw (X) throwable;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The enum that manages the memory semantics used when a field is read or
+ * written by reflection. The modes correspond to the access modes of
+ * {@link VarHandle} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@RequiredArgsConstructor
+public enum FieldAccessMode {
+
+    /**
+     * The plain access, which has the same semantics as a normal field access.
+     */
+    PLAIN(AccessMode.GET, AccessMode.SET),
+
+    /**
+     * The opaque access, which guarantees that the value is actually read from or
+     * written to memory but does not order other accesses. It is enough for
+     * polling a private field that is updated by another thread.
+     */
+    OPAQUE(AccessMode.GET_OPAQUE, AccessMode.SET_OPAQUE),
+
+    /**
+     * The volatile access, which has the same semantics as accessing a field
+     * declared {@code volatile} .
+     */
+    VOLATILE(AccessMode.GET_VOLATILE, AccessMode.SET_VOLATILE);
+
+    /**
+     * The access mode for reading
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AccessMode getAccessMode;
+
+    /**
+     * The access mode for writing
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final AccessMode setAccessMode;
+}
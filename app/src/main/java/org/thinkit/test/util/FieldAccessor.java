@@ -0,0 +1,1006 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that reads and writes a resolved field. The field is accessed
+ * through a {@link VarHandle} obtained by a private lookup on the declaring
+ * class, and each access mode is adapted to a generic method handle once and
+ * then reused. If the private lookup is not permitted, or the access mode is
+ * not supported by the field, for example writing a {@code final} field,
+ * {@link Field} is used instead.
+ *
+ * <p>
+ * The fields of type {@code int} , {@code long} , {@code double} and
+ * {@code boolean} can be accessed through the primitive specialized methods
+ * such as {@link #getInt(Object, FieldAccessMode)} , which never box the value.
+ *
+ * <p>
+ * The receiver is ignored when the field is static.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+final class FieldAccessor {
+
+    /**
+     * The value types of the adapted method handles
+     */
+    private static final Class<?>[] VALUE_TYPES = { Object.class, int.class, long.class, double.class,
+            boolean.class };
+
+    /**
+     * The index of {@link Object} in {@link #VALUE_TYPES}
+     */
+    private static final int OBJECT_INDEX = 0;
+
+    /**
+     * The index of {@code int} in {@link #VALUE_TYPES}
+     */
+    private static final int INT_INDEX = 1;
+
+    /**
+     * The index of {@code long} in {@link #VALUE_TYPES}
+     */
+    private static final int LONG_INDEX = 2;
+
+    /**
+     * The index of {@code double} in {@link #VALUE_TYPES}
+     */
+    private static final int DOUBLE_INDEX = 3;
+
+    /**
+     * The index of {@code boolean} in {@link #VALUE_TYPES}
+     */
+    private static final int BOOLEAN_INDEX = 4;
+
+    /**
+     * The field to be accessed
+     */
+    @Getter
+    private final Field field;
+
+    /**
+     * The var handle of the field, or {@code null} if the field is accessed by
+     * {@link Field}
+     */
+    @ToString.Exclude
+    private final VarHandle varHandle;
+
+    /**
+     * The adapted method handles for each field access mode, read or write, and
+     * value type, which are created lazily
+     */
+    @ToString.Exclude
+    private final MethodHandle[] methodHandles = new MethodHandle[FieldAccessMode.values().length * 2
+            * VALUE_TYPES.length];
+
+    /**
+     * The stats of the reads of the field recorded by {@link ReflectionMetrics} ,
+     * which are looked up lazily
+     */
+    @ToString.Exclude
+    private MemberStats getStats;
+
+    /**
+     * The stats of the writes of the field recorded by {@link ReflectionMetrics}
+     * , which are looked up lazily
+     */
+    @ToString.Exclude
+    private MemberStats setStats;
+
+    /**
+     * The constructor.
+     *
+     * @param field The accessible field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private FieldAccessor(@NonNull final Field field) {
+        this.field = field;
+        this.varHandle = toVarHandle(field);
+    }
+
+    /**
+     * Returns the new instance of {@link FieldAccessor} based on the argument.
+     *
+     * @param field The accessible field
+     * @return The new instance of {@link FieldAccessor}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static FieldAccessor of(@NonNull final Field field) {
+        return new FieldAccessor(field);
+    }
+
+    /**
+     * Checks if the field is static, in which case no receiver is needed.
+     *
+     * @return {@code true} if the field is static, otherwise {@code false}
+     */
+    boolean isStatic() {
+        return Modifier.isStatic(this.field.getModifiers());
+    }
+
+    /**
+     * Returns the value of the field in {@code receiver} .
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class
+     */
+    Object get(final Object receiver, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle getter = this.getMethodHandle(accessMode, false, OBJECT_INDEX);
+
+        if (getter == null) {
+            final Object value = this.field.get(receiver);
+
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.acquireFence();
+            }
+
+            return value;
+        }
+
+        try {
+            return (Object) getter.invokeExact(receiver);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the field in {@code receiver} .
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or {@code value} cannot
+     *                                  be converted to the type of the field
+     */
+    void set(final Object receiver, final Object value, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle setter = this.getMethodHandle(accessMode, true, OBJECT_INDEX);
+
+        if (setter == null) {
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.releaseFence();
+            }
+
+            this.field.set(receiver, value);
+
+            if (accessMode == FieldAccessMode.VOLATILE) {
+                VarHandle.fullFence();
+            }
+
+            return;
+        }
+
+        try {
+            setter.invokeExact(receiver, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the field in {@code receiver} in the same way as
+     * {@link #get(Object, FieldAccessMode)} , and records the read to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @param startNanos The time when the helper started to process the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class
+     */
+    Object getMeasured(final Object receiver, @NonNull final FieldAccessMode accessMode, final long startNanos)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getGetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final Object value = this.get(receiver, accessMode);
+            failed = false;
+            return value;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the field in {@code receiver} in the same way as
+     * {@link #set(Object, Object, FieldAccessMode)} , and records the write to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     * @param startNanos The time when the helper started to process the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or {@code value} cannot
+     *                                  be converted to the type of the field
+     */
+    void setMeasured(final Object receiver, final Object value, @NonNull final FieldAccessMode accessMode,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getSetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.set(receiver, value, accessMode);
+            failed = false;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code int} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field cannot be
+     *                                  converted to {@code int}
+     */
+    int getInt(final Object receiver, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle getter = this.getMethodHandle(accessMode, false, INT_INDEX);
+
+        if (getter == null) {
+            final int value = this.field.getInt(receiver);
+
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.acquireFence();
+            }
+
+            return value;
+        }
+
+        try {
+            return (int) getter.invokeExact(receiver);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code int} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or {@code value} cannot
+     *                                  be converted to the type of the field
+     */
+    void setInt(final Object receiver, final int value, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle setter = this.getMethodHandle(accessMode, true, INT_INDEX);
+
+        if (setter == null) {
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.releaseFence();
+            }
+
+            this.field.setInt(receiver, value);
+
+            if (accessMode == FieldAccessMode.VOLATILE) {
+                VarHandle.fullFence();
+            }
+
+            return;
+        }
+
+        try {
+            setter.invokeExact(receiver, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code long} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field cannot be
+     *                                  converted to {@code long}
+     */
+    long getLong(final Object receiver, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle getter = this.getMethodHandle(accessMode, false, LONG_INDEX);
+
+        if (getter == null) {
+            final long value = this.field.getLong(receiver);
+
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.acquireFence();
+            }
+
+            return value;
+        }
+
+        try {
+            return (long) getter.invokeExact(receiver);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code long} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or {@code value} cannot
+     *                                  be converted to the type of the field
+     */
+    void setLong(final Object receiver, final long value, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle setter = this.getMethodHandle(accessMode, true, LONG_INDEX);
+
+        if (setter == null) {
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.releaseFence();
+            }
+
+            this.field.setLong(receiver, value);
+
+            if (accessMode == FieldAccessMode.VOLATILE) {
+                VarHandle.fullFence();
+            }
+
+            return;
+        }
+
+        try {
+            setter.invokeExact(receiver, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code double} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field cannot be
+     *                                  converted to {@code double}
+     */
+    double getDouble(final Object receiver, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle getter = this.getMethodHandle(accessMode, false, DOUBLE_INDEX);
+
+        if (getter == null) {
+            final double value = this.field.getDouble(receiver);
+
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.acquireFence();
+            }
+
+            return value;
+        }
+
+        try {
+            return (double) getter.invokeExact(receiver);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code double} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or {@code value} cannot
+     *                                  be converted to the type of the field
+     */
+    void setDouble(final Object receiver, final double value, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle setter = this.getMethodHandle(accessMode, true, DOUBLE_INDEX);
+
+        if (setter == null) {
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.releaseFence();
+            }
+
+            this.field.setDouble(receiver, value);
+
+            if (accessMode == FieldAccessMode.VOLATILE) {
+                VarHandle.fullFence();
+            }
+
+            return;
+        }
+
+        try {
+            setter.invokeExact(receiver, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code boolean} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field cannot be
+     *                                  converted to {@code boolean}
+     */
+    boolean getBoolean(final Object receiver, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle getter = this.getMethodHandle(accessMode, false, BOOLEAN_INDEX);
+
+        if (getter == null) {
+            final boolean value = this.field.getBoolean(receiver);
+
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.acquireFence();
+            }
+
+            return value;
+        }
+
+        try {
+            return (boolean) getter.invokeExact(receiver);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code boolean} field in {@code receiver} without
+     * boxing it.
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or {@code value} cannot
+     *                                  be converted to the type of the field
+     */
+    void setBoolean(final Object receiver, final boolean value, @NonNull final FieldAccessMode accessMode)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MethodHandle setter = this.getMethodHandle(accessMode, true, BOOLEAN_INDEX);
+
+        if (setter == null) {
+            if (accessMode != FieldAccessMode.PLAIN) {
+                VarHandle.releaseFence();
+            }
+
+            this.field.setBoolean(receiver, value);
+
+            if (accessMode == FieldAccessMode.VOLATILE) {
+                VarHandle.fullFence();
+            }
+
+            return;
+        }
+
+        try {
+            setter.invokeExact(receiver, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code int} field in {@code receiver} in the same
+     * way as {@link #getInt(Object, FieldAccessMode)} , and records the read to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @param startNanos The time when the helper started to process the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code int}
+     */
+    int getIntMeasured(final Object receiver, @NonNull final FieldAccessMode accessMode, final long startNanos)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getGetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final int value = this.getInt(receiver, accessMode);
+            failed = false;
+            return value;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code int} field in {@code receiver} in the
+     * same way as {@link #setInt(Object, int, FieldAccessMode)} , and records
+     * the write to {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     * @param startNanos The time when the helper started to process the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code int}
+     */
+    void setIntMeasured(final Object receiver, final int value, @NonNull final FieldAccessMode accessMode,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getSetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.setInt(receiver, value, accessMode);
+            failed = false;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code long} field in {@code receiver} in the same
+     * way as {@link #getLong(Object, FieldAccessMode)} , and records the read to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @param startNanos The time when the helper started to process the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code long}
+     */
+    long getLongMeasured(final Object receiver, @NonNull final FieldAccessMode accessMode, final long startNanos)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getGetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final long value = this.getLong(receiver, accessMode);
+            failed = false;
+            return value;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code long} field in {@code receiver} in the
+     * same way as {@link #setLong(Object, long, FieldAccessMode)} , and records
+     * the write to {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     * @param startNanos The time when the helper started to process the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code long}
+     */
+    void setLongMeasured(final Object receiver, final long value, @NonNull final FieldAccessMode accessMode,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getSetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.setLong(receiver, value, accessMode);
+            failed = false;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code double} field in {@code receiver} in the same
+     * way as {@link #getDouble(Object, FieldAccessMode)} , and records the read to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @param startNanos The time when the helper started to process the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code double}
+     */
+    double getDoubleMeasured(final Object receiver, @NonNull final FieldAccessMode accessMode, final long startNanos)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getGetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final double value = this.getDouble(receiver, accessMode);
+            failed = false;
+            return value;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code double} field in {@code receiver} in the
+     * same way as {@link #setDouble(Object, double, FieldAccessMode)} , and records
+     * the write to {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     * @param startNanos The time when the helper started to process the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code double}
+     */
+    void setDoubleMeasured(final Object receiver, final double value, @NonNull final FieldAccessMode accessMode,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getSetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.setDouble(receiver, value, accessMode);
+            failed = false;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Returns the value of the {@code boolean} field in {@code receiver} in the same
+     * way as {@link #getBoolean(Object, FieldAccessMode)} , and records the read to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is read, or {@code null} if the
+     *                   field is static
+     * @param accessMode The memory semantics of the read
+     * @param startNanos The time when the helper started to process the read
+     * @return The value of the field
+     *
+     * @throws IllegalAccessException   If the field is not accessible
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code boolean}
+     */
+    boolean getBooleanMeasured(final Object receiver, @NonNull final FieldAccessMode accessMode, final long startNanos)
+            throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getGetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final boolean value = this.getBoolean(receiver, accessMode);
+            failed = false;
+            return value;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Sets {@code value} to the {@code boolean} field in {@code receiver} in the
+     * same way as {@link #setBoolean(Object, boolean, FieldAccessMode)} , and records
+     * the write to {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object whose field is written, or {@code null} if the
+     *                   field is static
+     * @param value      The value to be set to the field
+     * @param accessMode The memory semantics of the write
+     * @param startNanos The time when the helper started to process the write
+     *
+     * @throws IllegalAccessException   If the field is not accessible or is
+     *                                  {@code static final}
+     * @throws IllegalArgumentException If {@code receiver} is not an instance of
+     *                                  the declaring class or the field is not
+     *                                  {@code boolean}
+     */
+    void setBooleanMeasured(final Object receiver, final boolean value, @NonNull final FieldAccessMode accessMode,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException {
+
+        final MemberStats stats = this.getSetStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.setBoolean(receiver, value, accessMode);
+            failed = false;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Checks if the field is accessed through a var handle.
+     *
+     * @return {@code true} if the field is accessed through a var handle, otherwise
+     *         {@code false}
+     */
+    boolean isVarHandleAccess() {
+        return this.varHandle != null;
+    }
+
+    /**
+     * Returns the stats of the reads of the field recorded by
+     * {@link ReflectionMetrics} . The stats may be looked up more than once by
+     * racing threads, which is harmless because the same instance is returned
+     * every time.
+     *
+     * @return The stats of the reads
+     */
+    private MemberStats getGetStats() {
+
+        MemberStats stats = this.getStats;
+
+        if (stats == null) {
+            stats = ReflectionMetrics.getMemberStats(MemberKind.FIELD_GET, this.field.getDeclaringClass(),
+                    this.field.getName());
+            this.getStats = stats;
+        }
+
+        return stats;
+    }
+
+    /**
+     * Returns the stats of the writes of the field recorded by
+     * {@link ReflectionMetrics} . The stats may be looked up more than once by
+     * racing threads, which is harmless because the same instance is returned
+     * every time.
+     *
+     * @return The stats of the writes
+     */
+    private MemberStats getSetStats() {
+
+        MemberStats stats = this.setStats;
+
+        if (stats == null) {
+            stats = ReflectionMetrics.getMemberStats(MemberKind.FIELD_SET, this.field.getDeclaringClass(),
+                    this.field.getName());
+            this.setStats = stats;
+        }
+
+        return stats;
+    }
+
+    /**
+     * Returns the method handle adapted for reading or writing in
+     * {@code fieldAccessMode} and the value type of
+     * {@code VALUE_TYPES[valueIndex]} . The method handle is created on the first
+     * call and then reused.
+     *
+     * @param fieldAccessMode The field access mode
+     * @param write           {@code true} to write the field, or {@code false} to
+     *                        read it
+     * @param valueIndex      The index of {@link #VALUE_TYPES}
+     * @return The adapted method handle, or {@code null} if the access mode is not
+     *         available through the var handle
+     *
+     * @exception IllegalArgumentException If the type of the field cannot be
+     *                                     converted to the value type
+     */
+    private MethodHandle getMethodHandle(final FieldAccessMode fieldAccessMode, final boolean write,
+            final int valueIndex) {
+
+        final AccessMode accessMode = write ? fieldAccessMode.getSetAccessMode() : fieldAccessMode.getGetAccessMode();
+
+        if (this.varHandle == null || !this.varHandle.isAccessModeSupported(accessMode)) {
+            return null;
+        }
+
+        final int index = (fieldAccessMode.ordinal() * 2 + (write ? 1 : 0)) * VALUE_TYPES.length + valueIndex;
+        final MethodHandle cachedMethodHandle = this.methodHandles[index];
+
+        if (cachedMethodHandle != null) {
+            return cachedMethodHandle;
+        }
+
+        final Class<?> valueType = VALUE_TYPES[valueIndex];
+        final MethodType methodType = this.varHandle.accessModeType(accessMode).returnType() == void.class
+                ? MethodType.methodType(void.class, Object.class, valueType)
+                : MethodType.methodType(valueType, Object.class);
+
+        final MethodHandle methodHandle;
+
+        try {
+            methodHandle = this.adapt(this.varHandle.toMethodHandle(accessMode), methodType);
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException(String.format("The type of %s cannot be converted to %s.",
+                    this.field.getName(), valueType.getName()), e);
+        }
+
+        this.methodHandles[index] = methodHandle;
+        return methodHandle;
+    }
+
+    /**
+     * Adapts {@code methodHandle} so that it always takes the receiver and matches
+     * {@code methodType} .
+     *
+     * @param methodHandle The method handle of the access mode
+     * @param methodType   The adapted method type
+     * @return The adapted method handle
+     */
+    private MethodHandle adapt(final MethodHandle methodHandle, final MethodType methodType) {
+
+        final MethodHandle receiverHandle = Modifier.isStatic(this.field.getModifiers())
+                ? MethodHandles.dropArguments(methodHandle, 0, Object.class)
+                : methodHandle;
+
+        return receiverHandle.asType(methodType);
+    }
+
+    /**
+     * Returns the var handle of {@code field} .
+     *
+     * @param field The accessible field
+     * @return The var handle, or {@code null} if the private lookup is not
+     *         permitted
+     */
+    private static VarHandle toVarHandle(final Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectVarHandle(field);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+}
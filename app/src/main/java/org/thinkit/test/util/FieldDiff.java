@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that reports the instance fields of the SUT whose values differ
+ * between two snapshots captured by {@link ReflectionTestHelper#snapshotFields()}
+ * .
+ *
+ * <pre>
+ * final FieldSnapshot before = reflectionTestHelper.snapshotFields();
+ * reflectionTestHelper.invokeMethod("methodName");
+ * final FieldDiff diff = reflectionTestHelper.diffFields(before);
+ *
+ * assertEquals(List.of("count"), diff.getChangedFieldNames());
+ * assertEquals(1, diff.getAfter("count"));
+ * </pre>
+ *
+ * <p>
+ * The snapshots are compared field by field with the comparators chosen for
+ * the SUT class when its field layout is built. The primitive values are
+ * compared as {@code long} bits without boxing, the arrays of primitive types
+ * are compared by the specialized {@link Arrays#equals(int[], int[])} and the
+ * like, and the other values are compared by
+ * {@link java.util.Objects#deepEquals(Object, Object)} . The report holds only
+ * the indexes of the changed fields, and the values are read from the
+ * snapshots when they are requested.
+ *
+ * <p>
+ * The arrays, the collections and the maps are copied when a snapshot is
+ * captured, so a change made to their elements in place, such as
+ * {@code this.items.add(item)} , is reported. The other objects referenced by
+ * the fields are not copied and are shared between the snapshots, so they are
+ * compared by reference and a change made to them in place is not reported.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class FieldDiff {
+
+    /**
+     * The class of the SUT whose fields are compared
+     */
+    private final Class<?> type;
+
+    /**
+     * The names of the changed fields in the order of the field layout
+     */
+    private final List<String> changedFieldNames;
+
+    /**
+     * The snapshot captured before
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final FieldSnapshot before;
+
+    /**
+     * The snapshot captured after
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final FieldSnapshot after;
+
+    /**
+     * The indexes of the changed fields in the field layout in ascending order
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final int[] changedIndexes;
+
+    /**
+     * The constructor.
+     *
+     * @param before The snapshot captured before
+     * @param after  The snapshot captured after
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the snapshots are not captured from
+     *                                     instances of the same class
+     */
+    private FieldDiff(@NonNull final FieldSnapshot before, @NonNull final FieldSnapshot after) {
+        this.type = before.getType();
+        this.before = before;
+        this.after = after;
+        this.changedIndexes = before.getFieldLayout().findChangedIndexes(before, after);
+
+        final List<String> fieldNames = new ArrayList<>(this.changedIndexes.length);
+
+        for (final int index : this.changedIndexes) {
+            fieldNames.add(before.getFieldLayout().getFieldAccessor(index).getField().getName());
+        }
+
+        this.changedFieldNames = Collections.unmodifiableList(fieldNames);
+    }
+
+    /**
+     * Returns the new instance of {@link FieldDiff} that compares {@code before}
+     * with {@code after} .
+     *
+     * @param before The snapshot captured before
+     * @param after  The snapshot captured after
+     * @return The new instance of {@link FieldDiff}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the snapshots are not captured from
+     *                                     instances of the same class
+     */
+    static FieldDiff of(@NonNull final FieldSnapshot before, @NonNull final FieldSnapshot after) {
+        return new FieldDiff(before, after);
+    }
+
+    /**
+     * Returns the class of the SUT whose fields are compared.
+     *
+     * @return The class of the SUT
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * Checks if no field has changed.
+     *
+     * @return {@code true} if no field has changed, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.changedIndexes.length == 0;
+    }
+
+    /**
+     * Returns the number of the changed fields.
+     *
+     * @return The number of the changed fields
+     */
+    public int size() {
+        return this.changedIndexes.length;
+    }
+
+    /**
+     * Returns the names of the changed fields in the order of the field layout,
+     * that is, the fields declared in the SUT class come first and the fields
+     * declared in its superclasses follow.
+     *
+     * @return The unmodifiable list of the names of the changed fields
+     */
+    public List<String> getChangedFieldNames() {
+        return this.changedFieldNames;
+    }
+
+    /**
+     * Checks if the value of the field associated with {@code fieldName} has
+     * changed.
+     *
+     * @param fieldName The field name
+     * @return {@code true} if the field has changed, otherwise {@code false}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured
+     */
+    public boolean isChanged(@NonNull final String fieldName) {
+
+        final int index = this.before.getFieldLayout().indexOf(fieldName);
+
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    String.format("%s is not an instance field of %s.", fieldName, this.type.getName()));
+        }
+
+        return Arrays.binarySearch(this.changedIndexes, index) >= 0;
+    }
+
+    /**
+     * Returns the value of the field associated with {@code fieldName} captured
+     * before. The value of a primitive field is returned as its wrapper type.
+     *
+     * @param fieldName The field name
+     * @return The value captured before
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured
+     */
+    public Object getBefore(@NonNull final String fieldName) {
+        return this.before.get(fieldName);
+    }
+
+    /**
+     * Returns the value of the field associated with {@code fieldName} captured
+     * after. The value of a primitive field is returned as its wrapper type.
+     *
+     * @param fieldName The field name
+     * @return The value captured after
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured
+     */
+    public Object getAfter(@NonNull final String fieldName) {
+        return this.after.get(fieldName);
+    }
+}
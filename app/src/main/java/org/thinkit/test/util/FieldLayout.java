@@ -0,0 +1,462 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that holds the accessors of all instance fields of a class,
+ * including the fields declared in its superclasses. The layout is built only
+ * once per class and is used to copy the state of an instance field by field
+ * without running any constructor.
+ *
+ * <p>
+ * The values are copied shallowly by {@link #copyValues(Object)} , so objects
+ * referenced by the fields are shared with the instance. When the values are
+ * restored by {@link #restoreValues(Object, Object[])} , the arrays, the
+ * collections and the maps are copied by
+ * {@link ReferenceComparator#copyForRestore(Object)} , so that the instances
+ * restored from the same values do not share them.
+ *
+ * <p>
+ * The kind of each field is also determined when the layout is built. A
+ * snapshot created by {@link #snapshot(Object)} stores the value of each
+ * primitive field as {@code long} bits in a primitive array and the value of
+ * each reference field in an object array, so no primitive value is boxed.
+ *
+ * <p>
+ * The comparator of each reference field is also chosen from its declared type
+ * when the layout is built, so {@link #findChangedIndexes(FieldSnapshot, FieldSnapshot)}
+ * compares two snapshots without inspecting the types of the fields again.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+final class FieldLayout {
+
+    /**
+     * The class whose fields are held
+     */
+    private final Class<?> type;
+
+    /**
+     * The kind of the fields of reference type
+     */
+    static final int REFERENCE_KIND = 0;
+
+    /**
+     * The kind of the fields of {@code byte} , {@code short} , {@code char} or
+     * {@code int} type
+     */
+    static final int INT_KIND = 1;
+
+    /**
+     * The kind of the fields of {@code long} type
+     */
+    static final int LONG_KIND = 2;
+
+    /**
+     * The kind of the fields of {@code float} or {@code double} type
+     */
+    static final int DOUBLE_KIND = 3;
+
+    /**
+     * The kind of the fields of {@code boolean} type
+     */
+    static final int BOOLEAN_KIND = 4;
+
+    /**
+     * The accessors of the instance fields
+     */
+    @ToString.Exclude
+    private final FieldAccessor[] fieldAccessors;
+
+    /**
+     * The kinds of the instance fields
+     */
+    @ToString.Exclude
+    private final int[] kinds;
+
+    /**
+     * The comparators of the instance fields, which are used only for the
+     * reference fields
+     */
+    @ToString.Exclude
+    private final ReferenceComparator[] comparators;
+
+    /**
+     * The indexes in the primitive array or the reference array of a snapshot
+     */
+    @ToString.Exclude
+    private final int[] slots;
+
+    /**
+     * The number of the primitive fields
+     */
+    @ToString.Exclude
+    private final int primitiveCount;
+
+    /**
+     * The number of the reference fields
+     */
+    @ToString.Exclude
+    private final int referenceCount;
+
+    /**
+     * The indexes of the instance fields mapped by name. If a field is shadowed,
+     * the one declared in the class nearest to the class of this layout wins.
+     */
+    @ToString.Exclude
+    private final Map<String, Integer> fieldIndexes;
+
+    /**
+     * The constructor.
+     *
+     * @param type The class whose fields are held
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchFieldException If a field cannot be resolved
+     * @throws SecurityException    If the access to a field is denied
+     */
+    private FieldLayout(@NonNull final Class<?> type) throws NoSuchFieldException, SecurityException {
+        this.type = type;
+        this.fieldAccessors = toFieldAccessors(type);
+        this.kinds = new int[this.fieldAccessors.length];
+        this.slots = new int[this.fieldAccessors.length];
+        this.comparators = new ReferenceComparator[this.fieldAccessors.length];
+        this.fieldIndexes = new HashMap<>();
+
+        int primitiveIndex = 0;
+        int referenceIndex = 0;
+
+        for (int i = 0; i < this.fieldAccessors.length; i++) {
+            final Field field = this.fieldAccessors[i].getField();
+            this.kinds[i] = toKind(field.getType());
+            this.slots[i] = this.kinds[i] == REFERENCE_KIND ? referenceIndex++ : primitiveIndex++;
+            this.comparators[i] = ReferenceComparator.of(field.getType());
+            this.fieldIndexes.putIfAbsent(field.getName(), i);
+        }
+
+        this.primitiveCount = primitiveIndex;
+        this.referenceCount = referenceIndex;
+    }
+
+    /**
+     * Returns the new instance of {@link FieldLayout} based on the argument.
+     *
+     * @param type The class whose fields are held
+     * @return The new instance of {@link FieldLayout}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchFieldException If a field cannot be resolved
+     * @throws SecurityException    If the access to a field is denied
+     */
+    static FieldLayout of(@NonNull final Class<?> type) throws NoSuchFieldException, SecurityException {
+        return new FieldLayout(type);
+    }
+
+    /**
+     * Returns the class whose fields are held.
+     *
+     * @return The class whose fields are held
+     */
+    Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the number of the instance fields.
+     *
+     * @return The number of the instance fields
+     */
+    int size() {
+        return this.fieldAccessors.length;
+    }
+
+    /**
+     * Returns the index of the instance field associated with {@code fieldName} .
+     *
+     * @param fieldName The field name
+     * @return The index of the field, or {@code -1} if there is no such instance
+     *         field
+     */
+    int indexOf(@NonNull final String fieldName) {
+        final Integer index = this.fieldIndexes.get(fieldName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the accessor of the instance field at {@code index} .
+     *
+     * @param index The index of the field
+     * @return The accessor of the field
+     */
+    FieldAccessor getFieldAccessor(final int index) {
+        return this.fieldAccessors[index];
+    }
+
+    /**
+     * Returns the kind of the instance field at {@code index} , which is one of
+     * {@link #REFERENCE_KIND} , {@link #INT_KIND} , {@link #LONG_KIND} ,
+     * {@link #DOUBLE_KIND} and {@link #BOOLEAN_KIND} .
+     *
+     * @param index The index of the field
+     * @return The kind of the field
+     */
+    int getKind(final int index) {
+        return this.kinds[index];
+    }
+
+    /**
+     * Returns the index in the primitive array or the reference array of a
+     * snapshot in which the value of the instance field at {@code index} is
+     * stored.
+     *
+     * @param index The index of the field
+     * @return The index in the array of a snapshot
+     */
+    int getSlot(final int index) {
+        return this.slots[index];
+    }
+
+    /**
+     * Returns the snapshot of the values of all instance fields of
+     * {@code instance} . The primitive values are read without being boxed, and
+     * the arrays, the collections and the maps referenced by the fields are
+     * copied so that a later change to their elements does not affect the
+     * snapshot.
+     *
+     * @param instance The instance whose fields are read
+     * @return The snapshot of the instance fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code instance} is not an instance
+     *                                     of the class of this layout
+     * @exception IllegalStateException    If the copy constructor of a collection
+     *                                     or a map fails
+     * @throws IllegalAccessException If a field is not accessible
+     */
+    FieldSnapshot snapshot(@NonNull final Object instance) throws IllegalAccessException {
+
+        this.checkInstance(instance);
+
+        final long[] primitiveValues = new long[this.primitiveCount];
+        final Object[] referenceValues = new Object[this.referenceCount];
+
+        for (int i = 0; i < this.fieldAccessors.length; i++) {
+            final FieldAccessor fieldAccessor = this.fieldAccessors[i];
+            final int slot = this.slots[i];
+
+            switch (this.kinds[i]) {
+                case INT_KIND:
+                    primitiveValues[slot] = fieldAccessor.getInt(instance, FieldAccessMode.PLAIN);
+                    break;
+                case LONG_KIND:
+                    primitiveValues[slot] = fieldAccessor.getLong(instance, FieldAccessMode.PLAIN);
+                    break;
+                case DOUBLE_KIND:
+                    primitiveValues[slot] = Double
+                            .doubleToRawLongBits(fieldAccessor.getDouble(instance, FieldAccessMode.PLAIN));
+                    break;
+                case BOOLEAN_KIND:
+                    primitiveValues[slot] = fieldAccessor.getBoolean(instance, FieldAccessMode.PLAIN) ? 1L : 0L;
+                    break;
+                default:
+                    referenceValues[slot] = this.comparators[i]
+                            .copyForRestore(fieldAccessor.get(instance, FieldAccessMode.PLAIN));
+                    break;
+            }
+        }
+
+        return FieldSnapshot.of(this, primitiveValues, referenceValues);
+    }
+
+    /**
+     * Returns the indexes of the instance fields whose values differ between
+     * {@code before} and {@code after} in ascending order. The primitive values
+     * are compared as {@code long} bits and the reference values are compared by
+     * the comparator chosen for each field, so no value is boxed.
+     *
+     * @param before The snapshot captured before
+     * @param after  The snapshot captured after
+     * @return The indexes of the changed fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the snapshots are not captured from
+     *                                     instances of the class of this layout
+     */
+    int[] findChangedIndexes(@NonNull final FieldSnapshot before, @NonNull final FieldSnapshot after) {
+
+        if (before.getType() != this.type || after.getType() != this.type) {
+            throw new IllegalArgumentException(String.format("The snapshots of %s and %s cannot be compared by %s.",
+                    before.getType().getName(), after.getType().getName(), this.type.getName()));
+        }
+
+        final int[] changedIndexes = new int[this.fieldAccessors.length];
+        int changedCount = 0;
+
+        for (int i = 0; i < this.fieldAccessors.length; i++) {
+            final int slot = this.slots[i];
+            final boolean changed = this.kinds[i] == REFERENCE_KIND
+                    ? !this.comparators[i].isEqual(before.getReference(slot), after.getReference(slot))
+                    : before.getPrimitiveBits(slot) != after.getPrimitiveBits(slot);
+
+            if (changed) {
+                changedIndexes[changedCount++] = i;
+            }
+        }
+
+        return Arrays.copyOf(changedIndexes, changedCount);
+    }
+
+    /**
+     * Returns the values of all instance fields of {@code instance} in the order
+     * of this layout.
+     *
+     * @param instance The instance whose fields are read
+     * @return The values of the instance fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code instance} is not an instance
+     *                                     of the class of this layout
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    Object[] copyValues(@NonNull final Object instance) {
+
+        this.checkInstance(instance);
+
+        final Object[] values = new Object[this.fieldAccessors.length];
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = this.fieldAccessors[i].get(instance, FieldAccessMode.PLAIN);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return values;
+    }
+
+    /**
+     * Sets {@code values} returned by {@link #copyValues(Object)} to the instance
+     * fields of {@code instance} . The arrays, the collections and the maps in
+     * {@code values} are copied before they are set, so {@code values} can be
+     * restored to any number of instances without being changed by them.
+     *
+     * @param instance The instance whose fields are written
+     * @param values   The values of the instance fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code instance} is not an instance
+     *                                     of the class of this layout or the
+     *                                     number of {@code values} does not match
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    void restoreValues(@NonNull final Object instance, @NonNull final Object[] values) {
+
+        this.checkInstance(instance);
+
+        if (values.length != this.fieldAccessors.length) {
+            throw new IllegalArgumentException(String.format("Wrong number of values: expected %d but was %d.",
+                    this.fieldAccessors.length, values.length));
+        }
+
+        try {
+            for (int i = 0; i < values.length; i++) {
+                this.fieldAccessors[i].set(instance,
+                        this.kinds[i] == REFERENCE_KIND ? this.comparators[i].copyForRestore(values[i]) : values[i],
+                        FieldAccessMode.PLAIN);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checks that the class of {@code instance} is the class of this layout.
+     *
+     * @param instance The instance to be checked
+     *
+     * @exception IllegalArgumentException If {@code instance} is not an instance
+     *                                     of the class of this layout
+     */
+    private void checkInstance(final Object instance) {
+        if (instance.getClass() != this.type) {
+            throw new IllegalArgumentException(String.format("%s is not an instance of %s.",
+                    instance.getClass().getName(), this.type.getName()));
+        }
+    }
+
+    /**
+     * Returns the kind of the field of {@code fieldType} .
+     *
+     * @param fieldType The type of the field
+     * @return The kind of the field
+     */
+    private static int toKind(final Class<?> fieldType) {
+
+        if (fieldType == int.class || fieldType == short.class || fieldType == byte.class
+                || fieldType == char.class) {
+            return INT_KIND;
+        } else if (fieldType == long.class) {
+            return LONG_KIND;
+        } else if (fieldType == double.class || fieldType == float.class) {
+            return DOUBLE_KIND;
+        } else if (fieldType == boolean.class) {
+            return BOOLEAN_KIND;
+        }
+
+        return REFERENCE_KIND;
+    }
+
+    /**
+     * Returns the accessors of all instance fields declared in {@code type} and
+     * its superclasses.
+     *
+     * @param type The class whose fields are resolved
+     * @return The accessors of the instance fields
+     *
+     * @throws NoSuchFieldException If a field cannot be resolved
+     * @throws SecurityException    If the access to a field is denied
+     */
+    private static FieldAccessor[] toFieldAccessors(final Class<?> type)
+            throws NoSuchFieldException, SecurityException {
+
+        final List<FieldAccessor> fieldAccessors = new ArrayList<>();
+
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (final Field field : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fieldAccessors.add(ReflectionMemberCache.getFieldAccessor(clazz, field.getName()));
+                }
+            }
+        }
+
+        return fieldAccessors.toArray(new FieldAccessor[0]);
+    }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that represents the values of all instance fields of the SUT
+ * captured at a point in time by {@link ReflectionTestHelper#snapshotFields()}
+ * .
+ *
+ * <p>
+ * The values are held in two arrays in the order of the field layout of the
+ * SUT class: the values of the primitive fields as {@code long} bits and the
+ * values of the reference fields as they are. Therefore, capturing the state
+ * of the SUT creates only a few objects regardless of the number of the fields,
+ * and the primitive values can be read by {@link #getInt(String)} and the like
+ * without being boxed.
+ *
+ * <pre>
+ * final FieldSnapshot snapshot = reflectionTestHelper.snapshotFields();
+ *
+ * final int count = snapshot.getInt("count");
+ * final Object name = snapshot.get("name");
+ * </pre>
+ *
+ * <p>
+ * The arrays, the collections and the maps referenced by the fields are copied
+ * by {@link ReferenceComparator#copyForRestore(Object)} when they are
+ * captured, so a change made to their contents later is detected by
+ * {@link #diff(FieldSnapshot)} . A collection or a map is copied only if its
+ * class has a public copy constructor or is {@link java.util.EnumSet} , and its
+ * elements are not copied. The other collections and maps, such as the
+ * unmodifiable ones, and the other objects referenced by the fields are shared
+ * with the SUT. If a field is shadowed by a subclass, the field declared in the
+ * class nearest to the SUT class is found by name.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class FieldSnapshot {
+
+    /**
+     * The class of the SUT whose fields are captured
+     */
+    private final Class<?> type;
+
+    /**
+     * The layout of the captured fields
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final FieldLayout fieldLayout;
+
+    /**
+     * The values of the primitive fields as {@code long} bits
+     */
+    @ToString.Exclude
+    private final long[] primitiveValues;
+
+    /**
+     * The values of the reference fields
+     */
+    @ToString.Exclude
+    private final Object[] referenceValues;
+
+    /**
+     * The constructor.
+     *
+     * @param fieldLayout     The layout of the captured fields
+     * @param primitiveValues The values of the primitive fields
+     * @param referenceValues The values of the reference fields
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private FieldSnapshot(@NonNull final FieldLayout fieldLayout, @NonNull final long[] primitiveValues,
+            @NonNull final Object[] referenceValues) {
+        this.type = fieldLayout.getType();
+        this.fieldLayout = fieldLayout;
+        this.primitiveValues = primitiveValues;
+        this.referenceValues = referenceValues;
+    }
+
+    /**
+     * Returns the new instance of {@link FieldSnapshot} based on the arguments.
+     * The arrays are not copied.
+     *
+     * @param fieldLayout     The layout of the captured fields
+     * @param primitiveValues The values of the primitive fields
+     * @param referenceValues The values of the reference fields
+     * @return The new instance of {@link FieldSnapshot}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static FieldSnapshot of(@NonNull final FieldLayout fieldLayout, @NonNull final long[] primitiveValues,
+            @NonNull final Object[] referenceValues) {
+        return new FieldSnapshot(fieldLayout, primitiveValues, referenceValues);
+    }
+
+    /**
+     * Returns the class of the SUT whose fields are captured.
+     *
+     * @return The class of the SUT
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the number of the captured fields.
+     *
+     * @return The number of the captured fields
+     */
+    public int size() {
+        return this.fieldLayout.size();
+    }
+
+    /**
+     * Checks if the field associated with {@code fieldName} is captured.
+     *
+     * @param fieldName The field name
+     * @return {@code true} if the field is captured, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public boolean contains(@NonNull final String fieldName) {
+        return this.fieldLayout.indexOf(fieldName) >= 0;
+    }
+
+    /**
+     * Returns the captured value of the field associated with {@code fieldName} .
+     * The value of a primitive field is returned as its wrapper type.
+     *
+     * @param fieldName The field name
+     * @return The captured value of the field
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured
+     */
+    public Object get(@NonNull final String fieldName) {
+        return this.getValue(this.indexOf(fieldName));
+    }
+
+    /**
+     * Returns the captured value of the {@code int} field associated with
+     * {@code fieldName} without boxing it. The fields of {@code byte} ,
+     * {@code short} and {@code char} are widened to {@code int} .
+     *
+     * @param fieldName The field name
+     * @return The captured value of the field
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured or cannot
+     *                                     be converted to {@code int}
+     */
+    public int getInt(@NonNull final String fieldName) {
+        return (int) this.getPrimitiveValue(fieldName, FieldLayout.INT_KIND, int.class);
+    }
+
+    /**
+     * Returns the captured value of the {@code long} field associated with
+     * {@code fieldName} without boxing it. The fields of {@code byte} ,
+     * {@code short} , {@code char} and {@code int} are widened to {@code long} .
+     *
+     * @param fieldName The field name
+     * @return The captured value of the field
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured or cannot
+     *                                     be converted to {@code long}
+     */
+    public long getLong(@NonNull final String fieldName) {
+        return this.getPrimitiveValue(fieldName, FieldLayout.LONG_KIND, long.class);
+    }
+
+    /**
+     * Returns the captured value of the {@code double} field associated with
+     * {@code fieldName} without boxing it. The fields of {@code float} are
+     * widened to {@code double} .
+     *
+     * @param fieldName The field name
+     * @return The captured value of the field
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured or cannot
+     *                                     be converted to {@code double}
+     */
+    public double getDouble(@NonNull final String fieldName) {
+        return Double.longBitsToDouble(this.getPrimitiveValue(fieldName, FieldLayout.DOUBLE_KIND, double.class));
+    }
+
+    /**
+     * Returns the captured value of the {@code boolean} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName The field name
+     * @return The captured value of the field
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the field is not captured or cannot
+     *                                     be converted to {@code boolean}
+     */
+    public boolean getBoolean(@NonNull final String fieldName) {
+        return this.getPrimitiveValue(fieldName, FieldLayout.BOOLEAN_KIND, boolean.class) != 0L;
+    }
+
+    /**
+     * Returns the captured values mapped by field name in the order of the field
+     * layout. The values of primitive fields are boxed.
+     *
+     * @return The captured values mapped by field name
+     */
+    public Map<String, Object> toMap() {
+
+        final Map<String, Object> values = new LinkedHashMap<>();
+
+        for (int i = 0; i < this.fieldLayout.size(); i++) {
+            values.putIfAbsent(this.fieldLayout.getFieldAccessor(i).getField().getName(), this.getValue(i));
+        }
+
+        return values;
+    }
+
+    /**
+     * Returns the report of the fields whose values differ between this snapshot
+     * and {@code after} .
+     *
+     * @param after The snapshot captured after this snapshot
+     * @return The report of the changed fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code after} is not captured from an
+     *                                     instance of the same class
+     */
+    public FieldDiff diff(@NonNull final FieldSnapshot after) {
+        return FieldDiff.of(this, after);
+    }
+
+    /**
+     * Returns the layout of the captured fields.
+     *
+     * @return The layout of the captured fields
+     */
+    FieldLayout getFieldLayout() {
+        return this.fieldLayout;
+    }
+
+    /**
+     * Returns the captured value of the primitive field stored at {@code slot} as
+     * {@code long} bits.
+     *
+     * @param slot The index in the primitive array
+     * @return The captured value as {@code long} bits
+     */
+    long getPrimitiveBits(final int slot) {
+        return this.primitiveValues[slot];
+    }
+
+    /**
+     * Returns the captured value of the reference field stored at {@code slot} .
+     *
+     * @param slot The index in the reference array
+     * @return The captured value
+     */
+    Object getReference(final int slot) {
+        return this.referenceValues[slot];
+    }
+
+    /**
+     * Returns the captured value of the field at {@code index} of the field
+     * layout. The value of a primitive field is boxed to the wrapper type of the
+     * field.
+     *
+     * @param index The index of the field
+     * @return The captured value of the field
+     */
+    Object getValue(final int index) {
+
+        final int slot = this.fieldLayout.getSlot(index);
+
+        if (this.fieldLayout.getKind(index) == FieldLayout.REFERENCE_KIND) {
+            return this.referenceValues[slot];
+        }
+
+        final long bits = this.primitiveValues[slot];
+        final Class<?> fieldType = this.fieldLayout.getFieldAccessor(index).getField().getType();
+
+        if (fieldType == int.class) {
+            return (int) bits;
+        } else if (fieldType == long.class) {
+            return bits;
+        } else if (fieldType == double.class) {
+            return Double.longBitsToDouble(bits);
+        } else if (fieldType == boolean.class) {
+            return bits != 0L;
+        } else if (fieldType == float.class) {
+            return (float) Double.longBitsToDouble(bits);
+        } else if (fieldType == short.class) {
+            return (short) bits;
+        } else if (fieldType == byte.class) {
+            return (byte) bits;
+        }
+
+        return (char) bits;
+    }
+
+    /**
+     * Returns the index of the field associated with {@code fieldName} .
+     *
+     * @param fieldName The field name
+     * @return The index of the field
+     *
+     * @exception IllegalArgumentException If the field is not captured
+     */
+    private int indexOf(final String fieldName) {
+
+        final int index = this.fieldLayout.indexOf(fieldName);
+
+        if (index < 0) {
+            throw new IllegalArgumentException(
+                    String.format("%s is not an instance field of %s.", fieldName, this.type.getName()));
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the captured value of the primitive field associated with
+     * {@code fieldName} as {@code long} bits after checking its kind.
+     *
+     * @param fieldName     The field name
+     * @param expectedKind  The kind of the field expected by the caller
+     * @param primitiveType The primitive type expected by the caller
+     * @return The captured value as {@code long} bits
+     *
+     * @exception IllegalArgumentException If the field is not captured or its
+     *                                     kind is not {@code expectedKind}
+     */
+    private long getPrimitiveValue(final String fieldName, final int expectedKind, final Class<?> primitiveType) {
+
+        final int index = this.indexOf(fieldName);
+        final int kind = this.fieldLayout.getKind(index);
+
+        if (kind != expectedKind && !(expectedKind == FieldLayout.LONG_KIND && kind == FieldLayout.INT_KIND)) {
+            throw new IllegalArgumentException(String.format("The type of %s cannot be converted to %s.", fieldName,
+                    primitiveType.getName()));
+        }
+
+        return this.primitiveValues[this.fieldLayout.getSlot(index)];
+    }
+}
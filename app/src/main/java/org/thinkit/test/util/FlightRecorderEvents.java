@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that checks if the Java Flight Recorder events of this library are
+ * being recorded. The events are created only when they are recorded, so that
+ * no event object is allocated on the paths of the reflection while no
+ * recording is running, even if the escape analysis does not remove it.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FlightRecorderEvents {
+
+    /**
+     * The types of the events, which are looked up after the flight recorder has
+     * been initialized
+     */
+    private static final ClassValue<EventType> EVENT_TYPES = new ClassValue<>() {
+        @Override
+        protected EventType computeValue(final Class<?> type) {
+            return EventType.getEventType(type.asSubclass(Event.class));
+        }
+    };
+
+    /**
+     * Checks if the event of {@code eventClass} is enabled in a running
+     * recording. The flight recorder is not initialized by this method.
+     *
+     * @param eventClass The class of the event
+     * @return {@code true} if the event is being recorded, otherwise
+     *         {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static boolean isEnabled(@NonNull final Class<? extends Event> eventClass) {
+        return FlightRecorder.isInitialized() && EVENT_TYPES.get(eventClass).isEnabled();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event emitted when a method is invoked by
+ * {@link ReflectionMethod} , whose duration is the time spent in the method
+ * and the reflective call.
+ *
+ * <p>
+ * The event is disabled by default, and is enabled by its name
+ * {@value #NAME} in the settings of the recording.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@Name(InvocationEvent.NAME)
+@Label("Method Invocation")
+@Category({ "Reflection Test Helper" })
+@Description("A method invoked by reflection")
+@Enabled(false)
+@StackTrace(false)
+final class InvocationEvent extends Event {
+
+    /**
+     * The name of the event
+     */
+    static final String NAME = "org.thinkit.test.util.Invocation";
+
+    /**
+     * The class declaring the invoked method
+     */
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    /**
+     * The name of the invoked method followed by its parameter types
+     */
+    @Label("Target")
+    String target;
+
+    /**
+     * The flag that indicates whether the method threw an exception or could not
+     * be invoked
+     */
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * Returns the new event that has begun if the event is being recorded.
+     *
+     * @return The new event that has begun, or {@code null} if the event is not
+     *         being recorded
+     */
+    static InvocationEvent beginIfEnabled() {
+
+        if (!FlightRecorderEvents.isEnabled(InvocationEvent.class)) {
+            return null;
+        }
+
+        final InvocationEvent event = new InvocationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits {@code event} with the result of the invocation unless it is
+     * {@code null} .
+     *
+     * @param event         The event returned by {@link #beginIfEnabled()}
+     * @param methodInvoker The invoker of the invoked method
+     * @param failed        The flag that indicates whether the invocation failed
+     */
+    static void complete(final InvocationEvent event, final MethodInvoker methodInvoker, final boolean failed) {
+
+        if (event == null || !event.shouldCommit()) {
+            return;
+        }
+
+        event.targetClass = methodInvoker.getMethod().getDeclaringClass();
+        event.target = MethodInvoker.toMemberName(methodInvoker.getMethod());
+        event.failed = failed;
+        event.commit();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The class that represents the result of a method invoked by
+ * {@link ReflectionTestHelper#tryInvokeMethod(String)} .
+ *
+ * <p>
+ * Unlike {@link Optional} , a method that is not found is distinguished from a
+ * method that is invoked and returns {@code null} or is declared as
+ * {@code void} , in which case the result is invoked and its value is
+ * {@code null} .
+ *
+ * <pre>
+ * final InvocationResult&lt;String&gt; result = reflectionTestHelper.tryInvokeMethod("methodName");
+ *
+ * if (result.isInvoked()) {
+ *     assertEquals("expected", result.getValue());
+ * }
+ * </pre>
+ *
+ * @param <R> The type of the value returned from the method
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InvocationResult<R> {
+
+    /**
+     * The result that represents a matching method is not found
+     */
+    private static final InvocationResult<?> NOT_FOUND = new InvocationResult<>(false, null);
+
+    /**
+     * The flag that indicates whether the method is invoked
+     */
+    private final boolean invoked;
+
+    /**
+     * The value returned from the method, or {@code null} if the method is not
+     * invoked
+     */
+    private final R value;
+
+    /**
+     * Returns the result that represents a matching method is not found.
+     *
+     * @param <R> The type of the value returned from the method
+     * @return The result that represents a matching method is not found
+     */
+    @SuppressWarnings("unchecked")
+    static <R> InvocationResult<R> notFound() {
+        return (InvocationResult<R>) NOT_FOUND;
+    }
+
+    /**
+     * Returns the result that represents the method is invoked and returns
+     * {@code value} .
+     *
+     * @param <R>   The type of the value returned from the method
+     * @param value The value returned from the method, which is {@code null} if
+     *              the method is declared as {@code void}
+     * @return The result that represents the method is invoked
+     */
+    static <R> InvocationResult<R> invoked(final R value) {
+        return new InvocationResult<>(true, value);
+    }
+
+    /**
+     * Checks if the method is invoked.
+     *
+     * @return {@code true} if a matching method is found and invoked, otherwise
+     *         {@code false}
+     */
+    public boolean isInvoked() {
+        return this.invoked;
+    }
+
+    /**
+     * Checks if a matching method is not found.
+     *
+     * @return {@code true} if a matching method is not found, otherwise
+     *         {@code false}
+     */
+    public boolean isNotFound() {
+        return !this.invoked;
+    }
+
+    /**
+     * Returns the value returned from the method.
+     *
+     * @return The value returned from the method, which is {@code null} if the
+     *         method returns {@code null} or is declared as {@code void}
+     *
+     * @exception NoSuchElementException If a matching method is not found
+     */
+    public R getValue() {
+
+        if (!this.invoked) {
+            throw new NoSuchElementException("No matching method is found.");
+        }
+
+        return this.value;
+    }
+
+    /**
+     * Returns the value returned from the method as {@link Optional} , which is
+     * empty if a matching method is not found or the method returns no value.
+     *
+     * @return The value returned from the method as {@link Optional}
+     */
+    public Optional<R> toOptional() {
+        return Optional.ofNullable(this.value);
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that represents an immutable specification of an invocation: the
+ * resolved method, its parameter types and the argument values bound to it.
+ *
+ * <p>
+ * Unlike {@link ReflectionTestHelper} , which accumulates the arguments in a
+ * mutable list, the instance of this class never changes after it is created,
+ * and the SUT instance is passed for each invocation. Therefore, one instance
+ * can be shared by tests running in parallel, such as with
+ * {@code junit.jupiter.execution.parallel.enabled} , and invoked from many
+ * threads at the same time without any locking. The {@code with} methods
+ * return a new instance instead of changing this instance.
+ *
+ * <pre>
+ * private static final InvocationSpec&lt;ConcreteClass, String&gt; SPEC = InvocationSpec.of(ConcreteClass.class,
+ *         "methodName", ReflectionArguments.newInstance().add(String.class, "test"));
+ *
+ * &#64;Test
+ * void test() {
+ *     assertEquals("result", SPEC.invoke(new ConcreteClass()));
+ *     assertEquals("other result", SPEC.withArguments("other").invoke(new ConcreteClass()));
+ * }
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+public final class InvocationSpec<T, R> {
+
+    /**
+     * The invoker of the resolved method
+     */
+    private final MethodInvoker methodInvoker;
+
+    /**
+     * The argument values bound to the invocation, which are never exposed or
+     * modified
+     */
+    @ToString.Exclude
+    private final Object[] argumentValues;
+
+    /**
+     * The mode that defines how the errors in the reflection process are reported
+     */
+    private final FailureMode failureMode;
+
+    /**
+     * The constructor.
+     *
+     * @param methodInvoker  The invoker of the resolved method
+     * @param argumentValues The argument values, which must not be shared with
+     *                       the caller
+     * @param failureMode    The mode that defines how the errors in the
+     *                       reflection process are reported
+     */
+    private InvocationSpec(final MethodInvoker methodInvoker, final Object[] argumentValues,
+            final FailureMode failureMode) {
+        this.methodInvoker = methodInvoker;
+        this.argumentValues = argumentValues;
+        this.failureMode = failureMode;
+    }
+
+    /**
+     * Returns the new instance of {@link InvocationSpec} that invokes the method
+     * associated with {@code methodName} without arguments.
+     *
+     * @param <T>        The type of SUT
+     * @param <R>        The type returned by the method to be invoked
+     * @param clazz      The class in which the method is declared
+     * @param methodName The method name
+     * @return The new instance of {@link InvocationSpec}
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code clazz}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public static <T, R> InvocationSpec<T, R> of(@NonNull final Class<?> clazz, final String methodName) {
+        return of(clazz, methodName, ReflectionArguments.newInstance());
+    }
+
+    /**
+     * Returns the new instance of {@link InvocationSpec} that invokes the method
+     * associated with {@code methodName} with {@code arguments} . The method is
+     * resolved from the types of {@code arguments} , and the values are copied,
+     * so changing {@code arguments} later does not affect the returned instance.
+     *
+     * @param <T>        The type of SUT
+     * @param <R>        The type returned by the method to be invoked
+     * @param clazz      The class in which the method is declared
+     * @param methodName The method name
+     * @param arguments  The arguments bound to the invocation
+     * @return The new instance of {@link InvocationSpec}
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code clazz} or {@code arguments}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public static <T, R> InvocationSpec<T, R> of(@NonNull final Class<?> clazz, final String methodName,
+            @NonNull final ReflectionArguments arguments) {
+        final ReflectionParameter parameter = arguments.getParameter();
+        return of(clazz, methodName, parameter.getTypes(), parameter.getValues(), FailureMode.WRAPPED);
+    }
+
+    /**
+     * Returns the new instance of {@link InvocationSpec} based on the arguments.
+     * The values are copied.
+     *
+     * @param <T>            The type of SUT
+     * @param <R>            The type returned by the method to be invoked
+     * @param clazz          The class in which the method is declared
+     * @param methodName     The method name
+     * @param argumentTypes  The types of the arguments
+     * @param argumentValues The values of the arguments
+     * @param failureMode    The mode that defines how the errors in the
+     *                       reflection process are reported
+     * @return The new instance of {@link InvocationSpec}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     *                                     other than {@code methodName}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    static <T, R> InvocationSpec<T, R> of(@NonNull final Class<?> clazz, final String methodName,
+            @NonNull final Class<?>[] argumentTypes, @NonNull final Object[] argumentValues,
+            @NonNull final FailureMode failureMode) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        try {
+            return new InvocationSpec<>(ReflectionMemberCache.getMethodInvoker(clazz, methodName, argumentTypes),
+                    argumentValues.clone(), failureMode);
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link InvocationSpec} that invokes the same
+     * method with {@code argumentValues} . The method is not resolved again, so
+     * the values must be assignable to the parameter types of the method.
+     *
+     * @param argumentValues The values of the arguments
+     * @return The new instance of {@link InvocationSpec}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If the number of the values is not equal
+     *                                     to the number of the arguments of this
+     *                                     instance
+     */
+    public InvocationSpec<T, R> withArguments(@NonNull final Object... argumentValues) {
+
+        if (argumentValues.length != this.argumentValues.length) {
+            throw new IllegalArgumentException(String.format("Wrong number of arguments: expected %d but was %d.",
+                    this.argumentValues.length, argumentValues.length));
+        }
+
+        return new InvocationSpec<>(this.methodInvoker, argumentValues.clone(), this.failureMode);
+    }
+
+    /**
+     * Returns the new instance of {@link InvocationSpec} that reports the errors
+     * in the reflection process in {@code failureMode} .
+     *
+     * @param failureMode The mode that defines how the errors in the reflection
+     *                    process are reported
+     * @return The new instance of {@link InvocationSpec}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public InvocationSpec<T, R> withFailureMode(@NonNull final FailureMode failureMode) {
+        return new InvocationSpec<>(this.methodInvoker, this.argumentValues, failureMode);
+    }
+
+    /**
+     * Invokes the method on {@code sutInstance} with the bound arguments. The
+     * bound arguments are passed as they are without being copied, so nothing
+     * is allocated by this instance on this path.
+     *
+     * @param sutInstance The instance on which the method is invoked, which is
+     *                    ignored if the method is static
+     * @return The value returned from the method
+     *
+     * @exception IllegalArgumentException If the method is not static and
+     *                                     {@code sutInstance} is {@code null} or
+     *                                     not an instance of the class declaring
+     *                                     the method
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    @SuppressWarnings("unchecked")
+    public R invoke(final T sutInstance) {
+
+        if (!this.methodInvoker.isStatic()
+                && !this.methodInvoker.getMethod().getDeclaringClass().isInstance(sutInstance)) {
+            throw new IllegalArgumentException(String.format("%s cannot be invoked on %s.",
+                    this.methodInvoker.getMethod(), sutInstance == null ? null : sutInstance.getClass().getName()));
+        }
+
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return (R) this.methodInvoker.invokeMeasured(sutInstance, this.argumentValues, System.nanoTime());
+            }
+
+            return (R) this.methodInvoker.invoke(sutInstance, this.argumentValues);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the static method with the bound arguments.
+     *
+     * @return The value returned from the method
+     *
+     * @exception IllegalArgumentException If the method is not static
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public R invokeStatic() {
+        return this.invoke(null);
+    }
+
+    /**
+     * Returns the name of the method.
+     *
+     * @return The method name
+     */
+    public String getName() {
+        return this.methodInvoker.getMethod().getName();
+    }
+
+    /**
+     * Returns the parameter types of the method.
+     *
+     * @return The copy of the parameter types
+     */
+    public Class<?>[] getParameterTypes() {
+        return this.methodInvoker.getMethod().getParameterTypes();
+    }
+
+    /**
+     * Returns the argument values bound to the invocation.
+     *
+     * @return The copy of the argument values
+     */
+    public Object[] getArguments() {
+        return this.argumentValues.clone();
+    }
+
+    /**
+     * Returns the mode that defines how the errors in the reflection process are
+     * reported.
+     *
+     * @return The failure mode
+     */
+    public FailureMode getFailureMode() {
+        return this.failureMode;
+    }
+}
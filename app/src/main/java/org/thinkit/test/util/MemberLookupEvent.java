@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event emitted when a field or a method is looked up
+ * in {@link ReflectionMemberCache} . The event tells whether the member was
+ * found in the cache, so that the cost of the reflective lookups of a test
+ * suite can be seen next to the other events of the recording.
+ *
+ * <p>
+ * The event is disabled by default, and is enabled by its name
+ * {@value #NAME} in the settings of the recording.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@Name(MemberLookupEvent.NAME)
+@Label("Member Lookup")
+@Category({ "Reflection Test Helper" })
+@Description("A field or a method looked up by reflection")
+@Enabled(false)
+@StackTrace(false)
+final class MemberLookupEvent extends Event {
+
+    /**
+     * The name of the event
+     */
+    static final String NAME = "org.thinkit.test.util.MemberLookup";
+
+    /**
+     * The class in which the member is looked up
+     */
+    @Label("Class")
+    Class<?> lookupClass;
+
+    /**
+     * The type of the member, which is {@code field} or {@code method}
+     */
+    @Label("Member Type")
+    String memberType;
+
+    /**
+     * The name of the member
+     */
+    @Label("Member Name")
+    String memberName;
+
+    /**
+     * The flag that indicates whether the member was found in the cache
+     */
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    /**
+     * The flag that indicates whether the member exists
+     */
+    @Label("Found")
+    boolean found;
+
+    /**
+     * Returns the new event that has begun if the event is being recorded.
+     *
+     * @return The new event that has begun, or {@code null} if the event is not
+     *         being recorded
+     */
+    static MemberLookupEvent beginIfEnabled() {
+
+        if (!FlightRecorderEvents.isEnabled(MemberLookupEvent.class)) {
+            return null;
+        }
+
+        final MemberLookupEvent event = new MemberLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits {@code event} with the result of the lookup unless it is
+     * {@code null} .
+     *
+     * @param event       The event returned by {@link #beginIfEnabled()}
+     * @param lookupClass The class in which the member is looked up
+     * @param memberType  The type of the member
+     * @param memberName  The name of the member
+     * @param cacheHit    The flag that indicates whether the member was found in
+     *                    the cache
+     * @param found       The flag that indicates whether the member exists
+     */
+    static void complete(final MemberLookupEvent event, final Class<?> lookupClass, final String memberType,
+            final String memberName, final boolean cacheHit, final boolean found) {
+
+        if (event == null || !event.shouldCommit()) {
+            return;
+        }
+
+        event.lookupClass = lookupClass;
+        event.memberType = memberType;
+        event.memberName = memberName;
+        event.cacheHit = cacheHit;
+        event.found = found;
+        event.commit();
+    }
+}
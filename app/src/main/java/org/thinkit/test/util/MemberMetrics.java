@@ -0,0 +1,292 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The class that represents the metrics of the access to a member recorded by
+ * {@link ReflectionMetrics} at a point in time.
+ *
+ * <p>
+ * The latencies are the time spent in the access to the member itself, which
+ * includes the body of the method, and the overhead is the time spent in the
+ * helper before the access, such as the lookup of the member and the creation
+ * of the SUT. The percentiles are estimated from a histogram whose buckets are
+ * powers of two, so each percentile is the upper bound of the bucket in which it
+ * falls.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class MemberMetrics {
+
+    /**
+     * The kind of the access
+     */
+    private final MemberKind kind;
+
+    /**
+     * The name of the class declaring the member
+     */
+    private final String declaringClassName;
+
+    /**
+     * The name of the member
+     */
+    private final String memberName;
+
+    /**
+     * The number of the accesses
+     */
+    private final long count;
+
+    /**
+     * The number of the failed accesses
+     */
+    private final long failureCount;
+
+    /**
+     * The total time spent in the access to the member in nanoseconds
+     */
+    private final long totalNanos;
+
+    /**
+     * The total time spent in the helper before the access in nanoseconds
+     */
+    private final long overheadNanos;
+
+    /**
+     * The maximum time spent in an access to the member in nanoseconds
+     */
+    private final long maxNanos;
+
+    /**
+     * The histogram of the time spent in the access to the member
+     */
+    @ToString.Exclude
+    private final long[] histogram;
+
+    /**
+     * The constructor.
+     *
+     * @param kind               The kind of the access
+     * @param declaringClassName The name of the class declaring the member
+     * @param memberName         The name of the member
+     * @param count              The number of the accesses
+     * @param failureCount       The number of the failed accesses
+     * @param totalNanos         The total time spent in the access
+     * @param overheadNanos      The total time spent in the helper before the
+     *                           access
+     * @param maxNanos           The maximum time spent in an access
+     * @param histogram          The histogram of the time spent in the access
+     */
+    private MemberMetrics(final MemberKind kind, final String declaringClassName, final String memberName,
+            final long count, final long failureCount, final long totalNanos, final long overheadNanos,
+            final long maxNanos, final long[] histogram) {
+        this.kind = kind;
+        this.declaringClassName = declaringClassName;
+        this.memberName = memberName;
+        this.count = count;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.overheadNanos = overheadNanos;
+        this.maxNanos = maxNanos;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Returns the new instance of {@link MemberMetrics} based on the arguments.
+     * The histogram is not copied.
+     *
+     * @param kind               The kind of the access
+     * @param declaringClassName The name of the class declaring the member
+     * @param memberName         The name of the member
+     * @param count              The number of the accesses
+     * @param failureCount       The number of the failed accesses
+     * @param totalNanos         The total time spent in the access
+     * @param overheadNanos      The total time spent in the helper before the
+     *                           access
+     * @param maxNanos           The maximum time spent in an access
+     * @param histogram          The histogram of the time spent in the access
+     * @return The new instance of {@link MemberMetrics}
+     */
+    static MemberMetrics of(final MemberKind kind, final String declaringClassName, final String memberName,
+            final long count, final long failureCount, final long totalNanos, final long overheadNanos,
+            final long maxNanos, final long[] histogram) {
+        return new MemberMetrics(kind, declaringClassName, memberName, count, failureCount, totalNanos,
+                overheadNanos, maxNanos, histogram);
+    }
+
+    /**
+     * Returns the kind of the access.
+     *
+     * @return The kind of the access
+     */
+    public MemberKind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Returns the name of the class declaring the member.
+     *
+     * @return The name of the class declaring the member
+     */
+    public String getDeclaringClassName() {
+        return this.declaringClassName;
+    }
+
+    /**
+     * Returns the name of the member. The name of a method is followed by its
+     * parameter types, such as {@code methodName(java.lang.String,int)} .
+     *
+     * @return The name of the member
+     */
+    public String getMemberName() {
+        return this.memberName;
+    }
+
+    /**
+     * Returns the number of the accesses.
+     *
+     * @return The number of the accesses
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of the failed accesses.
+     *
+     * @return The number of the failed accesses
+     */
+    public long getFailureCount() {
+        return this.failureCount;
+    }
+
+    /**
+     * Returns the total time spent in the access to the member.
+     *
+     * @return The total time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Returns the total time spent in the helper before the access to the
+     * member, such as the lookup of the member and the creation of the SUT.
+     *
+     * @return The total overhead in nanoseconds
+     */
+    public long getOverheadNanos() {
+        return this.overheadNanos;
+    }
+
+    /**
+     * Returns the maximum time spent in an access to the member.
+     *
+     * @return The maximum time in nanoseconds
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * Returns the mean time spent in an access to the member.
+     *
+     * @return The mean time in nanoseconds, or {@code 0} if there is no access
+     */
+    public long getMeanNanos() {
+        return this.count == 0L ? 0L : this.totalNanos / this.count;
+    }
+
+    /**
+     * Returns the estimated median of the time spent in an access to the member.
+     *
+     * @return The estimated median in nanoseconds
+     */
+    public long getP50Nanos() {
+        return this.getPercentileNanos(50.0d);
+    }
+
+    /**
+     * Returns the estimated 99th percentile of the time spent in an access to the
+     * member.
+     *
+     * @return The estimated 99th percentile in nanoseconds
+     */
+    public long getP99Nanos() {
+        return this.getPercentileNanos(99.0d);
+    }
+
+    /**
+     * Returns the estimated {@code percentile} th percentile of the time spent in
+     * an access to the member, which is the upper bound of the bucket of the
+     * histogram in which the percentile falls but not greater than the maximum.
+     *
+     * @param percentile The percentile from 0 to 100
+     * @return The estimated percentile in nanoseconds, or {@code 0} if there is
+     *         no access
+     *
+     * @exception IllegalArgumentException If {@code percentile} is out of range
+     */
+    public long getPercentileNanos(final double percentile) {
+
+        if (!(percentile >= 0.0d && percentile <= 100.0d)) {
+            throw new IllegalArgumentException(
+                    String.format("Percentile must be from 0 to 100 but was %s.", percentile));
+        }
+
+        long total = 0L;
+
+        for (final long bucketCount : this.histogram) {
+            total += bucketCount;
+        }
+
+        if (total == 0L) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0d));
+        long cumulative = 0L;
+
+        for (int i = 0; i < this.histogram.length; i++) {
+            cumulative += this.histogram[i];
+
+            if (cumulative >= rank) {
+                final long upperBound = i == 0 ? 0L : (i == 63 ? Long.MAX_VALUE : (1L << i) - 1L);
+                return Math.min(upperBound, this.maxNanos);
+            }
+        }
+
+        return this.maxNanos;
+    }
+
+    /**
+     * Returns the histogram of the time spent in the access to the member, in
+     * which the element at index {@code i} is the number of the accesses that
+     * took from {@code 2^(i-1)} to {@code 2^i - 1} nanoseconds, and the element
+     * at index 0 is the number of the accesses that took zero nanoseconds.
+     *
+     * @return The copy of the histogram
+     */
+    public long[] getHistogram() {
+        return this.histogram.clone();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that records the metrics of the access to a member while
+ * {@link ReflectionMetrics} is enabled. All counters are {@link LongAdder} and
+ * {@link LongAccumulator} , so that the threads recording the same member do
+ * not contend on a single variable.
+ *
+ * <p>
+ * The latency is recorded in a histogram of 64 buckets, in which the bucket at
+ * index {@code i} counts the latencies from {@code 2^(i-1)} to
+ * {@code 2^i - 1} nanoseconds and the bucket at index 0 counts the latencies of
+ * zero. Recording a latency therefore costs only a few increments.
+ *
+ * <p>
+ * The instance is created once per member and cached by the invoker or the
+ * accessor of the member, and {@link #reset()} clears the counters in place so
+ * that the cached instances remain valid.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+final class MemberStats {
+
+    /**
+     * The number of the buckets of the histogram
+     */
+    static final int BUCKET_COUNT = 64;
+
+    /**
+     * The kind of the access
+     */
+    private final MemberKind kind;
+
+    /**
+     * The name of the class declaring the member
+     */
+    private final String declaringClassName;
+
+    /**
+     * The name of the member
+     */
+    private final String memberName;
+
+    /**
+     * The number of the accesses
+     */
+    @ToString.Exclude
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The number of the failed accesses
+     */
+    @ToString.Exclude
+    private final LongAdder failureCount = new LongAdder();
+
+    /**
+     * The total time spent in the access to the member in nanoseconds
+     */
+    @ToString.Exclude
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * The total time spent in the helper before the access, such as the lookup
+     * of the member, in nanoseconds
+     */
+    @ToString.Exclude
+    private final LongAdder overheadNanos = new LongAdder();
+
+    /**
+     * The maximum time spent in an access to the member in nanoseconds
+     */
+    @ToString.Exclude
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * The histogram of the time spent in the access to the member
+     */
+    @ToString.Exclude
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * The constructor.
+     *
+     * @param kind               The kind of the access
+     * @param declaringClassName The name of the class declaring the member
+     * @param memberName         The name of the member
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private MemberStats(@NonNull final MemberKind kind, @NonNull final String declaringClassName,
+            @NonNull final String memberName) {
+        this.kind = kind;
+        this.declaringClassName = declaringClassName;
+        this.memberName = memberName;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the new instance of {@link MemberStats} based on the arguments.
+     *
+     * @param kind               The kind of the access
+     * @param declaringClassName The name of the class declaring the member
+     * @param memberName         The name of the member
+     * @return The new instance of {@link MemberStats}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static MemberStats of(@NonNull final MemberKind kind, @NonNull final String declaringClassName,
+            @NonNull final String memberName) {
+        return new MemberStats(kind, declaringClassName, memberName);
+    }
+
+    /**
+     * Records an access to the member.
+     *
+     * @param startNanos  The time when the helper started to process the access
+     * @param accessNanos The time when the member started to be accessed
+     * @param endNanos    The time when the access completed
+     * @param failed      The flag that indicates whether the access failed
+     */
+    void record(final long startNanos, final long accessNanos, final long endNanos, final boolean failed) {
+
+        final long elapsedNanos = Math.max(0L, endNanos - accessNanos);
+
+        this.count.increment();
+        this.totalNanos.add(elapsedNanos);
+        this.overheadNanos.add(Math.max(0L, accessNanos - startNanos));
+        this.maxNanos.accumulate(elapsedNanos);
+        this.buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(elapsedNanos)].increment();
+
+        if (failed) {
+            this.failureCount.increment();
+        }
+    }
+
+    /**
+     * Clears all counters.
+     */
+    void reset() {
+        this.count.reset();
+        this.failureCount.reset();
+        this.totalNanos.reset();
+        this.overheadNanos.reset();
+        this.maxNanos.reset();
+
+        for (final LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * Returns the snapshot of the counters. The counters are read one by one, so
+     * the snapshot may be slightly inconsistent if the member is being accessed
+     * at the same time.
+     *
+     * @return The snapshot of the counters
+     */
+    MemberMetrics toMemberMetrics() {
+
+        final long[] histogram = new long[BUCKET_COUNT];
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] = this.buckets[i].sum();
+        }
+
+        return MemberMetrics.of(this.kind, this.declaringClassName, this.memberName, this.count.sum(),
+                this.failureCount.sum(), this.totalNanos.sum(), this.overheadNanos.sum(), this.maxNanos.get(),
+                histogram);
+    }
+}
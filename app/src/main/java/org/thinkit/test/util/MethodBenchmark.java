@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that measures the latency of a method invoked through a
+ * pre-resolved {@link MethodInvoker} . The receiver and the argument array are
+ * resolved once before the benchmark, so each measured invocation is a single
+ * call of the adapted method handle, and neither {@link ReflectionMetrics} nor
+ * the flight recorder events are involved.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class MethodBenchmark {
+
+    /**
+     * Invokes the method for the warmup and then measures the latency of each
+     * invocation. The returned values are consumed by a {@link Blackhole} .
+     *
+     * @param methodInvoker The invoker of the method
+     * @param receiver      The object the method is invoked on, or {@code null}
+     *                      if the method is static
+     * @param arguments     The arguments passed to every invocation
+     * @param options       The options of the benchmark
+     * @param failureMode   The mode that defines how the errors are reported
+     * @return The result of the benchmark
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     *                                 other than {@code receiver}
+     * @exception RuntimeException     If the method throws an exception, which is
+     *                                 reported by {@code failureMode}
+     */
+    static BenchmarkResult run(@NonNull final MethodInvoker methodInvoker, final Object receiver,
+            @NonNull final Object[] arguments, @NonNull final BenchmarkOptions options,
+            @NonNull final FailureMode failureMode) {
+
+        final Blackhole blackhole = new Blackhole();
+        final long[] nanos = new long[options.getMeasurementIterations()];
+
+        try {
+            for (int i = 0, n = options.getWarmupIterations(); i < n; i++) {
+                blackhole.consume(methodInvoker.invokeUnrecorded(receiver, arguments));
+            }
+
+            for (int i = 0; i < nanos.length; i++) {
+                final long startNanos = System.nanoTime();
+                final Object result = methodInvoker.invokeUnrecorded(receiver, arguments);
+                nanos[i] = System.nanoTime() - startNanos;
+                blackhole.consume(result);
+            }
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw failureMode.toRuntimeException(e);
+        }
+
+        return BenchmarkResult.of(MethodInvoker.toMemberName(methodInvoker.getMethod()), nanos);
+    }
+}
@@ -0,0 +1,1087 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that invokes a resolved method. The method is called through a
+ * {@link MethodHandle} obtained by a private lookup on the declaring class and
+ * adapted to the generic {@code (Object, Object[])Object} type, so every call
+ * is a single {@link MethodHandle#invokeExact(Object...)} . Methods with up to
+ * three parameters can also be invoked without an argument array through
+ * {@code invokeDirect} . If the private lookup is not permitted, for example
+ * when the declaring class is in a module that is not open to this library,
+ * {@link Method#invoke(Object, Object...)} is used instead.
+ *
+ * <p>
+ * The methods that return {@code int} , {@code long} , {@code double} or
+ * {@code boolean} can be invoked through
+ * {@link #invokeUnboxed(UnboxedType, Object, Object[], long)} , which adapts
+ * the method handle to return the bits of the primitive value as {@code long}
+ * so that the result is never boxed. All of the primitive types share this
+ * invocation path, and the bits are converted back by {@link UnboxedType} . The
+ * return type must be convertible to the primitive type by unboxing and
+ * widening, so a method that returns {@code void} is rejected on every path.
+ *
+ * <p>
+ * The receiver is ignored when the method is static.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+final class MethodInvoker {
+
+    /**
+     * The type of the adapted method handle
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * The method to be invoked
+     */
+    @Getter
+    private final Method method;
+
+    /**
+     * The number of the parameters of the method
+     */
+    @ToString.Exclude
+    private final int parameterCount;
+
+    /**
+     * The types of the arguments taken by the method handles, in which the
+     * variable arity parameter is expanded to the collected arguments
+     */
+    @ToString.Exclude
+    private final Class<?>[] argumentTypes;
+
+    /**
+     * The number of the trailing arguments collected into the variable arity
+     * parameter, or {@code -1} if the method is invoked by fixed arity invocation
+     */
+    @ToString.Exclude
+    private final int variableArityCount;
+
+    /**
+     * The method handle that takes the receiver as {@link Object} and keeps the
+     * declared parameter and return types, or {@code null} if the method is
+     * invoked by {@link Method#invoke(Object, Object...)}
+     */
+    @ToString.Exclude
+    private final MethodHandle receiverMethodHandle;
+
+    /**
+     * The method handle adapted to the generic method type that takes the receiver
+     * and each argument as {@link Object} , or {@code null} if the method is
+     * invoked by {@link Method#invoke(Object, Object...)}
+     */
+    @ToString.Exclude
+    private final MethodHandle genericMethodHandle;
+
+    /**
+     * The method handle adapted to {@link #INVOKER_TYPE} , or {@code null} if the
+     * method is invoked by {@link Method#invoke(Object, Object...)}
+     */
+    @ToString.Exclude
+    private final MethodHandle methodHandle;
+
+    /**
+     * The method handles adapted to return the bits of each {@link UnboxedType}
+     * , which take the receiver and each argument as {@link Object} and are
+     * created lazily
+     */
+    @ToString.Exclude
+    private final MethodHandle[] unboxedMethodHandles = new MethodHandle[UnboxedType.values().length];
+
+    /**
+     * The method handles adapted to return the bits of each {@link UnboxedType}
+     * , which take the receiver and the argument array and are created lazily
+     */
+    @ToString.Exclude
+    private final MethodHandle[] unboxedSpreadMethodHandles = new MethodHandle[UnboxedType.values().length];
+
+    /**
+     * The stats of the method recorded by {@link ReflectionMetrics} , which are
+     * looked up lazily
+     */
+    @ToString.Exclude
+    private MemberStats memberStats;
+
+    /**
+     * The constructor.
+     *
+     * @param method             The accessible method to be invoked
+     * @param variableArityCount The number of the trailing arguments collected
+     *                           into the variable arity parameter, or {@code -1}
+     *                           for fixed arity invocation
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private MethodInvoker(@NonNull final Method method, final int variableArityCount) {
+        this.method = method;
+        this.variableArityCount = variableArityCount;
+        this.parameterCount = variableArityCount < 0 ? method.getParameterCount()
+                : method.getParameterCount() - 1 + variableArityCount;
+        this.argumentTypes = toArgumentTypes(method, variableArityCount);
+        this.receiverMethodHandle = toReceiverMethodHandle(method, variableArityCount);
+        this.genericMethodHandle = this.receiverMethodHandle == null ? null
+                : this.receiverMethodHandle.asType(MethodType.genericMethodType(this.parameterCount + 1));
+        this.methodHandle = this.genericMethodHandle == null ? null
+                : this.genericMethodHandle.asSpreader(Object[].class, this.parameterCount).asType(INVOKER_TYPE);
+    }
+
+    /**
+     * Returns the new instance of {@link MethodInvoker} based on the argument.
+     *
+     * @param method The accessible method to be invoked
+     * @return The new instance of {@link MethodInvoker}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static MethodInvoker of(@NonNull final Method method) {
+        return new MethodInvoker(method, -1);
+    }
+
+    /**
+     * Returns the new instance of {@link MethodInvoker} that invokes the variable
+     * arity {@code method} by variable arity invocation. The invoker takes
+     * {@code argumentCount} arguments and collects the trailing ones into the
+     * array passed to the variable arity parameter.
+     *
+     * @param method        The accessible variable arity method to be invoked
+     * @param argumentCount The number of the arguments
+     * @return The new instance of {@link MethodInvoker}
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code method} is not a variable
+     *                                     arity method or {@code argumentCount}
+     *                                     is less than the number of the fixed
+     *                                     parameters
+     */
+    static MethodInvoker ofVariableArity(@NonNull final Method method, final int argumentCount) {
+
+        final int fixedParameterCount = method.getParameterCount() - 1;
+
+        if (!method.isVarArgs() || argumentCount < fixedParameterCount) {
+            throw new IllegalArgumentException(
+                    String.format("%s cannot be invoked with %d arguments by variable arity invocation.",
+                            method.getName(), argumentCount));
+        }
+
+        return new MethodInvoker(method, argumentCount - fixedParameterCount);
+    }
+
+    /**
+     * Invokes the method with {@code arguments} on {@code receiver} . The
+     * invocation is emitted as {@link InvocationEvent} if the event is being
+     * recorded.
+     *
+     * @param receiver  The object the method is invoked on, or {@code null} if the
+     *                  method is static
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invoke(final Object receiver, final Object[] arguments)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        boolean failed = true;
+
+        try {
+            final Object result = this.invokeUnrecorded(receiver, arguments);
+            failed = false;
+            return result;
+        } finally {
+            InvocationEvent.complete(event, this, failed);
+        }
+    }
+
+    /**
+     * Invokes the method in the same way as {@link #invoke(Object, Object[])}
+     * without emitting {@link InvocationEvent} .
+     *
+     * @param receiver  The object the method is invoked on, or {@code null} if the
+     *                  method is static
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invokeUnrecorded(final Object receiver, final Object[] arguments)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        this.checkArgumentCount(arguments.length);
+
+        if (this.methodHandle == null) {
+            return this.invokeReflectively(receiver, arguments);
+        }
+
+        this.checkArguments(receiver, arguments);
+
+        try {
+            return (Object) this.methodHandle.invokeExact(receiver, arguments);
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes the method with {@code arguments} on {@code receiver} in the same
+     * way as {@link #invoke(Object, Object[])} , and records the invocation to
+     * {@link ReflectionMetrics} .
+     *
+     * @param receiver   The object the method is invoked on, or {@code null} if
+     *                   the method is static
+     * @param arguments  The arguments, whose length must be equal to the number
+     *                   of the parameters of the method
+     * @param startNanos The time when the helper started to process the
+     *                   invocation
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invokeMeasured(final Object receiver, final Object[] arguments, final long startNanos)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final MemberStats stats = this.getMemberStats();
+        final long accessNanos = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final Object result = this.invoke(receiver, arguments);
+            failed = false;
+            return result;
+        } finally {
+            stats.record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Returns the stats of the method recorded by {@link ReflectionMetrics} . The
+     * stats may be looked up more than once by racing threads, which is harmless
+     * because the same instance is returned every time.
+     *
+     * @return The stats of the method
+     */
+    MemberStats getMemberStats() {
+
+        MemberStats stats = this.memberStats;
+
+        if (stats == null) {
+            stats = ReflectionMetrics.getMemberStats(MemberKind.METHOD, this.method.getDeclaringClass(),
+                    toMemberName(this.method));
+            this.memberStats = stats;
+        }
+
+        return stats;
+    }
+
+    /**
+     * Invokes the method that has no parameter on {@code receiver} . The
+     * invocation is emitted as {@link InvocationEvent} if the event is being
+     * recorded.
+     *
+     * @param receiver The object the method is invoked on, or {@code null} if the
+     *                 method is static
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the method has parameters
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invokeDirect(final Object receiver)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        boolean failed = true;
+
+        try {
+            final Object result = this.invokeDirectUnrecorded(receiver);
+            failed = false;
+            return result;
+        } finally {
+            InvocationEvent.complete(event, this, failed);
+        }
+    }
+
+    /**
+     * Invokes the method in the same way as {@link #invokeDirect(Object)}
+     * without emitting {@link InvocationEvent} .
+     *
+     * @param receiver The object the method is invoked on, or {@code null} if the
+     *                 method is static
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the method has parameters
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private Object invokeDirectUnrecorded(final Object receiver)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        this.checkArgumentCount(0);
+
+        if (this.genericMethodHandle == null) {
+            return this.invokeReflectively(receiver);
+        }
+
+        this.checkReceiver(receiver);
+
+        try {
+            return (Object) this.genericMethodHandle.invokeExact(receiver);
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that has one parameter on {@code receiver} . The
+     * invocation is emitted as {@link InvocationEvent} if the event is being
+     * recorded.
+     *
+     * @param receiver The object the method is invoked on, or {@code null} if the
+     *                 method is static
+     * @param argument The argument
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the argument does not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invokeDirect(final Object receiver, final Object argument)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        boolean failed = true;
+
+        try {
+            final Object result = this.invokeDirectUnrecorded(receiver, argument);
+            failed = false;
+            return result;
+        } finally {
+            InvocationEvent.complete(event, this, failed);
+        }
+    }
+
+    /**
+     * Invokes the method in the same way as {@link #invokeDirect(Object,
+     * Object)} without emitting {@link InvocationEvent} .
+     *
+     * @param receiver The object the method is invoked on, or {@code null} if the
+     *                 method is static
+     * @param argument The argument
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the argument does not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private Object invokeDirectUnrecorded(final Object receiver, final Object argument)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        this.checkArgumentCount(1);
+
+        if (this.genericMethodHandle == null) {
+            return this.invokeReflectively(receiver, argument);
+        }
+
+        this.checkReceiver(receiver);
+        this.checkArgument(0, argument);
+
+        try {
+            return (Object) this.genericMethodHandle.invokeExact(receiver, argument);
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that has two parameters on {@code receiver} . The
+     * invocation is emitted as {@link InvocationEvent} if the event is being
+     * recorded.
+     *
+     * @param receiver       The object the method is invoked on, or {@code null} if
+     *                       the method is static
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invokeDirect(final Object receiver, final Object firstArgument, final Object secondArgument)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        boolean failed = true;
+
+        try {
+            final Object result = this.invokeDirectUnrecorded(receiver, firstArgument, secondArgument);
+            failed = false;
+            return result;
+        } finally {
+            InvocationEvent.complete(event, this, failed);
+        }
+    }
+
+    /**
+     * Invokes the method in the same way as {@link #invokeDirect(Object,
+     * Object, Object)} without emitting {@link InvocationEvent} .
+     *
+     * @param receiver       The object the method is invoked on, or {@code null} if
+     *                       the method is static
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private Object invokeDirectUnrecorded(final Object receiver, final Object firstArgument,
+            final Object secondArgument)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        this.checkArgumentCount(2);
+
+        if (this.genericMethodHandle == null) {
+            return this.invokeReflectively(receiver, firstArgument, secondArgument);
+        }
+
+        this.checkReceiver(receiver);
+        this.checkArgument(0, firstArgument);
+        this.checkArgument(1, secondArgument);
+
+        try {
+            return (Object) this.genericMethodHandle.invokeExact(receiver, firstArgument, secondArgument);
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that has three parameters on {@code receiver} . The
+     * invocation is emitted as {@link InvocationEvent} if the event is being
+     * recorded.
+     *
+     * @param receiver       The object the method is invoked on, or {@code null} if
+     *                       the method is static
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    Object invokeDirect(final Object receiver, final Object firstArgument, final Object secondArgument,
+            final Object thirdArgument)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        boolean failed = true;
+
+        try {
+            final Object result = this.invokeDirectUnrecorded(receiver, firstArgument, secondArgument,
+                    thirdArgument);
+            failed = false;
+            return result;
+        } finally {
+            InvocationEvent.complete(event, this, failed);
+        }
+    }
+
+    /**
+     * Invokes the method in the same way as {@link #invokeDirect(Object,
+     * Object, Object, Object)} without emitting {@link InvocationEvent} .
+     *
+     * @param receiver       The object the method is invoked on, or {@code null} if
+     *                       the method is static
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private Object invokeDirectUnrecorded(final Object receiver, final Object firstArgument,
+            final Object secondArgument, final Object thirdArgument)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        this.checkArgumentCount(3);
+
+        if (this.genericMethodHandle == null) {
+            return this.invokeReflectively(receiver, firstArgument, secondArgument, thirdArgument);
+        }
+
+        this.checkReceiver(receiver);
+        this.checkArgument(0, firstArgument);
+        this.checkArgument(1, secondArgument);
+        this.checkArgument(2, thirdArgument);
+
+        try {
+            return (Object) this.genericMethodHandle.invokeExact(receiver, firstArgument, secondArgument,
+                    thirdArgument);
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes the method with {@code arguments} on {@code receiver} and returns
+     * the value as the bits of {@code unboxedType} , so that the value is never
+     * boxed. The invocation is emitted as {@link InvocationEvent} if the event is
+     * being recorded, and is recorded to {@link ReflectionMetrics} unless
+     * {@code startNanos} is {@link ReflectionMetrics#NOT_MEASURED} .
+     *
+     * @param unboxedType The type in which the value is returned, which must not
+     *                    be {@link UnboxedType#OBJECT}
+     * @param receiver    The object the method is invoked on, or {@code null} if
+     *                    the method is static
+     * @param arguments   The arguments, whose length must be equal to the number
+     *                    of the parameters of the method
+     * @param startNanos  The value returned by
+     *                    {@link ReflectionMetrics#startNanos()} when the helper
+     *                    started to process the invocation
+     * @return The bits of the value returned from the method, which are converted
+     *         back by {@link UnboxedType}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     *                                   or the return type cannot be converted to
+     *                                   {@code unboxedType}
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    long invokeUnboxed(final UnboxedType unboxedType, final Object receiver, final Object[] arguments,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        final long accessNanos = startNanos == ReflectionMetrics.NOT_MEASURED ? startNanos : System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.checkArgumentCount(arguments.length);
+
+            final MethodHandle unboxedMethodHandle = this.getUnboxedMethodHandle(unboxedType, true);
+            final long result;
+
+            if (unboxedMethodHandle == null) {
+                result = unboxedType
+                        .toBits(checkReturnedValue(this.invokeUnrecorded(receiver, arguments), unboxedType));
+            } else {
+                this.checkArguments(receiver, arguments);
+
+                try {
+                    result = (long) unboxedMethodHandle.invokeExact(receiver, arguments);
+                } catch (Throwable e) {
+                    throw new StacklessInvocationTargetException(e);
+                }
+            }
+
+            failed = false;
+            return result;
+        } finally {
+            this.complete(event, startNanos, accessNanos, failed);
+        }
+    }
+
+    /**
+     * Invokes the method that has {@code argumentCount} parameters on
+     * {@code receiver} in the same way as
+     * {@link #invokeUnboxed(UnboxedType, Object, Object[], long)} without an
+     * argument array. The arguments after {@code argumentCount} are ignored.
+     *
+     * @param unboxedType    The type in which the value is returned, which must
+     *                       not be {@link UnboxedType#OBJECT}
+     * @param receiver       The object the method is invoked on, or {@code null}
+     *                       if the method is static
+     * @param argumentCount  The number of the arguments, which is at most three
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @param startNanos     The value returned by
+     *                       {@link ReflectionMetrics#startNanos()} when the
+     *                       helper started to process the invocation
+     * @return The bits of the value returned from the method, which are converted
+     *         back by {@link UnboxedType}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     *                                   or the return type cannot be converted to
+     *                                   {@code unboxedType}
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    long invokeUnboxed(final UnboxedType unboxedType, final Object receiver, final int argumentCount,
+            final Object firstArgument, final Object secondArgument, final Object thirdArgument,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final InvocationEvent event = InvocationEvent.beginIfEnabled();
+        final long accessNanos = startNanos == ReflectionMetrics.NOT_MEASURED ? startNanos : System.nanoTime();
+        boolean failed = true;
+
+        try {
+            this.checkArgumentCount(argumentCount);
+
+            final MethodHandle unboxedMethodHandle = this.getUnboxedMethodHandle(unboxedType, false);
+            final long result;
+
+            if (unboxedMethodHandle == null) {
+                final Object[] arguments = Arrays
+                        .copyOf(new Object[] { firstArgument, secondArgument, thirdArgument }, argumentCount);
+                result = unboxedType
+                        .toBits(checkReturnedValue(this.invokeUnrecorded(receiver, arguments), unboxedType));
+            } else {
+                this.checkReceiver(receiver);
+                this.checkArguments(argumentCount, firstArgument, secondArgument, thirdArgument);
+                result = invokeExact(unboxedMethodHandle, receiver, argumentCount, firstArgument, secondArgument,
+                        thirdArgument);
+            }
+
+            failed = false;
+            return result;
+        } finally {
+            this.complete(event, startNanos, accessNanos, failed);
+        }
+    }
+
+    /**
+     * Completes the recording of an invocation started with {@code startNanos}
+     * and {@code accessNanos} .
+     *
+     * @param event       The event of the invocation, or {@code null} if the
+     *                    event is not being recorded
+     * @param startNanos  The value returned by
+     *                    {@link ReflectionMetrics#startNanos()} when the helper
+     *                    started to process the invocation
+     * @param accessNanos The time when the method started to be invoked
+     * @param failed      The flag that indicates whether the invocation failed
+     */
+    private void complete(final InvocationEvent event, final long startNanos, final long accessNanos,
+            final boolean failed) {
+
+        InvocationEvent.complete(event, this, failed);
+
+        if (startNanos != ReflectionMetrics.NOT_MEASURED) {
+            this.getMemberStats().record(startNanos, accessNanos, System.nanoTime(), failed);
+        }
+    }
+
+    /**
+     * Returns the number of the parameters of the method.
+     *
+     * @return The number of the parameters
+     */
+    int getParameterCount() {
+        return this.parameterCount;
+    }
+
+    /**
+     * Checks if the method is static, in which case no receiver is needed.
+     *
+     * @return {@code true} if the method is static, otherwise {@code false}
+     */
+    boolean isStatic() {
+        return Modifier.isStatic(this.method.getModifiers());
+    }
+
+    /**
+     * Checks if the method is invoked through a method handle.
+     *
+     * @return {@code true} if the method is invoked through a method handle,
+     *         otherwise {@code false}
+     */
+    boolean isMethodHandleInvocation() {
+        return this.methodHandle != null;
+    }
+
+    /**
+     * Checks that {@code argumentCount} is equal to the number of the parameters.
+     *
+     * @param argumentCount The number of the arguments
+     *
+     * @exception IllegalArgumentException If {@code argumentCount} is not equal to
+     *                                     the number of the parameters
+     */
+    private void checkArgumentCount(final int argumentCount) {
+        if (argumentCount != this.parameterCount) {
+            throw new IllegalArgumentException(String.format("Wrong number of arguments: expected %d but was %d.",
+                    this.parameterCount, argumentCount));
+        }
+    }
+
+    /**
+     * Checks that {@code receiver} and {@code arguments} can be passed to the
+     * method handles in the same way as {@link Method#invoke(Object, Object...)}
+     * , so that a mismatch is not mistaken for an exception thrown by the method.
+     *
+     * @param receiver  The object the method is invoked on, or {@code null} if the
+     *                  method is static
+     * @param arguments The arguments
+     *
+     * @exception NullPointerException     If {@code receiver} is {@code null} and
+     *                                     the method is not static
+     * @exception IllegalArgumentException If {@code receiver} is not an instance
+     *                                     of the declaring class or an argument
+     *                                     cannot be converted to the type of the
+     *                                     parameter
+     */
+    private void checkArguments(final Object receiver, final Object[] arguments) {
+
+        this.checkReceiver(receiver);
+
+        for (int i = 0; i < arguments.length; i++) {
+            this.checkArgument(i, arguments[i]);
+        }
+    }
+
+    /**
+     * Checks that {@code receiver} can be passed to the method handles.
+     *
+     * @param receiver The object the method is invoked on, or {@code null} if the
+     *                 method is static
+     *
+     * @exception NullPointerException     If {@code receiver} is {@code null} and
+     *                                     the method is not static
+     * @exception IllegalArgumentException If {@code receiver} is not an instance
+     *                                     of the declaring class
+     */
+    private void checkReceiver(final Object receiver) {
+
+        if (this.isStatic() || this.method.getDeclaringClass().isInstance(receiver)) {
+            return;
+        }
+
+        if (receiver == null) {
+            throw new NullPointerException(
+                    String.format("The receiver of %s must not be null.", this.method.getName()));
+        }
+
+        throw new IllegalArgumentException("object is not an instance of declaring class");
+    }
+
+    /**
+     * Checks that {@code argument} can be converted to the type of the
+     * {@code index} th parameter by a widening or an unboxing conversion.
+     *
+     * @param index    The index of the argument
+     * @param argument The argument
+     *
+     * @exception IllegalArgumentException If {@code argument} cannot be converted
+     *                                     to the type of the parameter
+     */
+    private void checkArgument(final int index, final Object argument) {
+
+        final Class<?> argumentType = this.argumentTypes[index];
+
+        if (argument == null ? !argumentType.isPrimitive()
+                : argumentType.isInstance(argument)
+                        || OverloadResolver.isLooselyConvertible(argument.getClass(), argumentType)) {
+            return;
+        }
+
+        throw new IllegalArgumentException(String.format("argument type mismatch: %s cannot be passed as %s.",
+                argument == null ? "null" : argument.getClass().getName(), argumentType.getName()));
+    }
+
+    /**
+     * Invokes the method by {@link Method#invoke(Object, Object...)} . In the
+     * case of variable arity invocation, the trailing arguments are collected into
+     * an array before the invocation.
+     *
+     * @param receiver  The object the method is invoked on, or {@code null} if the
+     *                  method is static
+     * @param arguments The arguments
+     * @return The value returned from the method, or {@code null} if the return
+     *         type is {@code void}
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private Object invokeReflectively(final Object receiver, final Object... arguments)
+            throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        if (this.variableArityCount < 0) {
+            return this.method.invoke(receiver, arguments);
+        }
+
+        final int fixedParameterCount = arguments.length - this.variableArityCount;
+        final Object[] methodArguments = Arrays.copyOf(arguments, fixedParameterCount + 1);
+        final Object variableArguments = Array.newInstance(
+                this.method.getParameterTypes()[fixedParameterCount].getComponentType(), this.variableArityCount);
+
+        for (int i = 0; i < this.variableArityCount; i++) {
+            Array.set(variableArguments, i, arguments[fixedParameterCount + i]);
+        }
+
+        methodArguments[fixedParameterCount] = variableArguments;
+        return this.method.invoke(receiver, methodArguments);
+    }
+
+    /**
+     * Checks that the first {@code argumentCount} arguments can be passed to the
+     * method handles.
+     *
+     * @param argumentCount  The number of the arguments, which is at most three
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     *
+     * @exception IllegalArgumentException If an argument cannot be converted to
+     *                                     the type of the parameter
+     */
+    private void checkArguments(final int argumentCount, final Object firstArgument, final Object secondArgument,
+            final Object thirdArgument) {
+
+        if (argumentCount > 0) {
+            this.checkArgument(0, firstArgument);
+        }
+
+        if (argumentCount > 1) {
+            this.checkArgument(1, secondArgument);
+        }
+
+        if (argumentCount > 2) {
+            this.checkArgument(2, thirdArgument);
+        }
+    }
+
+    /**
+     * Returns the method handle that returns the bits of {@code unboxedType} . The
+     * method handle is created on the first call and then reused. The return type
+     * is checked before the method handle is adapted, so that the method handle
+     * and the reflection process accept the same methods.
+     *
+     * @param unboxedType The type in which the value is returned
+     * @param spread      {@code true} if the method handle takes the argument
+     *                    array, or {@code false} if it takes each argument
+     * @return The adapted method handle, or {@code null} if the method is invoked
+     *         by reflection or returns a wrapper type, whose value must be checked
+     *         for {@code null} before unboxing
+     *
+     * @exception IllegalArgumentException If the return type of the method is
+     *                                     {@code void} or cannot be converted to
+     *                                     {@code unboxedType}
+     */
+    private MethodHandle getUnboxedMethodHandle(final UnboxedType unboxedType, final boolean spread) {
+
+        final MethodHandle[] methodHandles = spread ? this.unboxedSpreadMethodHandles : this.unboxedMethodHandles;
+        final MethodHandle cachedMethodHandle = methodHandles[unboxedType.ordinal()];
+
+        if (cachedMethodHandle != null) {
+            return cachedMethodHandle;
+        }
+
+        final Class<?> returnType = this.method.getReturnType();
+
+        if (returnType == void.class || !OverloadResolver.isLooselyConvertible(returnType, unboxedType.getType())) {
+            throw new IllegalArgumentException(String.format("The return type of %s cannot be converted to %s.",
+                    this.method.getName(), unboxedType.getType().getName()));
+        }
+
+        if (this.genericMethodHandle == null || !returnType.isPrimitive()) {
+            return null;
+        }
+
+        final MethodHandle methodHandle = unboxedType.toBitsMethodHandle(
+                this.receiverMethodHandle.asType(this.genericMethodHandle.type().changeReturnType(returnType)));
+
+        methodHandles[unboxedType.ordinal()] = spread ? methodHandle.asSpreader(Object[].class, this.parameterCount)
+                : methodHandle;
+        return methodHandles[unboxedType.ordinal()];
+    }
+
+    /**
+     * Invokes {@code methodHandle} that returns the bits of a value with the
+     * first {@code argumentCount} arguments.
+     *
+     * @param methodHandle   The method handle that takes the receiver and each
+     *                       argument as {@link Object} and returns {@code long}
+     * @param receiver       The object the method is invoked on, or {@code null}
+     *                       if the method is static
+     * @param argumentCount  The number of the arguments, which is at most three
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The bits of the value returned from the method
+     *
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private static long invokeExact(final MethodHandle methodHandle, final Object receiver, final int argumentCount,
+            final Object firstArgument, final Object secondArgument, final Object thirdArgument)
+            throws InvocationTargetException {
+        try {
+            switch (argumentCount) {
+                case 0:
+                    return (long) methodHandle.invokeExact(receiver);
+                case 1:
+                    return (long) methodHandle.invokeExact(receiver, firstArgument);
+                case 2:
+                    return (long) methodHandle.invokeExact(receiver, firstArgument, secondArgument);
+                default:
+                    return (long) methodHandle.invokeExact(receiver, firstArgument, secondArgument, thirdArgument);
+            }
+        } catch (Throwable e) {
+            throw new StacklessInvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Checks that {@code value} returned by a method whose return type is not
+     * primitive can be converted to {@code unboxedType} .
+     *
+     * @param value       The value returned by the method
+     * @param unboxedType The type in which the value is returned
+     * @return {@code value}
+     *
+     * @exception IllegalArgumentException If {@code value} is {@code null} or
+     *                                     cannot be converted to
+     *                                     {@code unboxedType}
+     */
+    private static Object checkReturnedValue(final Object value, final UnboxedType unboxedType) {
+
+        if (value == null || !OverloadResolver.isLooselyConvertible(value.getClass(), unboxedType.getType())) {
+            throw new IllegalArgumentException(
+                    String.format("The returned value %s is not %s.", value, unboxedType.getType().getName()));
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the types of the arguments taken by the method handles of
+     * {@code method} .
+     *
+     * @param method             The method
+     * @param variableArityCount The number of the trailing arguments collected
+     *                           into the variable arity parameter, or {@code -1}
+     *                           for fixed arity invocation
+     * @return The types of the arguments
+     */
+    private static Class<?>[] toArgumentTypes(final Method method, final int variableArityCount) {
+
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+
+        if (variableArityCount < 0) {
+            return parameterTypes;
+        }
+
+        final int fixedParameterCount = parameterTypes.length - 1;
+        final Class<?>[] argumentTypes = Arrays.copyOf(parameterTypes, fixedParameterCount + variableArityCount);
+        Arrays.fill(argumentTypes, fixedParameterCount, argumentTypes.length,
+                parameterTypes[fixedParameterCount].getComponentType());
+
+        return argumentTypes;
+    }
+
+    /**
+     * Returns the method handle of {@code method} that takes the receiver as
+     * {@link Object} and keeps the declared parameter and return types. In the
+     * case of variable arity invocation, the variable arity parameter is replaced
+     * by {@code variableArityCount} parameters of its component type.
+     *
+     * @param method             The accessible method
+     * @param variableArityCount The number of the trailing arguments collected
+     *                           into the variable arity parameter, or {@code -1}
+     *                           for fixed arity invocation
+     * @return The method handle, or {@code null} if the private lookup is not
+     *         permitted
+     */
+    private static MethodHandle toReceiverMethodHandle(final Method method, final int variableArityCount) {
+
+        MethodHandle methodHandle;
+
+        try {
+            methodHandle = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflect(method).asFixedArity();
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+
+        if (variableArityCount >= 0) {
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            methodHandle = methodHandle.asCollector(parameterTypes[parameterTypes.length - 1], variableArityCount);
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            return MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+
+        return methodHandle.asType(methodHandle.type().changeParameterType(0, Object.class));
+    }
+
+    /**
+     * Returns the name of {@code method} followed by its parameter types, such as
+     * {@code methodName(java.lang.String,int)} .
+     *
+     * @param method The method
+     * @return The name of the method with its parameter types
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static String toMemberName(@NonNull final Method method) {
+
+        final StringBuilder builder = new StringBuilder(method.getName()).append('(');
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(parameterTypes[i].getName());
+        }
+
+        return builder.append(')').toString();
+    }
+}
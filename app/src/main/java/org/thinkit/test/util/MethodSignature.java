@@ -25,33 +25,34 @@ import lombok.NonNull;
 import lombok.ToString;
 
 /**
- * The class that represents the components of a parameter. It manages the types
- * and values of parameters.
+ * The class that represents the signature of a method. It is used as the key
+ * of the member cache and consists of the method name and the parameter types.
  *
  * @author Kato Shinya
- * @since 1.0.0
+ * @since 1.1.0
  */
 @ToString
 @EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor(staticName = "from")
-final class Parameter implements Serializable {
+@AllArgsConstructor(staticName = "of")
+final class MethodSignature implements Serializable {
 
     /**
      * The serial version UID
      */
-    private static final long serialVersionUID = -7309950533839544242L;
+    private static final long serialVersionUID = -2466707917813402627L;
 
     /**
-     * The type
+     * The method name
      */
     @Getter
     @NonNull
-    private Class<?> type;
+    private String name;
 
     /**
-     * The value
+     * The parameter types
      */
     @Getter
-    private Object value;
+    @NonNull
+    private Class<?>[] parameterTypes;
 }
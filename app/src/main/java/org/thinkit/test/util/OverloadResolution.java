@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The class that represents the result of the overload resolution by
+ * {@link OverloadResolver#find(List, Class[])} . A method is either found,
+ * absent, or ambiguous, in which case the applicable methods are held as the
+ * candidates so that the error can be reported without resolving the method
+ * again. The found member is the resolved {@link Method} itself, or the invoker
+ * of it when the result is returned by {@link ReflectionMemberCache} .
+ *
+ * @param <T> The type of the found member
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class OverloadResolution<T> {
+
+    /**
+     * The result that represents no applicable method
+     */
+    private static final OverloadResolution<?> ABSENT = new OverloadResolution<>(null, List.of());
+
+    /**
+     * The resolved member, or {@code null} if no method is resolved
+     */
+    private final T member;
+
+    /**
+     * The applicable methods if the resolution is ambiguous, otherwise an empty
+     * list
+     */
+    @Getter
+    private final List<Method> candidates;
+
+    /**
+     * Returns the result that represents {@code member} is resolved.
+     *
+     * @param <T>    The type of the found member
+     * @param member The resolved method or its invoker
+     * @return The result that represents {@code member} is resolved
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static <T> OverloadResolution<T> found(@NonNull final T member) {
+        return new OverloadResolution<>(member, List.of());
+    }
+
+    /**
+     * Returns the result that represents no method is applicable.
+     *
+     * @param <T> The type of the found member
+     * @return The result that represents no method is applicable
+     */
+    @SuppressWarnings("unchecked")
+    static <T> OverloadResolution<T> absent() {
+        // No member is held, so the result can be shared by any member type
+        return (OverloadResolution<T>) ABSENT;
+    }
+
+    /**
+     * Returns the result that represents more than one method is maximally
+     * specific.
+     *
+     * @param <T>        The type of the found member
+     * @param candidates The applicable methods
+     * @return The result that represents the resolution is ambiguous
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code candidates} has less than two
+     *                                     methods
+     */
+    static <T> OverloadResolution<T> ambiguous(@NonNull final List<Method> candidates) {
+
+        if (candidates.size() < 2) {
+            throw new IllegalArgumentException("An ambiguous resolution must have more than one candidate.");
+        }
+
+        return new OverloadResolution<>(null, List.copyOf(candidates));
+    }
+
+    /**
+     * Checks if a method is resolved.
+     *
+     * @return {@code true} if a method is resolved, otherwise {@code false}
+     */
+    boolean isFound() {
+        return this.member != null;
+    }
+
+    /**
+     * Checks if more than one method is maximally specific.
+     *
+     * @return {@code true} if the resolution is ambiguous, otherwise
+     *         {@code false}
+     */
+    boolean isAmbiguous() {
+        return !this.candidates.isEmpty();
+    }
+
+    /**
+     * Returns the resolved member.
+     *
+     * @return The resolved method or its invoker
+     *
+     * @exception IllegalStateException If no method is resolved
+     */
+    T get() {
+
+        if (this.member == null) {
+            throw new IllegalStateException("No method is resolved.");
+        }
+
+        return this.member;
+    }
+
+    /**
+     * Returns the exception that reports the resolution is ambiguous.
+     *
+     * @return The exception to be thrown
+     *
+     * @exception IllegalStateException If the resolution is not ambiguous
+     */
+    NoSuchMethodException newAmbiguityException() {
+
+        if (!this.isAmbiguous()) {
+            throw new IllegalStateException("The resolution is not ambiguous.");
+        }
+
+        return new NoSuchMethodException(
+                String.format("Ambiguous method call: %d methods named %s are applicable to the arguments.",
+                        this.candidates.size(), this.candidates.get(0).getName()));
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that selects the method to be invoked from overloaded methods
+ * based on the types of the arguments, following the phases of the method
+ * invocation in the Java Language Specification (15.12.2).
+ *
+ * <ol>
+ * <li>The methods applicable by strict invocation, which allows only identity,
+ * widening primitive and widening reference conversions, are looked up.
+ * <li>If there is none, the methods applicable by loose invocation, which
+ * additionally allows boxing and unboxing conversions, are looked up.
+ * <li>If there is still none, the variable arity methods applicable by
+ * variable arity invocation are looked up.
+ * </ol>
+ *
+ * <p>
+ * The most specific method is selected from the methods found in the first
+ * phase that finds any. The result is not cached by this class, because the
+ * resolved method is cached by {@link ReflectionMemberCache} for each argument
+ * types.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class OverloadResolver {
+
+    /**
+     * The primitive types to which each primitive type can be widened
+     */
+    private static final Map<Class<?>, List<Class<?>>> PRIMITIVE_WIDENINGS = Map.of(byte.class,
+            List.of(short.class, int.class, long.class, float.class, double.class), short.class,
+            List.of(int.class, long.class, float.class, double.class), char.class,
+            List.of(int.class, long.class, float.class, double.class), int.class,
+            List.of(long.class, float.class, double.class), long.class, List.of(float.class, double.class),
+            float.class, List.of(double.class));
+
+    /**
+     * The wrapper types mapped by primitive type
+     */
+    private static final Map<Class<?>, Class<?>> WRAPPER_TYPES = Map.of(boolean.class, Boolean.class, byte.class,
+            Byte.class, short.class, Short.class, char.class, Character.class, int.class, Integer.class, long.class,
+            Long.class, float.class, Float.class, double.class, Double.class);
+
+    /**
+     * The primitive types mapped by wrapper type
+     */
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_TYPES = Map.of(Boolean.class, boolean.class, Byte.class,
+            byte.class, Short.class, short.class, Character.class, char.class, Integer.class, int.class, Long.class,
+            long.class, Float.class, float.class, Double.class, double.class);
+
+    /**
+     * Returns the most specific method applicable to {@code argumentTypes} from
+     * {@code candidates} .
+     *
+     * @param candidates    The methods with the same name
+     * @param argumentTypes The types of the arguments
+     * @return The most specific applicable method, or {@code null} if no method
+     *         is applicable
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchMethodException If more than one method is maximally specific
+     */
+    static Method resolve(@NonNull final List<Method> candidates, @NonNull final Class<?>[] argumentTypes)
+            throws NoSuchMethodException {
+
+        final OverloadResolution<Method> resolution = find(candidates, argumentTypes);
+
+        if (resolution.isAmbiguous()) {
+            throw resolution.newAmbiguityException();
+        }
+
+        return resolution.isFound() ? resolution.get() : null;
+    }
+
+    /**
+     * Returns the most specific method applicable to {@code argumentTypes} from
+     * {@code candidates} in the same way as {@link #resolve(List, Class[])} ,
+     * except that the result is returned as {@link OverloadResolution} instead of
+     * an exception. This method is used where the absence of a method is not an
+     * error, so that no exception is created for it.
+     *
+     * @param candidates    The methods with the same name
+     * @param argumentTypes The types of the arguments
+     * @return The result that holds the most specific applicable method, or
+     *         represents that no method is applicable or more than one method is
+     *         maximally specific
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static OverloadResolution<Method> find(@NonNull final List<Method> candidates,
+            @NonNull final Class<?>[] argumentTypes) {
+
+        final List<Method> applicableMethods = getApplicableMethods(candidates, argumentTypes);
+
+        if (applicableMethods.isEmpty()) {
+            return OverloadResolution.absent();
+        }
+
+        final Method method = selectMostSpecific(applicableMethods, argumentTypes.length,
+                isVariableArityInvocation(applicableMethods.get(0), argumentTypes));
+        return method != null ? OverloadResolution.found(method) : OverloadResolution.ambiguous(applicableMethods);
+    }
+
+    /**
+     * Checks if {@code method} must be invoked by variable arity invocation, that
+     * is, the trailing arguments must be collected into an array.
+     *
+     * @param method        The resolved method
+     * @param argumentTypes The types of the arguments
+     * @return {@code true} if the method must be invoked by variable arity
+     *         invocation, otherwise {@code false}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static boolean isVariableArityInvocation(@NonNull final Method method, @NonNull final Class<?>[] argumentTypes) {
+        return method.isVarArgs() && !Phase.LOOSE.isApplicable(method, argumentTypes);
+    }
+
+    /**
+     * Returns the methods applicable to {@code argumentTypes} in the first phase
+     * that finds any.
+     *
+     * @param candidates    The methods with the same name
+     * @param argumentTypes The types of the arguments
+     * @return The applicable methods, or an empty list if no method is applicable
+     */
+    private static List<Method> getApplicableMethods(final List<Method> candidates, final Class<?>[] argumentTypes) {
+
+        for (final Phase phase : Phase.values()) {
+
+            final List<Method> applicableMethods = new ArrayList<>();
+
+            for (final Method candidate : candidates) {
+                if (phase.isApplicable(candidate, argumentTypes)) {
+                    applicableMethods.add(candidate);
+                }
+            }
+
+            if (!applicableMethods.isEmpty()) {
+                return applicableMethods;
+            }
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Returns the method that is more specific than all other methods in
+     * {@code methods} .
+     *
+     * @param methods       The applicable methods
+     * @param argumentCount The number of the arguments
+     * @param variableArity The flag that indicates whether the methods are
+     *                      applicable by variable arity invocation
+     * @return The most specific method, or {@code null} if more than one method is
+     *         maximally specific
+     */
+    private static Method selectMostSpecific(final List<Method> methods, final int argumentCount,
+            final boolean variableArity) {
+
+        for (final Method method : methods) {
+
+            boolean mostSpecific = true;
+
+            for (final Method other : methods) {
+                if (method != other && !isMoreSpecific(method, other, argumentCount, variableArity)) {
+                    mostSpecific = false;
+                    break;
+                }
+            }
+
+            if (mostSpecific) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks if {@code method} is at least as specific as {@code other} .
+     *
+     * @param method        The method to be checked
+     * @param other         The method to be compared with
+     * @param argumentCount The number of the arguments
+     * @param variableArity The flag that indicates whether the methods are
+     *                      applicable by variable arity invocation
+     * @return {@code true} if {@code method} is at least as specific as
+     *         {@code other} , otherwise {@code false}
+     */
+    private static boolean isMoreSpecific(final Method method, final Method other, final int argumentCount,
+            final boolean variableArity) {
+
+        if (!variableArity) {
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            final Class<?>[] otherParameterTypes = other.getParameterTypes();
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (!isStrictlyConvertible(parameterTypes[i], otherParameterTypes[i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        final int parameterCount = Math.max(argumentCount,
+                Math.max(method.getParameterCount(), other.getParameterCount()));
+
+        for (int i = 0; i < parameterCount; i++) {
+            if (!isStrictlyConvertible(getVariableArityParameterType(method, i),
+                    getVariableArityParameterType(other, i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the type of the {@code index} th parameter of the variable arity
+     * method, in which the trailing array parameter is expanded to its component
+     * type.
+     *
+     * @param method The variable arity method
+     * @param index  The index of the parameter
+     * @return The type of the parameter
+     */
+    private static Class<?> getVariableArityParameterType(final Method method, final int index) {
+
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final int lastIndex = parameterTypes.length - 1;
+
+        return index < lastIndex ? parameterTypes[index] : parameterTypes[lastIndex].getComponentType();
+    }
+
+    /**
+     * Checks if {@code from} can be converted to {@code to} by an identity,
+     * widening primitive or widening reference conversion.
+     *
+     * @param from The type of the argument
+     * @param to   The type of the parameter
+     * @return {@code true} if {@code from} can be converted to {@code to} ,
+     *         otherwise {@code false}
+     */
+    private static boolean isStrictlyConvertible(final Class<?> from, final Class<?> to) {
+
+        if (from == to) {
+            return true;
+        }
+
+        if (to.isPrimitive()) {
+            return from.isPrimitive() && PRIMITIVE_WIDENINGS.getOrDefault(from, List.of()).contains(to);
+        }
+
+        return !from.isPrimitive() && to.isAssignableFrom(from);
+    }
+
+    /**
+     * Checks if {@code from} can be converted to {@code to} by a strict
+     * conversion, a boxing conversion followed by a widening reference
+     * conversion, or an unboxing conversion followed by a widening primitive
+     * conversion.
+     *
+     * @param from The type of the argument
+     * @param to   The type of the parameter
+     * @return {@code true} if {@code from} can be converted to {@code to} ,
+     *         otherwise {@code false}
+     */
+    static boolean isLooselyConvertible(final Class<?> from, final Class<?> to) {
+
+        if (isStrictlyConvertible(from, to)) {
+            return true;
+        }
+
+        if (from.isPrimitive()) {
+            return !to.isPrimitive() && to.isAssignableFrom(WRAPPER_TYPES.get(from));
+        }
+
+        final Class<?> primitiveType = PRIMITIVE_TYPES.get(from);
+        return to.isPrimitive() && primitiveType != null && isStrictlyConvertible(primitiveType, to);
+    }
+
+    /**
+     * The enum that represents the phases of the method invocation.
+     */
+    private enum Phase {
+
+        /**
+         * The phase that allows only strict conversions
+         */
+        STRICT {
+            @Override
+            boolean isApplicable(final Method method, final Class<?>[] argumentTypes) {
+                return isApplicableByFixedArity(method, argumentTypes, false);
+            }
+        },
+
+        /**
+         * The phase that also allows boxing and unboxing conversions
+         */
+        LOOSE {
+            @Override
+            boolean isApplicable(final Method method, final Class<?>[] argumentTypes) {
+                return isApplicableByFixedArity(method, argumentTypes, true);
+            }
+        },
+
+        /**
+         * The phase that collects the trailing arguments of a variable arity method
+         */
+        VARIABLE_ARITY {
+            @Override
+            boolean isApplicable(final Method method, final Class<?>[] argumentTypes) {
+
+                if (!method.isVarArgs()) {
+                    return false;
+                }
+
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                final int lastIndex = parameterTypes.length - 1;
+
+                if (argumentTypes.length < lastIndex) {
+                    return false;
+                }
+
+                for (int i = 0; i < lastIndex; i++) {
+                    if (!isLooselyConvertible(argumentTypes[i], parameterTypes[i])) {
+                        return false;
+                    }
+                }
+
+                final Class<?> componentType = parameterTypes[lastIndex].getComponentType();
+
+                for (int i = lastIndex; i < argumentTypes.length; i++) {
+                    if (!isLooselyConvertible(argumentTypes[i], componentType)) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        };
+
+        /**
+         * Checks if {@code method} is applicable to {@code argumentTypes} in this
+         * phase.
+         *
+         * @param method        The method to be checked
+         * @param argumentTypes The types of the arguments
+         * @return {@code true} if the method is applicable, otherwise {@code false}
+         */
+        abstract boolean isApplicable(Method method, Class<?>[] argumentTypes);
+
+        /**
+         * Checks if {@code method} is applicable to {@code argumentTypes} without
+         * collecting the trailing arguments.
+         *
+         * @param method        The method to be checked
+         * @param argumentTypes The types of the arguments
+         * @param loose         The flag that indicates whether boxing and unboxing
+         *                      conversions are allowed
+         * @return {@code true} if the method is applicable, otherwise {@code false}
+         */
+        private static boolean isApplicableByFixedArity(final Method method, final Class<?>[] argumentTypes,
+                final boolean loose) {
+
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+
+            if (parameterTypes.length != argumentTypes.length) {
+                return false;
+            }
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                final boolean convertible = loose ? isLooselyConvertible(argumentTypes[i], parameterTypes[i])
+                        : isStrictlyConvertible(argumentTypes[i], parameterTypes[i]);
+
+                if (!convertible) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
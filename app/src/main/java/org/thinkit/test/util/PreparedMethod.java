@@ -0,0 +1,994 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The class that represents a method resolved in advance by
+ * {@link ReflectionTestHelper#prepare(String, Class...)} . The method lookup
+ * and the creation of the parameter types are done only once when the instance
+ * is created, so the method can be invoked repeatedly with different argument
+ * values at full speed.
+ *
+ * <p>
+ * The instance of this class is immutable and can be reused as many times as
+ * needed. Methods with up to three parameters are invoked without allocating an
+ * argument array when the fixed arity overloads of {@code invoke} are used,
+ * unless {@link ReflectionMetrics} is enabled. The same holds for the fixed
+ * arity overloads of {@code invokeInt} , {@code invokeLong} ,
+ * {@code invokeDouble} and {@code invokeBoolean} , which also return the value
+ * without boxing it, even while the metrics are recorded. Primitive arguments
+ * are still passed as their wrappers.
+ *
+ * <pre>
+ * final PreparedMethod&lt;ConcreteClass, String&gt; preparedMethod = reflectionTestHelper
+ *         .prepare("methodName", String.class, int.class);
+ *
+ * final String first = preparedMethod.invoke("first", 1);
+ * final String second = preparedMethod.invoke("second", 2);
+ * </pre>
+ *
+ * <p>
+ * To invoke the method over a large number of inputs, such as in a
+ * data-driven regression test, pass the argument tuples to
+ * {@link #invokeAll(Stream)} or {@link #invokeAll(Iterable)} . The method is
+ * invoked lazily as the returned stream is consumed, so the inputs and the
+ * results are never held in memory all at once.
+ *
+ * <pre>
+ * try (Stream&lt;String&gt; results = preparedMethod.invokeAll(Files.lines(path).map(line -&gt; line.split(",")))) {
+ *     results.forEach(result -&gt; assertNotNull(result));
+ * }
+ * </pre>
+ *
+ * <p>
+ * A batch of argument tuples can also be split across a {@link ForkJoinPool}
+ * by {@link #invokeAllParallel(List)} . The prepared SUT instance is shared by
+ * all workers, which is suitable for stateless methods. If the method changes
+ * the state of the SUT, pass a {@link ReflectionSutPool} so that each task
+ * invokes the method on its own instance acquired from the pool. In both cases
+ * the results are returned in the order of the tuples.
+ *
+ * <p>
+ * The methods that block on I/O can be invoked concurrently on virtual threads
+ * by {@link #invokeAllConcurrently(List, ConcurrencyOptions)} , which limits
+ * the number of the invocations running at the same time and the time allowed
+ * for each invocation. On the JDK versions without virtual threads, a pool of
+ * platform threads is used instead.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PreparedMethod<T, R> {
+
+    /**
+     * The sut instance, or {@code null} if the method is static
+     */
+    private final T sutInstance;
+
+    /**
+     * The invoker of the resolved method
+     */
+    private final MethodInvoker methodInvoker;
+
+    /**
+     * The mode that defines how the errors in the reflection process are reported
+     */
+    private final FailureMode failureMode;
+
+    /**
+     * Returns the new instance of {@link PreparedMethod} based on the arguments.
+     * The errors in the reflection process are reported in
+     * {@link FailureMode#WRAPPED} .
+     *
+     * @param <T>           The type of SUT
+     * @param <R>           The type returned by the method to be invoked
+     * @param sutInstance   The instance in which the method to be invoked is
+     *                      defined, or {@code null} if the method is static
+     * @param methodInvoker The invoker of the resolved method
+     * @return The new instance of {@link PreparedMethod}
+     *
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code methodInvoker}
+     */
+    static <T, R> PreparedMethod<T, R> of(final T sutInstance, @NonNull final MethodInvoker methodInvoker) {
+        return new PreparedMethod<>(sutInstance, methodInvoker, FailureMode.WRAPPED);
+    }
+
+    /**
+     * Returns the new instance of {@link PreparedMethod} based on the arguments.
+     *
+     * @param <T>           The type of SUT
+     * @param <R>           The type returned by the method to be invoked
+     * @param sutInstance   The instance in which the method to be invoked is
+     *                      defined, or {@code null} if the method is static
+     * @param methodInvoker The invoker of the resolved method
+     * @param failureMode   The mode that defines how the errors in the reflection
+     *                      process are reported
+     * @return The new instance of {@link PreparedMethod}
+     *
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code methodInvoker} or
+     *                                 {@code failureMode}
+     */
+    static <T, R> PreparedMethod<T, R> of(final T sutInstance, @NonNull final MethodInvoker methodInvoker,
+            @NonNull final FailureMode failureMode) {
+        return new PreparedMethod<>(sutInstance, methodInvoker, failureMode);
+    }
+
+    /**
+     * Invokes the method that has no parameter.
+     *
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    public R invoke() {
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return (R) this.methodInvoker.invokeMeasured(this.sutInstance, new Object[0], System.nanoTime());
+            }
+
+            return (R) this.methodInvoker.invokeDirect(this.sutInstance);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that has one parameter with {@code argument} .
+     *
+     * <p>
+     * If the parameter is an array type, cast the argument to {@link Object} so
+     * that it is not taken as the argument array of {@link #invoke(Object...)} .
+     *
+     * @param argument The argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    public R invoke(final Object argument) {
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return (R) this.methodInvoker.invokeMeasured(this.sutInstance, new Object[] { argument },
+                        System.nanoTime());
+            }
+
+            return (R) this.methodInvoker.invokeDirect(this.sutInstance, argument);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that has two parameters with the arguments.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    public R invoke(final Object firstArgument, final Object secondArgument) {
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return (R) this.methodInvoker.invokeMeasured(this.sutInstance,
+                        new Object[] { firstArgument, secondArgument }, System.nanoTime());
+            }
+
+            return (R) this.methodInvoker.invokeDirect(this.sutInstance, firstArgument, secondArgument);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that has three parameters with the arguments.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    public R invoke(final Object firstArgument, final Object secondArgument, final Object thirdArgument) {
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return (R) this.methodInvoker.invokeMeasured(this.sutInstance,
+                        new Object[] { firstArgument, secondArgument, thirdArgument }, System.nanoTime());
+            }
+
+            return (R) this.methodInvoker.invokeDirect(this.sutInstance, firstArgument, secondArgument,
+                    thirdArgument);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the method with {@code arguments} .
+     *
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    public R invoke(@NonNull final Object... arguments) {
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return (R) this.methodInvoker.invokeMeasured(this.sutInstance, arguments, System.nanoTime());
+            }
+
+            return (R) this.methodInvoker.invoke(this.sutInstance, arguments);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the method that returns {@code int} and has no parameter without
+     * boxing the returned value.
+     *
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code int}
+     */
+    public int invokeInt() {
+        return UnboxedType.toInt(this.invokeUnboxed(UnboxedType.INT, 0, null, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code int} and has one parameter with
+     * {@code argument} without boxing the returned value.
+     *
+     * <p>
+     * If the parameter is an array type, cast the argument to {@link Object} so
+     * that it is not taken as the argument array of {@link #invokeInt(Object...)} .
+     *
+     * @param argument The argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code int}
+     */
+    public int invokeInt(final Object argument) {
+        return UnboxedType.toInt(this.invokeUnboxed(UnboxedType.INT, 1, argument, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code int} and has two parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code int}
+     */
+    public int invokeInt(final Object firstArgument, final Object secondArgument) {
+        return UnboxedType
+                .toInt(this.invokeUnboxed(UnboxedType.INT, 2, firstArgument, secondArgument, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code int} and has three parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code int}
+     */
+    public int invokeInt(final Object firstArgument, final Object secondArgument, final Object thirdArgument) {
+        return UnboxedType.toInt(
+                this.invokeUnboxed(UnboxedType.INT, 3, firstArgument, secondArgument, thirdArgument));
+    }
+
+    /**
+     * Invokes the method that returns {@code int} with {@code arguments} without
+     * boxing the returned value.
+     *
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code int}
+     */
+    public int invokeInt(@NonNull final Object... arguments) {
+        return UnboxedType.toInt(this.invokeUnboxed(UnboxedType.INT, arguments));
+    }
+
+    /**
+     * Invokes the method that returns {@code long} and has no parameter without
+     * boxing the returned value.
+     *
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code long}
+     */
+    public long invokeLong() {
+        return UnboxedType.toLong(this.invokeUnboxed(UnboxedType.LONG, 0, null, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code long} and has one parameter with
+     * {@code argument} without boxing the returned value.
+     *
+     * <p>
+     * If the parameter is an array type, cast the argument to {@link Object} so
+     * that it is not taken as the argument array of {@link #invokeLong(Object...)} .
+     *
+     * @param argument The argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code long}
+     */
+    public long invokeLong(final Object argument) {
+        return UnboxedType.toLong(this.invokeUnboxed(UnboxedType.LONG, 1, argument, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code long} and has two parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code long}
+     */
+    public long invokeLong(final Object firstArgument, final Object secondArgument) {
+        return UnboxedType
+                .toLong(this.invokeUnboxed(UnboxedType.LONG, 2, firstArgument, secondArgument, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code long} and has three parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code long}
+     */
+    public long invokeLong(final Object firstArgument, final Object secondArgument, final Object thirdArgument) {
+        return UnboxedType.toLong(
+                this.invokeUnboxed(UnboxedType.LONG, 3, firstArgument, secondArgument, thirdArgument));
+    }
+
+    /**
+     * Invokes the method that returns {@code long} with {@code arguments} without
+     * boxing the returned value.
+     *
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code long}
+     */
+    public long invokeLong(@NonNull final Object... arguments) {
+        return UnboxedType.toLong(this.invokeUnboxed(UnboxedType.LONG, arguments));
+    }
+
+    /**
+     * Invokes the method that returns {@code double} and has no parameter without
+     * boxing the returned value.
+     *
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code double}
+     */
+    public double invokeDouble() {
+        return UnboxedType.toDouble(this.invokeUnboxed(UnboxedType.DOUBLE, 0, null, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code double} and has one parameter with
+     * {@code argument} without boxing the returned value.
+     *
+     * <p>
+     * If the parameter is an array type, cast the argument to {@link Object} so
+     * that it is not taken as the argument array of {@link #invokeDouble(Object...)} .
+     *
+     * @param argument The argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code double}
+     */
+    public double invokeDouble(final Object argument) {
+        return UnboxedType.toDouble(this.invokeUnboxed(UnboxedType.DOUBLE, 1, argument, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code double} and has two parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code double}
+     */
+    public double invokeDouble(final Object firstArgument, final Object secondArgument) {
+        return UnboxedType
+                .toDouble(this.invokeUnboxed(UnboxedType.DOUBLE, 2, firstArgument, secondArgument, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code double} and has three parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code double}
+     */
+    public double invokeDouble(final Object firstArgument, final Object secondArgument, final Object thirdArgument) {
+        return UnboxedType.toDouble(
+                this.invokeUnboxed(UnboxedType.DOUBLE, 3, firstArgument, secondArgument, thirdArgument));
+    }
+
+    /**
+     * Invokes the method that returns {@code double} with {@code arguments} without
+     * boxing the returned value.
+     *
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code double}
+     */
+    public double invokeDouble(@NonNull final Object... arguments) {
+        return UnboxedType.toDouble(this.invokeUnboxed(UnboxedType.DOUBLE, arguments));
+    }
+
+    /**
+     * Invokes the method that returns {@code boolean} and has no parameter without
+     * boxing the returned value.
+     *
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code boolean}
+     */
+    public boolean invokeBoolean() {
+        return UnboxedType.toBoolean(this.invokeUnboxed(UnboxedType.BOOLEAN, 0, null, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code boolean} and has one parameter with
+     * {@code argument} without boxing the returned value.
+     *
+     * <p>
+     * If the parameter is an array type, cast the argument to {@link Object} so
+     * that it is not taken as the argument array of {@link #invokeBoolean(Object...)} .
+     *
+     * @param argument The argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code boolean}
+     */
+    public boolean invokeBoolean(final Object argument) {
+        return UnboxedType.toBoolean(this.invokeUnboxed(UnboxedType.BOOLEAN, 1, argument, null, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code boolean} and has two parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code boolean}
+     */
+    public boolean invokeBoolean(final Object firstArgument, final Object secondArgument) {
+        return UnboxedType
+                .toBoolean(this.invokeUnboxed(UnboxedType.BOOLEAN, 2, firstArgument, secondArgument, null));
+    }
+
+    /**
+     * Invokes the method that returns {@code boolean} and has three parameters with
+     * the arguments without boxing the returned value.
+     *
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code boolean}
+     */
+    public boolean invokeBoolean(final Object firstArgument, final Object secondArgument, final Object thirdArgument) {
+        return UnboxedType.toBoolean(
+                this.invokeUnboxed(UnboxedType.BOOLEAN, 3, firstArgument, secondArgument, thirdArgument));
+    }
+
+    /**
+     * Invokes the method that returns {@code boolean} with {@code arguments} without
+     * boxing the returned value.
+     *
+     * @param arguments The arguments, whose length must be equal to the number of
+     *                  the parameters of the method
+     * @return The value returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code boolean}
+     */
+    public boolean invokeBoolean(@NonNull final Object... arguments) {
+        return UnboxedType.toBoolean(this.invokeUnboxed(UnboxedType.BOOLEAN, arguments));
+    }
+
+    /**
+     * Invokes the method that has {@code argumentCount} parameters and returns the
+     * value as the bits of {@code unboxedType} without an argument array. This is
+     * the shared invocation path of the fixed arity primitive specialized methods
+     * such as {@link #invokeInt(Object)} .
+     *
+     * @param unboxedType    The type in which the value is returned
+     * @param argumentCount  The number of the arguments, which is at most three
+     * @param firstArgument  The first argument
+     * @param secondArgument The second argument
+     * @param thirdArgument  The third argument
+     * @return The bits of the value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code unboxedType}
+     */
+    private long invokeUnboxed(final UnboxedType unboxedType, final int argumentCount, final Object firstArgument,
+            final Object secondArgument, final Object thirdArgument) {
+        try {
+            return this.methodInvoker.invokeUnboxed(unboxedType, this.sutInstance, argumentCount, firstArgument,
+                    secondArgument, thirdArgument, ReflectionMetrics.startNanos());
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the method with {@code arguments} and returns the value as the bits
+     * of {@code unboxedType} . This is the shared invocation path of the primitive
+     * specialized methods such as {@link #invokeInt(Object...)} .
+     *
+     * @param unboxedType The type in which the value is returned
+     * @param arguments   The arguments, whose length must be equal to the number
+     *                    of the parameters of the method
+     * @return The bits of the value returned from the method
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or the return type of the method cannot be
+     *                                  converted to {@code unboxedType}
+     */
+    private long invokeUnboxed(final UnboxedType unboxedType, final Object[] arguments) {
+        try {
+            return this.methodInvoker.invokeUnboxed(unboxedType, this.sutInstance, arguments,
+                    ReflectionMetrics.startNanos());
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the stream of the values returned from the method invoked with each
+     * of {@code argumentTuples} in order. The method is invoked lazily, only when
+     * the corresponding element of the returned stream is consumed, so the memory
+     * used does not depend on the number of the tuples.
+     *
+     * <p>
+     * Each tuple is passed to the method in the same way as
+     * {@link #invoke(Object...)} . Closing the returned stream closes
+     * {@code argumentTuples} .
+     *
+     * @param argumentTuples The stream of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @return The stream of the values returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument,
+     *                                  which is thrown when the stream is consumed
+     *                                  if a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection
+     *                                  process, which is thrown when the stream is
+     *                                  consumed
+     */
+    public Stream<R> invokeAll(@NonNull final Stream<? extends Object[]> argumentTuples) {
+        return argumentTuples.map(arguments -> this.invoke(arguments));
+    }
+
+    /**
+     * Returns the stream of the values returned from the method invoked with each
+     * of {@code argumentTuples} in the order of iteration. Like
+     * {@link #invokeAll(Stream)} , the tuples are iterated and the method is
+     * invoked lazily as the returned stream is consumed.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @return The stream of the values returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument,
+     *                                  which is thrown when the stream is consumed
+     *                                  if a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection
+     *                                  process, which is thrown when the stream is
+     *                                  consumed
+     */
+    public Stream<R> invokeAll(@NonNull final Iterable<? extends Object[]> argumentTuples) {
+        return this.invokeAll(StreamSupport.stream(argumentTuples.spliterator(), false));
+    }
+
+    /**
+     * Invokes the method with each of {@code argumentTuples} in parallel on the
+     * common {@link ForkJoinPool} , sharing the prepared SUT instance between the
+     * workers. Use this method only if the method does not change the state of
+     * the SUT.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @return The unmodifiable list of the values returned from the method in the
+     *         order of {@code argumentTuples}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument or
+     *                                  a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public List<R> invokeAllParallel(@NonNull final List<? extends Object[]> argumentTuples) {
+        return this.invokeAllParallel(argumentTuples, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Invokes the method with each of {@code argumentTuples} in parallel on
+     * {@code forkJoinPool} , sharing the prepared SUT instance between the
+     * workers. Use this method only if the method does not change the state of
+     * the SUT.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @param forkJoinPool   The pool that runs the invocations
+     * @return The unmodifiable list of the values returned from the method in the
+     *         order of {@code argumentTuples}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument or
+     *                                  a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public List<R> invokeAllParallel(@NonNull final List<? extends Object[]> argumentTuples,
+            @NonNull final ForkJoinPool forkJoinPool) {
+        return this.invokeAllParallel(argumentTuples, null, forkJoinPool);
+    }
+
+    /**
+     * Invokes the method with each of {@code argumentTuples} in parallel on the
+     * common {@link ForkJoinPool} . Each task acquires its own SUT instance from
+     * {@code sutPool} and releases it when the task completes, so no SUT instance
+     * is used by more than one worker at a time.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @param sutPool        The pool of the SUT instances for the workers
+     * @return The unmodifiable list of the values returned from the method in the
+     *         order of {@code argumentTuples}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument or
+     *                                  a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public List<R> invokeAllParallel(@NonNull final List<? extends Object[]> argumentTuples,
+            @NonNull final ReflectionSutPool<T> sutPool) {
+        return this.invokeAllParallel(argumentTuples, sutPool, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Invokes the method with each of {@code argumentTuples} in parallel on
+     * {@code forkJoinPool} . Each task acquires its own SUT instance from
+     * {@code sutPool} and releases it when the task completes. If {@code sutPool}
+     * is {@code null} or the method is static, the prepared SUT instance is
+     * shared between the workers instead.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @param sutPool        The pool of the SUT instances for the workers, or
+     *                       {@code null} to share the prepared SUT instance
+     * @param forkJoinPool   The pool that runs the invocations
+     * @return The unmodifiable list of the values returned from the method in the
+     *         order of {@code argumentTuples}
+     *
+     * @exception NullPointerException  If {@code null} is passed as
+     *                                  {@code argumentTuples} or
+     *                                  {@code forkJoinPool} , or a tuple is
+     *                                  {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> invokeAllParallel(@NonNull final List<? extends Object[]> argumentTuples,
+            final ReflectionSutPool<T> sutPool, @NonNull final ForkJoinPool forkJoinPool) {
+
+        final Object[] results = new Object[argumentTuples.size()];
+        final int threshold = Math.max(1, results.length / (forkJoinPool.getParallelism() * 4));
+
+        forkJoinPool.invoke(new InvokeAllTask(argumentTuples.toArray(new Object[0][]),
+                this.methodInvoker.isStatic() ? null : sutPool, results, 0, results.length, threshold));
+
+        return (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Invokes the method with each of {@code argumentTuples} concurrently on
+     * virtual threads with the default {@link ConcurrencyOptions} , sharing the
+     * prepared SUT instance between the invocations.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @return The unmodifiable list of the values returned from the method in the
+     *         order of {@code argumentTuples}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument or
+     *                                  a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public List<R> invokeAllConcurrently(@NonNull final List<? extends Object[]> argumentTuples) {
+        return this.invokeAllConcurrently(argumentTuples, ConcurrencyOptions.newInstance());
+    }
+
+    /**
+     * Invokes the method with each of {@code argumentTuples} concurrently on
+     * virtual threads, sharing the prepared SUT instance between the invocations.
+     * If virtual threads are not available, a pool of as many platform threads as
+     * the maximum concurrency of {@code options} is used instead.
+     *
+     * <p>
+     * If an invocation fails or does not complete within the timeout of
+     * {@code options} , the remaining tuples are not invoked, the other
+     * invocations still running are interrupted, and the error of the first
+     * failed tuple in order is thrown. A timeout is
+     * reported as a {@link java.util.concurrent.TimeoutException} in the same way
+     * as the other errors in the reflection process.
+     *
+     * @param argumentTuples The tuples of the arguments, whose length must be
+     *                       equal to the number of the parameters of the method
+     * @param options        The options of the concurrent invocation
+     * @return The unmodifiable list of the values returned from the method in the
+     *         order of {@code argumentTuples}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument or
+     *                                  a tuple is {@code null}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     *                                  or an invocation times out
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> invokeAllConcurrently(@NonNull final List<? extends Object[]> argumentTuples,
+            @NonNull final ConcurrencyOptions options) {
+
+        final Object[] results = ConcurrentBatchInvoker.invokeAll(argumentTuples.toArray(new Object[0][]),
+                arguments -> this.invokeOn(this.sutInstance, arguments), options, this.failureMode);
+
+        return (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * Returns the name of the prepared method.
+     *
+     * @return The method name
+     */
+    public String getName() {
+        return this.methodInvoker.getMethod().getName();
+    }
+
+    /**
+     * Returns the parameter types of the prepared method.
+     *
+     * @return The parameter types
+     */
+    public Class<?>[] getParameterTypes() {
+        return this.methodInvoker.getMethod().getParameterTypes();
+    }
+
+    /**
+     * Invokes the method with {@code arguments} on {@code receiver} .
+     *
+     * @param receiver  The SUT instance, or {@code null} if the method is static
+     * @param arguments The arguments
+     * @return The value returned from the method
+     *
+     * @exception NullPointerException  If {@code null} is passed as
+     *                                  {@code arguments}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    private Object invokeOn(final Object receiver, @NonNull final Object[] arguments) {
+        try {
+            if (ReflectionMetrics.isEnabled()) {
+                return this.methodInvoker.invokeMeasured(receiver, arguments, System.nanoTime());
+            }
+
+            return this.methodInvoker.invoke(receiver, arguments);
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            throw this.failureMode.toRuntimeException(e);
+        }
+    }
+
+    /**
+     * The task that invokes the method with a range of the argument tuples,
+     * splitting the range in half until it is not larger than the threshold.
+     */
+    private final class InvokeAllTask extends RecursiveAction {
+
+        /**
+         * The serial version UID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The tuples of the arguments
+         */
+        private final Object[][] argumentTuples;
+
+        /**
+         * The pool of the SUT instances, or {@code null} if the prepared SUT
+         * instance is shared
+         */
+        private final transient ReflectionSutPool<T> sutPool;
+
+        /**
+         * The values returned from the method, which are stored at the same index
+         * as the tuples
+         */
+        private final Object[] results;
+
+        /**
+         * The index of the first tuple, inclusive
+         */
+        private final int from;
+
+        /**
+         * The index of the last tuple, exclusive
+         */
+        private final int to;
+
+        /**
+         * The maximum number of the tuples invoked by one task without splitting
+         */
+        private final int threshold;
+
+        /**
+         * The constructor.
+         *
+         * @param argumentTuples The tuples of the arguments
+         * @param sutPool        The pool of the SUT instances, or {@code null} if
+         *                       the prepared SUT instance is shared
+         * @param results        The values returned from the method
+         * @param from           The index of the first tuple, inclusive
+         * @param to             The index of the last tuple, exclusive
+         * @param threshold      The maximum number of the tuples invoked by one
+         *                       task without splitting
+         */
+        InvokeAllTask(final Object[][] argumentTuples, final ReflectionSutPool<T> sutPool, final Object[] results,
+                final int from, final int to, final int threshold) {
+            this.argumentTuples = argumentTuples;
+            this.sutPool = sutPool;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (this.to - this.from > this.threshold) {
+                final int middle = (this.from + this.to) >>> 1;
+                ForkJoinTask.invokeAll(
+                        new InvokeAllTask(this.argumentTuples, this.sutPool, this.results, this.from, middle,
+                                this.threshold),
+                        new InvokeAllTask(this.argumentTuples, this.sutPool, this.results, middle, this.to,
+                                this.threshold));
+                return;
+            }
+
+            if (this.sutPool == null) {
+                this.invokeRange(PreparedMethod.this.sutInstance);
+                return;
+            }
+
+            final T receiver = this.sutPool.acquire();
+
+            try {
+                this.invokeRange(receiver);
+            } finally {
+                this.sutPool.release(receiver);
+            }
+        }
+
+        /**
+         * Invokes the method with the tuples in the range of this task on
+         * {@code receiver} .
+         *
+         * @param receiver The SUT instance, or {@code null} if the method is static
+         */
+        private void invokeRange(final Object receiver) {
+            for (int i = this.from; i < this.to; i++) {
+                this.results[i] = PreparedMethod.this.invokeOn(receiver, this.argumentTuples[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * The enum that compares and copies the values of reference fields captured by
+ * {@link FieldSnapshot} . The comparator of each field is chosen once from the
+ * declared type of the field when {@link FieldLayout} is built, so that the
+ * arrays of primitive types are compared by the specialized
+ * {@link Arrays#equals(int[], int[])} and the like without boxing the elements.
+ *
+ * <p>
+ * The arrays, the collections and the maps are copied by
+ * {@link #copyForRestore(Object)} when they are captured, so a change made to
+ * their elements in place is also detected. The same copy is made when a value
+ * is restored to an instance by {@link FieldLayout} , so that the instances
+ * restored from the same values do not share them. The elements of an array of
+ * reference type and the other objects are not copied, so they are compared
+ * by reference to themselves and a change made to them in place is not
+ * detected.
+ *
+ * <p>
+ * A collection or a map is copied by the public
+ * copy constructor of its class, or by {@link EnumSet#clone()} , and is shared
+ * as it is if its class has no such constructor, as the unmodifiable
+ * collections and the views such as {@link Arrays#asList(Object...)} . The
+ * elements are not copied.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+enum ReferenceComparator {
+
+    /**
+     * The comparator of the fields of non-array type
+     */
+    OBJECT {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Objects.deepEquals(before, after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+
+            if (value == null || !value.getClass().isArray()) {
+                return value;
+            }
+
+            final int length = Array.getLength(value);
+            final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+
+            return copy;
+        }
+
+        @Override
+        Object copyForRestore(final Object value) {
+
+            if (value instanceof EnumSet) {
+                return ((EnumSet<?>) value).clone();
+            }
+
+            if (!(value instanceof Collection) && !(value instanceof Map)) {
+                return this.copy(value);
+            }
+
+            final Constructor<?> copyConstructor = COPY_CONSTRUCTORS.get(value.getClass());
+
+            if (copyConstructor == null) {
+                return value;
+            }
+
+            try {
+                return copyConstructor.newInstance(value);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    },
+
+    /**
+     * The comparator of the fields of array of reference type
+     */
+    OBJECT_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((Object[]) before, (Object[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((Object[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code boolean[]}
+     */
+    BOOLEAN_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((boolean[]) before, (boolean[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((boolean[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code byte[]}
+     */
+    BYTE_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((byte[]) before, (byte[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((byte[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code char[]}
+     */
+    CHAR_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((char[]) before, (char[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((char[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code short[]}
+     */
+    SHORT_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((short[]) before, (short[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((short[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code int[]}
+     */
+    INT_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((int[]) before, (int[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((int[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code long[]}
+     */
+    LONG_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((long[]) before, (long[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((long[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code float[]}
+     */
+    FLOAT_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((float[]) before, (float[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((float[]) value).clone();
+        }
+    },
+
+    /**
+     * The comparator of the fields of {@code double[]}
+     */
+    DOUBLE_ARRAY {
+        @Override
+        boolean isEqual(final Object before, final Object after) {
+            return Arrays.equals((double[]) before, (double[]) after);
+        }
+
+        @Override
+        Object copy(final Object value) {
+            return value == null ? null : ((double[]) value).clone();
+        }
+    };
+
+    /**
+     * The public copy constructors of the collections and the maps, or
+     * {@code null} for the classes that have none
+     */
+    private static final ClassValue<Constructor<?>> COPY_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(final Class<?> type) {
+            return findCopyConstructor(type);
+        }
+    };
+
+    /**
+     * Checks if the captured values are equal.
+     *
+     * @param before The value captured before
+     * @param after  The value captured after
+     * @return {@code true} if the values are equal, otherwise {@code false}
+     */
+    abstract boolean isEqual(Object before, Object after);
+
+    /**
+     * Returns the copy of {@code value} in which only arrays are copied.
+     *
+     * @param value The value of the field
+     * @return The value to be captured
+     */
+    abstract Object copy(Object value);
+
+    /**
+     * Returns the copy of {@code value} to be captured or restored to an instance.
+     * In addition to arrays, the collections and the maps are copied if possible.
+     *
+     * @param value The value of the field
+     * @return The value to be restored
+     *
+     * @exception IllegalStateException If the copy constructor of a collection or
+     *                                  a map fails
+     */
+    Object copyForRestore(final Object value) {
+        return this.copy(value);
+    }
+
+    /**
+     * Returns the comparator of the field of {@code fieldType} .
+     *
+     * @param fieldType The declared type of the field
+     * @return The comparator of the field
+     */
+    static ReferenceComparator of(final Class<?> fieldType) {
+
+        if (!fieldType.isArray()) {
+            return OBJECT;
+        }
+
+        final Class<?> componentType = fieldType.getComponentType();
+
+        if (!componentType.isPrimitive()) {
+            return OBJECT_ARRAY;
+        } else if (componentType == int.class) {
+            return INT_ARRAY;
+        } else if (componentType == long.class) {
+            return LONG_ARRAY;
+        } else if (componentType == double.class) {
+            return DOUBLE_ARRAY;
+        } else if (componentType == byte.class) {
+            return BYTE_ARRAY;
+        } else if (componentType == char.class) {
+            return CHAR_ARRAY;
+        } else if (componentType == boolean.class) {
+            return BOOLEAN_ARRAY;
+        } else if (componentType == float.class) {
+            return FLOAT_ARRAY;
+        }
+
+        return SHORT_ARRAY;
+    }
+
+    /**
+     * Returns the public copy constructor of the collection or the map of
+     * {@code type} . For a sorted set or a sorted map, the constructor that takes
+     * a sorted one is preferred so that the comparator is also copied.
+     *
+     * @param type The class of the collection or the map
+     * @return The copy constructor, or {@code null} if {@code type} has none
+     */
+    private static Constructor<?> findCopyConstructor(final Class<?> type) {
+
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+
+        final boolean collection = Collection.class.isAssignableFrom(type);
+        final Class<?> sortedType = collection ? SortedSet.class : SortedMap.class;
+
+        if (sortedType.isAssignableFrom(type)) {
+            final Constructor<?> copyConstructor = findPublicConstructor(type, sortedType);
+
+            if (copyConstructor != null) {
+                return copyConstructor;
+            }
+        }
+
+        return findPublicConstructor(type, collection ? Collection.class : Map.class);
+    }
+
+    /**
+     * Returns the public constructor of {@code type} that takes only
+     * {@code parameterType} .
+     *
+     * @param type          The class
+     * @param parameterType The type of the parameter
+     * @return The constructor, or {@code null} if {@code type} has none
+     */
+    private static Constructor<?> findPublicConstructor(final Class<?> type, final Class<?> parameterType) {
+        try {
+            return type.getConstructor(parameterType);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.io.Serializable;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that manages the arguments for a single invocation by reflection.
+ *
+ * <p>
+ * Unlike the arguments added by
+ * {@link ReflectionTestHelper#addArgument(Class, Object)} , which are kept in
+ * the helper until {@link ReflectionTestHelper#clearArguments()} is called, an
+ * instance of this class is passed to
+ * {@link ReflectionTestHelper#invokeMethod(String, ReflectionArguments)} each
+ * time a method is invoked. Therefore, one helper and one SUT instance can
+ * invoke many different methods back-to-back without being rebuilt.
+ *
+ * <pre>
+ * final ReflectionArguments arguments = ReflectionArguments.newInstance().add(String.class, "test").addInt(1);
+ * final String result = reflectionTestHelper.invokeMethod("methodName", arguments);
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReflectionArguments implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -3216873457025473101L;
+
+    /**
+     * The reflection parameter
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final ReflectionParameter parameter = ReflectionParameter.newInstance();
+
+    /**
+     * Returns the new instance of {@link ReflectionArguments} that has no
+     * argument.
+     *
+     * @return The new instance of {@link ReflectionArguments}
+     */
+    public static ReflectionArguments newInstance() {
+        return new ReflectionArguments();
+    }
+
+    /**
+     * Adds the argument type and value. Argument types are not allowed to be
+     * {@code null} , but argument values are allowed to be {@code null} .
+     *
+     * @param argumentType  The type of argument
+     * @param argumentValue The value of argument, which may be {@code null}
+     * @return This instance
+     *
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code argumentType}
+     */
+    public ReflectionArguments add(@NonNull final Class<?> argumentType, final Object argumentValue) {
+        this.parameter.add(argumentType, argumentValue);
+        return this;
+    }
+
+    /**
+     * Adds the {@code int} argument. This is the same as
+     * {@code add(int.class, argumentValue)} .
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    public ReflectionArguments addInt(final int argumentValue) {
+        this.parameter.add(int.class, Integer.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Adds the {@code long} argument. This is the same as
+     * {@code add(long.class, argumentValue)} .
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    public ReflectionArguments addLong(final long argumentValue) {
+        this.parameter.add(long.class, Long.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Adds the {@code double} argument. This is the same as
+     * {@code add(double.class, argumentValue)} .
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    public ReflectionArguments addDouble(final double argumentValue) {
+        this.parameter.add(double.class, Double.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Adds the {@code boolean} argument. This is the same as
+     * {@code add(boolean.class, argumentValue)} .
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    public ReflectionArguments addBoolean(final boolean argumentValue) {
+        this.parameter.add(boolean.class, Boolean.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Replaces the value of the argument at {@code index} that has already been
+     * added. The argument types are not changed, so the same instance can be
+     * reused for the next invocation of the same method.
+     *
+     * @param index         The index of the argument
+     * @param argumentValue The new value of argument
+     * @return This instance
+     *
+     * @exception IndexOutOfBoundsException If {@code index} is out of range
+     */
+    public ReflectionArguments set(final int index, final Object argumentValue) {
+        this.parameter.set(index, argumentValue);
+        return this;
+    }
+
+    /**
+     * Returns the number of the arguments.
+     *
+     * @return The number of the arguments
+     */
+    public int size() {
+        return this.parameter.size();
+    }
+}
@@ -15,10 +15,9 @@
 package org.thinkit.test.util;
 
 import java.io.Serializable;
-import java.lang.reflect.Field;
+import java.util.Map;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
@@ -33,7 +32,6 @@ import lombok.ToString;
 @ToString
 @EqualsAndHashCode
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor(access = AccessLevel.PROTECTED, staticName = "from")
 final class ReflectionField<T> implements Serializable {
 
     /**
@@ -42,9 +40,48 @@ final class ReflectionField<T> implements Serializable {
     private static final long serialVersionUID = 2195533227298076362L;
 
     /**
-     * The sut instance
+     * The sut
      */
-    private T sutInstance;
+    private ReflectionSut<T> sut;
+
+    /**
+     * The constructor.
+     *
+     * @param sut The sut
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    private ReflectionField(@NonNull final ReflectionSut<T> sut) {
+        this.sut = sut;
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionField} based on the argument.
+     *
+     * @param <T>         The type of SUT
+     * @param sutInstance The sut instance
+     * @return The new instance of {@link ReflectionField}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static <T> ReflectionField<T> from(@NonNull final T sutInstance) {
+        return new ReflectionField<>(ReflectionSut.of(sutInstance));
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionField} based on the argument.
+     * The SUT held by {@code sut} is instantiated only when an instance field is
+     * accessed.
+     *
+     * @param <T> The type of SUT
+     * @param sut The sut
+     * @return The new instance of {@link ReflectionField}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static <T> ReflectionField<T> of(@NonNull final ReflectionSut<T> sut) {
+        return new ReflectionField<>(sut);
+    }
 
     /**
      * Set {@code fieldValue} to the field associated with {@code fieldName}
@@ -56,11 +93,38 @@ final class ReflectionField<T> implements Serializable {
      * @exception IllegalStateException If an error occurs in the reflection process
      */
     protected void setFieldValue(@NonNull final String fieldName, final Object fieldValue) {
+        this.setFieldValue(fieldName, fieldValue, FieldAccessMode.PLAIN);
+    }
+
+    /**
+     * Set {@code fieldValue} to the field associated with {@code fieldName}
+     * specified as an argument with the memory semantics of {@code accessMode} .
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     * @param accessMode The memory semantics of the write
+     *
+     * @exception NullPointerException  If {@code null} is passed as
+     *                                  {@code fieldName} or {@code accessMode}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected void setFieldValue(@NonNull final String fieldName, final Object fieldValue,
+            @NonNull final FieldAccessMode accessMode) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
 
         try {
-            this.getDeclaredField(fieldName).set(this.sutInstance, fieldValue);
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                fieldAccessor.setMeasured(receiver, fieldValue, accessMode, startNanos);
+            } else {
+                fieldAccessor.set(receiver, fieldValue, accessMode);
+            }
         } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            throw new IllegalStateException(e);
+            throw this.sut.getFailureMode().toRuntimeException(e);
         }
     }
 
@@ -74,16 +138,476 @@ final class ReflectionField<T> implements Serializable {
      * @exception IllegalStateException If an error occurs in the reflection process
      */
     protected Object getFieldValue(@NonNull final String fieldName) {
+        return this.getFieldValue(fieldName, FieldAccessMode.PLAIN);
+    }
+
+    /**
+     * Returns the value from the field associated with {@code fieldName} specified
+     * as an argument with the memory semantics of {@code accessMode} .
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param accessMode The memory semantics of the read
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected Object getFieldValue(@NonNull final String fieldName, @NonNull final FieldAccessMode accessMode) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
         try {
-            return this.getDeclaredField(fieldName).get(this.sutInstance);
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                return fieldAccessor.getMeasured(receiver, accessMode, startNanos);
+            }
+
+            return fieldAccessor.get(receiver, accessMode);
         } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            throw new IllegalStateException(e);
+            throw this.sut.getFailureMode().toRuntimeException(e);
         }
     }
 
-    private Field getDeclaredField(@NonNull final String fieldName) throws NoSuchFieldException, SecurityException {
-        final Field field = this.sutInstance.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return field;
+    /**
+     * Set {@code fieldValue} to the field associated with {@code fieldName}
+     * declared in {@code declaringClass} , which is the SUT class or one of its
+     * superclasses. Use this method to access a field shadowed by a field with
+     * the same name declared in a subclass.
+     *
+     * @param declaringClass The class in which the field is declared
+     * @param fieldName      The field name to be processed for reflection
+     * @param fieldValue     The value to be set to the field by reflection
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code declaringClass} or
+     *                                     {@code fieldName}
+     * @exception IllegalArgumentException If {@code declaringClass} is not the
+     *                                     SUT class or its superclass
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected void setFieldValue(@NonNull final Class<?> declaringClass, @NonNull final String fieldName,
+            final Object fieldValue) {
+
+        this.checkDeclaringClass(declaringClass);
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = ReflectionMemberCache.getFieldAccessor(declaringClass, fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                fieldAccessor.setMeasured(receiver, fieldValue, FieldAccessMode.PLAIN, startNanos);
+            } else {
+                fieldAccessor.set(receiver, fieldValue, FieldAccessMode.PLAIN);
+            }
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the value from the field associated with {@code fieldName} declared
+     * in {@code declaringClass} , which is the SUT class or one of its
+     * superclasses. Use this method to access a field shadowed by a field with
+     * the same name declared in a subclass.
+     *
+     * @param declaringClass The class in which the field is declared
+     * @param fieldName      The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code declaringClass} is not the
+     *                                     SUT class or its superclass
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected Object getFieldValue(@NonNull final Class<?> declaringClass, @NonNull final String fieldName) {
+
+        this.checkDeclaringClass(declaringClass);
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = ReflectionMemberCache.getFieldAccessor(declaringClass, fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                return fieldAccessor.getMeasured(receiver, FieldAccessMode.PLAIN, startNanos);
+            }
+
+            return fieldAccessor.get(receiver, FieldAccessMode.PLAIN);
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the value from the {@code int} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected int getIntFieldValue(@NonNull final String fieldName) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                return fieldAccessor.getIntMeasured(receiver, FieldAccessMode.PLAIN, startNanos);
+            }
+
+            return fieldAccessor.getInt(receiver, FieldAccessMode.PLAIN);
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code int} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected void setIntFieldValue(@NonNull final String fieldName, final int fieldValue) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                fieldAccessor.setIntMeasured(receiver, fieldValue, FieldAccessMode.PLAIN, startNanos);
+            } else {
+                fieldAccessor.setInt(receiver, fieldValue, FieldAccessMode.PLAIN);
+            }
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the value from the {@code long} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected long getLongFieldValue(@NonNull final String fieldName) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                return fieldAccessor.getLongMeasured(receiver, FieldAccessMode.PLAIN, startNanos);
+            }
+
+            return fieldAccessor.getLong(receiver, FieldAccessMode.PLAIN);
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code long} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected void setLongFieldValue(@NonNull final String fieldName, final long fieldValue) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                fieldAccessor.setLongMeasured(receiver, fieldValue, FieldAccessMode.PLAIN, startNanos);
+            } else {
+                fieldAccessor.setLong(receiver, fieldValue, FieldAccessMode.PLAIN);
+            }
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the value from the {@code double} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected double getDoubleFieldValue(@NonNull final String fieldName) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                return fieldAccessor.getDoubleMeasured(receiver, FieldAccessMode.PLAIN, startNanos);
+            }
+
+            return fieldAccessor.getDouble(receiver, FieldAccessMode.PLAIN);
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code double} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected void setDoubleFieldValue(@NonNull final String fieldName, final double fieldValue) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                fieldAccessor.setDoubleMeasured(receiver, fieldValue, FieldAccessMode.PLAIN, startNanos);
+            } else {
+                fieldAccessor.setDouble(receiver, fieldValue, FieldAccessMode.PLAIN);
+            }
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the value from the {@code boolean} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected boolean getBooleanFieldValue(@NonNull final String fieldName) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                return fieldAccessor.getBooleanMeasured(receiver, FieldAccessMode.PLAIN, startNanos);
+            }
+
+            return fieldAccessor.getBoolean(receiver, FieldAccessMode.PLAIN);
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code boolean} field associated with
+     * {@code fieldName} without boxing it.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected void setBooleanFieldValue(@NonNull final String fieldName, final boolean fieldValue) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final FieldAccessor fieldAccessor = this.getFieldAccessor(fieldName);
+            final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+            if (measured) {
+                fieldAccessor.setBooleanMeasured(receiver, fieldValue, FieldAccessMode.PLAIN, startNanos);
+            } else {
+                fieldAccessor.setBoolean(receiver, fieldValue, FieldAccessMode.PLAIN);
+            }
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Sets each value of {@code fieldValues} to the field associated with its key.
+     * The instance fields are found by a single lookup in the field layout of the
+     * SUT class, which is built only once per class, and the other fields, such as
+     * static fields, are resolved in the same way as
+     * {@link #setFieldValue(String, Object)} .
+     *
+     * @param fieldValues The values to be set mapped by field name
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected void setFieldValues(@NonNull final Map<String, ?> fieldValues) {
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+
+        try {
+            final FieldLayout fieldLayout = ReflectionMemberCache.getFieldLayout(this.sut.getSutClass());
+
+            for (final Map.Entry<String, ?> fieldValue : fieldValues.entrySet()) {
+                final long startNanos = measured ? System.nanoTime() : 0L;
+                final int index = fieldLayout.indexOf(fieldValue.getKey());
+                final FieldAccessor fieldAccessor = index >= 0 ? fieldLayout.getFieldAccessor(index)
+                        : this.getFieldAccessor(fieldValue.getKey());
+                final Object receiver = this.sut.getReceiver(fieldAccessor);
+
+                if (measured) {
+                    fieldAccessor.setMeasured(receiver, fieldValue.getValue(), FieldAccessMode.PLAIN, startNanos);
+                } else {
+                    fieldAccessor.set(receiver, fieldValue.getValue(), FieldAccessMode.PLAIN);
+                }
+            }
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the snapshot of the values of all instance fields of the SUT,
+     * including the fields declared in its superclasses. The values are captured
+     * into arrays through the field layout of the SUT class, so the primitive
+     * values are not boxed.
+     *
+     * @return The snapshot of the instance fields
+     *
+     * @exception IllegalStateException If the SUT is in static mode or an error
+     *                                  occurs in the reflection process
+     */
+    protected FieldSnapshot snapshotFields() {
+        try {
+            return ReflectionMemberCache.getFieldLayout(this.sut.getSutClass()).snapshot(this.sut.getSutInstance());
+        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the report of the instance fields of the SUT whose current values
+     * differ from the values captured in {@code before} . The current values are
+     * captured in the same way as {@link #snapshotFields()} and compared with the
+     * comparators compiled for the SUT class.
+     *
+     * @param before The snapshot captured before
+     * @return The report of the changed fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code before} is not captured from
+     *                                     an instance of the SUT class
+     * @exception IllegalStateException    If the SUT is in static mode or an error
+     *                                     occurs in the reflection process
+     */
+    protected FieldDiff diffFields(@NonNull final FieldSnapshot before) {
+        return before.diff(this.snapshotFields());
+    }
+
+    /**
+     * Checks if the field associated with {@code fieldName} is declared in the SUT
+     * class or its superclass. A missing field is cached as a negative result, so
+     * no exception is created however many times a missing field is checked.
+     *
+     * @param fieldName The field name to be checked
+     * @return {@code true} if the field exists, otherwise {@code false}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    protected boolean hasField(@NonNull final String fieldName) {
+        try {
+            return ReflectionMemberCache.findFieldAccessor(this.sut.getSutClass(), fieldName) != null;
+        } catch (SecurityException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the accessor of the field associated with {@code fieldName} declared
+     * in the SUT class or the nearest superclass. The accessor is resolved only
+     * once per class and then shared through {@link ReflectionMemberCache} .
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The accessor of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchFieldException If a field with the specified name is not found
+     * @throws SecurityException    If the access to the field is denied
+     */
+    private FieldAccessor getFieldAccessor(@NonNull final String fieldName)
+            throws NoSuchFieldException, SecurityException {
+        return ReflectionMemberCache.getFieldAccessor(this.sut.getSutClass(), fieldName);
+    }
+
+    /**
+     * Checks that {@code declaringClass} is the SUT class or its superclass. The
+     * check is made before the field is accessed, so that it is not reported in
+     * the same way as a value that does not match the field.
+     *
+     * @param declaringClass The class in which the field is declared
+     *
+     * @exception IllegalArgumentException If {@code declaringClass} is not the
+     *                                     SUT class or its superclass
+     */
+    private void checkDeclaringClass(final Class<?> declaringClass) {
+
+        final Class<?> sutClass = this.sut.getSutClass();
+
+        if (!declaringClass.isAssignableFrom(sutClass)) {
+            throw new IllegalArgumentException(
+                    String.format("%s is not a superclass of %s.", declaringClass.getName(), sutClass.getName()));
+        }
     }
 }
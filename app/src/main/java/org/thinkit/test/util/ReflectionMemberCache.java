@@ -0,0 +1,501 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that caches the members resolved by reflection for each class.
+ * Fields and methods are looked up and made accessible only once per class,
+ * name and parameter types, and the cached objects are shared by all
+ * {@link ReflectionField} and {@link ReflectionMethod} instances. Fields,
+ * methods and constructors are cached together with their
+ * {@link FieldAccessor} , {@link MethodInvoker} and {@link ConstructorInvoker}
+ * .
+ *
+ * <p>
+ * Fields and methods are found in the class and all of its superclasses
+ * through {@link ClassHierarchyIndex} , so private members inherited from a
+ * superclass can also be accessed. If a member with the same name or signature
+ * is declared in several classes, the one nearest to the class wins.
+ *
+ * <p>
+ * Members that are not found are also cached as negative results, so probing
+ * for a missing member by {@link #findFieldAccessor(Class, String)} or
+ * {@link #findMethodInvoker(Class, String, Class...)} never creates an exception
+ * after the first lookup. An ambiguous overload resolution is cached apart from
+ * a missing method, so that it is never reported as a missing method.
+ *
+ * <p>
+ * The cache is bound to each class by {@link ClassValue} , so it does not
+ * prevent the classes from being unloaded.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ReflectionMemberCache {
+
+    /**
+     * The name used as the signature of constructors
+     */
+    private static final String CONSTRUCTOR_NAME = "<init>";
+
+    /**
+     * The member type of fields recorded in {@link MemberLookupEvent}
+     */
+    private static final String FIELD_MEMBER_TYPE = "field";
+
+    /**
+     * The member type of methods recorded in {@link MemberLookupEvent}
+     */
+    private static final String METHOD_MEMBER_TYPE = "method";
+
+    /**
+     * The members cached for each class
+     */
+    private static final ClassValue<ClassMembers> CLASS_MEMBERS = new ClassValue<>() {
+
+        @Override
+        protected ClassMembers computeValue(final Class<?> type) {
+            return new ClassMembers(type);
+        }
+    };
+
+    /**
+     * Returns the accessible field associated with {@code fieldName} declared in
+     * {@code clazz} .
+     *
+     * @param clazz     The class in which or in whose superclass the field is
+     *                  declared
+     * @param fieldName The field name
+     * @return The accessible field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchFieldException If a field with the specified name is not found
+     * @throws SecurityException    If the access to the field is denied
+     */
+    static Field getField(@NonNull final Class<?> clazz, @NonNull final String fieldName)
+            throws NoSuchFieldException, SecurityException {
+        return getFieldAccessor(clazz, fieldName).getField();
+    }
+
+    /**
+     * Returns the accessor of the field associated with {@code fieldName} declared
+     * in {@code clazz} .
+     *
+     * @param clazz     The class in which or in whose superclass the field is
+     *                  declared
+     * @param fieldName The field name
+     * @return The accessor of the field
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchFieldException If a field with the specified name is not found
+     * @throws SecurityException    If the access to the field is denied
+     */
+    static FieldAccessor getFieldAccessor(@NonNull final Class<?> clazz, @NonNull final String fieldName)
+            throws NoSuchFieldException, SecurityException {
+        return CLASS_MEMBERS.get(clazz).getFieldAccessor(fieldName);
+    }
+
+    /**
+     * Returns the accessor of the field associated with {@code fieldName} declared
+     * in {@code clazz} , or {@code null} if there is no such field. No exception
+     * is created for a missing field.
+     *
+     * @param clazz     The class in which or in whose superclass the field is
+     *                  declared
+     * @param fieldName The field name
+     * @return The accessor of the field, or {@code null} if a field with the
+     *         specified name is not found
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws SecurityException If the access to the field is denied
+     */
+    static FieldAccessor findFieldAccessor(@NonNull final Class<?> clazz, @NonNull final String fieldName)
+            throws SecurityException {
+        return CLASS_MEMBERS.get(clazz).findFieldAccessor(fieldName);
+    }
+
+    /**
+     * Returns the accessible method associated with {@code methodName} and
+     * {@code parameterTypes} declared in {@code clazz} .
+     *
+     * @param clazz          The class in which or in whose superclass the method
+     *                       is declared
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types of the method
+     * @return The accessible method
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchMethodException If a matching method is not found
+     * @throws SecurityException     If the access to the method is denied
+     */
+    static Method getMethod(@NonNull final Class<?> clazz, @NonNull final String methodName,
+            @NonNull final Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        return getMethodInvoker(clazz, methodName, parameterTypes).getMethod();
+    }
+
+    /**
+     * Returns the invoker of the method associated with {@code methodName} and
+     * {@code parameterTypes} declared in {@code clazz} . If no method matches
+     * exactly, {@code parameterTypes} are regarded as the types of the arguments
+     * and the method is resolved from the overloaded methods in the same way as
+     * the Java compiler does. The resolved invoker is cached for the argument
+     * types.
+     *
+     * @param clazz          The class in which or in whose superclass the method
+     *                       is declared
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types of the method
+     * @return The invoker of the method
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchMethodException If a matching method is not found or the
+     *                               overload resolution is ambiguous
+     * @throws SecurityException     If the access to the method is denied
+     */
+    static MethodInvoker getMethodInvoker(@NonNull final Class<?> clazz, @NonNull final String methodName,
+            @NonNull final Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        return CLASS_MEMBERS.get(clazz).getMethodInvoker(MethodSignature.of(methodName, parameterTypes));
+    }
+
+    /**
+     * Resolves the invoker of the method associated with {@code methodName} and
+     * {@code parameterTypes} in the same way as
+     * {@link #getMethodInvoker(Class, String, Class...)} . The returned result is
+     * found with the invoker, absent if a matching method is not found, or
+     * ambiguous if more than one method is applicable. No exception is created
+     * for a missing method.
+     *
+     * @param clazz          The class in which or in whose superclass the method
+     *                       is declared
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types of the method
+     * @return The result of the resolution
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws SecurityException If the access to the method is denied
+     */
+    static OverloadResolution<MethodInvoker> findMethodInvoker(@NonNull final Class<?> clazz,
+            @NonNull final String methodName, @NonNull final Class<?>... parameterTypes) throws SecurityException {
+        return CLASS_MEMBERS.get(clazz).findMethodInvoker(MethodSignature.of(methodName, parameterTypes));
+    }
+
+    /**
+     * Returns the invoker of the constructor associated with
+     * {@code parameterTypes} declared in {@code clazz} .
+     *
+     * @param clazz          The class in which the constructor is declared
+     * @param parameterTypes The parameter types of the constructor
+     * @return The invoker of the constructor
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchMethodException If a matching constructor is not found
+     * @throws SecurityException     If the access to the constructor is denied
+     */
+    static ConstructorInvoker getConstructorInvoker(@NonNull final Class<?> clazz,
+            @NonNull final Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        return CLASS_MEMBERS.get(clazz).getConstructorInvoker(MethodSignature.of(CONSTRUCTOR_NAME, parameterTypes));
+    }
+
+    /**
+     * Returns the layout of all instance fields declared in {@code clazz} and its
+     * superclasses.
+     *
+     * @param clazz The class whose fields are held
+     * @return The layout of the instance fields
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchFieldException If a field cannot be resolved
+     * @throws SecurityException    If the access to a field is denied
+     */
+    static FieldLayout getFieldLayout(@NonNull final Class<?> clazz) throws NoSuchFieldException, SecurityException {
+        return CLASS_MEMBERS.get(clazz).getFieldLayout();
+    }
+
+    /**
+     * The class that holds the members resolved for a class.
+     */
+    private static final class ClassMembers {
+
+        /**
+         * The class in which the members are declared
+         */
+        private final Class<?> type;
+
+        /**
+         * The accessors of the accessible fields
+         */
+        private final ConcurrentMap<String, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+
+        /**
+         * The results of the method resolution mapped by signature, which are
+         * found with the invokers of the accessible methods, absent or ambiguous
+         */
+        private final ConcurrentMap<MethodSignature, OverloadResolution<MethodInvoker>> methodResolutions;
+
+        /**
+         * The names of the fields that are not found
+         */
+        private final Set<String> missingFields = ConcurrentHashMap.newKeySet();
+
+        /**
+         * The invokers of the accessible constructors
+         */
+        private final ConcurrentMap<MethodSignature, ConstructorInvoker> constructorInvokers;
+
+        /**
+         * The index of the members declared in the class hierarchy, which is
+         * created lazily
+         */
+        private volatile ClassHierarchyIndex hierarchyIndex;
+
+        /**
+         * The layout of the instance fields, which is created lazily
+         */
+        private volatile FieldLayout fieldLayout;
+
+        /**
+         * The constructor.
+         *
+         * @param type The class in which the members are declared
+         */
+        private ClassMembers(final Class<?> type) {
+            this.type = type;
+            this.methodResolutions = new ConcurrentHashMap<>();
+            this.constructorInvokers = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Returns the accessor of the accessible field associated with
+         * {@code fieldName} .
+         *
+         * @param fieldName The field name
+         * @return The accessor of the accessible field
+         *
+         * @throws NoSuchFieldException If a field with the specified name is not found
+         * @throws SecurityException    If the access to the field is denied
+         */
+        private FieldAccessor getFieldAccessor(final String fieldName)
+                throws NoSuchFieldException, SecurityException {
+
+            final FieldAccessor fieldAccessor = this.findFieldAccessor(fieldName);
+
+            if (fieldAccessor == null) {
+                throw this.getHierarchyIndex().newNoSuchFieldException(fieldName);
+            }
+
+            return fieldAccessor;
+        }
+
+        /**
+         * Returns the accessor of the accessible field associated with
+         * {@code fieldName} , or {@code null} if the field is not found. A missing
+         * field is remembered so that it is not looked up again.
+         *
+         * @param fieldName The field name
+         * @return The accessor of the accessible field, or {@code null} if a field
+         *         with the specified name is not found
+         *
+         * @throws SecurityException If the access to the field is denied
+         */
+        private FieldAccessor findFieldAccessor(final String fieldName) throws SecurityException {
+
+            final MemberLookupEvent event = MemberLookupEvent.beginIfEnabled();
+
+            final FieldAccessor cachedFieldAccessor = this.fieldAccessors.get(fieldName);
+
+            if (cachedFieldAccessor != null) {
+                MemberLookupEvent.complete(event, this.type, FIELD_MEMBER_TYPE, fieldName, true, true);
+                return cachedFieldAccessor;
+            }
+
+            if (this.missingFields.contains(fieldName)) {
+                MemberLookupEvent.complete(event, this.type, FIELD_MEMBER_TYPE, fieldName, true, false);
+                return null;
+            }
+
+            final Field field = this.getHierarchyIndex().findField(fieldName);
+
+            if (field == null) {
+                this.missingFields.add(fieldName);
+                MemberLookupEvent.complete(event, this.type, FIELD_MEMBER_TYPE, fieldName, false, false);
+                return null;
+            }
+
+            field.setAccessible(true);
+
+            final FieldAccessor fieldAccessor = FieldAccessor.of(field);
+            final FieldAccessor previousFieldAccessor = this.fieldAccessors.putIfAbsent(fieldName, fieldAccessor);
+            MemberLookupEvent.complete(event, this.type, FIELD_MEMBER_TYPE, fieldName, false, true);
+            return previousFieldAccessor != null ? previousFieldAccessor : fieldAccessor;
+        }
+
+        /**
+         * Returns the invoker of the accessible method associated with
+         * {@code signature} .
+         *
+         * @param signature The method signature, whose parameter types are regarded
+         *                  as the argument types in the overload resolution
+         * @return The invoker of the accessible method
+         *
+         * @throws NoSuchMethodException If a matching method is not found or the
+         *                               overload resolution is ambiguous
+         * @throws SecurityException     If the access to the method is denied
+         */
+        private MethodInvoker getMethodInvoker(final MethodSignature signature)
+                throws NoSuchMethodException, SecurityException {
+
+            final OverloadResolution<MethodInvoker> resolution = this.findMethodInvoker(signature);
+
+            if (resolution.isFound()) {
+                return resolution.get();
+            }
+
+            throw resolution.isAmbiguous() ? resolution.newAmbiguityException()
+                    : this.getHierarchyIndex().newNoSuchMethodException(signature);
+        }
+
+        /**
+         * Resolves the invoker of the accessible method associated with
+         * {@code signature} . The result is remembered whether it is found, absent
+         * or ambiguous, so that no method is looked up again and an ambiguous
+         * resolution is never mistaken for a missing method.
+         *
+         * @param signature The method signature, whose parameter types are regarded
+         *                  as the argument types in the overload resolution
+         * @return The result of the resolution, which holds the invoker of the
+         *         accessible method if it is found
+         *
+         * @throws SecurityException If the access to the method is denied
+         */
+        private OverloadResolution<MethodInvoker> findMethodInvoker(final MethodSignature signature)
+                throws SecurityException {
+
+            final MemberLookupEvent event = MemberLookupEvent.beginIfEnabled();
+
+            final OverloadResolution<MethodInvoker> cachedResolution = this.methodResolutions.get(signature);
+
+            if (cachedResolution != null) {
+                MemberLookupEvent.complete(event, this.type, METHOD_MEMBER_TYPE, signature.getName(), true,
+                        cachedResolution.isFound());
+                return cachedResolution;
+            }
+
+            final Class<?>[] argumentTypes = signature.getParameterTypes();
+            final OverloadResolution<Method> methodResolution = this.getHierarchyIndex().findMethod(signature);
+            final OverloadResolution<MethodInvoker> resolution;
+
+            if (methodResolution.isFound()) {
+                final Method method = methodResolution.get();
+                method.setAccessible(true);
+
+                resolution = OverloadResolution
+                        .found(OverloadResolver.isVariableArityInvocation(method, argumentTypes)
+                                ? MethodInvoker.ofVariableArity(method, argumentTypes.length)
+                                : MethodInvoker.of(method));
+            } else if (methodResolution.isAmbiguous()) {
+                resolution = OverloadResolution.ambiguous(methodResolution.getCandidates());
+            } else {
+                resolution = OverloadResolution.absent();
+            }
+
+            final OverloadResolution<MethodInvoker> previousResolution = this.methodResolutions
+                    .putIfAbsent(MethodSignature.of(signature.getName(), argumentTypes.clone()), resolution);
+            MemberLookupEvent.complete(event, this.type, METHOD_MEMBER_TYPE, signature.getName(), false,
+                    resolution.isFound());
+            return previousResolution != null ? previousResolution : resolution;
+        }
+
+        /**
+         * Returns the invoker of the accessible constructor associated with
+         * {@code signature} .
+         *
+         * @param signature The constructor signature
+         * @return The invoker of the accessible constructor
+         *
+         * @throws NoSuchMethodException If a matching constructor is not found
+         * @throws SecurityException     If the access to the constructor is denied
+         */
+        private ConstructorInvoker getConstructorInvoker(final MethodSignature signature)
+                throws NoSuchMethodException, SecurityException {
+
+            final ConstructorInvoker cachedConstructorInvoker = this.constructorInvokers.get(signature);
+
+            if (cachedConstructorInvoker != null) {
+                return cachedConstructorInvoker;
+            }
+
+            final Constructor<?> constructor = this.type.getDeclaredConstructor(signature.getParameterTypes());
+            constructor.setAccessible(true);
+
+            final ConstructorInvoker constructorInvoker = ConstructorInvoker.of(constructor);
+            final ConstructorInvoker previousConstructorInvoker = this.constructorInvokers.putIfAbsent(
+                    MethodSignature.of(signature.getName(), signature.getParameterTypes().clone()), constructorInvoker);
+            return previousConstructorInvoker != null ? previousConstructorInvoker : constructorInvoker;
+        }
+
+        /**
+         * Returns the index of the members declared in the class hierarchy. The
+         * index is built on the first call and then reused.
+         *
+         * @return The index of the members declared in the class hierarchy
+         */
+        private ClassHierarchyIndex getHierarchyIndex() {
+
+            final ClassHierarchyIndex cachedHierarchyIndex = this.hierarchyIndex;
+
+            if (cachedHierarchyIndex != null) {
+                return cachedHierarchyIndex;
+            }
+
+            final ClassHierarchyIndex newHierarchyIndex = ClassHierarchyIndex.of(this.type);
+            this.hierarchyIndex = newHierarchyIndex;
+            return newHierarchyIndex;
+        }
+
+        /**
+         * Returns the layout of the instance fields. The layout is built on the
+         * first call and then reused.
+         *
+         * @return The layout of the instance fields
+         *
+         * @throws NoSuchFieldException If a field cannot be resolved
+         * @throws SecurityException    If the access to a field is denied
+         */
+        private FieldLayout getFieldLayout() throws NoSuchFieldException, SecurityException {
+
+            final FieldLayout cachedFieldLayout = this.fieldLayout;
+
+            if (cachedFieldLayout != null) {
+                return cachedFieldLayout;
+            }
+
+            final FieldLayout newFieldLayout = FieldLayout.of(this.type);
+            this.fieldLayout = newFieldLayout;
+            return newFieldLayout;
+        }
+    }
+}
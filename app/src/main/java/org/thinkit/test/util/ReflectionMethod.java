@@ -16,7 +16,6 @@ package org.thinkit.test.util;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -43,24 +42,42 @@ final class ReflectionMethod<T, R> implements Serializable {
     private static final long serialVersionUID = -5578363497739828947L;
 
     /**
-     * The sut instance
+     * The sut
      */
-    private T sutInstance;
+    private ReflectionSut<T> sut;
 
     /**
      * The refrection parameter
      */
     private ReflectionParameter parameter;
 
+    /**
+     * The name of the method resolved last time
+     */
+    @ToString.Exclude
+    private transient String resolvedMethodName;
+
+    /**
+     * The parameter types used for the method resolved last time
+     */
+    @ToString.Exclude
+    private transient Class<?>[] resolvedParameterTypes;
+
+    /**
+     * The invoker of the method resolved last time
+     */
+    @ToString.Exclude
+    private transient MethodInvoker resolvedMethodInvoker;
+
     /**
      * The constructor.
      *
-     * @param sutInstance The class in which the method to be invoked is defined
+     * @param sut The sut in which the method to be invoked is defined
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private ReflectionMethod(@NonNull final T sutInstance) {
-        this.sutInstance = sutInstance;
+    private ReflectionMethod(@NonNull final ReflectionSut<T> sut) {
+        this.sut = sut;
         this.parameter = ReflectionParameter.newInstance();
     }
 
@@ -75,7 +92,23 @@ final class ReflectionMethod<T, R> implements Serializable {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     protected static <T, R> ReflectionMethod<T, R> from(@NonNull final T sutInstance) {
-        return new ReflectionMethod<>(sutInstance);
+        return new ReflectionMethod<>(ReflectionSut.of(sutInstance));
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionMethod} based on the argument.
+     * The SUT held by {@code sut} is instantiated only when an instance method is
+     * invoked.
+     *
+     * @param <T> The type of SUT
+     * @param <R> The type returned by the method to be invoked
+     * @param sut The sut in which the method to be invoked is defined
+     * @return The new instance of {@link ReflectionMethod}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    protected static <T, R> ReflectionMethod<T, R> of(@NonNull final ReflectionSut<T> sut) {
+        return new ReflectionMethod<>(sut);
     }
 
     /**
@@ -98,11 +131,509 @@ final class ReflectionMethod<T, R> implements Serializable {
             throw new IllegalArgumentException("Method name must not be empty.");
         }
 
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final MethodInvoker methodInvoker = this.getMethodInvoker(methodName, this.parameter.getTypes());
+            return (R) this.invoke(methodInvoker, this.parameter.getValues(), measured, startNanos);
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the indicated method by reflection with {@code arguments} . The
+     * arguments added by {@link #addArgument(Class, Object)} are neither used nor
+     * changed by this method.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @param arguments  The arguments for this invocation
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code arguments}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    @SuppressWarnings("unchecked")
+    protected R invokeMethod(final String methodName, @NonNull final ReflectionArguments arguments) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        final ReflectionParameter argumentParameter = arguments.getParameter();
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final MethodInvoker methodInvoker = this.getMethodInvoker(methodName, argumentParameter.getTypes());
+            return (R) this.invoke(methodInvoker, argumentParameter.getValues(), measured, startNanos);
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the indicated method by reflection, expecting it to throw an
+     * exception, and returns the exception thrown by the method itself. The
+     * exception is neither wrapped nor rethrown, so no other exception is created
+     * on this path. An argument that cannot be passed to the method is reported as
+     * an error in the reflection process and never returned as the thrown
+     * exception.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The exception thrown by the method
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the method returns normally or an
+     *                                     error occurs in the reflection process
+     */
+    protected Throwable invokeExpectingThrow(final String methodName) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final MethodInvoker methodInvoker = this.getMethodInvoker(methodName, this.parameter.getTypes());
+            this.invoke(methodInvoker, this.parameter.getValues(), measured, startNanos);
+        } catch (InvocationTargetException e) {
+            return e.getCause();
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+
+        throw new IllegalStateException(String.format("%s did not throw an exception.", methodName));
+    }
+
+    /**
+     * Invokes the indicated method by reflection, expecting it to throw an
+     * exception of {@code expectedType} , and returns the exception thrown by the
+     * method itself.
+     *
+     * @param <X>          The type of the expected exception
+     * @param methodName   The method name to invoked by reflection
+     * @param expectedType The type of the expected exception
+     * @return The exception thrown by the method
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code expectedType}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the method returns normally, throws
+     *                                     an exception of another type or an
+     *                                     error occurs in the reflection process
+     */
+    protected <X extends Throwable> X invokeExpectingThrow(final String methodName,
+            @NonNull final Class<X> expectedType) {
+
+        final Throwable thrown = this.invokeExpectingThrow(methodName);
+
+        if (!expectedType.isInstance(thrown)) {
+            throw new IllegalStateException(
+                    String.format("%s threw %s instead of %s.", methodName, thrown, expectedType.getName()), thrown);
+        }
+
+        return expectedType.cast(thrown);
+    }
+
+    /**
+     * Invokes the indicated method by reflection if it exists. Unlike
+     * {@link #invokeMethod(String)} , a missing method is not an error and no
+     * exception is created for it, but an ambiguous overload resolution is.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The result that holds the value returned from the method, or the
+     *         result that represents a matching method is not found
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    @SuppressWarnings("unchecked")
+    protected InvocationResult<R> tryInvokeMethod(final String methodName) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
+        try {
+            final MethodInvoker methodInvoker = this.findMethodInvoker(methodName, this.parameter.getTypes());
+
+            if (methodInvoker == null) {
+                return InvocationResult.notFound();
+            }
+
+            return InvocationResult
+                    .invoked((R) this.invoke(methodInvoker, this.parameter.getValues(), measured, startNanos));
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the indicated method by reflection with {@code arguments} if it
+     * exists. Unlike {@link #invokeMethod(String, ReflectionArguments)} , a
+     * missing method is not an error and no exception is created for it, but an
+     * ambiguous overload resolution is.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @param arguments  The arguments for this invocation
+     * @return The result that holds the value returned from the method, or the
+     *         result that represents a matching method is not found
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code arguments}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    @SuppressWarnings("unchecked")
+    protected InvocationResult<R> tryInvokeMethod(final String methodName, @NonNull final ReflectionArguments arguments) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        final ReflectionParameter argumentParameter = arguments.getParameter();
+
+        final boolean measured = ReflectionMetrics.isEnabled();
+        final long startNanos = measured ? System.nanoTime() : 0L;
+
         try {
-            return (R) this.getMethod(methodName).invoke(this.sutInstance, this.parameter.getValues());
+            final MethodInvoker methodInvoker = this.findMethodInvoker(methodName, argumentParameter.getTypes());
+
+            if (methodInvoker == null) {
+                return InvocationResult.notFound();
+            }
+
+            return InvocationResult
+                    .invoked((R) this.invoke(methodInvoker, argumentParameter.getValues(), measured, startNanos));
         } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
                 | InvocationTargetException e) {
-            throw new IllegalStateException(e);
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Checks if the method that can be invoked with the arguments added by
+     * {@link #addArgument(Class, Object)} is declared in the SUT class or its
+     * superclass. A missing method is cached as a negative result, so no exception
+     * is created however many times a missing method is checked.
+     *
+     * @param methodName The method name to be checked
+     * @return {@code true} if the method exists, otherwise {@code false}
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    protected boolean hasMethod(final String methodName) {
+        return this.hasMethod(methodName, this.parameter.getTypes());
+    }
+
+    /**
+     * Checks if the method that can be invoked with the arguments of
+     * {@code parameterTypes} is declared in the SUT class or its superclass. A
+     * missing method is cached as a negative result, so no exception is created
+     * however many times a missing method is checked.
+     *
+     * @param methodName     The method name to be checked
+     * @param parameterTypes The parameter types of the method
+     * @return {@code true} if the method exists, otherwise {@code false}
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code parameterTypes}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    protected boolean hasMethod(final String methodName, @NonNull final Class<?>... parameterTypes) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        try {
+            final OverloadResolution<MethodInvoker> resolution = ReflectionMemberCache
+                    .findMethodInvoker(this.sut.getSutClass(), methodName, parameterTypes);
+
+            if (resolution.isAmbiguous()) {
+                throw resolution.newAmbiguityException();
+            }
+
+            return resolution.isFound();
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code int} by reflection without
+     * boxing the returned value.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected int invokeInt(final String methodName) {
+        return UnboxedType.toInt(this.invokeUnboxed(methodName, UnboxedType.INT));
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code long} by reflection without
+     * boxing the returned value.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected long invokeLong(final String methodName) {
+        return UnboxedType.toLong(this.invokeUnboxed(methodName, UnboxedType.LONG));
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code double} by reflection without
+     * boxing the returned value.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected double invokeDouble(final String methodName) {
+        return UnboxedType.toDouble(this.invokeUnboxed(methodName, UnboxedType.DOUBLE));
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code boolean} by reflection without
+     * boxing the returned value.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected boolean invokeBoolean(final String methodName) {
+        return UnboxedType.toBoolean(this.invokeUnboxed(methodName, UnboxedType.BOOLEAN));
+    }
+
+    /**
+     * Invokes the indicated method by reflection and returns the value as the bits
+     * of {@code unboxedType} without boxing it. This is the shared invocation path
+     * of the primitive specialized methods such as {@link #invokeInt(String)} .
+     *
+     * @param methodName  The method name to invoked by reflection
+     * @param unboxedType The type in which the value is returned
+     * @return The bits of the value returned from the method
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    private long invokeUnboxed(final String methodName, final UnboxedType unboxedType) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        final long startNanos = ReflectionMetrics.startNanos();
+
+        try {
+            final MethodInvoker methodInvoker = this.getMethodInvoker(methodName, this.parameter.getTypes());
+            return methodInvoker.invokeUnboxed(unboxedType, this.sut.getReceiver(methodInvoker),
+                    this.parameter.getValues(), startNanos);
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Resolves the method associated with {@code methodName} and
+     * {@code parameterTypes} and returns it as {@link PreparedMethod} , which can
+     * be invoked repeatedly without looking up the method again.
+     *
+     * @param methodName     The method name to be invoked by reflection
+     * @param parameterTypes The parameter types of the method
+     * @return The prepared method
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code parameterTypes}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected PreparedMethod<T, R> prepare(final String methodName, @NonNull final Class<?>... parameterTypes) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        try {
+            final MethodInvoker methodInvoker = ReflectionMemberCache.getMethodInvoker(this.sut.getSutClass(),
+                    methodName, parameterTypes);
+            return PreparedMethod.of(methodInvoker.isStatic() ? null : this.sut.getSutInstance(), methodInvoker,
+                    this.sut.getFailureMode());
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Resolves the method associated with {@code methodName} from the arguments
+     * added so far and returns it as the immutable {@link InvocationSpec} , to
+     * which the current argument values are copied.
+     *
+     * @param methodName The method name to be invoked by reflection
+     * @return The immutable specification of the invocation
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected InvocationSpec<T, R> toInvocationSpec(final String methodName) {
+        return InvocationSpec.of(this.sut.getSutClass(), methodName, this.parameter.getTypes(),
+                this.parameter.getValues(), this.sut.getFailureMode());
+    }
+
+    /**
+     * Measures the latency of the method associated with {@code methodName} ,
+     * which is invoked with the arguments added so far. The method, the receiver
+     * and the argument array are resolved once before the warmup.
+     *
+     * @param methodName The method name to be benchmarked
+     * @param options    The options of the benchmark
+     * @return The result of the benchmark
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code options}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    protected BenchmarkResult benchmark(final String methodName, @NonNull final BenchmarkOptions options) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        try {
+            final MethodInvoker methodInvoker = this.getMethodInvoker(methodName, this.parameter.getTypes());
+            return MethodBenchmark.run(methodInvoker, this.sut.getReceiver(methodInvoker), this.parameter.getValues(),
+                    options, this.sut.getFailureMode());
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the bytes allocated per invocation of the method associated with
+     * {@code methodName} by {@link #invokeMethod(String)} with the arguments
+     * added so far. The bytes allocated by this helper itself are subtracted.
+     * The method that returns a primitive type is measured by
+     * {@link #invokeInt(String)} and the like, so that the boxing of the returned
+     * value is not counted. The bytes allocated by this helper are calibrated with
+     * a method that has the same shape of the invocation, which is the kind of the
+     * return type and whether the method is static.
+     *
+     * @param methodName The method name to be measured
+     * @param options    The options of the measurement
+     * @return The bytes allocated per invocation
+     *
+     * @exception IllegalArgumentException      If the argument {@code methodName}
+     *                                          is {@code null} or empty
+     * @exception IllegalStateException         If an error occurs in the
+     *                                          reflection process
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    protected long measureAllocatedBytes(final String methodName, @NonNull final AllocationOptions options) {
+
+        if (StringUtils.isEmpty(methodName)) {
+            throw new IllegalArgumentException("Method name must not be empty.");
+        }
+
+        final MethodInvoker methodInvoker;
+
+        try {
+            methodInvoker = this.getMethodInvoker(methodName, this.parameter.getTypes());
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw this.sut.getFailureMode().toRuntimeException(e);
+        }
+
+        final Class<?> returnType = methodInvoker.getMethod().getReturnType();
+        return AllocationMeter.measure(this.toUnboxedInvocation(methodName, returnType), returnType,
+                methodInvoker.isStatic(), options);
+    }
+
+    /**
+     * Returns the invocation of the method associated with {@code methodName}
+     * that does not box the returned value of {@code returnType} . This is also
+     * used by {@link AllocationMeter} to calibrate the same invocation path.
+     *
+     * @param methodName The method name to be invoked
+     * @param returnType The return type of the method
+     * @return The invocation of the method
+     */
+    protected Runnable toUnboxedInvocation(final String methodName, final Class<?> returnType) {
+        switch (UnboxedType.of(returnType)) {
+            case INT:
+                return () -> this.invokeInt(methodName);
+            case LONG:
+                return () -> this.invokeLong(methodName);
+            case DOUBLE:
+                return () -> this.invokeDouble(methodName);
+            case BOOLEAN:
+                return () -> this.invokeBoolean(methodName);
+            default:
+                return () -> this.invokeMethod(methodName);
         }
     }
 
@@ -112,10 +643,11 @@ final class ReflectionMethod<T, R> implements Serializable {
      * but argument values are allowed to be {@code null} .
      *
      * @param argumentType  The type of argument
-     * @param argumentValue The value of argument
+     * @param argumentValue The value of argument, which may be {@code null}
      * @return This instance
      *
-     * @exception NullPointerException If the argument {@code argumentType} is null
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code argumentType}
      */
     protected ReflectionMethod<T, R> addArgument(@NonNull Class<?> argumentType, Object argumentValue) {
         this.parameter.add(argumentType, argumentValue);
@@ -123,10 +655,91 @@ final class ReflectionMethod<T, R> implements Serializable {
     }
 
     /**
-     * Returns the method object to be invoked by reflection.
+     * Adds the {@code int} argument defined for the target method to be invoked in
+     * reflection.
      *
-     * @param methodName The method name to be invoked by reflection
-     * @return The method object to be invoked
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    protected ReflectionMethod<T, R> addIntArgument(final int argumentValue) {
+        this.parameter.add(int.class, Integer.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Adds the {@code long} argument defined for the target method to be invoked in
+     * reflection.
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    protected ReflectionMethod<T, R> addLongArgument(final long argumentValue) {
+        this.parameter.add(long.class, Long.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Adds the {@code double} argument defined for the target method to be invoked in
+     * reflection.
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    protected ReflectionMethod<T, R> addDoubleArgument(final double argumentValue) {
+        this.parameter.add(double.class, Double.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Adds the {@code boolean} argument defined for the target method to be invoked in
+     * reflection.
+     *
+     * @param argumentValue The value of argument
+     * @return This instance
+     */
+    protected ReflectionMethod<T, R> addBooleanArgument(final boolean argumentValue) {
+        this.parameter.add(boolean.class, Boolean.valueOf(argumentValue));
+        return this;
+    }
+
+    /**
+     * Replaces the value of the argument at {@code index} that has already been
+     * added. The argument types are not changed, so the resolved method and the
+     * call frame are reused by the next invocation.
+     *
+     * @param index         The index of the argument
+     * @param argumentValue The new value of argument
+     * @return This instance
+     *
+     * @exception IndexOutOfBoundsException If {@code index} is out of range
+     */
+    protected ReflectionMethod<T, R> setArgument(final int index, final Object argumentValue) {
+        this.parameter.set(index, argumentValue);
+        return this;
+    }
+
+    /**
+     * Removes all of the arguments added so far, so that another method can be
+     * invoked with the same SUT instance.
+     *
+     * @return This instance
+     */
+    protected ReflectionMethod<T, R> clearArguments() {
+        this.parameter.clear();
+        return this;
+    }
+
+    /**
+     * Returns the invoker of the method to be invoked by reflection. The invoker
+     * is resolved only once per class, name and parameter types and then shared
+     * through {@link ReflectionMemberCache} . The invoker resolved last time is
+     * also kept in this instance and reused as long as the method name and the
+     * parameter types are the same, so invoking the same method repeatedly does
+     * not even create the cache key.
+     *
+     * @param methodName     The method name to be invoked by reflection
+     * @param parameterTypes The parameter types of the method
+     * @return The invoker of the method to be invoked
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      * @throws NoSuchMethodException If a matching method is not found
@@ -150,9 +763,90 @@ final class ReflectionMethod<T, R> implements Serializable {
      *                               package of this class
      *                               </ul>
      */
-    private Method getMethod(@NonNull final String methodName) throws NoSuchMethodException, SecurityException {
-        final Method method = this.sutInstance.getClass().getDeclaredMethod(methodName, this.parameter.getTypes());
-        method.setAccessible(true);
-        return method;
+    private MethodInvoker getMethodInvoker(@NonNull final String methodName,
+            @NonNull final Class<?>[] parameterTypes) throws NoSuchMethodException, SecurityException {
+
+        if (parameterTypes == this.resolvedParameterTypes && methodName.equals(this.resolvedMethodName)) {
+            return this.resolvedMethodInvoker;
+        }
+
+        final MethodInvoker methodInvoker = ReflectionMemberCache.getMethodInvoker(this.sut.getSutClass(),
+                methodName, parameterTypes);
+
+        this.resolvedMethodName = methodName;
+        this.resolvedParameterTypes = parameterTypes;
+        this.resolvedMethodInvoker = methodInvoker;
+
+        return methodInvoker;
+    }
+
+    /**
+     * Invokes the method of {@code methodInvoker} with {@code arguments} on the
+     * receiver given by the SUT. The invocation is recorded to
+     * {@link ReflectionMetrics} if {@code measured} is {@code true} .
+     *
+     * @param methodInvoker The invoker of the method
+     * @param arguments     The arguments of the invocation
+     * @param measured      The flag that indicates whether the invocation is
+     *                      recorded to {@link ReflectionMetrics}
+     * @param startNanos    The time when the invocation started to be processed
+     * @return The value returned from the method
+     *
+     * @throws IllegalAccessException    If the method is not accessible
+     * @throws IllegalArgumentException  If the arguments do not match the method
+     * @throws InvocationTargetException If the method throws an exception
+     */
+    private Object invoke(final MethodInvoker methodInvoker, final Object[] arguments, final boolean measured,
+            final long startNanos) throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+
+        final Object receiver = this.sut.getReceiver(methodInvoker);
+
+        if (measured) {
+            return methodInvoker.invokeMeasured(receiver, arguments, startNanos);
+        }
+
+        return methodInvoker.invoke(receiver, arguments);
+    }
+
+    /**
+     * Returns the invoker of the method to be invoked by reflection in the same
+     * way as {@link #getMethodInvoker(String, Class[])} , or {@code null} if a
+     * matching method is not found. No exception is created for a missing method,
+     * while an ambiguous overload resolution is reported as an exception.
+     *
+     * @param methodName     The method name to be invoked by reflection
+     * @param parameterTypes The parameter types of the method
+     * @return The invoker of the method to be invoked, or {@code null} if a
+     *         matching method is not found
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     * @throws NoSuchMethodException If the overload resolution is ambiguous
+     * @throws SecurityException     If the access to the method is denied
+     */
+    private MethodInvoker findMethodInvoker(@NonNull final String methodName,
+            @NonNull final Class<?>[] parameterTypes) throws NoSuchMethodException, SecurityException {
+
+        if (parameterTypes == this.resolvedParameterTypes && methodName.equals(this.resolvedMethodName)) {
+            return this.resolvedMethodInvoker;
+        }
+
+        final OverloadResolution<MethodInvoker> resolution = ReflectionMemberCache
+                .findMethodInvoker(this.sut.getSutClass(), methodName, parameterTypes);
+
+        if (resolution.isAmbiguous()) {
+            throw resolution.newAmbiguityException();
+        }
+
+        if (!resolution.isFound()) {
+            return null;
+        }
+
+        final MethodInvoker methodInvoker = resolution.get();
+
+        this.resolvedMethodName = methodName;
+        this.resolvedParameterTypes = parameterTypes;
+        this.resolvedMethodInvoker = methodInvoker;
+
+        return methodInvoker;
     }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * The class that records the number of the accesses, the failures and the
+ * latencies of each method invoked and each field read or written through
+ * {@link ReflectionTestHelper} , {@link PreparedMethod} and
+ * {@link InvocationSpec} , so that the slow or frequently called members of a
+ * large test suite can be found.
+ *
+ * <p>
+ * The metrics are not recorded by default. They are recorded after
+ * {@link #enable()} is called, or from the start if the system property
+ * {@value #ENABLED_PROPERTY} is {@code true} . While disabled, the cost is a
+ * single read of a volatile field per access.
+ *
+ * <pre>
+ * ReflectionMetrics.enable();
+ *
+ * // run the tests
+ *
+ * for (final MemberMetrics metrics : ReflectionMetrics.snapshot()) {
+ *     System.out.println(metrics.getMemberName() + " p99=" + metrics.getP99Nanos());
+ * }
+ * </pre>
+ *
+ * <p>
+ * When enabled, the metrics are also published as the
+ * {@link ReflectionMetricsMXBean} named {@value #OBJECT_NAME} in the platform
+ * MBean server.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReflectionMetrics {
+
+    /**
+     * The name of the system property that enables the metrics from the start
+     */
+    public static final String ENABLED_PROPERTY = "org.thinkit.test.util.metrics";
+
+    /**
+     * The object name of the MXBean
+     */
+    public static final String OBJECT_NAME = "org.thinkit.test.util:type=ReflectionMetrics";
+
+    /**
+     * The start time returned by {@link #startNanos()} while the metrics are not
+     * recorded, which tells the invokers not to record the access
+     */
+    static final long NOT_MEASURED = Long.MIN_VALUE;
+
+    /**
+     * The order of the metrics returned by {@link #snapshot()}
+     */
+    private static final Comparator<MemberMetrics> METRICS_ORDER = Comparator
+            .comparing(MemberMetrics::getDeclaringClassName).thenComparing(MemberMetrics::getMemberName)
+            .thenComparing(MemberMetrics::getKind);
+
+    /**
+     * The stats of the members mapped by kind, class name and member name
+     */
+    private static final ConcurrentMap<String, MemberStats> MEMBER_STATS = new ConcurrentHashMap<>();
+
+    /**
+     * The flag that indicates whether the metrics are recorded
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * The flag that indicates whether the MXBean has been registered
+     */
+    private static boolean registered;
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            enable();
+        }
+    }
+
+    /**
+     * Starts recording the metrics and registers the MXBean to the platform MBean
+     * server if it has not been registered yet.
+     */
+    public static void enable() {
+        registerMXBean();
+        enabled = true;
+    }
+
+    /**
+     * Stops recording the metrics. The metrics recorded so far are kept.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Checks if the metrics are recorded.
+     *
+     * @return {@code true} if the metrics are recorded, otherwise {@code false}
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the time when the helper starts to process an access, or
+     * {@link #NOT_MEASURED} if the metrics are not recorded. The returned value is
+     * passed to the invoker of the member, which records the access unless it is
+     * {@link #NOT_MEASURED} .
+     *
+     * @return The current value of {@link System#nanoTime()} , or
+     *         {@link #NOT_MEASURED} if the metrics are not recorded
+     */
+    static long startNanos() {
+        return enabled ? System.nanoTime() : NOT_MEASURED;
+    }
+
+    /**
+     * Clears the metrics of all members.
+     */
+    public static void reset() {
+        for (final MemberStats memberStats : MEMBER_STATS.values()) {
+            memberStats.reset();
+        }
+    }
+
+    /**
+     * Returns the snapshot of the metrics of all members that have been accessed
+     * while the metrics are recorded, ordered by the class name, the member name
+     * and the kind of the access.
+     *
+     * @return The unmodifiable list of the metrics
+     */
+    public static List<MemberMetrics> snapshot() {
+
+        final List<MemberMetrics> snapshot = new ArrayList<>(MEMBER_STATS.size());
+
+        for (final MemberStats memberStats : MEMBER_STATS.values()) {
+            snapshot.add(memberStats.toMemberMetrics());
+        }
+
+        snapshot.sort(METRICS_ORDER);
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * Returns the stats of the member, which is created when the member is
+     * measured for the first time.
+     *
+     * @param kind           The kind of the access
+     * @param declaringClass The class declaring the member
+     * @param memberName     The name of the member
+     * @return The stats of the member
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static MemberStats getMemberStats(@NonNull final MemberKind kind, @NonNull final Class<?> declaringClass,
+            @NonNull final String memberName) {
+
+        final String declaringClassName = declaringClass.getName();
+
+        return MEMBER_STATS.computeIfAbsent(String.format("%s %s.%s", kind, declaringClassName, memberName),
+                key -> MemberStats.of(kind, declaringClassName, memberName));
+    }
+
+    /**
+     * Registers the MXBean to the platform MBean server once. The failure of the
+     * registration, for example when another class loader has registered it, is
+     * ignored because the metrics can still be read by {@link #snapshot()} .
+     */
+    private static synchronized void registerMXBean() {
+
+        if (registered) {
+            return;
+        }
+
+        registered = true;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) {
+            return;
+        }
+    }
+
+    /**
+     * The class that implements {@link ReflectionMetricsMXBean} by delegating to
+     * {@link ReflectionMetrics} .
+     */
+    private static final class MXBean implements ReflectionMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return ReflectionMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(final boolean enabled) {
+            if (enabled) {
+                ReflectionMetrics.enable();
+            } else {
+                ReflectionMetrics.disable();
+            }
+        }
+
+        @Override
+        public void reset() {
+            ReflectionMetrics.reset();
+        }
+
+        @Override
+        public List<MemberMetrics> getMemberMetrics() {
+            return ReflectionMetrics.snapshot();
+        }
+    }
+}
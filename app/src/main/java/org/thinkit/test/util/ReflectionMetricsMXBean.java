@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.List;
+
+/**
+ * The management interface of {@link ReflectionMetrics} registered to the
+ * platform MBean server with the name
+ * {@value ReflectionMetrics#OBJECT_NAME} , through which the metrics can be
+ * read and controlled by JMX clients such as JConsole and VisualVM.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public interface ReflectionMetricsMXBean {
+
+    /**
+     * Checks if the metrics are recorded.
+     *
+     * @return {@code true} if the metrics are recorded, otherwise {@code false}
+     */
+    boolean isEnabled();
+
+    /**
+     * Starts or stops recording the metrics.
+     *
+     * @param enabled {@code true} to start recording the metrics, {@code false}
+     *                to stop recording them
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Clears the metrics of all members.
+     */
+    void reset();
+
+    /**
+     * Returns the metrics of all members that have been accessed.
+     *
+     * @return The metrics of all members
+     */
+    List<MemberMetrics> getMemberMetrics();
+}
@@ -15,22 +15,28 @@
 package org.thinkit.test.util;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Objects;
 
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import lombok.ToString;
 
 /**
  * The class that manages the parameters for reflection.
  *
+ * <p>
+ * The types and values of the parameters are stored in growable parallel
+ * arrays. The arrays returned by {@link #getTypes()} and {@link #getValues()}
+ * are built only once and then reused until a parameter is added, so they serve
+ * as a reusable call frame and repeated invocations with the same parameters do
+ * not allocate anything. The value of a parameter that has already been added
+ * can be replaced in place by {@link #set(int, Object)} . The equality, the
+ * hash code and the string representation cover only the set parameters, not
+ * the unused capacity of the arrays.
+ *
  * @author Kato Shinya
  * @since 1.0.0
  */
-@ToString
-@EqualsAndHashCode
 @NoArgsConstructor(staticName = "newInstance")
 final class ReflectionParameter implements Serializable {
 
@@ -40,63 +46,117 @@ final class ReflectionParameter implements Serializable {
     private static final long serialVersionUID = 4405640637388930830L;
 
     /**
-     * The parameters
+     * The empty types
+     */
+    private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
+
+    /**
+     * The empty values
+     */
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    /**
+     * The types of the parameters, whose length is the capacity
+     */
+    private Class<?>[] types = EMPTY_TYPES;
+
+    /**
+     * The values of the parameters, whose length is the capacity
+     */
+    private Object[] values = EMPTY_VALUES;
+
+    /**
+     * The number of the parameters
      */
-    private final List<Parameter> parameters = new ArrayList<>(0);
+    private int size;
 
     /**
-     * Add the parameter type and value.
+     * Add the parameter type and value. Parameter types are not allowed to be
+     * {@code null} , but parameter values are.
      *
      * @param <T>            The type of parameter value
      * @param parameterType  The type of parameter
-     * @param parameterValue The value of parameter
+     * @param parameterValue The value of parameter, which may be {@code null}
      *
-     * @exception NullPointerException If {@code null} is passed as an argument
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code parameterType}
      */
-    public <T> void add(@NonNull Class<?> parameterType, @NonNull T parameterValue) {
-        this.parameters.add(Parameter.from(parameterType, parameterValue));
+    public <T> void add(@NonNull Class<?> parameterType, T parameterValue) {
+
+        if (this.size == this.types.length) {
+            final int capacity = Math.max(this.size * 2, 4);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+
+        this.types[this.size] = parameterType;
+        this.values[this.size] = parameterValue;
+        this.size++;
     }
 
     /**
-     * Returns the types of the set parameter as an array.
+     * Replaces the value of the parameter at {@code index} with
+     * {@code parameterValue} . The type of the parameter is not changed, so the
+     * array returned by {@link #getTypes()} remains valid.
      *
-     * @return The types of the set parameter
+     * @param index          The index of the parameter
+     * @param parameterValue The new value of parameter
+     *
+     * @exception IndexOutOfBoundsException If {@code index} is out of range
      */
-    public Class<?>[] getTypes() {
+    public void set(final int index, final Object parameterValue) {
+        Objects.checkIndex(index, this.size);
+        this.values[index] = parameterValue;
+    }
 
-        if (this.isEmpty()) {
-            return new Class<?>[0];
-        }
+    /**
+     * Removes all of the parameters. The arrays returned so far are never written
+     * again because they may still be referenced as a call frame, so new arrays
+     * are built for the parameters added after this method.
+     */
+    public void clear() {
+        this.types = EMPTY_TYPES;
+        this.values = EMPTY_VALUES;
+        this.size = 0;
+    }
 
-        final int parameterSize = this.parameters.size();
-        final Class<?>[] types = new Class[parameterSize];
+    /**
+     * Returns the types of the set parameter as an array. The returned array is
+     * shared and reused until a parameter is added, so it must not be modified.
+     *
+     * @return The types of the set parameter
+     */
+    public Class<?>[] getTypes() {
 
-        for (int i = 0; i < parameterSize; i++) {
-            types[i] = parameters.get(i).getType();
+        if (this.types.length != this.size) {
+            this.trimToSize();
         }
 
-        return types;
+        return this.types;
     }
 
     /**
-     * Returns the values of the set parameter as an array.
+     * Returns the values of the set parameter as an array. The returned array is
+     * shared and reused until a parameter is added, so it must not be modified.
      *
      * @return The values of the set parameter
      */
     public Object[] getValues() {
 
-        if (this.isEmpty()) {
-            return new Object[0];
+        if (this.values.length != this.size) {
+            this.trimToSize();
         }
 
-        final int paramaterSize = this.parameters.size();
-        final Object[] values = new Object[paramaterSize];
-
-        for (int i = 0; i < paramaterSize; i++) {
-            values[i] = parameters.get(i).getValue();
-        }
+        return this.values;
+    }
 
-        return values;
+    /**
+     * Returns the number of the set parameters.
+     *
+     * @return The number of the set parameters
+     */
+    public int size() {
+        return this.size;
     }
 
     /**
@@ -105,6 +165,47 @@ final class ReflectionParameter implements Serializable {
      * @return {@code true} if {@code parameter} is empty, otherwise {@code false}
      */
     public boolean isEmpty() {
-        return this.parameters.isEmpty();
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof ReflectionParameter)) {
+            return false;
+        }
+
+        final ReflectionParameter parameter = (ReflectionParameter) other;
+
+        return this.size == parameter.size
+                && Arrays.equals(Arrays.copyOf(this.types, this.size), Arrays.copyOf(parameter.types, parameter.size))
+                && Arrays.equals(Arrays.copyOf(this.values, this.size),
+                        Arrays.copyOf(parameter.values, parameter.size));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(Arrays.copyOf(this.types, this.size)),
+                Arrays.hashCode(Arrays.copyOf(this.values, this.size)), this.size);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReflectionParameter(types=%s, values=%s, size=%d)",
+                Arrays.toString(Arrays.copyOf(this.types, this.size)),
+                Arrays.toString(Arrays.copyOf(this.values, this.size)), this.size);
+    }
+
+    /**
+     * Shrinks the capacity of the parallel arrays to the number of the parameters
+     * so that they can be used directly as the call frame.
+     */
+    private void trimToSize() {
+        this.types = this.size == 0 ? EMPTY_TYPES : Arrays.copyOf(this.types, this.size);
+        this.values = this.size == 0 ? EMPTY_VALUES : Arrays.copyOf(this.values, this.size);
     }
 }
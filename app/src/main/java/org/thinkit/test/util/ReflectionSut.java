@@ -0,0 +1,309 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that holds the SUT to be processed by reflection.
+ *
+ * <p>
+ * The instance of the SUT is created lazily when an instance member is
+ * accessed for the first time, so the constructor of the SUT is never run if
+ * only static members are accessed. The constructor is resolved through
+ * {@link ReflectionMemberCache} and therefore looked up only once per class and
+ * parameter types. In static mode, the SUT is never
+ * instantiated and static members are accessed with a {@code null} receiver.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ReflectionSut<T> implements Serializable {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -6794001529346470522L;
+
+    /**
+     * The empty types
+     */
+    private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
+
+    /**
+     * The empty values
+     */
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    /**
+     * The class of SUT
+     */
+    @Getter
+    private Class<?> sutClass;
+
+    /**
+     * The flag that indicates whether the SUT is never instantiated
+     */
+    @Getter
+    private boolean staticMode;
+
+    /**
+     * The parameter types of the constructor used to create the SUT
+     */
+    private Class<?>[] constructorParameterTypes;
+
+    /**
+     * The arguments passed to the constructor used to create the SUT
+     */
+    private Object[] constructorArguments;
+
+    /**
+     * The sut instance, which is {@code null} until it is created. The field is
+     * read directly by {@link #toString()} , {@link #equals(Object)} and
+     * {@link #hashCode()} so that they never create the SUT.
+     */
+    private volatile T sutInstance;
+
+    /**
+     * The mode that defines how the errors in the reflection process on this SUT
+     * are reported
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private volatile FailureMode failureMode = FailureMode.WRAPPED;
+
+    /**
+     * The constructor.
+     *
+     * @param sutClass                  The class of SUT
+     * @param staticMode                The flag that indicates whether the SUT is
+     *                                  never instantiated
+     * @param sutInstance               The sut instance, or {@code null} if it is
+     *                                  created lazily
+     * @param constructorParameterTypes The parameter types of the constructor
+     * @param constructorArguments      The arguments passed to the constructor
+     *
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code sutClass} ,
+     *                                 {@code constructorParameterTypes} or
+     *                                 {@code constructorArguments}
+     */
+    private ReflectionSut(@NonNull final Class<?> sutClass, final boolean staticMode, final T sutInstance,
+            @NonNull final Class<?>[] constructorParameterTypes, @NonNull final Object[] constructorArguments) {
+        this.sutClass = sutClass;
+        this.staticMode = staticMode;
+        this.sutInstance = sutInstance;
+        this.constructorParameterTypes = constructorParameterTypes;
+        this.constructorArguments = constructorArguments;
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionSut} whose SUT is created
+     * lazily from the no-argument constructor of {@code sutClass} .
+     *
+     * @param <T>      The type of SUT
+     * @param sutClass The class of SUT
+     * @return The new instance of {@link ReflectionSut}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static <T> ReflectionSut<T> lazy(@NonNull final Class<?> sutClass) {
+        return new ReflectionSut<>(sutClass, false, null, EMPTY_TYPES, EMPTY_VALUES);
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionSut} whose SUT is created
+     * lazily from the constructor of {@code sutClass} that matches
+     * {@code constructorArguments} . The arguments are copied, so changing
+     * {@code constructorArguments} afterwards does not affect the SUT.
+     *
+     * @param <T>                  The type of SUT
+     * @param sutClass             The class of SUT
+     * @param constructorArguments The arguments passed to the constructor
+     * @return The new instance of {@link ReflectionSut}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static <T> ReflectionSut<T> lazy(@NonNull final Class<?> sutClass,
+            @NonNull final ReflectionArguments constructorArguments) {
+        final ReflectionParameter constructorParameter = constructorArguments.getParameter();
+        return new ReflectionSut<>(sutClass, false, null, constructorParameter.getTypes().clone(),
+                constructorParameter.getValues().clone());
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionSut} in static mode, which
+     * never instantiates {@code sutClass} .
+     *
+     * @param <T>      The type of SUT
+     * @param sutClass The class of SUT
+     * @return The new instance of {@link ReflectionSut}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static <T> ReflectionSut<T> ofStatic(@NonNull final Class<?> sutClass) {
+        return new ReflectionSut<>(sutClass, true, null, EMPTY_TYPES, EMPTY_VALUES);
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionSut} that holds
+     * {@code sutInstance} created in advance.
+     *
+     * @param <T>         The type of SUT
+     * @param sutInstance The sut instance
+     * @return The new instance of {@link ReflectionSut}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    static <T> ReflectionSut<T> of(@NonNull final T sutInstance) {
+        return new ReflectionSut<>(sutInstance.getClass(), false, sutInstance, EMPTY_TYPES, EMPTY_VALUES);
+    }
+
+    /**
+     * Returns the receiver to invoke the method of {@code methodInvoker} . The
+     * receiver of a static method is always {@code null} , and the SUT is created
+     * only when an instance method is invoked.
+     *
+     * @param methodInvoker The invoker of the method
+     * @return The receiver to invoke the method
+     *
+     * @exception IllegalStateException If an instance method is invoked in static
+     *                                  mode or the SUT cannot be instantiated
+     */
+    Object getReceiver(@NonNull final MethodInvoker methodInvoker) {
+        return methodInvoker.isStatic() ? null : this.getSutInstance();
+    }
+
+    /**
+     * Returns the receiver to access the field of {@code fieldAccessor} . The
+     * receiver of a static field is always {@code null} , and the SUT is created
+     * only when an instance field is accessed.
+     *
+     * @param fieldAccessor The accessor of the field
+     * @return The receiver to access the field
+     *
+     * @exception IllegalStateException If an instance field is accessed in static
+     *                                  mode or the SUT cannot be instantiated
+     */
+    Object getReceiver(@NonNull final FieldAccessor fieldAccessor) {
+        return fieldAccessor.isStatic() ? null : this.getSutInstance();
+    }
+
+    /**
+     * Returns the sut instance. The instance is created by the no-argument
+     * constructor of the SUT when this method is called for the first time.
+     *
+     * @return The sut instance
+     *
+     * @exception IllegalStateException If this instance is in static mode or the
+     *                                  SUT cannot be instantiated
+     */
+    T getSutInstance() {
+
+        T instance = this.sutInstance;
+
+        if (instance == null) {
+            synchronized (this) {
+                instance = this.sutInstance;
+
+                if (instance == null) {
+                    instance = this.newSutInstance();
+                    this.sutInstance = instance;
+                }
+            }
+        }
+
+        return instance;
+    }
+
+    /**
+     * Returns the mode that defines how the errors in the reflection process on
+     * this SUT are reported. The mode is {@link FailureMode#WRAPPED} unless it is
+     * changed by {@link #setFailureMode(FailureMode)} .
+     *
+     * @return The failure mode
+     */
+    FailureMode getFailureMode() {
+        return this.failureMode;
+    }
+
+    /**
+     * Sets the mode that defines how the errors in the reflection process on this
+     * SUT are reported.
+     *
+     * @param failureMode The failure mode
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    void setFailureMode(@NonNull final FailureMode failureMode) {
+        this.failureMode = failureMode;
+    }
+
+    /**
+     * Checks if the sut instance has already been created.
+     *
+     * @return {@code true} if the sut instance has already been created, otherwise
+     *         {@code false}
+     */
+    boolean isInstantiated() {
+        return this.sutInstance != null;
+    }
+
+    /**
+     * Returns the new instance of the SUT created by the cached constructor. Unlike
+     * {@link #getSutInstance()} , the constructor is run every time this method is
+     * called and the created instance is not held.
+     *
+     * @return The new instance of the SUT
+     *
+     * @exception IllegalStateException If this instance is in static mode or an
+     *                                  error occurs in the reflection process
+     */
+    @SuppressWarnings("unchecked")
+    T newSutInstance() {
+
+        if (this.staticMode) {
+            throw new IllegalStateException(
+                    String.format("%s is not instantiated in static mode.", this.sutClass.getName()));
+        }
+
+        final SutConstructionEvent event = SutConstructionEvent.beginIfEnabled();
+        boolean failed = true;
+
+        try {
+            final T instance = (T) ReflectionMemberCache
+                    .getConstructorInvoker(this.sutClass, this.constructorParameterTypes)
+                    .newInstance(this.constructorArguments);
+            failed = false;
+            return instance;
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
+                | NoSuchMethodException | SecurityException e) {
+            throw this.failureMode.toRuntimeException(e);
+        } finally {
+            SutConstructionEvent.complete(event, this.sutClass, this.constructorArguments.length, failed);
+        }
+    }
+}
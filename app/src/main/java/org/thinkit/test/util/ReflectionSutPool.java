@@ -0,0 +1,219 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * The class that pools the instances of SUT so that they can be reused by many
+ * tests without running the constructor again.
+ *
+ * <p>
+ * When the pool is created, one instance of the SUT is constructed and the
+ * values of all its instance fields are recorded as the baseline. The baseline
+ * instance itself is never handed out. An instance returned to the pool by
+ * {@link #release(Object)} is restored to the baseline by copying the recorded
+ * values field by field, and is then handed out again by {@link #acquire()} . A
+ * new instance is constructed only when all instances are in use.
+ *
+ * <pre>
+ * final ReflectionSutPool&lt;ConcreteClass&gt; pool = ReflectionSutPool.of(ConcreteClass.class);
+ *
+ * final ConcreteClass sutInstance = pool.acquire();
+ * try {
+ *     final String result = ReflectionTestHelper.&lt;ConcreteClass, String&gt;of(sutInstance)
+ *             .invokeMethod("methodName");
+ * } finally {
+ *     pool.release(sutInstance);
+ * }
+ * </pre>
+ *
+ * <p>
+ * The arrays, the collections and the maps referenced by the fields are copied
+ * from the baseline on every restoration, so a change made to their contents
+ * does not leak into the next test or into another instance of this pool. A
+ * collection or a map is copied only if its class has a public copy constructor
+ * or is {@link java.util.EnumSet} , and the elements are not copied. The other
+ * objects referenced by the fields, such as a {@link StringBuilder} , are shared
+ * by all instances restored from the baseline, so a change made to their
+ * contents is not reverted by the restoration.
+ *
+ * <p>
+ * The instance of this class is thread-safe, but an acquired instance of the
+ * SUT must not be used by other threads after it has been released. Only an
+ * instance that is acquired from the pool and not released yet can be
+ * released, so releasing an instance twice or releasing an instance created
+ * elsewhere is rejected instead of handing out the same instance twice.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@ToString
+public final class ReflectionSutPool<T> {
+
+    /**
+     * The sut that creates new instances
+     */
+    @ToString.Exclude
+    private final ReflectionSut<T> sut;
+
+    /**
+     * The layout of the instance fields of SUT
+     */
+    @ToString.Exclude
+    private final FieldLayout fieldLayout;
+
+    /**
+     * The values of the instance fields recorded as the baseline
+     */
+    @ToString.Exclude
+    private final Object[] baselineValues;
+
+    /**
+     * The instances that are not in use
+     */
+    @ToString.Exclude
+    private final Deque<T> idleInstances = new ConcurrentLinkedDeque<>();
+
+    /**
+     * The instances that are acquired and not released yet, which are compared
+     * by identity
+     */
+    @ToString.Exclude
+    private final Set<T> acquiredInstances;
+
+    /**
+     * The constructor.
+     *
+     * @param sut The sut that creates new instances
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    private ReflectionSutPool(@NonNull final ReflectionSut<T> sut) {
+        this.sut = sut;
+        this.acquiredInstances = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        try {
+            this.fieldLayout = ReflectionMemberCache.getFieldLayout(sut.getSutClass());
+        } catch (NoSuchFieldException | SecurityException e) {
+            throw new IllegalStateException(e);
+        }
+
+        this.baselineValues = this.fieldLayout.copyValues(sut.newSutInstance());
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionSutPool} whose instances are
+     * created by the no-argument constructor of {@code clazz} . The constructor is
+     * run once to record the baseline.
+     *
+     * @param <T>   The type of SUT
+     * @param clazz The class of SUT
+     * @return The new instance of {@link ReflectionSutPool}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public static <T> ReflectionSutPool<T> of(@NonNull final Class<?> clazz) {
+        return new ReflectionSutPool<>(ReflectionSut.lazy(clazz));
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionSutPool} whose instances are
+     * created by the constructor of {@code clazz} that matches
+     * {@code constructorArguments} . The constructor is run once to record the
+     * baseline.
+     *
+     * @param <T>                  The type of SUT
+     * @param clazz                The class of SUT
+     * @param constructorArguments The arguments passed to the constructor of SUT
+     * @return The new instance of {@link ReflectionSutPool}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public static <T> ReflectionSutPool<T> of(@NonNull final Class<?> clazz,
+            @NonNull final ReflectionArguments constructorArguments) {
+        return new ReflectionSutPool<>(ReflectionSut.lazy(clazz, constructorArguments));
+    }
+
+    /**
+     * Returns an instance of SUT in the baseline state. An idle instance is reused
+     * if there is one, otherwise a new instance is constructed.
+     *
+     * @return The instance of SUT in the baseline state
+     *
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public T acquire() {
+
+        final T idleInstance = this.idleInstances.poll();
+        final T sutInstance = idleInstance != null ? idleInstance : this.sut.newSutInstance();
+
+        this.acquiredInstances.add(sutInstance);
+        return sutInstance;
+    }
+
+    /**
+     * Restores {@code sutInstance} to the baseline state and returns it to this
+     * pool. If the restoration fails, the instance is not returned to this pool.
+     *
+     * @param sutInstance The instance acquired from this pool
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code sutInstance} is not acquired
+     *                                     from this pool or is already released
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public void release(@NonNull final T sutInstance) {
+
+        if (!this.acquiredInstances.remove(sutInstance)) {
+            throw new IllegalArgumentException("The instance is not acquired from this pool or is already released.");
+        }
+
+        this.fieldLayout.restoreValues(sutInstance, this.baselineValues);
+        this.idleInstances.push(sutInstance);
+    }
+
+    /**
+     * Returns the number of the instances that are not in use.
+     *
+     * @return The number of the idle instances
+     */
+    @ToString.Include(name = "idleSize")
+    public int getIdleSize() {
+        return this.idleInstances.size();
+    }
+
+    /**
+     * Returns the class of SUT, which is printed by {@link #toString()} instead of
+     * the sut so that no instance is created outside of the pool.
+     *
+     * @return The class of SUT
+     */
+    @ToString.Include(name = "sutClass", rank = 1)
+    private Class<?> getSutClass() {
+        return this.sut.getSutClass();
+    }
+}
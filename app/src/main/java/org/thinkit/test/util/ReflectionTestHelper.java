@@ -15,8 +15,7 @@
 package org.thinkit.test.util;
 
 import java.io.Serializable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -38,6 +37,11 @@ import lombok.ToString;
  * returned by the method to be invoked.
  *
  * <p>
+ * If the SUT has already been built, pass it to the {@link #of(Object)} method
+ * instead. If the constructor of the SUT requires arguments, pass them to the
+ * {@link #from(Class, ReflectionArguments)} method.
+ *
+ * <p>
  * Then you can execute the target method by creating a new instance of
  * {@link ReflectionTestHelper} and then invoking the
  * {@link #invokeMethod(String)} method with the name of the method to be
@@ -65,6 +69,12 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
      */
     private static final long serialVersionUID = 6572977559365139187L;
 
+    /**
+     * The sut shared by the reflection field and the reflection method
+     */
+    @ToString.Exclude
+    private ReflectionSut<T> sut;
+
     /**
      * The reflection field
      */
@@ -78,25 +88,25 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
     /**
      * The constructor.
      *
-     * @param clazz The class in which the method to be invoked is defined
+     * @param sut The sut in which the method to be invoked is defined
      *
      * @exception NullPointerException If {@code null} is passed as an argument
      */
-    private ReflectionTestHelper(@NonNull final Class<?> clazz) {
-        try {
-            final T sutInstance = this.getSutInstance(clazz);
-            this.reflectionField = ReflectionField.from(sutInstance);
-            this.reflectionMethod = ReflectionMethod.from(sutInstance);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException(e);
-        }
+    private ReflectionTestHelper(@NonNull final ReflectionSut<T> sut) {
+        this.sut = sut;
+        this.reflectionField = ReflectionField.of(sut);
+        this.reflectionMethod = ReflectionMethod.of(sut);
     }
 
     /**
      * Returns the new instance of {@link ReflectionTestHelper} based on the
      * argument.
      *
+     * <p>
+     * The SUT is instantiated by its no-argument constructor when an instance
+     * field or method is accessed for the first time. Therefore, the constructor
+     * of the SUT is never run as long as only static members are accessed.
+     *
      * @param <T>   The type of SUT
      * @param <R>   The type returned by the method to be invoked
      * @param clazz The class in which the method to be invoked is defined
@@ -105,7 +115,70 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
      * @exception NullPointerException If {@code null} is passed as an argument
      */
     public static <T, R> ReflectionTestHelper<T, R> from(@NonNull final Class<?> clazz) {
-        return new ReflectionTestHelper<>(clazz);
+        return new ReflectionTestHelper<>(ReflectionSut.lazy(clazz));
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionTestHelper} whose SUT is
+     * created by the constructor that matches {@code constructorArguments} . The
+     * constructor is resolved only once per class and parameter types, and the SUT
+     * is instantiated when an instance field or method is accessed for the first
+     * time.
+     *
+     * <pre>
+     * final ReflectionTestHelper&lt;ConcreteClass, String&gt; reflectionTestHelper = ReflectionTestHelper
+     *         .from(ConcreteClass.class, ReflectionArguments.newInstance().add(String.class, "test").addInt(1));
+     * </pre>
+     *
+     * @param <T>                  The type of SUT
+     * @param <R>                  The type returned by the method to be invoked
+     * @param clazz                The class in which the method to be invoked is
+     *                             defined
+     * @param constructorArguments The arguments passed to the constructor of SUT
+     * @return The new instance of {@link ReflectionTestHelper}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T, R> ReflectionTestHelper<T, R> from(@NonNull final Class<?> clazz,
+            @NonNull final ReflectionArguments constructorArguments) {
+        return new ReflectionTestHelper<>(ReflectionSut.lazy(clazz, constructorArguments));
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionTestHelper} that uses
+     * {@code sutInstance} as the SUT. This is useful when the SUT is expensive to
+     * build or has already been built as a fixture elsewhere.
+     *
+     * @param <T>         The type of SUT
+     * @param <R>         The type returned by the method to be invoked
+     * @param sutInstance The instance in which the method to be invoked is defined
+     * @return The new instance of {@link ReflectionTestHelper}
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T, R> ReflectionTestHelper<T, R> of(@NonNull final T sutInstance) {
+        return new ReflectionTestHelper<>(ReflectionSut.of(sutInstance));
+    }
+
+    /**
+     * Returns the new instance of {@link ReflectionTestHelper} in static mode.
+     *
+     * <p>
+     * In static mode, the class specified as an argument is never instantiated,
+     * and static fields and methods are accessed without a receiver. This is
+     * useful for utility classes and classes whose constructors are heavyweight or
+     * have side effects. Accessing an instance field or method in static mode
+     * results in {@link IllegalStateException} .
+     *
+     * @param <T>   The type of SUT
+     * @param <R>   The type returned by the method to be invoked
+     * @param clazz The class in which the static method to be invoked is defined
+     * @return The new instance of {@link ReflectionTestHelper} in static mode
+     *
+     * @exception NullPointerException If {@code null} is passed as an argument
+     */
+    public static <T, R> ReflectionTestHelper<T, R> fromStatic(@NonNull final Class<?> clazz) {
+        return new ReflectionTestHelper<>(ReflectionSut.ofStatic(clazz));
     }
 
     /**
@@ -123,6 +196,27 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
         return this;
     }
 
+    /**
+     * Set {@code fieldValue} to the field associated with {@code fieldName}
+     * specified as an argument with the memory semantics of {@code accessMode} .
+     * Use {@link FieldAccessMode#OPAQUE} or {@link FieldAccessMode#VOLATILE} when
+     * the field is shared with other threads.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     * @param accessMode The memory semantics of the write
+     * @return This instance
+     *
+     * @exception NullPointerException  If {@code null} is passed as
+     *                                  {@code fieldName} or {@code accessMode}
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public ReflectionTestHelper<T, R> setFieldValue(@NonNull final String fieldName, final Object fieldValue,
+            @NonNull final FieldAccessMode accessMode) {
+        this.reflectionField.setFieldValue(fieldName, fieldValue, accessMode);
+        return this;
+    }
+
     /**
      * Returns the value from the field associated with {@code fieldName} specified
      * as an argument.
@@ -136,6 +230,280 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
         return this.reflectionField.getFieldValue(fieldName);
     }
 
+    /**
+     * Returns the value from the field associated with {@code fieldName} specified
+     * as an argument with the memory semantics of {@code accessMode} . Use
+     * {@link FieldAccessMode#OPAQUE} or {@link FieldAccessMode#VOLATILE} when
+     * polling a field that is updated by other threads.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param accessMode The memory semantics of the read
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public Object getFieldValue(@NonNull final String fieldName, @NonNull final FieldAccessMode accessMode) {
+        return this.reflectionField.getFieldValue(fieldName, accessMode);
+    }
+
+    /**
+     * Set {@code fieldValue} to the field associated with {@code fieldName}
+     * declared in {@code declaringClass} . Fields declared in superclasses can
+     * also be accessed by {@link #setFieldValue(String, Object)} , but when a
+     * subclass declares a field with the same name, the field of the subclass is
+     * used. This method accesses the field shadowed in that way.
+     *
+     * @param declaringClass The SUT class or its superclass in which the field is
+     *                       declared
+     * @param fieldName      The field name to be processed for reflection
+     * @param fieldValue     The value to be set to the field by reflection
+     * @return This instance
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code declaringClass} or
+     *                                     {@code fieldName}
+     * @exception IllegalArgumentException If {@code declaringClass} is not the
+     *                                     SUT class or its superclass
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public ReflectionTestHelper<T, R> setFieldValue(@NonNull final Class<?> declaringClass,
+            @NonNull final String fieldName, final Object fieldValue) {
+        this.reflectionField.setFieldValue(declaringClass, fieldName, fieldValue);
+        return this;
+    }
+
+    /**
+     * Returns the value from the field associated with {@code fieldName} declared
+     * in {@code declaringClass} . Use this method to read a field declared in a
+     * superclass that is shadowed by a field with the same name in a subclass.
+     *
+     * @param declaringClass The SUT class or its superclass in which the field is
+     *                       declared
+     * @param fieldName      The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code declaringClass} is not the
+     *                                     SUT class or its superclass
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public Object getFieldValue(@NonNull final Class<?> declaringClass, @NonNull final String fieldName) {
+        return this.reflectionField.getFieldValue(declaringClass, fieldName);
+    }
+
+    /**
+     * Checks if the field associated with {@code fieldName} is declared in the SUT
+     * class or its superclass. This is useful to probe for a field that exists
+     * only in some versions of the SUT, since no exception is created for a
+     * missing field.
+     *
+     * @param fieldName The field name to be checked
+     * @return {@code true} if the field exists, otherwise {@code false}
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public boolean hasField(@NonNull final String fieldName) {
+        return this.reflectionField.hasField(fieldName);
+    }
+
+    /**
+     * Sets each value of {@code fieldValues} to the field associated with its key.
+     * Unlike calling {@link #setFieldValue(String, Object)} for each field, the
+     * instance fields are found through the field layout of the SUT class, which
+     * is built only once per class.
+     *
+     * <pre>
+     * reflectionTestHelper.setFieldValues(Map.of("name", "test", "count", 1));
+     * </pre>
+     *
+     * @param fieldValues The values to be set mapped by field name
+     * @return this instance
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public ReflectionTestHelper<T, R> setFieldValues(@NonNull final Map<String, ?> fieldValues) {
+        this.reflectionField.setFieldValues(fieldValues);
+        return this;
+    }
+
+    /**
+     * Returns the snapshot of the values of all instance fields of the SUT,
+     * including the fields declared in its superclasses. The snapshot is backed by
+     * arrays, so capturing it is cheap even if the SUT has many fields, and the
+     * primitive values are not boxed.
+     *
+     * <pre>
+     * final FieldSnapshot snapshot = reflectionTestHelper.snapshotFields();
+     * final int count = snapshot.getInt("count");
+     * </pre>
+     *
+     * @return The snapshot of the instance fields
+     *
+     * @exception IllegalStateException If the SUT is in static mode or an error
+     *                                  occurs in the reflection process
+     */
+    public FieldSnapshot snapshotFields() {
+        return this.reflectionField.snapshotFields();
+    }
+
+    /**
+     * Returns the report of the instance fields of the SUT whose current values
+     * differ from the values captured in {@code before} . The fields are compared
+     * by the comparators compiled once per SUT class, so the primitive values are
+     * not boxed and the arrays are compared element by element.
+     *
+     * <pre>
+     * final FieldSnapshot before = reflectionTestHelper.snapshotFields();
+     * reflectionTestHelper.invokeMethod("methodName");
+     * final FieldDiff diff = reflectionTestHelper.diffFields(before);
+     * </pre>
+     *
+     * @param before The snapshot returned by {@link #snapshotFields()}
+     * @return The report of the changed fields
+     *
+     * @exception NullPointerException     If {@code null} is passed as an argument
+     * @exception IllegalArgumentException If {@code before} is not captured from
+     *                                     an instance of the SUT class
+     * @exception IllegalStateException    If the SUT is in static mode or an error
+     *                                     occurs in the reflection process
+     */
+    public FieldDiff diffFields(@NonNull final FieldSnapshot before) {
+        return this.reflectionField.diffFields(before);
+    }
+
+    /**
+     * Returns the value from the {@code int} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #getFieldValue(String)} , the value is not boxed.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public int getIntField(@NonNull final String fieldName) {
+        return this.reflectionField.getIntFieldValue(fieldName);
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code int} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #setFieldValue(String, Object)} , the value is not boxed.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     * @return This instance
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public ReflectionTestHelper<T, R> setIntField(@NonNull final String fieldName, final int fieldValue) {
+        this.reflectionField.setIntFieldValue(fieldName, fieldValue);
+        return this;
+    }
+
+    /**
+     * Returns the value from the {@code long} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #getFieldValue(String)} , the value is not boxed.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public long getLongField(@NonNull final String fieldName) {
+        return this.reflectionField.getLongFieldValue(fieldName);
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code long} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #setFieldValue(String, Object)} , the value is not boxed.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     * @return This instance
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public ReflectionTestHelper<T, R> setLongField(@NonNull final String fieldName, final long fieldValue) {
+        this.reflectionField.setLongFieldValue(fieldName, fieldValue);
+        return this;
+    }
+
+    /**
+     * Returns the value from the {@code double} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #getFieldValue(String)} , the value is not boxed.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public double getDoubleField(@NonNull final String fieldName) {
+        return this.reflectionField.getDoubleFieldValue(fieldName);
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code double} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #setFieldValue(String, Object)} , the value is not boxed.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     * @return This instance
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public ReflectionTestHelper<T, R> setDoubleField(@NonNull final String fieldName, final double fieldValue) {
+        this.reflectionField.setDoubleFieldValue(fieldName, fieldValue);
+        return this;
+    }
+
+    /**
+     * Returns the value from the {@code boolean} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #getFieldValue(String)} , the value is not boxed.
+     *
+     * @param fieldName The field name to be processed for reflection
+     * @return The value retrieved from the field by reflection
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public boolean getBooleanField(@NonNull final String fieldName) {
+        return this.reflectionField.getBooleanFieldValue(fieldName);
+    }
+
+    /**
+     * Set {@code fieldValue} to the {@code boolean} field associated with
+     * {@code fieldName} specified as an argument. Unlike
+     * {@link #setFieldValue(String, Object)} , the value is not boxed.
+     *
+     * @param fieldName  The field name to be processed for reflection
+     * @param fieldValue The value to be set to the field by reflection
+     * @return This instance
+     *
+     * @exception NullPointerException  If {@code null} is passed as an argument
+     * @exception IllegalStateException If an error occurs in the reflection process
+     */
+    public ReflectionTestHelper<T, R> setBooleanField(@NonNull final String fieldName, final boolean fieldValue) {
+        this.reflectionField.setBooleanFieldValue(fieldName, fieldValue);
+        return this;
+    }
+
     /**
      * Invokes the indicated method by reflection. The value defined in the target
      * method to be called in the reflection will be returned.
@@ -153,16 +521,509 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
         return this.reflectionMethod.invokeMethod(methodName);
     }
 
+    /**
+     * Invokes the indicated method by reflection with {@code arguments} instead of
+     * the arguments added by {@link #addArgument(Class, Object)} . Since the
+     * arguments are passed for each invocation, the same helper and SUT instance
+     * can be used to invoke different methods one after another.
+     *
+     * <pre>
+     * final String first = reflectionTestHelper.invokeMethod("firstMethod",
+     *         ReflectionArguments.newInstance().add(String.class, "test"));
+     * final String second = reflectionTestHelper.invokeMethod("secondMethod",
+     *         ReflectionArguments.newInstance().addInt(1).addBoolean(true));
+     * </pre>
+     *
+     * @param methodName The method name to invoked by reflection
+     * @param arguments  The arguments for this invocation
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code arguments}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public R invokeMethod(final String methodName, @NonNull final ReflectionArguments arguments) {
+        return this.reflectionMethod.invokeMethod(methodName, arguments);
+    }
+
+    /**
+     * Invokes the indicated method by reflection, expecting it to throw an
+     * exception, and returns the exception thrown by the method itself. Unlike
+     * {@link #invokeMethod(String)} , the exception is neither wrapped nor
+     * rethrown, so driving a method into its exception path many times costs no
+     * more than the exception thrown by the method.
+     *
+     * <pre>
+     * final Throwable thrown = reflectionTestHelper.invokeExpectingThrow("methodName");
+     * </pre>
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The exception thrown by the method
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the method returns normally or an
+     *                                     error occurs in the reflection process
+     */
+    public Throwable invokeExpectingThrow(final String methodName) {
+        return this.reflectionMethod.invokeExpectingThrow(methodName);
+    }
+
+    /**
+     * Invokes the indicated method by reflection, expecting it to throw an
+     * exception of {@code expectedType} , and returns the exception thrown by the
+     * method itself.
+     *
+     * <pre>
+     * final IllegalArgumentException thrown = reflectionTestHelper.invokeExpectingThrow("methodName",
+     *         IllegalArgumentException.class);
+     * </pre>
+     *
+     * @param <X>          The type of the expected exception
+     * @param methodName   The method name to invoked by reflection
+     * @param expectedType The type of the expected exception
+     * @return The exception thrown by the method
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code expectedType}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the method returns normally, throws
+     *                                     an exception of another type or an
+     *                                     error occurs in the reflection process
+     */
+    public <X extends Throwable> X invokeExpectingThrow(final String methodName,
+            @NonNull final Class<X> expectedType) {
+        return this.reflectionMethod.invokeExpectingThrow(methodName, expectedType);
+    }
+
+    /**
+     * Invokes the indicated method by reflection if it exists. Unlike
+     * {@link #invokeMethod(String)} , a missing method is not an error, which is
+     * useful to invoke a method that exists only in some versions of the SUT. The
+     * returned result tells a missing method from a method that returns
+     * {@code null} or is declared as {@code void} .
+     *
+     * <pre>
+     * final InvocationResult&lt;String&gt; result = reflectionTestHelper.tryInvokeMethod("methodName");
+     * </pre>
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The result that holds the value returned from the method, or the
+     *         result that represents a matching method is not found
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    public InvocationResult<R> tryInvokeMethod(final String methodName) {
+        return this.reflectionMethod.tryInvokeMethod(methodName);
+    }
+
+    /**
+     * Invokes the indicated method by reflection with {@code arguments} if it
+     * exists. Unlike {@link #invokeMethod(String, ReflectionArguments)} , a
+     * missing method is not an error.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @param arguments  The arguments for this invocation
+     * @return The result that holds the value returned from the method, or the
+     *         result that represents a matching method is not found
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code arguments}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    public InvocationResult<R> tryInvokeMethod(final String methodName, @NonNull final ReflectionArguments arguments) {
+        return this.reflectionMethod.tryInvokeMethod(methodName, arguments);
+    }
+
+    /**
+     * Checks if the method that can be invoked with the arguments added by
+     * {@link #addArgument(Class, Object)} is declared in the SUT class or its
+     * superclass. No exception is created for a missing method.
+     *
+     * @param methodName The method name to be checked
+     * @return {@code true} if the method exists, otherwise {@code false}
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    public boolean hasMethod(final String methodName) {
+        return this.reflectionMethod.hasMethod(methodName);
+    }
+
+    /**
+     * Checks if the method that can be invoked with the arguments of
+     * {@code parameterTypes} is declared in the SUT class or its superclass. No
+     * exception is created for a missing method.
+     *
+     * @param methodName     The method name to be checked
+     * @param parameterTypes The parameter types of the method
+     * @return {@code true} if the method exists, otherwise {@code false}
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code parameterTypes}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If the overload resolution is ambiguous
+     *                                     or an error occurs in the reflection
+     *                                     process
+     */
+    public boolean hasMethod(final String methodName, @NonNull final Class<?>... parameterTypes) {
+        return this.reflectionMethod.hasMethod(methodName, parameterTypes);
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code int} by reflection. Unlike
+     * {@link #invokeMethod(String)} , the returned value is not boxed.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process or the return type of the method
+     *                                     cannot be converted to {@code int}
+     */
+    public int invokeInt(final String methodName) {
+        return this.reflectionMethod.invokeInt(methodName);
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code long} by reflection. Unlike
+     * {@link #invokeMethod(String)} , the returned value is not boxed.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process or the return type of the method
+     *                                     cannot be converted to {@code long}
+     */
+    public long invokeLong(final String methodName) {
+        return this.reflectionMethod.invokeLong(methodName);
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code double} by reflection. Unlike
+     * {@link #invokeMethod(String)} , the returned value is not boxed.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process or the return type of the method
+     *                                     cannot be converted to {@code double}
+     */
+    public double invokeDouble(final String methodName) {
+        return this.reflectionMethod.invokeDouble(methodName);
+    }
+
+    /**
+     * Invokes the indicated method that returns {@code boolean} by reflection. Unlike
+     * {@link #invokeMethod(String)} , the returned value is not boxed.
+     *
+     * @param methodName The method name to invoked by reflection
+     * @return The value returned from the method name executed in the reflection
+     *         process
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process or the return type of the method
+     *                                     cannot be converted to {@code boolean}
+     */
+    public boolean invokeBoolean(final String methodName) {
+        return this.reflectionMethod.invokeBoolean(methodName);
+    }
+
+    /**
+     * Resolves the method associated with {@code methodName} and
+     * {@code parameterTypes} in advance and returns it as {@link PreparedMethod} .
+     * The returned object is immutable, and invoking it does not look up the
+     * method or build the parameter types again, so it is suitable for
+     * data-driven tests that call the same method many times.
+     *
+     * <pre>
+     * final PreparedMethod&lt;ConcreteClass, String&gt; preparedMethod = reflectionTestHelper
+     *         .prepare("methodName", String.class, int.class);
+     * final String result = preparedMethod.invoke("test", 1);
+     * </pre>
+     *
+     * @param methodName     The method name to be invoked by reflection
+     * @param parameterTypes The parameter types of the method
+     * @return The prepared method
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code parameterTypes}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public PreparedMethod<T, R> prepare(final String methodName, @NonNull final Class<?>... parameterTypes) {
+        return this.reflectionMethod.prepare(methodName, parameterTypes);
+    }
+
+    /**
+     * Resolves the method associated with {@code methodName} from the arguments
+     * added so far and returns the immutable {@link InvocationSpec} that binds
+     * the method, the argument types and the argument values. Unlike this helper,
+     * the returned object can be shared by tests running in parallel, since the
+     * SUT instance is passed for each invocation.
+     *
+     * <pre>
+     * final InvocationSpec&lt;ConcreteClass, String&gt; spec = reflectionTestHelper.addArgument(String.class, "test")
+     *         .toInvocationSpec("methodName");
+     * final String result = spec.invoke(new ConcreteClass());
+     * </pre>
+     *
+     * @param methodName The method name to be invoked by reflection
+     * @return The immutable specification of the invocation
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public InvocationSpec<T, R> toInvocationSpec(final String methodName) {
+        return this.reflectionMethod.toInvocationSpec(methodName);
+    }
+
+    /**
+     * Measures the latency of the method associated with {@code methodName} with
+     * the default {@link BenchmarkOptions} . The method is invoked with the
+     * arguments added so far through a pre-resolved path, first for the warmup
+     * and then for the measurement, and the returned values are consumed so that
+     * the invocations are not removed by the JIT compiler.
+     *
+     * <pre>
+     * final BenchmarkResult result = reflectionTestHelper.addArgument(String.class, "test").benchmark("parse");
+     * assertTrue(result.getP99Nanos() &lt; 10000, result.toString());
+     * </pre>
+     *
+     * <p>
+     * The method is invoked on the same SUT instance every time, so it should not
+     * depend on the state changed by the previous invocations. The result is a
+     * rough number for a plain JUnit test and is not a substitute for JMH.
+     *
+     * @param methodName The method name to be benchmarked
+     * @return The result of the benchmark
+     *
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public BenchmarkResult benchmark(final String methodName) {
+        return this.reflectionMethod.benchmark(methodName, BenchmarkOptions.newInstance());
+    }
+
+    /**
+     * Measures the latency of the method associated with {@code methodName} with
+     * {@code options} in the same way as {@link #benchmark(String)} .
+     *
+     * @param methodName The method name to be benchmarked
+     * @param options    The options of the benchmark
+     * @return The result of the benchmark
+     *
+     * @exception NullPointerException     If {@code null} is passed as
+     *                                     {@code options}
+     * @exception IllegalArgumentException If the argument {@code methodName} is
+     *                                     {@code null} or empty
+     * @exception IllegalStateException    If an error occurs in the reflection
+     *                                     process
+     */
+    public BenchmarkResult benchmark(final String methodName, @NonNull final BenchmarkOptions options) {
+        return this.reflectionMethod.benchmark(methodName, options);
+    }
+
+    /**
+     * Returns the bytes allocated per invocation of the method associated with
+     * {@code methodName} , which is invoked by {@link #invokeMethod(String)} with
+     * the arguments added so far. The method is invoked many times for the
+     * warmup and then for the measurement on the current thread, and the bytes
+     * allocated by this helper itself, which are calibrated once, are
+     * subtracted. If the method returns a primitive type, it is invoked by
+     * {@link #invokeInt(String)} and the like instead, so that the value
+     * returned from the method is not boxed.
+     *
+     * <p>
+     * The method is invoked on the same SUT instance every time, so it should not
+     * depend on the state changed by the previous invocations.
+     *
+     * @param methodName The method name to be measured
+     * @return The bytes allocated per invocation
+     *
+     * @exception IllegalArgumentException      If the argument {@code methodName}
+     *                                          is {@code null} or empty
+     * @exception IllegalStateException         If an error occurs in the
+     *                                          reflection process
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    public long measureAllocatedBytes(final String methodName) {
+        return this.reflectionMethod.measureAllocatedBytes(methodName, AllocationOptions.newInstance());
+    }
+
+    /**
+     * Returns the bytes allocated per invocation of the method associated with
+     * {@code methodName} , which are measured with {@code options} in the same
+     * way as {@link #measureAllocatedBytes(String)} .
+     *
+     * <pre>
+     * final long allocatedBytes = reflectionTestHelper.measureAllocatedBytes("parse",
+     *         AllocationOptions.newInstance().withMeasurementRounds(10));
+     * </pre>
+     *
+     * @param methodName The method name to be measured
+     * @param options    The options of the measurement
+     * @return The bytes allocated per invocation
+     *
+     * @exception NullPointerException          If the argument {@code options} is
+     *                                          null
+     * @exception IllegalArgumentException      If the argument {@code methodName}
+     *                                          is {@code null} or empty
+     * @exception IllegalStateException         If an error occurs in the
+     *                                          reflection process
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     */
+    public long measureAllocatedBytes(final String methodName, @NonNull final AllocationOptions options) {
+        return this.reflectionMethod.measureAllocatedBytes(methodName, options);
+    }
+
+    /**
+     * Asserts that the method associated with {@code methodName} allocates at
+     * most {@code maxBytes} bytes per invocation, which are measured by
+     * {@link #measureAllocatedBytes(String)} .
+     *
+     * <pre>
+     * reflectionTestHelper.addArgument(String.class, "test").assertAllocatesAtMost("parse", 64);
+     * </pre>
+     *
+     * @param methodName The method name to be measured
+     * @param maxBytes   The maximum bytes allowed per invocation
+     * @return this instance
+     *
+     * @exception IllegalArgumentException      If the argument {@code methodName}
+     *                                          is {@code null} or empty, or
+     *                                          {@code maxBytes} is negative
+     * @exception IllegalStateException         If an error occurs in the
+     *                                          reflection process
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     * @exception AssertionError                If the method allocates more than
+     *                                          {@code maxBytes} bytes per
+     *                                          invocation
+     */
+    public ReflectionTestHelper<T, R> assertAllocatesAtMost(final String methodName, final long maxBytes) {
+        return this.assertAllocatesAtMost(methodName, maxBytes, AllocationOptions.newInstance());
+    }
+
+    /**
+     * Asserts that the method associated with {@code methodName} allocates at
+     * most {@code maxBytes} bytes per invocation, which are measured with
+     * {@code options} by {@link #measureAllocatedBytes(String, AllocationOptions)}
+     * .
+     *
+     * @param methodName The method name to be measured
+     * @param maxBytes   The maximum bytes allowed per invocation
+     * @param options    The options of the measurement
+     * @return this instance
+     *
+     * @exception NullPointerException          If the argument {@code options} is
+     *                                          null
+     * @exception IllegalArgumentException      If the argument {@code methodName}
+     *                                          is {@code null} or empty, or
+     *                                          {@code maxBytes} is negative
+     * @exception IllegalStateException         If an error occurs in the
+     *                                          reflection process
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     * @exception AssertionError                If the method allocates more than
+     *                                          {@code maxBytes} bytes per
+     *                                          invocation
+     */
+    public ReflectionTestHelper<T, R> assertAllocatesAtMost(final String methodName, final long maxBytes,
+            @NonNull final AllocationOptions options) {
+
+        if (maxBytes < 0L) {
+            throw new IllegalArgumentException(String.format("Max bytes must not be negative but was %d.", maxBytes));
+        }
+
+        final long allocatedBytes = this.measureAllocatedBytes(methodName, options);
+
+        if (allocatedBytes > maxBytes) {
+            throw new AssertionError(
+                    String.format("%s allocated %d bytes per invocation, but at most %d bytes expected.", methodName,
+                            allocatedBytes, maxBytes));
+        }
+
+        return this;
+    }
+
+    /**
+     * Asserts that the method associated with {@code methodName} allocates
+     * nothing per invocation in the same way as
+     * {@link #assertAllocatesAtMost(String, long)} .
+     *
+     * @param methodName The method name to be measured
+     * @return this instance
+     *
+     * @exception IllegalArgumentException      If the argument {@code methodName}
+     *                                          is {@code null} or empty
+     * @exception IllegalStateException         If an error occurs in the
+     *                                          reflection process
+     * @exception UnsupportedOperationException If the allocated bytes cannot be
+     *                                          measured in this JVM
+     * @exception AssertionError                If the method allocates any bytes
+     *                                          per invocation
+     */
+    public ReflectionTestHelper<T, R> assertAllocatesNothing(final String methodName) {
+        return this.assertAllocatesAtMost(methodName, 0L);
+    }
+
     /**
      * Adds the argument types and values defined for the target method to be
      * invoked in reflection. Argument types are not allowed to be {@code null} ,
      * but argument values are allowed to be {@code null} .
      *
+     * <p>
+     * The argument types do not have to match the parameter types exactly. The
+     * method is selected from the overloaded methods in the same way as the Java
+     * compiler does, so that a subtype, a wrapper or primitive counterpart, or the
+     * elements of a variable arity parameter can be passed. The selected method is
+     * cached for the argument types.
+     *
      * @param argumentType  The type of argument
-     * @param argumentValue The value of argument
+     * @param argumentValue The value of argument, which may be {@code null}
      * @return this instance
      *
-     * @exception NullPointerException If the argument {@code argumentType} is null
+     * @exception NullPointerException If {@code null} is passed as
+     *                                 {@code argumentType}
      */
     public ReflectionTestHelper<T, R> addArgument(@NonNull Class<?> argumentType, Object argumentValue) {
         this.reflectionMethod.addArgument(argumentType, argumentValue);
@@ -170,55 +1031,112 @@ public final class ReflectionTestHelper<T, R> implements Serializable {
     }
 
     /**
-     * Returns the instance of the class in which the method to be invoked by
-     * reflection is defined.
+     * Adds the {@code int} argument defined for the target method to be invoked in
+     * reflection. This is the same as {@code addArgument(int.class, argumentValue)}
+     * .
      *
-     * @param clazz The class in which the method to be invoked is defined
-     * @return The instance of the class in which the method to be invoked by
-     *         reflection is defined
+     * @param argumentValue The value of argument
+     * @return this instance
+     */
+    public ReflectionTestHelper<T, R> addIntArgument(final int argumentValue) {
+        this.reflectionMethod.addIntArgument(argumentValue);
+        return this;
+    }
+
+    /**
+     * Adds the {@code long} argument defined for the target method to be invoked in
+     * reflection. This is the same as {@code addArgument(long.class, argumentValue)}
+     * .
+     *
+     * @param argumentValue The value of argument
+     * @return this instance
+     */
+    public ReflectionTestHelper<T, R> addLongArgument(final long argumentValue) {
+        this.reflectionMethod.addLongArgument(argumentValue);
+        return this;
+    }
+
+    /**
+     * Adds the {@code double} argument defined for the target method to be invoked in
+     * reflection. This is the same as {@code addArgument(double.class, argumentValue)}
+     * .
+     *
+     * @param argumentValue The value of argument
+     * @return this instance
+     */
+    public ReflectionTestHelper<T, R> addDoubleArgument(final double argumentValue) {
+        this.reflectionMethod.addDoubleArgument(argumentValue);
+        return this;
+    }
+
+    /**
+     * Adds the {@code boolean} argument defined for the target method to be invoked in
+     * reflection. This is the same as {@code addArgument(boolean.class, argumentValue)}
+     * .
+     *
+     * @param argumentValue The value of argument
+     * @return this instance
+     */
+    public ReflectionTestHelper<T, R> addBooleanArgument(final boolean argumentValue) {
+        this.reflectionMethod.addBooleanArgument(argumentValue);
+        return this;
+    }
+
+    /**
+     * Replaces the value of the argument at {@code index} that has already been
+     * added by {@link #addArgument(Class, Object)} . Because the argument types do
+     * not change, the method resolved by the previous invocation and its argument
+     * array are reused, so a loop that only replaces the argument values and
+     * invokes the method does not allocate anything per call.
+     *
+     * <pre>
+     * reflectionTestHelper.addArgument(String.class, "");
+     *
+     * for (final String value : values) {
+     *     reflectionTestHelper.setArgument(0, value).invokeMethod("methodName");
+     * }
+     * </pre>
+     *
+     * @param index         The index of the argument
+     * @param argumentValue The new value of argument
+     * @return this instance
+     *
+     * @exception IndexOutOfBoundsException If {@code index} is out of range
+     */
+    public ReflectionTestHelper<T, R> setArgument(final int index, final Object argumentValue) {
+        this.reflectionMethod.setArgument(index, argumentValue);
+        return this;
+    }
+
+    /**
+     * Removes all of the arguments added by {@link #addArgument(Class, Object)} and
+     * its primitive variants. The SUT instance and its field values are kept, so
+     * the helper can be reused to invoke another method with other arguments.
+     *
+     * @return this instance
+     */
+    public ReflectionTestHelper<T, R> clearArguments() {
+        this.reflectionMethod.clearArguments();
+        return this;
+    }
+
+    /**
+     * Sets the mode that defines how the errors in the reflection process are
+     * reported. The default is {@link FailureMode#WRAPPED} , which wraps every
+     * error in a new {@link IllegalStateException} .
+     *
+     * <p>
+     * The mode applies to the field access, the method invocation, the
+     * instantiation of the SUT and the {@link PreparedMethod} created by
+     * {@link #prepare(String, Class...)} after the mode is set.
+     *
+     * @param failureMode The failure mode
+     * @return this instance
      *
      * @exception NullPointerException If {@code null} is passed as an argument
-     * @throws InstantiationException    If the class that declares the underlying
-     *                                   constructor represents an abstract class
-     * @throws IllegalAccessException    If this {@code Constructor} object is
-     *                                   enforcing Java language access control and
-     *                                   the underlying constructor is inaccessible
-     * @throws IllegalArgumentException  If the number of actual and formal
-     *                                   parameters differ; if an unwrapping
-     *                                   conversion for primitive arguments fails;
-     *                                   or if, after possible unwrapping, a
-     *                                   parameter value cannot be converted to the
-     *                                   corresponding formal parameter type by a
-     *                                   method invocation conversion; if this
-     *                                   constructor pertains to an enum type
-     * @throws InvocationTargetException If the underlying constructor throws an
-     *                                   exception
-     * @throws NoSuchMethodException     If a matching method is not found
-     * @throws SecurityException         If a security manager, <i>s</i>, is present
-     *                                   and any of the following conditions is met:
-     *
-     *                                   <ul>
-     *                                   <li>the caller's class loader is not the
-     *                                   same as the class loader of this class and
-     *                                   invocation of
-     *                                   {@link SecurityManager#checkPermission
-     *                                   s.checkPermission} method with
-     *                                   {@code RuntimePermission("accessDeclaredMembers")}
-     *                                   denies access to the declared constructor
-     *
-     *                                   <li>the caller's class loader is not the
-     *                                   same as or an ancestor of the class loader
-     *                                   for the current class and invocation of
-     *                                   {@link SecurityManager#checkPackageAccess
-     *                                   s.checkPackageAccess()} denies access to
-     *                                   the package of this class
-     *                                   </ul>
-     */
-    @SuppressWarnings("unchecked")
-    private T getSutInstance(@NonNull final Class<?> clazz) throws InstantiationException, IllegalAccessException,
-            IllegalArgumentException, InvocationTargetException, NoSuchMethodException, SecurityException {
-        final Constructor<T> constructor = (Constructor<T>) clazz.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        return constructor.newInstance();
+     */
+    public ReflectionTestHelper<T, R> setFailureMode(@NonNull final FailureMode failureMode) {
+        this.sut.setFailureMode(failureMode);
+        return this;
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The {@link IllegalStateException} whose stack trace is not captured, which
+ * is thrown in {@link FailureMode#STACKLESS} . The cause keeps its own stack
+ * trace.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class StacklessIllegalStateException extends IllegalStateException {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = 3418825437215304829L;
+
+    /**
+     * The constructor.
+     *
+     * @param cause The cause
+     */
+    StacklessIllegalStateException(final Throwable cause) {
+        super(cause);
+    }
+
+    /**
+     * Does not capture the stack trace.
+     *
+     * @return This instance
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * The {@link InvocationTargetException} whose stack trace is not captured. The
+ * invokers throw it to wrap the exception thrown by a method or constructor
+ * invoked through a method handle, since the stack trace of the wrapper tells
+ * nothing more than that of the cause.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class StacklessInvocationTargetException extends InvocationTargetException {
+
+    /**
+     * The serial version UID
+     */
+    private static final long serialVersionUID = -2301640916839287316L;
+
+    /**
+     * The constructor.
+     *
+     * @param target The exception thrown by the invoked method or constructor
+     */
+    StacklessInvocationTargetException(final Throwable target) {
+        super(target);
+    }
+
+    /**
+     * Does not capture the stack trace.
+     *
+     * @return This instance
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder event emitted when an instance of the SUT is
+ * created by {@link ReflectionSut} , whose duration is the time spent in the
+ * constructor of the SUT and its lookup.
+ *
+ * <p>
+ * The event is disabled by default, and is enabled by its name
+ * {@value #NAME} in the settings of the recording.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@Name(SutConstructionEvent.NAME)
+@Label("SUT Construction")
+@Category({ "Reflection Test Helper" })
+@Description("An instance of the SUT created by reflection")
+@Enabled(false)
+@StackTrace(false)
+final class SutConstructionEvent extends Event {
+
+    /**
+     * The name of the event
+     */
+    static final String NAME = "org.thinkit.test.util.SutConstruction";
+
+    /**
+     * The class of the SUT
+     */
+    @Label("SUT Class")
+    Class<?> sutClass;
+
+    /**
+     * The number of the arguments passed to the constructor
+     */
+    @Label("Argument Count")
+    int argumentCount;
+
+    /**
+     * The flag that indicates whether the construction failed
+     */
+    @Label("Failed")
+    boolean failed;
+
+    /**
+     * Returns the new event that has begun if the event is being recorded.
+     *
+     * @return The new event that has begun, or {@code null} if the event is not
+     *         being recorded
+     */
+    static SutConstructionEvent beginIfEnabled() {
+
+        if (!FlightRecorderEvents.isEnabled(SutConstructionEvent.class)) {
+            return null;
+        }
+
+        final SutConstructionEvent event = new SutConstructionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits {@code event} with the result of the construction unless it is
+     * {@code null} .
+     *
+     * @param event         The event returned by {@link #beginIfEnabled()}
+     * @param sutClass      The class of the SUT
+     * @param argumentCount The number of the arguments passed to the constructor
+     * @param failed        The flag that indicates whether the construction
+     *                      failed
+     */
+    static void complete(final SutConstructionEvent event, final Class<?> sutClass, final int argumentCount,
+            final boolean failed) {
+
+        if (event == null || !event.shouldCommit()) {
+            return;
+        }
+
+        event.sutClass = sutClass;
+        event.argumentCount = argumentCount;
+        event.failed = failed;
+        event.commit();
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The enum that manages the types in which the value returned from a method is
+ * passed without boxing by the primitive specialized invocations.
+ *
+ * <p>
+ * The primitive specialized invocations of {@link MethodInvoker} share one
+ * invocation path for all of these types, which returns the value as the bits
+ * of a {@code long} . The bits are converted back to the primitive value by
+ * {@link #toInt(long)} , {@link #toLong(long)} , {@link #toDouble(long)} or
+ * {@link #toBoolean(long)} , so the value is never boxed on the way.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+enum UnboxedType {
+
+    /**
+     * The {@code int} type, to which {@code byte} , {@code short} and
+     * {@code char} are widened
+     */
+    INT(int.class),
+
+    /**
+     * The {@code long} type
+     */
+    LONG(long.class),
+
+    /**
+     * The {@code double} type, to which {@code float} is widened
+     */
+    DOUBLE(double.class),
+
+    /**
+     * The {@code boolean} type
+     */
+    BOOLEAN(boolean.class),
+
+    /**
+     * The type of the other values, which are returned as {@link Object}
+     */
+    OBJECT(Object.class);
+
+    /**
+     * The method handle that converts a {@code double} value to its bits
+     */
+    private static final MethodHandle DOUBLE_TO_BITS = findStatic(Double.class, "doubleToRawLongBits",
+            double.class);
+
+    /**
+     * The method handle that converts a {@code boolean} value to its bits
+     */
+    private static final MethodHandle BOOLEAN_TO_BITS = findStatic(UnboxedType.class, "booleanToBits",
+            boolean.class);
+
+    /**
+     * The type in which the value is returned
+     */
+    @Getter
+    private final Class<?> type;
+
+    /**
+     * Returns the type in which the value of {@code returnType} is returned
+     * without boxing.
+     *
+     * @param returnType The return type of the method
+     * @return The type in which the returned value is not boxed, or
+     *         {@link #OBJECT} if the value is returned as {@link Object}
+     */
+    static UnboxedType of(final Class<?> returnType) {
+
+        if (returnType == int.class || returnType == short.class || returnType == byte.class
+                || returnType == char.class) {
+            return INT;
+        } else if (returnType == long.class) {
+            return LONG;
+        } else if (returnType == double.class || returnType == float.class) {
+            return DOUBLE;
+        } else if (returnType == boolean.class) {
+            return BOOLEAN;
+        }
+
+        return OBJECT;
+    }
+
+    /**
+     * Returns the bits of the boxed {@code value} converted to this type.
+     *
+     * @param value The boxed value, which can be converted to this type
+     * @return The bits of the value
+     *
+     * @exception UnsupportedOperationException If this type is {@link #OBJECT}
+     */
+    long toBits(final Object value) {
+        switch (this) {
+            case INT:
+                return value instanceof Character ? (Character) value : ((Number) value).intValue();
+            case LONG:
+                return value instanceof Character ? (Character) value : ((Number) value).longValue();
+            case DOUBLE:
+                return Double.doubleToRawLongBits(
+                        value instanceof Character ? (Character) value : ((Number) value).doubleValue());
+            case BOOLEAN:
+                return booleanToBits((Boolean) value);
+            default:
+                throw new UnsupportedOperationException("The value returned as Object has no bits.");
+        }
+    }
+
+    /**
+     * Returns the method handle that converts the value returned from
+     * {@code methodHandle} to this type and returns its bits as {@code long} .
+     *
+     * @param methodHandle The method handle whose return type can be converted to
+     *                     this type by a widening conversion
+     * @return The method handle that returns the bits of the value
+     *
+     * @exception UnsupportedOperationException If this type is {@link #OBJECT}
+     */
+    MethodHandle toBitsMethodHandle(final MethodHandle methodHandle) {
+
+        final MethodHandle typedMethodHandle = methodHandle
+                .asType(methodHandle.type().changeReturnType(this.type));
+
+        switch (this) {
+            case INT:
+            case LONG:
+                return typedMethodHandle.asType(typedMethodHandle.type().changeReturnType(long.class));
+            case DOUBLE:
+                return MethodHandles.filterReturnValue(typedMethodHandle, DOUBLE_TO_BITS);
+            case BOOLEAN:
+                return MethodHandles.filterReturnValue(typedMethodHandle, BOOLEAN_TO_BITS);
+            default:
+                throw new UnsupportedOperationException("The value returned as Object has no bits.");
+        }
+    }
+
+    /**
+     * Returns the {@code int} value of {@code bits} .
+     *
+     * @param bits The bits returned as {@link #INT}
+     * @return The {@code int} value
+     */
+    static int toInt(final long bits) {
+        return (int) bits;
+    }
+
+    /**
+     * Returns the {@code long} value of {@code bits} .
+     *
+     * @param bits The bits returned as {@link #LONG}
+     * @return The {@code long} value
+     */
+    static long toLong(final long bits) {
+        return bits;
+    }
+
+    /**
+     * Returns the {@code double} value of {@code bits} .
+     *
+     * @param bits The bits returned as {@link #DOUBLE}
+     * @return The {@code double} value
+     */
+    static double toDouble(final long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Returns the {@code boolean} value of {@code bits} .
+     *
+     * @param bits The bits returned as {@link #BOOLEAN}
+     * @return The {@code boolean} value
+     */
+    static boolean toBoolean(final long bits) {
+        return bits != 0L;
+    }
+
+    /**
+     * Returns the bits of the {@code boolean} value.
+     *
+     * @param value The {@code boolean} value
+     * @return {@code 1} if {@code value} is {@code true} , otherwise {@code 0}
+     */
+    private static long booleanToBits(final boolean value) {
+        return value ? 1L : 0L;
+    }
+
+    /**
+     * Returns the method handle of the static method that converts a value of
+     * {@code parameterType} to {@code long} .
+     *
+     * @param declaringClass The class that declares the method
+     * @param methodName     The name of the method
+     * @param parameterType  The type of the parameter of the method
+     * @return The method handle of the method
+     *
+     * @exception IllegalStateException If the method cannot be found
+     */
+    private static MethodHandle findStatic(final Class<?> declaringClass, final String methodName,
+            final Class<?> parameterType) {
+        try {
+            return MethodHandles.lookup().findStatic(declaringClass, methodName,
+                    MethodType.methodType(long.class, parameterType));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
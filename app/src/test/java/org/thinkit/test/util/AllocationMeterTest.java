@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link AllocationMeter} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class AllocationMeterTest {
+
+    /**
+     * The array allocated by the measured invocation, which keeps the allocation
+     * from being removed
+     */
+    private long[] allocatedArray;
+
+    @Test
+    void testWhenNothingIsAllocated() {
+
+        assertTrue(AllocationMeter.isSupported());
+        assertEquals(0L, AllocationMeter.measure(() -> {
+        }));
+    }
+
+    @Test
+    void testWhenEachShapeOfInvocationIsCalibrated() {
+
+        for (final Class<?> returnType : new Class<?>[] { void.class, String.class, int.class, short.class,
+                long.class, double.class, float.class, boolean.class }) {
+            assertTrue(AllocationMeter.getOverheadBytes(returnType, true) >= 0L);
+            assertTrue(AllocationMeter.getOverheadBytes(returnType, false) >= 0L);
+        }
+    }
+
+    @Test
+    void testWhenInstanceMethodReturningPrimitiveIsMeasured() {
+
+        final ReflectionMethod<ReflectionTestDataSet, Object> reflectionMethod = ReflectionMethod
+                .from(new ReflectionTestDataSet());
+
+        assertEquals(0L, AllocationMeter.measure(
+                reflectionMethod.toUnboxedInvocation("returnUncachedIntegerWithNoArgument", int.class), int.class,
+                false, AllocationOptions.newInstance()));
+        assertEquals(0L, AllocationMeter.measure(
+                reflectionMethod.toUnboxedInvocation("returnStringWithNoArgument", String.class), String.class,
+                false, AllocationOptions.newInstance()));
+    }
+
+    @Test
+    void testWhenOptionsAreGiven() {
+
+        final ReflectionMethod<ReflectionTestDataSet, Object> reflectionMethod = ReflectionMethod
+                .from(new ReflectionTestDataSet());
+        final AllocationOptions options = AllocationOptions.newInstance().withWarmupIterations(30000)
+                .withMeasurementIterations(5000).withMeasurementRounds(8);
+
+        assertEquals(0L, AllocationMeter.measure(
+                reflectionMethod.toUnboxedInvocation("returnStringWithNoArgument", String.class), String.class,
+                false, options));
+    }
+
+    @Test
+    void testWhenArrayIsAllocated() {
+
+        final long allocatedBytes = AllocationMeter.measure(() -> this.allocatedArray = new long[16]);
+
+        assertTrue(allocatedBytes >= 16L * Long.BYTES, String.format("%d bytes were measured.", allocatedBytes));
+        assertTrue(allocatedBytes < 16L * Long.BYTES + 64L, String.format("%d bytes were measured.", allocatedBytes));
+    }
+
+    @Test
+    void testWhenArrayIsAllocatedLessThanOncePerInvocation() {
+
+        final int[] invocationCount = { 0 };
+        final long allocatedBytes = AllocationMeter.measure(() -> {
+            if (++invocationCount[0] % 1000 == 0) {
+                this.allocatedArray = new long[16];
+            }
+        });
+
+        assertEquals(1L, allocatedBytes);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link AllocationOptions} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class AllocationOptionsTest {
+
+    @Test
+    void testNewInstance() {
+
+        final AllocationOptions sut = AllocationOptions.newInstance();
+
+        assertEquals(20000, sut.getWarmupIterations());
+        assertEquals(10000, sut.getMeasurementIterations());
+        assertEquals(5, sut.getMeasurementRounds());
+    }
+
+    @Test
+    void testWithMethodsReturnNewInstances() {
+
+        final AllocationOptions defaults = AllocationOptions.newInstance();
+        final AllocationOptions sut = defaults.withWarmupIterations(0).withMeasurementIterations(1)
+                .withMeasurementRounds(2);
+
+        assertEquals(0, sut.getWarmupIterations());
+        assertEquals(1, sut.getMeasurementIterations());
+        assertEquals(2, sut.getMeasurementRounds());
+        assertEquals(20000, defaults.getWarmupIterations());
+        assertEquals(10000, defaults.getMeasurementIterations());
+        assertEquals(5, defaults.getMeasurementRounds());
+        assertEquals(sut, AllocationOptions.newInstance().withMeasurementRounds(2).withMeasurementIterations(1)
+                .withWarmupIterations(0));
+    }
+
+    @Test
+    void testWhenOptionsAreInvalid() {
+
+        final AllocationOptions sut = AllocationOptions.newInstance();
+
+        assertThrows(IllegalArgumentException.class, () -> sut.withWarmupIterations(-1));
+        assertThrows(IllegalArgumentException.class, () -> sut.withMeasurementIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> sut.withMeasurementRounds(0));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link BenchmarkOptions} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class BenchmarkOptionsTest {
+
+    @Test
+    void testNewInstance() {
+
+        final BenchmarkOptions sut = BenchmarkOptions.newInstance();
+
+        assertEquals(20000, sut.getWarmupIterations());
+        assertEquals(100000, sut.getMeasurementIterations());
+    }
+
+    @Test
+    void testWithMethodsReturnNewInstances() {
+
+        final BenchmarkOptions defaults = BenchmarkOptions.newInstance();
+        final BenchmarkOptions sut = defaults.withWarmupIterations(0).withMeasurementIterations(1);
+
+        assertEquals(0, sut.getWarmupIterations());
+        assertEquals(1, sut.getMeasurementIterations());
+        assertEquals(20000, defaults.getWarmupIterations());
+        assertEquals(100000, defaults.getMeasurementIterations());
+        assertEquals(sut, BenchmarkOptions.newInstance().withMeasurementIterations(1).withWarmupIterations(0));
+    }
+
+    @Test
+    void testWhenOptionsAreInvalid() {
+
+        final BenchmarkOptions sut = BenchmarkOptions.newInstance();
+
+        assertThrows(IllegalArgumentException.class, () -> sut.withWarmupIterations(-1));
+        assertThrows(IllegalArgumentException.class, () -> sut.withMeasurementIterations(0));
+    }
+}
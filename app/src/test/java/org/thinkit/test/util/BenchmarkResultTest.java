@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link BenchmarkResult} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class BenchmarkResultTest {
+
+    /**
+     * The nested class for {@link BenchmarkResult#of(String, long[])} method.
+     */
+    @Nested
+    class TestOf {
+
+        @Test
+        void testWhenLatenciesAreSummarized() {
+
+            final long[] nanos = new long[100];
+
+            for (int i = 0; i < nanos.length; i++) {
+                nanos[i] = 100 - i;
+            }
+
+            final BenchmarkResult sut = BenchmarkResult.of("method()", nanos);
+
+            assertEquals("method()", sut.getMethodName());
+            assertEquals(100, sut.getIterations());
+            assertEquals(1L, sut.getMinNanos());
+            assertEquals(50.5d, sut.getMeanNanos());
+            assertEquals(50L, sut.getP50Nanos());
+            assertEquals(99L, sut.getP99Nanos());
+            assertEquals(100L, sut.getMaxNanos());
+        }
+
+        @Test
+        void testWhenOneLatencyIsMeasured() {
+
+            final BenchmarkResult sut = BenchmarkResult.of("method()", new long[] { 42L });
+
+            assertEquals(42L, sut.getMinNanos());
+            assertEquals(42L, sut.getP50Nanos());
+            assertEquals(42L, sut.getP99Nanos());
+            assertEquals(42L, sut.getMaxNanos());
+        }
+
+        @Test
+        void testWhenNoLatencyIsMeasured() {
+            assertThrows(IllegalArgumentException.class, () -> BenchmarkResult.of("method()", new long[0]));
+        }
+    }
+
+    /**
+     * The nested class for {@link BenchmarkResult#getPercentileNanos(double)}
+     * method.
+     */
+    @Nested
+    class TestGetPercentileNanos {
+
+        @Test
+        void testWhenPercentilesAreRequested() {
+
+            final BenchmarkResult sut = BenchmarkResult.of("method()", new long[] { 40L, 10L, 30L, 20L });
+
+            assertEquals(10L, sut.getPercentileNanos(0.0d));
+            assertEquals(10L, sut.getPercentileNanos(25.0d));
+            assertEquals(30L, sut.getPercentileNanos(75.0d));
+            assertEquals(40L, sut.getPercentileNanos(90.0d));
+            assertEquals(40L, sut.getPercentileNanos(100.0d));
+        }
+
+        @Test
+        void testWhenPercentileIsOutOfRange() {
+
+            final BenchmarkResult sut = BenchmarkResult.of("method()", new long[] { 1L });
+
+            assertThrows(IllegalArgumentException.class, () -> sut.getPercentileNanos(-0.1d));
+            assertThrows(IllegalArgumentException.class, () -> sut.getPercentileNanos(101.0d));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ClassHierarchyIndex} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ClassHierarchyIndexTest {
+
+    /**
+     * The nested class for {@link ClassHierarchyIndex#getField(String)} method.
+     */
+    @Nested
+    class TestGetField {
+
+        @Test
+        void testWhenFieldIsDeclaredInSuperclass() throws Exception {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestChildDataSet.class);
+
+            assertEquals(ReflectionTestParentDataSet.class, sut.getField("parentField").getDeclaringClass());
+        }
+
+        @Test
+        void testWhenFieldIsShadowed() throws Exception {
+
+            assertEquals(ReflectionTestChildDataSet.class, ClassHierarchyIndex.of(ReflectionTestChildDataSet.class)
+                    .getField("shadowedField").getDeclaringClass());
+            assertEquals(ReflectionTestParentDataSet.class, ClassHierarchyIndex
+                    .of(ReflectionTestParentDataSet.class).getField("shadowedField").getDeclaringClass());
+        }
+
+        @Test
+        void testWhenFieldDoesNotExist() {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestChildDataSet.class);
+
+            final NoSuchFieldException exception = assertThrows(NoSuchFieldException.class,
+                    () -> sut.getField("unknownField"));
+            assertEquals(ReflectionTestChildDataSet.class.getName() + ".unknownField", exception.getMessage());
+        }
+    }
+
+    /**
+     * The nested class for {@link ClassHierarchyIndex#getMethod(MethodSignature)}
+     * method.
+     */
+    @Nested
+    class TestGetMethod {
+
+        @Test
+        void testWhenMethodIsDeclaredInSuperclass() throws Exception {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestChildDataSet.class);
+
+            assertEquals(ReflectionTestParentDataSet.class, sut
+                    .getMethod(MethodSignature.of("returnParentString", new Class<?>[0])).getDeclaringClass());
+            assertEquals(Object.class,
+                    sut.getMethod(MethodSignature.of("toString", new Class<?>[0])).getDeclaringClass());
+        }
+
+        @Test
+        void testWhenMethodIsDeclaredInBothClasses() throws Exception {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestChildDataSet.class);
+
+            assertEquals(ReflectionTestChildDataSet.class, sut
+                    .getMethod(MethodSignature.of("returnDeclaredString", new Class<?>[0])).getDeclaringClass());
+        }
+
+        @Test
+        void testWhenMethodDoesNotExist() {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestChildDataSet.class);
+
+            final MethodSignature signature = MethodSignature.of("unknownMethod",
+                    new Class<?>[] { String.class, int.class });
+
+            final NoSuchMethodException exception = assertThrows(NoSuchMethodException.class,
+                    () -> sut.getMethod(signature));
+            assertEquals(ReflectionTestChildDataSet.class.getName() + ".unknownMethod(java.lang.String,int)",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenMethodIsResolvedFromOverloadedMethods() throws Exception {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestOverloadDataSet.class);
+
+            assertEquals(CharSequence.class,
+                    sut.getMethod(MethodSignature.of("describe", new Class<?>[] { String.class }))
+                            .getParameterTypes()[0]);
+            assertEquals(int[].class,
+                    sut.getMethod(MethodSignature.of("sum", new Class<?>[] { int.class })).getParameterTypes()[0]);
+            assertThrows(NoSuchMethodException.class,
+                    () -> sut.getMethod(MethodSignature.of("twice", new Class<?>[] { String.class })));
+        }
+
+        @Test
+        void testWhenOverloadResolutionIsAmbiguous() {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestOverloadDataSet.class);
+
+            final MethodSignature signature = MethodSignature.of("ambiguous",
+                    new Class<?>[] { Integer.class, Integer.class });
+
+            final NoSuchMethodException exception = assertThrows(NoSuchMethodException.class,
+                    () -> sut.getMethod(signature));
+            assertTrue(exception.getMessage().startsWith("Ambiguous method call"));
+        }
+    }
+
+    /**
+     * The nested class for {@link ClassHierarchyIndex#findMethod(MethodSignature)}
+     * method.
+     */
+    @Nested
+    class TestFindMethod {
+
+        @Test
+        void testWhenOverloadResolutionIsAmbiguous() {
+
+            final ClassHierarchyIndex sut = ClassHierarchyIndex.of(ReflectionTestOverloadDataSet.class);
+
+            assertTrue(sut.findMethod(MethodSignature.of("ambiguous", new Class<?>[] { Integer.class, Integer.class }))
+                    .isAmbiguous());
+            assertSame(OverloadResolution.absent(),
+                    sut.findMethod(MethodSignature.of("twice", new Class<?>[] { String.class })));
+            assertEquals(CharSequence.class,
+                    sut.findMethod(MethodSignature.of("describe", new Class<?>[] { String.class })).get()
+                            .getParameterTypes()[0]);
+        }
+    }
+}
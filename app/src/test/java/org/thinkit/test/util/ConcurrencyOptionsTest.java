@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ConcurrencyOptions} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ConcurrencyOptionsTest {
+
+    @Test
+    void testNewInstance() {
+
+        final ConcurrencyOptions sut = ConcurrencyOptions.newInstance();
+
+        assertEquals(64, sut.getMaxConcurrency());
+        assertEquals(Optional.empty(), sut.getTimeout());
+    }
+
+    @Test
+    void testWithMethodsReturnNewInstances() {
+
+        final ConcurrencyOptions defaults = ConcurrencyOptions.newInstance();
+        final ConcurrencyOptions sut = defaults.withMaxConcurrency(8).withTimeout(Duration.ofSeconds(1));
+
+        assertEquals(8, sut.getMaxConcurrency());
+        assertEquals(Optional.of(Duration.ofSeconds(1)), sut.getTimeout());
+        assertEquals(64, defaults.getMaxConcurrency());
+        assertEquals(Optional.empty(), defaults.getTimeout());
+        assertEquals(sut, ConcurrencyOptions.newInstance().withTimeout(Duration.ofSeconds(1)).withMaxConcurrency(8));
+    }
+
+    @Test
+    void testWhenOptionsAreInvalid() {
+
+        final ConcurrencyOptions sut = ConcurrencyOptions.newInstance();
+
+        assertThrows(IllegalArgumentException.class, () -> sut.withMaxConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> sut.withTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> sut.withTimeout(Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> sut.withTimeout(null));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ConcurrentBatchInvoker} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ConcurrentBatchInvokerTest {
+
+    /**
+     * The nested class for {@link ConcurrentBatchInvoker#invokeAll} method.
+     */
+    @Nested
+    class TestInvokeAll {
+
+        @Test
+        void testWhenResultsAreReturnedInOrder() {
+
+            final Object[][] argumentTuples = IntStream.range(0, 100).mapToObj(i -> new Object[] { i })
+                    .toArray(Object[][]::new);
+
+            final Object[] results = ConcurrentBatchInvoker.invokeAll(argumentTuples,
+                    arguments -> (int) arguments[0] * 2, ConcurrencyOptions.newInstance(), FailureMode.WRAPPED);
+
+            assertArrayEquals(IntStream.range(0, 100).mapToObj(i -> i * 2).toArray(), results);
+        }
+
+        @Test
+        void testWhenTupleIsEmpty() {
+            assertEquals(0, ConcurrentBatchInvoker.invokeAll(new Object[0][], arguments -> arguments,
+                    ConcurrencyOptions.newInstance(), FailureMode.WRAPPED).length);
+        }
+
+        @Test
+        void testWhenInvocationTimesOut() {
+
+            final long startNanos = System.nanoTime();
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> ConcurrentBatchInvoker.invokeAll(new Object[][] { { 10_000L } }, arguments -> {
+                        try {
+                            Thread.sleep((long) arguments[0]);
+                            return null;
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, ConcurrencyOptions.newInstance().withTimeout(Duration.ofMillis(50)), FailureMode.WRAPPED));
+
+            assertTrue(exception.getCause() instanceof TimeoutException);
+            assertTrue(System.nanoTime() - startNanos < Duration.ofSeconds(5).toNanos());
+        }
+
+        @Test
+        void testWhenEarlyInvocationFails() {
+
+            final AtomicInteger invokedCount = new AtomicInteger();
+            final Object[][] argumentTuples = IntStream.range(0, 100).mapToObj(i -> new Object[] { i })
+                    .toArray(Object[][]::new);
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> ConcurrentBatchInvoker.invokeAll(argumentTuples, arguments -> {
+                        invokedCount.incrementAndGet();
+
+                        if ((int) arguments[0] == 0) {
+                            throw new IllegalStateException("failed");
+                        }
+
+                        try {
+                            Thread.sleep(20L);
+                            return arguments[0];
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, ConcurrencyOptions.newInstance().withMaxConcurrency(2), FailureMode.WRAPPED));
+
+            assertEquals("failed", exception.getMessage());
+            assertTrue(invokedCount.get() < 10);
+        }
+
+        @Test
+        void testWhenRunningInvocationsAreInterruptedByFailure() {
+
+            final long startNanos = System.nanoTime();
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> ConcurrentBatchInvoker.invokeAll(new Object[][] { { 10_000L }, { 0L } }, arguments -> {
+                        if ((long) arguments[0] == 0L) {
+                            throw new IllegalStateException("failed");
+                        }
+
+                        try {
+                            Thread.sleep((long) arguments[0]);
+                            return null;
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }, ConcurrencyOptions.newInstance(), FailureMode.WRAPPED));
+
+            assertEquals("failed", exception.getMessage());
+            assertTrue(System.nanoTime() - startNanos < Duration.ofSeconds(5).toNanos());
+        }
+    }
+
+    @Test
+    void testIsVirtualThreadAvailable() {
+        assertEquals(Runtime.version().feature() >= 21, ConcurrentBatchInvoker.isVirtualThreadAvailable());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ConstructorInvoker} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ConstructorInvokerTest {
+
+    /**
+     * The nested class for {@link ConstructorInvoker#newInstance(Object[])}
+     * method.
+     */
+    @Nested
+    class TestNewInstance {
+
+        @Test
+        void testWhenConstructorHasNoArgument() throws Exception {
+
+            final ConstructorInvoker sut = ConstructorInvoker
+                    .of(getConstructor(ReflectionTestWithPrivateConstructor.class));
+
+            assertTrue(sut.isMethodHandleInvocation());
+            assertTrue(sut.newInstance(new Object[0]) instanceof ReflectionTestWithPrivateConstructor);
+        }
+
+        @Test
+        void testWhenConstructorHasArguments() throws Exception {
+
+            final ConstructorInvoker sut = ConstructorInvoker
+                    .of(getConstructor(ReflectionTestWithArgumentConstructor.class, String.class, int.class));
+            final Object sutInstance = sut.newInstance(new Object[] { "test", 2 });
+
+            assertEquals("testtest", ReflectionMemberCache
+                    .getMethodInvoker(ReflectionTestWithArgumentConstructor.class, "repeatName")
+                    .invoke(sutInstance, new Object[0]));
+        }
+
+        @Test
+        void testWhenConstructorThrowsException() throws Exception {
+
+            final ConstructorInvoker sut = ConstructorInvoker
+                    .of(getConstructor(ReflectionTestWithThrowingConstructor.class));
+
+            final InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                    () -> sut.newInstance(new Object[0]));
+            assertTrue(exception.getCause() instanceof UnsupportedOperationException);
+        }
+
+        @Test
+        void testWhenClassIsAbstract() throws Exception {
+
+            final ConstructorInvoker sut = ConstructorInvoker.of(getConstructor(AbstractTestDataSet.class));
+
+            assertFalse(sut.isMethodHandleInvocation());
+            assertThrows(InstantiationException.class, () -> sut.newInstance(new Object[0]));
+        }
+
+        @Test
+        void testWhenNumberOfArgumentsIsWrong() throws Exception {
+
+            final ConstructorInvoker sut = ConstructorInvoker
+                    .of(getConstructor(ReflectionTestWithPrivateConstructor.class));
+
+            assertThrows(IllegalArgumentException.class, () -> sut.newInstance(new Object[] { "test" }));
+        }
+
+        @Test
+        void testWhenArgumentTypeIsWrong() throws Exception {
+
+            final ConstructorInvoker sut = ConstructorInvoker
+                    .of(getConstructor(ReflectionTestWithArgumentConstructor.class, String.class, int.class));
+
+            assertThrows(IllegalArgumentException.class, () -> sut.newInstance(new Object[] { 42, 2 }));
+            assertThrows(IllegalArgumentException.class, () -> sut.newInstance(new Object[] { "test", null }));
+            assertThrows(IllegalArgumentException.class, () -> sut.newInstance(new Object[] { "test", 2L }));
+        }
+    }
+
+    /**
+     * The abstract class that cannot be instantiated.
+     */
+    private abstract static class AbstractTestDataSet {
+    }
+
+    /**
+     * Returns the accessible constructor declared in {@code clazz} .
+     *
+     * @param clazz          The class in which the constructor is declared
+     * @param parameterTypes The parameter types
+     * @return The accessible constructor
+     *
+     * @throws NoSuchMethodException If a matching constructor is not found
+     */
+    private static Constructor<?> getConstructor(final Class<?> clazz, final Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        final Constructor<?> constructor = clazz.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        return constructor;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link FailureMode} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class FailureModeTest {
+
+    /**
+     * The nested class for {@link FailureMode#toRuntimeException(Exception)}
+     * method.
+     */
+    @Nested
+    class TestToRuntimeException {
+
+        @Test
+        void testWhenModeIsWrapped() {
+
+            final NoSuchMethodException exception = new NoSuchMethodException();
+            final RuntimeException result = FailureMode.WRAPPED.toRuntimeException(exception);
+
+            assertEquals(IllegalStateException.class, result.getClass());
+            assertSame(exception, result.getCause());
+            assertTrue(result.getStackTrace().length > 0);
+        }
+
+        @Test
+        void testWhenModeIsUnwrapped() {
+
+            final UnsupportedOperationException target = new UnsupportedOperationException();
+
+            assertSame(target, FailureMode.UNWRAPPED.toRuntimeException(new InvocationTargetException(target)));
+            assertEquals(IllegalStateException.class,
+                    FailureMode.UNWRAPPED.toRuntimeException(new NoSuchMethodException()).getClass());
+        }
+
+        @Test
+        void testWhenModeIsUnwrappedAndTargetThrowsCheckedException() {
+
+            final IOException target = new IOException();
+
+            final Throwable thrown = assertThrows(IOException.class,
+                    () -> FailureMode.UNWRAPPED.toRuntimeException(new InvocationTargetException(target)));
+            assertSame(target, thrown);
+        }
+
+        @Test
+        void testWhenModeIsStackless() {
+
+            final NoSuchMethodException exception = new NoSuchMethodException();
+            final RuntimeException result = FailureMode.STACKLESS.toRuntimeException(exception);
+
+            assertTrue(result instanceof IllegalStateException);
+            assertSame(exception, result.getCause());
+            assertEquals(0, result.getStackTrace().length);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link FieldAccessor} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class FieldAccessorTest {
+
+    /**
+     * The nested class for
+     * {@link FieldAccessor#set(Object, Object, FieldAccessMode)} and
+     * {@link FieldAccessor#get(Object, FieldAccessMode)} methods.
+     */
+    @Nested
+    class TestSetAndGet {
+
+        @Test
+        void testWhenAccessModeIsPlain() throws Exception {
+            assertSetAndGet(FieldAccessMode.PLAIN);
+        }
+
+        @Test
+        void testWhenAccessModeIsOpaque() throws Exception {
+            assertSetAndGet(FieldAccessMode.OPAQUE);
+        }
+
+        @Test
+        void testWhenAccessModeIsVolatile() throws Exception {
+            assertSetAndGet(FieldAccessMode.VOLATILE);
+        }
+
+        @Test
+        void testWhenFieldIsPrimitive() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testIntField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            sut.set(entity, 100, FieldAccessMode.PLAIN);
+            assertEquals(100, sut.get(entity, FieldAccessMode.VOLATILE));
+        }
+
+        @Test
+        void testWhenFieldIsFinal() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testFinalField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            sut.set(entity, 1, FieldAccessMode.VOLATILE);
+            assertEquals(1, sut.get(entity, FieldAccessMode.PLAIN));
+        }
+
+        @Test
+        void testWhenFieldIsStatic() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testStaticField"));
+
+            sut.set(null, "test", FieldAccessMode.PLAIN);
+            assertEquals("test", sut.get(TestEntityForReflectionField.newInstance(), FieldAccessMode.PLAIN));
+
+            sut.set(null, null, FieldAccessMode.PLAIN);
+            assertNull(sut.get(null, FieldAccessMode.PLAIN));
+        }
+
+        @Test
+        void testWhenValueTypeDoesNotMatch() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testIntField"));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> sut.set(TestEntityForReflectionField.newInstance(), "test", FieldAccessMode.PLAIN));
+        }
+
+        /**
+         * Asserts that a value set with {@code accessMode} is read back.
+         *
+         * @param accessMode The access mode
+         *
+         * @throws Exception If an error occurs in the reflection process
+         */
+        private void assertSetAndGet(final FieldAccessMode accessMode) throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            assertTrue(sut.isVarHandleAccess());
+
+            sut.set(entity, "test", accessMode);
+            assertEquals("test", sut.get(entity, accessMode));
+        }
+    }
+
+    /**
+     * The nested class for the primitive specialized methods.
+     */
+    @Nested
+    class TestPrimitiveSetAndGet {
+
+        @Test
+        void testIntField() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testIntField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            sut.setInt(entity, 10, FieldAccessMode.PLAIN);
+            assertEquals(10, sut.getInt(entity, FieldAccessMode.OPAQUE));
+            assertEquals(10L, sut.getLong(entity, FieldAccessMode.PLAIN));
+        }
+
+        @Test
+        void testLongField() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testLongField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            sut.setLong(entity, Long.MAX_VALUE, FieldAccessMode.VOLATILE);
+            assertEquals(Long.MAX_VALUE, sut.getLong(entity, FieldAccessMode.VOLATILE));
+        }
+
+        @Test
+        void testDoubleField() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testDoubleField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            sut.setDouble(entity, 0.5d, FieldAccessMode.PLAIN);
+            assertEquals(0.5d, sut.getDouble(entity, FieldAccessMode.PLAIN));
+        }
+
+        @Test
+        void testBooleanField() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testBooleanField"));
+            final TestEntityForReflectionField entity = TestEntityForReflectionField.newInstance();
+
+            sut.setBoolean(entity, true, FieldAccessMode.PLAIN);
+            assertTrue(sut.getBoolean(entity, FieldAccessMode.PLAIN));
+        }
+
+        @Test
+        void testWhenFieldTypeDoesNotMatch() throws Exception {
+
+            final FieldAccessor sut = FieldAccessor.of(getField("testField"));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> sut.getInt(TestEntityForReflectionField.newInstance(), FieldAccessMode.PLAIN));
+        }
+    }
+
+    /**
+     * Returns the accessible field declared in {@link TestEntityForReflectionField}
+     * .
+     *
+     * @param fieldName The field name
+     * @return The accessible field
+     *
+     * @throws NoSuchFieldException If a field with the specified name is not found
+     */
+    private static Field getField(final String fieldName) throws NoSuchFieldException {
+        final Field field = TestEntityForReflectionField.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field;
+    }
+}
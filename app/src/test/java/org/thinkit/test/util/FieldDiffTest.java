@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link FieldDiff} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class FieldDiffTest {
+
+    /**
+     * The nested class for {@link FieldSnapshot#diff(FieldSnapshot)} method.
+     */
+    @Nested
+    class TestDiff {
+
+        @Test
+        void testWhenNoFieldHasChanged() throws Exception {
+
+            final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+            final FieldDiff sut = snapshot(instance).diff(snapshot(instance));
+
+            assertEquals(ReflectionTestStateDataSet.class, sut.getType());
+            assertTrue(sut.isEmpty());
+            assertEquals(0, sut.size());
+            assertEquals(List.of(), sut.getChangedFieldNames());
+            assertFalse(sut.isChanged("intValue"));
+        }
+
+        @Test
+        void testWhenArrayIsChangedInPlace() throws Exception {
+
+            final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+            final FieldSnapshot before = snapshot(instance);
+            ReflectionTestHelper.<ReflectionTestStateDataSet, Object>of(instance).invokeMethod("increment");
+            final FieldDiff sut = before.diff(snapshot(instance));
+
+            assertEquals(List.of("intValue", "values"), sut.getChangedFieldNames());
+            assertEquals(2, sut.size());
+            assertTrue(sut.isChanged("intValue"));
+            assertTrue(sut.isChanged("values"));
+            assertFalse(sut.isChanged("name"));
+            assertEquals(4, sut.getBefore("intValue"));
+            assertEquals(5, sut.getAfter("intValue"));
+            assertArrayEquals(new int[] { 1, 2, 3 }, (int[]) sut.getBefore("values"));
+            assertArrayEquals(new int[] { 1, 2, 4 }, (int[]) sut.getAfter("values"));
+        }
+
+        @Test
+        void testWhenCollectionsAreChangedInPlace() throws Exception {
+
+            final ReflectionTestPoolContainerDataSet instance = new ReflectionTestPoolContainerDataSet();
+            final FieldSnapshot before = snapshot(instance);
+            ReflectionTestHelper.of(instance).addArgument(String.class, "added").invokeMethod("leak");
+            final FieldDiff sut = before.diff(snapshot(instance));
+
+            assertEquals(List.of("names", "counts", "values"), sut.getChangedFieldNames());
+            assertEquals(List.of("baseline"), sut.getBefore("names"));
+            assertEquals(List.of("baseline", "added"), sut.getAfter("names"));
+            assertEquals(Map.of("baseline", 0), sut.getBefore("counts"));
+            assertEquals(Map.of("baseline", 0, "added", 1), sut.getAfter("counts"));
+            assertFalse(sut.isChanged("log"));
+        }
+
+        @Test
+        void testWhenFieldsOfAllKindsHaveChanged() throws Exception {
+
+            final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+            final FieldSnapshot before = snapshot(instance);
+            ReflectionTestHelper.<ReflectionTestStateDataSet, Object>of(instance)
+                    .setFieldValues(Map.of("byteValue", (byte) 0, "charValue", 'd', "longValue", 0L, "floatValue",
+                            -6.5f, "doubleValue", Double.NaN, "booleanValue", false, "name", new String("state"),
+                            "values", new int[] { 1, 2, 3 }));
+            final FieldDiff sut = before.diff(snapshot(instance));
+
+            assertEquals(List.of("byteValue", "charValue", "longValue", "floatValue", "doubleValue", "booleanValue"),
+                    sut.getChangedFieldNames());
+            assertEquals(Double.NaN, sut.getAfter("doubleValue"));
+        }
+
+        @Test
+        void testWhenNaNIsNotChanged() throws Exception {
+
+            final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+            ReflectionTestHelper.<ReflectionTestStateDataSet, Object>of(instance).setFieldValue("doubleValue",
+                    Double.NaN);
+
+            assertTrue(snapshot(instance).diff(snapshot(instance)).isEmpty());
+        }
+
+        @Test
+        void testWhenSnapshotsAreOfDifferentClasses() throws Exception {
+
+            final FieldSnapshot before = snapshot(new ReflectionTestStateDataSet());
+            final FieldSnapshot after = snapshot(new ReflectionTestDataSet());
+
+            assertThrows(IllegalArgumentException.class, () -> before.diff(after));
+        }
+
+        @Test
+        void testWhenFieldIsNotCaptured() throws Exception {
+
+            final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+            final FieldDiff sut = snapshot(instance).diff(snapshot(instance));
+
+            assertThrows(IllegalArgumentException.class, () -> sut.isChanged("unknownField"));
+            assertThrows(IllegalArgumentException.class, () -> sut.getBefore("unknownField"));
+        }
+    }
+
+    /**
+     * The nested class for {@link ReferenceComparator} used by the diff.
+     */
+    @Nested
+    class TestReferenceComparator {
+
+        @Test
+        void testOf() {
+            assertEquals(ReferenceComparator.OBJECT, ReferenceComparator.of(String.class));
+            assertEquals(ReferenceComparator.OBJECT_ARRAY, ReferenceComparator.of(String[].class));
+            assertEquals(ReferenceComparator.OBJECT_ARRAY, ReferenceComparator.of(int[][].class));
+            assertEquals(ReferenceComparator.BOOLEAN_ARRAY, ReferenceComparator.of(boolean[].class));
+            assertEquals(ReferenceComparator.BYTE_ARRAY, ReferenceComparator.of(byte[].class));
+            assertEquals(ReferenceComparator.CHAR_ARRAY, ReferenceComparator.of(char[].class));
+            assertEquals(ReferenceComparator.SHORT_ARRAY, ReferenceComparator.of(short[].class));
+            assertEquals(ReferenceComparator.INT_ARRAY, ReferenceComparator.of(int[].class));
+            assertEquals(ReferenceComparator.LONG_ARRAY, ReferenceComparator.of(long[].class));
+            assertEquals(ReferenceComparator.FLOAT_ARRAY, ReferenceComparator.of(float[].class));
+            assertEquals(ReferenceComparator.DOUBLE_ARRAY, ReferenceComparator.of(double[].class));
+        }
+
+        @Test
+        void testCopyWhenValueIsArrayInObjectField() {
+
+            final long[] value = { 1L, 2L };
+            final Object copy = ReferenceComparator.OBJECT.copy(value);
+
+            assertFalse(value == copy);
+            assertTrue(ReferenceComparator.OBJECT.isEqual(value, copy));
+            value[0] = 0L;
+            assertFalse(ReferenceComparator.OBJECT.isEqual(value, copy));
+        }
+
+        @Test
+        void testWhenArraysAreLarge() {
+
+            final double[] value = new double[100_000];
+            final double[] copy = (double[]) ReferenceComparator.DOUBLE_ARRAY.copy(value);
+
+            assertTrue(ReferenceComparator.DOUBLE_ARRAY.isEqual(value, copy));
+            copy[copy.length - 1] = 1.0d;
+            assertFalse(ReferenceComparator.DOUBLE_ARRAY.isEqual(value, copy));
+            assertTrue(ReferenceComparator.DOUBLE_ARRAY.isEqual(null, ReferenceComparator.DOUBLE_ARRAY.copy(null)));
+        }
+    }
+
+    /**
+     * Returns the snapshot of {@code instance} .
+     *
+     * @param instance The instance whose fields are captured
+     * @return The snapshot of the instance
+     *
+     * @throws Exception If an error occurs in the reflection process
+     */
+    private static FieldSnapshot snapshot(final Object instance) throws Exception {
+        return ReflectionMemberCache.getFieldLayout(instance.getClass()).snapshot(instance);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link FieldLayout} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class FieldLayoutTest {
+
+    /**
+     * The nested class for {@link FieldLayout#copyValues(Object)} method.
+     */
+    @Nested
+    class TestCopyValues {
+
+        @Test
+        void testWhenClassHasSuperclass() throws Exception {
+
+            final FieldLayout sut = FieldLayout.of(ReflectionTestPoolDataSet.class);
+
+            assertEquals(3, sut.size());
+            assertArrayEquals(new Object[] { "baseline", 0, "parent" },
+                    sut.copyValues(ReflectionSut.lazy(ReflectionTestPoolDataSet.class).getSutInstance()));
+        }
+
+        @Test
+        void testWhenClassHasStaticAndFinalFields() throws Exception {
+
+            final FieldLayout sut = FieldLayout.of(TestEntityForReflectionField.class);
+
+            assertEquals(6, sut.size());
+        }
+
+        @Test
+        void testWhenInstanceIsNotOfTheClass() throws Exception {
+
+            final FieldLayout sut = FieldLayout.of(ReflectionTestPoolDataSet.class);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> sut.copyValues(TestEntityForReflectionField.newInstance()));
+        }
+    }
+
+    /**
+     * The nested class for {@link FieldLayout#restoreValues(Object, Object[])}
+     * method.
+     */
+    @Nested
+    class TestRestoreValues {
+
+        @Test
+        void testWhenValuesAreRestored() throws Exception {
+
+            final FieldLayout sut = ReflectionMemberCache.getFieldLayout(TestEntityForReflectionField.class);
+            final TestEntityForReflectionField instance = TestEntityForReflectionField.newInstance();
+            final Object[] baselineValues = sut.copyValues(instance);
+
+            final ReflectionField<TestEntityForReflectionField> reflectionField = ReflectionField.from(instance);
+            reflectionField.setFieldValue("testField", "test");
+            reflectionField.setIntFieldValue("testIntField", 1);
+            reflectionField.setFieldValue("testFinalField", Integer.valueOf(1));
+
+            sut.restoreValues(instance, baselineValues);
+
+            assertArrayEquals(baselineValues, sut.copyValues(instance));
+            assertSame(ReflectionMemberCache.getFieldLayout(TestEntityForReflectionField.class), sut);
+        }
+
+        @Test
+        void testWhenNumberOfValuesIsWrong() throws Exception {
+
+            final FieldLayout sut = FieldLayout.of(TestEntityForReflectionField.class);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> sut.restoreValues(TestEntityForReflectionField.newInstance(), new Object[0]));
+        }
+    }
+
+    /**
+     * The nested class for {@link FieldLayout#indexOf(String)} method.
+     */
+    @Nested
+    class TestIndexOf {
+
+        @Test
+        void testWhenFieldIsShadowed() throws Exception {
+
+            final FieldLayout sut = FieldLayout.of(ReflectionTestChildDataSet.class);
+
+            assertEquals(ReflectionTestChildDataSet.class,
+                    sut.getFieldAccessor(sut.indexOf("shadowedField")).getField().getDeclaringClass());
+            assertEquals(ReflectionTestParentDataSet.class,
+                    sut.getFieldAccessor(sut.indexOf("parentField")).getField().getDeclaringClass());
+        }
+
+        @Test
+        void testWhenFieldIsNotInstanceField() throws Exception {
+
+            final FieldLayout sut = FieldLayout.of(TestEntityForReflectionField.class);
+
+            assertEquals(-1, sut.indexOf("testStaticField"));
+            assertEquals(-1, sut.indexOf("unknownField"));
+        }
+    }
+}
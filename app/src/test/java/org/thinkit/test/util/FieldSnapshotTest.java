@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link FieldSnapshot} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class FieldSnapshotTest {
+
+    /**
+     * The nested class for {@link FieldSnapshot#get(String)} method.
+     */
+    @Nested
+    class TestGet {
+
+        @Test
+        void testWhenFieldsHaveAllKinds() throws Exception {
+
+            final FieldSnapshot sut = snapshot(new ReflectionTestStateDataSet());
+
+            assertEquals(ReflectionTestStateDataSet.class, sut.getType());
+            assertEquals(10, sut.size());
+            assertEquals(Byte.valueOf((byte) 1), sut.get("byteValue"));
+            assertEquals(Short.valueOf((short) 2), sut.get("shortValue"));
+            assertEquals(Character.valueOf('c'), sut.get("charValue"));
+            assertEquals(Integer.valueOf(4), sut.get("intValue"));
+            assertEquals(Long.valueOf(5L), sut.get("longValue"));
+            assertEquals(Float.valueOf(6.5f), sut.get("floatValue"));
+            assertEquals(Double.valueOf(7.5d), sut.get("doubleValue"));
+            assertEquals(Boolean.TRUE, sut.get("booleanValue"));
+            assertEquals("state", sut.get("name"));
+            assertArrayEquals(new int[] { 1, 2, 3 }, (int[]) sut.get("values"));
+        }
+
+        @Test
+        void testWhenFieldIsNotCaptured() throws Exception {
+
+            final FieldSnapshot sut = snapshot(new ReflectionTestStateDataSet());
+
+            assertFalse(sut.contains("unknownField"));
+            assertThrows(IllegalArgumentException.class, () -> sut.get("unknownField"));
+        }
+    }
+
+    /**
+     * The nested class for the primitive specialized getters such as
+     * {@link FieldSnapshot#getInt(String)} .
+     */
+    @Nested
+    class TestPrimitiveGetters {
+
+        @Test
+        void testWhenKindMatches() throws Exception {
+
+            final FieldSnapshot sut = snapshot(new ReflectionTestStateDataSet());
+
+            assertEquals(4, sut.getInt("intValue"));
+            assertEquals('c', sut.getInt("charValue"));
+            assertEquals(5L, sut.getLong("longValue"));
+            assertEquals(4L, sut.getLong("intValue"));
+            assertEquals(7.5d, sut.getDouble("doubleValue"));
+            assertEquals(6.5d, sut.getDouble("floatValue"));
+            assertTrue(sut.getBoolean("booleanValue"));
+        }
+
+        @Test
+        void testWhenKindDoesNotMatch() throws Exception {
+
+            final FieldSnapshot sut = snapshot(new ReflectionTestStateDataSet());
+
+            assertThrows(IllegalArgumentException.class, () -> sut.getInt("longValue"));
+            assertThrows(IllegalArgumentException.class, () -> sut.getDouble("intValue"));
+            assertThrows(IllegalArgumentException.class, () -> sut.getBoolean("name"));
+        }
+    }
+
+    /**
+     * The nested class for {@link FieldSnapshot#toMap()} method.
+     */
+    @Nested
+    class TestToMap {
+
+        @Test
+        void testWhenClassHasSuperclass() throws Exception {
+
+            final Object instance = ReflectionSut.lazy(ReflectionTestPoolDataSet.class).getSutInstance();
+            final Map<String, Object> sut = snapshot(instance).toMap();
+
+            assertEquals(List.of("name", "count", "parentName"), List.copyOf(sut.keySet()));
+            assertEquals("baseline", sut.get("name"));
+            assertEquals(0, sut.get("count"));
+        }
+    }
+
+    /**
+     * The nested class for {@link FieldSnapshot#equals(Object)} method.
+     */
+    @Nested
+    class TestEquals {
+
+        @Test
+        void testWhenValuesAreEqual() throws Exception {
+            assertEquals(snapshot(new ReflectionTestStateDataSet()), snapshot(new ReflectionTestStateDataSet()));
+        }
+
+        @Test
+        void testWhenValuesAreDifferent() throws Exception {
+
+            final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+            final FieldSnapshot before = snapshot(instance);
+
+            ReflectionTestHelper.<ReflectionTestStateDataSet, Object>of(instance).setIntField("intValue", 10);
+
+            assertNotEquals(before, snapshot(instance));
+        }
+    }
+
+    private static FieldSnapshot snapshot(final Object instance) throws Exception {
+        return ReflectionMemberCache.getFieldLayout(instance.getClass()).snapshot(instance);
+    }
+}
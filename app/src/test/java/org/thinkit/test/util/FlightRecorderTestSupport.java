@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The class that records the flight recorder events emitted while a test
+ * action runs.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FlightRecorderTestSupport {
+
+    /**
+     * Runs {@code action} while the event named {@code eventName} is recorded,
+     * and returns the events emitted by the current thread in the order of their
+     * start time.
+     *
+     * @param eventName The name of the event to be recorded
+     * @param action    The action to be recorded
+     * @return The recorded events
+     * @throws Exception If the recording fails
+     */
+    static List<RecordedEvent> record(final String eventName, final Runnable action) throws Exception {
+
+        final Path file = Files.createTempFile("reflection-event", ".jfr");
+
+        try (final Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = new ArrayList<>();
+
+            for (final RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals(eventName)
+                        && event.getThread().getJavaThreadId() == Thread.currentThread().getId()) {
+                    events.add(event);
+                }
+            }
+
+            events.sort((left, right) -> left.getStartTime().compareTo(right.getStartTime()));
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
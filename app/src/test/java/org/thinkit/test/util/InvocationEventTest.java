@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * The class that manages test case of {@link InvocationEvent} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class InvocationEventTest {
+
+    @Test
+    void testWhenMethodIsInvoked() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(InvocationEvent.NAME, () -> {
+            final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .from(ReflectionTestDataSet.class);
+            sut.invokeMethod("returnStringWithNoArgument");
+        });
+
+        assertEquals(1, events.size());
+
+        final RecordedEvent event = events.get(0);
+        assertEquals(ReflectionTestDataSet.class.getName(), event.getClass("targetClass").getName());
+        assertEquals("returnStringWithNoArgument()", event.getString("target"));
+        assertFalse(event.getBoolean("failed"));
+    }
+
+    @Test
+    void testWhenMethodFails() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(InvocationEvent.NAME, () -> {
+            final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .from(ReflectionTestDataSet.class);
+            sut.addArgument(String.class, "error");
+
+            try {
+                sut.invokeMethod("throwExceptionWithArgument");
+            } catch (IllegalStateException e) {
+                return;
+            }
+        });
+
+        assertEquals(1, events.size());
+        assertEquals("throwExceptionWithArgument(java.lang.String)", events.get(0).getString("target"));
+        assertTrue(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    void testWhenMethodIsInvokedThroughOtherPaths() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(InvocationEvent.NAME, () -> {
+            final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                    .from(ReflectionTestDataSet.class);
+            sut.invokeInt("returnIntegerWithNoArgument");
+            sut.tryInvokeMethod("returnStringWithNoArgument");
+            sut.prepare("returnStringWithArgument", String.class).invoke("test");
+            ReflectionTestHelper.from(ReflectionTestDataSet.class).addArgument(String.class, "test")
+                    .toInvocationSpec("returnStringWithArgument").invoke(new ReflectionTestDataSet());
+            ReflectionTestHelper.from(ReflectionTestDataSet.class).addArgument(String.class, "error")
+                    .invokeExpectingThrow("throwExceptionWithArgument");
+        });
+
+        assertEquals(5, events.size());
+        assertEquals("returnIntegerWithNoArgument()", events.get(0).getString("target"));
+        assertEquals("returnStringWithNoArgument()", events.get(1).getString("target"));
+        assertEquals("returnStringWithArgument(java.lang.String)", events.get(2).getString("target"));
+        assertEquals("returnStringWithArgument(java.lang.String)", events.get(3).getString("target"));
+        assertEquals("throwExceptionWithArgument(java.lang.String)", events.get(4).getString("target"));
+        assertTrue(events.get(4).getBoolean("failed"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link InvocationSpec} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class InvocationSpecTest {
+
+    /**
+     * The nested class for {@link InvocationSpec#invoke(Object)} method.
+     */
+    @Nested
+    class TestInvoke {
+
+        @Test
+        void testWhenMethodHasNoArgument() {
+
+            final InvocationSpec<ReflectionTestDataSet, String> sut = InvocationSpec.of(ReflectionTestDataSet.class,
+                    "returnStringWithNoArgument");
+
+            assertEquals("success", sut.invoke(new ReflectionTestDataSet()));
+            assertEquals("returnStringWithNoArgument", sut.getName());
+            assertArrayEquals(new Class<?>[0], sut.getParameterTypes());
+        }
+
+        @Test
+        void testWhenArgumentsAreBound() {
+
+            final ReflectionArguments arguments = ReflectionArguments.newInstance().add(String.class, "test");
+            final InvocationSpec<ReflectionTestDataSet, String> sut = InvocationSpec.of(ReflectionTestDataSet.class,
+                    "returnStringWithArgument", arguments);
+
+            arguments.add(int.class, 1);
+
+            assertEquals("success", sut.invoke(new ReflectionTestDataSet()));
+            assertArrayEquals(new Object[] { "test" }, sut.getArguments());
+            assertEquals("failure", sut.withArguments("").invoke(new ReflectionTestDataSet()));
+            assertEquals("success", sut.invoke(new ReflectionTestDataSet()));
+        }
+
+        @Test
+        void testWhenSpecIsSharedByThreads() {
+
+            final InvocationSpec<ReflectionTestOverloadDataSet, Integer> sut = InvocationSpec
+                    .of(ReflectionTestOverloadDataSet.class, "twice", ReflectionArguments.newInstance().addInt(21));
+            final ReflectionTestOverloadDataSet sutInstance = new ReflectionTestOverloadDataSet();
+
+            final long sum = IntStream.range(0, 100_000).parallel()
+                    .mapToLong(i -> sut.withArguments(i).invoke(sutInstance) - sut.invoke(sutInstance) + 42).sum();
+
+            assertEquals(99_999L * 100_000L, sum);
+        }
+
+        @Test
+        void testWhenMethodIsStatic() {
+
+            final InvocationSpec<ReflectionStaticTestDataSet, String> sut = InvocationSpec
+                    .of(ReflectionStaticTestDataSet.class, "returnStringWithNoArgument");
+
+            assertEquals(ReflectionTestHelper.fromStatic(ReflectionStaticTestDataSet.class)
+                    .invokeMethod("returnStringWithNoArgument"), sut.invokeStatic());
+        }
+
+        @Test
+        void testWhenSutInstanceIsInvalid() {
+
+            final InvocationSpec<ReflectionTestDataSet, String> sut = InvocationSpec.of(ReflectionTestDataSet.class,
+                    "returnStringWithNoArgument");
+
+            assertThrows(IllegalArgumentException.class, () -> sut.invoke(null));
+            assertThrows(IllegalArgumentException.class, () -> sut.invokeStatic());
+        }
+
+        @Test
+        void testWhenMethodFails() {
+
+            final InvocationSpec<ReflectionTestDataSet, String> sut = InvocationSpec.of(ReflectionTestDataSet.class,
+                    "throwCheckedExceptionWithArgument", ReflectionArguments.newInstance().add(String.class, "test"));
+
+            assertThrows(IllegalStateException.class, () -> sut.invoke(new ReflectionTestDataSet()));
+            assertEquals(FailureMode.WRAPPED, sut.getFailureMode());
+            assertEquals(FailureMode.UNWRAPPED, sut.withFailureMode(FailureMode.UNWRAPPED).getFailureMode());
+        }
+    }
+
+    /**
+     * The nested class for {@link InvocationSpec#of(Class, String)} methods.
+     */
+    @Nested
+    class TestOf {
+
+        @Test
+        void testWhenMethodDoesNotExist() {
+            assertThrows(IllegalStateException.class,
+                    () -> InvocationSpec.of(ReflectionTestDataSet.class, "unknownMethod"));
+        }
+
+        @Test
+        void testWhenMethodNameIsEmpty() {
+            assertThrows(IllegalArgumentException.class, () -> InvocationSpec.of(ReflectionTestDataSet.class, ""));
+        }
+
+        @Test
+        void testWhenNumberOfArgumentsIsWrong() {
+
+            final InvocationSpec<ReflectionTestDataSet, String> sut = InvocationSpec.of(ReflectionTestDataSet.class,
+                    "returnStringWithNoArgument");
+
+            assertThrows(IllegalArgumentException.class, () -> sut.withArguments("test"));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * The class that manages test case of {@link MemberLookupEvent} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class MemberLookupEventTest {
+
+    @Test
+    void testWhenFieldIsLookedUp() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(MemberLookupEvent.NAME, () -> {
+            ReflectionMemberCache.findFieldAccessor(ReflectionTestStateDataSet.class, "name");
+            ReflectionMemberCache.findFieldAccessor(ReflectionTestStateDataSet.class, "name");
+            ReflectionMemberCache.findFieldAccessor(ReflectionTestStateDataSet.class, "missingField");
+        });
+
+        assertEquals(3, events.size());
+        assertEquals(ReflectionTestStateDataSet.class.getName(), events.get(0).getClass("lookupClass").getName());
+        assertEquals("field", events.get(0).getString("memberType"));
+        assertEquals("name", events.get(0).getString("memberName"));
+        assertTrue(events.get(0).getBoolean("found"));
+        assertTrue(events.get(1).getBoolean("cacheHit"));
+        assertTrue(events.get(1).getBoolean("found"));
+        assertFalse(events.get(2).getBoolean("found"));
+    }
+
+    @Test
+    void testWhenMethodIsLookedUp() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(MemberLookupEvent.NAME, () -> {
+            try {
+                ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class, "returnStringWithNoArgument");
+                ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class, "returnStringWithNoArgument");
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(2, events.size());
+        assertEquals("method", events.get(0).getString("memberType"));
+        assertEquals("returnStringWithNoArgument", events.get(0).getString("memberName"));
+        assertTrue(events.get(0).getBoolean("found"));
+        assertTrue(events.get(1).getBoolean("cacheHit"));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link MemberMetrics} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class MemberMetricsTest {
+
+    /**
+     * The nested class for {@link MemberStats#toMemberMetrics()} method.
+     */
+    @Nested
+    class TestToMemberMetrics {
+
+        @Test
+        void testWhenNothingIsRecorded() {
+
+            final MemberMetrics sut = MemberStats.of(MemberKind.METHOD, "Type", "method()").toMemberMetrics();
+
+            assertEquals(MemberKind.METHOD, sut.getKind());
+            assertEquals("Type", sut.getDeclaringClassName());
+            assertEquals("method()", sut.getMemberName());
+            assertEquals(0L, sut.getCount());
+            assertEquals(0L, sut.getMeanNanos());
+            assertEquals(0L, sut.getP50Nanos());
+            assertEquals(0L, sut.getP99Nanos());
+            assertEquals(MemberStats.BUCKET_COUNT, sut.getHistogram().length);
+        }
+
+        @Test
+        void testWhenAccessesAreRecorded() {
+
+            final MemberStats memberStats = MemberStats.of(MemberKind.FIELD_GET, "Type", "field");
+            memberStats.record(0L, 10L, 10L, false);
+            memberStats.record(0L, 10L, 11L, false);
+            memberStats.record(5L, 10L, 15L, true);
+            memberStats.record(5L, 10L, 1010L, false);
+
+            final MemberMetrics sut = memberStats.toMemberMetrics();
+
+            assertEquals(4L, sut.getCount());
+            assertEquals(1L, sut.getFailureCount());
+            assertEquals(1006L, sut.getTotalNanos());
+            assertEquals(30L, sut.getOverheadNanos());
+            assertEquals(1000L, sut.getMaxNanos());
+            assertEquals(251L, sut.getMeanNanos());
+
+            final long[] histogram = sut.getHistogram();
+            assertEquals(1L, histogram[0]);
+            assertEquals(1L, histogram[1]);
+            assertEquals(1L, histogram[3]);
+            assertEquals(1L, histogram[10]);
+        }
+
+        @Test
+        void testWhenStatsAreReset() {
+
+            final MemberStats memberStats = MemberStats.of(MemberKind.FIELD_SET, "Type", "field");
+            memberStats.record(0L, 10L, 20L, true);
+            memberStats.reset();
+
+            final MemberMetrics sut = memberStats.toMemberMetrics();
+
+            assertEquals(0L, sut.getCount());
+            assertEquals(0L, sut.getFailureCount());
+            assertEquals(0L, sut.getMaxNanos());
+            assertArrayEquals(new long[MemberStats.BUCKET_COUNT], sut.getHistogram());
+        }
+    }
+
+    /**
+     * The nested class for {@link MemberMetrics#getPercentileNanos(double)}
+     * method.
+     */
+    @Nested
+    class TestGetPercentileNanos {
+
+        @Test
+        void testWhenPercentilesAreEstimated() {
+
+            final MemberStats memberStats = MemberStats.of(MemberKind.METHOD, "Type", "method()");
+
+            for (int i = 0; i < 99; i++) {
+                memberStats.record(0L, 0L, 100L, false);
+            }
+
+            memberStats.record(0L, 0L, 5000L, false);
+
+            final MemberMetrics sut = memberStats.toMemberMetrics();
+
+            assertEquals(127L, sut.getP50Nanos());
+            assertEquals(127L, sut.getP99Nanos());
+            assertEquals(5000L, sut.getPercentileNanos(100.0d));
+            assertEquals(127L, sut.getPercentileNanos(0.0d));
+        }
+
+        @Test
+        void testWhenPercentileIsCappedByMax() {
+
+            final MemberStats memberStats = MemberStats.of(MemberKind.METHOD, "Type", "method()");
+            memberStats.record(0L, 0L, 65L, false);
+
+            assertEquals(65L, memberStats.toMemberMetrics().getP99Nanos());
+        }
+
+        @Test
+        void testWhenPercentileIsOutOfRange() {
+
+            final MemberMetrics sut = MemberStats.of(MemberKind.METHOD, "Type", "method()").toMemberMetrics();
+
+            assertThrows(IllegalArgumentException.class, () -> sut.getPercentileNanos(-1.0d));
+            assertThrows(IllegalArgumentException.class, () -> sut.getPercentileNanos(100.5d));
+            assertThrows(IllegalArgumentException.class, () -> sut.getPercentileNanos(Double.NaN));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link MethodBenchmark} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class MethodBenchmarkTest {
+
+    @Test
+    void testWhenMethodIsBenchmarked() throws Exception {
+
+        final MethodInvoker methodInvoker = ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class,
+                "returnStringWithArguments", String.class, int.class, boolean.class);
+
+        final BenchmarkResult sut = MethodBenchmark.run(methodInvoker, new ReflectionTestDataSet(),
+                new Object[] { "test", 1, true },
+                BenchmarkOptions.newInstance().withWarmupIterations(10).withMeasurementIterations(50),
+                FailureMode.WRAPPED);
+
+        assertEquals("returnStringWithArguments(java.lang.String,int,boolean)", sut.getMethodName());
+        assertEquals(50, sut.getIterations());
+    }
+
+    @Test
+    void testWhenMethodThrowsException() throws Exception {
+
+        final MethodInvoker methodInvoker = ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class,
+                "throwExceptionWithArgument", String.class);
+
+        final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> MethodBenchmark.run(methodInvoker, new ReflectionTestDataSet(), new Object[] { "error" },
+                        BenchmarkOptions.newInstance(), FailureMode.UNWRAPPED));
+        assertEquals("error", exception.getMessage());
+    }
+}
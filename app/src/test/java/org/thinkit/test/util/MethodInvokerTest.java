@@ -0,0 +1,367 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link MethodInvoker} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class MethodInvokerTest {
+
+    /**
+     * The nested class for {@link MethodInvoker#invoke(Object, Object[])} method.
+     */
+    @Nested
+    class TestInvoke {
+
+        @Test
+        void testWhenMethodHasNoArgument() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnStringWithNoArgument"));
+
+            assertTrue(sut.isMethodHandleInvocation());
+            assertEquals("success", sut.invoke(new ReflectionTestDataSet(), new Object[0]));
+        }
+
+        @Test
+        void testWhenMethodHasPrimitiveArguments() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.of(getMethod(ReflectionTestDataSet.class,
+                    "returnIntegerWithArguments", int.class, String.class, boolean.class));
+
+            assertEquals(1, sut.invoke(new ReflectionTestDataSet(), new Object[] { 0, "test", true }));
+        }
+
+        @Test
+        void testWhenMethodIsStatic() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionStaticTestDataSet.class, "returnBooleanWithArgument", int.class));
+
+            assertEquals(true, sut.invoke(null, new Object[] { 1 }));
+            assertEquals(false, sut.invoke(new ReflectionStaticTestDataSet(), new Object[] { 0 }));
+        }
+
+        @Test
+        void testWhenMethodThrowsException() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "throwExceptionWithArgument", String.class));
+
+            final InvocationTargetException exception = assertThrows(InvocationTargetException.class,
+                    () -> sut.invoke(new ReflectionTestDataSet(), new Object[] { "test" }));
+
+            assertTrue(exception.getCause() instanceof UnsupportedOperationException);
+            assertEquals("test", exception.getCause().getMessage());
+        }
+
+        @Test
+        void testWhenMethodReturnsVoid() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.of(getMethod(Thread.class, "onSpinWait"));
+
+            assertNull(sut.invoke(null, new Object[0]));
+        }
+
+        @Test
+        void testWhenArgumentTypeDoesNotMatch() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.of(getMethod(ReflectionTestDataSet.class,
+                    "returnIntegerWithArguments", int.class, String.class, boolean.class));
+
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> sut.invoke(new ReflectionTestDataSet(), new Object[] { "oops", "test", true }));
+
+            assertTrue(exception.getMessage().startsWith("argument type mismatch"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> sut.invoke(new ReflectionTestDataSet(), new Object[] { null, "test", true }));
+            assertThrows(IllegalArgumentException.class,
+                    () -> invokeInt(sut, new ReflectionTestDataSet(), new Object[] { 0, 1, true }));
+        }
+
+        @Test
+        void testWhenArgumentIsWidened() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.of(getMethod(ReflectionTestDataSet.class,
+                    "returnIntegerWithArguments", int.class, String.class, boolean.class));
+
+            assertEquals(1, sut.invoke(new ReflectionTestDataSet(), new Object[] { 'a', "test", true }));
+        }
+
+        @Test
+        void testWhenReceiverTypeDoesNotMatch() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnStringWithNoArgument"));
+
+            assertThrows(IllegalArgumentException.class, () -> sut.invoke("receiver", new Object[0]));
+            assertThrows(NullPointerException.class, () -> sut.invoke(null, new Object[0]));
+        }
+    }
+
+    /**
+     * The nested class for the primitive specialized methods.
+     */
+    @Nested
+    class TestInvokePrimitive {
+
+        @Test
+        void testInvokeInt() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnIntegerWithArgument", boolean.class));
+
+            assertEquals(1, invokeInt(sut, new ReflectionTestDataSet(), new Object[] { true }));
+            assertEquals(0, invokeInt(sut, new ReflectionTestDataSet(), new Object[] { false }));
+        }
+
+        @Test
+        void testInvokeLong() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionStaticTestDataSet.class, "returnIntegerWithNoArgument"));
+
+            assertEquals(1L, invokeLong(sut, null, new Object[0]));
+        }
+
+        @Test
+        void testInvokeDouble() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnIntegerWithNoArgument"));
+
+            assertEquals(1.0d, invokeDouble(sut, new ReflectionTestDataSet(), new Object[0]));
+        }
+
+        @Test
+        void testInvokeBoolean() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnBooleanWithArgument", int.class));
+
+            assertTrue(invokeBoolean(sut, new ReflectionTestDataSet(), new Object[] { 1 }));
+        }
+
+        @Test
+        void testWhenArgumentsAreNotInArray() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnBooleanWithArgument", int.class));
+            final MethodInvoker wrapperSut = MethodInvoker.of(getMethod(Integer.class, "valueOf", String.class));
+
+            assertTrue(UnboxedType.toBoolean(sut.invokeUnboxed(UnboxedType.BOOLEAN, new ReflectionTestDataSet(), 1, 1,
+                    null, null, ReflectionMetrics.NOT_MEASURED)));
+            assertEquals(5.0d, UnboxedType.toDouble(wrapperSut.invokeUnboxed(UnboxedType.DOUBLE, null, 1, "5", null,
+                    null, ReflectionMetrics.NOT_MEASURED)));
+            assertThrows(IllegalArgumentException.class, () -> sut.invokeUnboxed(UnboxedType.BOOLEAN,
+                    new ReflectionTestDataSet(), 1, "1", null, null, ReflectionMetrics.NOT_MEASURED));
+            assertThrows(IllegalArgumentException.class, () -> sut.invokeUnboxed(UnboxedType.BOOLEAN,
+                    new ReflectionTestDataSet(), 0, null, null, null, ReflectionMetrics.NOT_MEASURED));
+        }
+
+        @Test
+        void testWhenReturnTypeDoesNotMatch() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "returnStringWithNoArgument"));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> invokeInt(sut, new ReflectionTestDataSet(), new Object[0]));
+        }
+
+        @Test
+        void testWhenMethodReturnsVoid() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .of(getMethod(ReflectionTestDataSet.class, "throwExceptionWithArgument", String.class));
+
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> invokeInt(sut, new ReflectionTestDataSet(), new Object[] { "test" }));
+
+            assertEquals("The return type of throwExceptionWithArgument cannot be converted to int.",
+                    exception.getMessage());
+            assertThrows(IllegalArgumentException.class,
+                    () -> invokeBoolean(sut, new ReflectionTestDataSet(), new Object[] { "test" }));
+        }
+
+        @Test
+        void testWhenMethodReturnsWrapper() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.of(getMethod(Integer.class, "valueOf", String.class));
+
+            assertEquals(5, invokeInt(sut, null, new Object[] { "5" }));
+            assertEquals(5L, invokeLong(sut, null, new Object[] { "5" }));
+            assertThrows(IllegalArgumentException.class, () -> invokeBoolean(sut, null, new Object[] { "5" }));
+        }
+
+        @Test
+        void testWhenMethodReturnsNullWrapper() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.of(getMethod(Integer.class, "getInteger", String.class));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> invokeInt(sut, null, new Object[] { "org.thinkit.test.util.unknown" }));
+        }
+    }
+
+    /**
+     * The nested class for {@link MethodInvoker#ofVariableArity(Method, int)}
+     * method.
+     */
+    @Nested
+    class TestOfVariableArity {
+
+        @Test
+        void testWhenArgumentsAreCollected() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker
+                    .ofVariableArity(getMethod(ReflectionTestOverloadDataSet.class, "sum", int[].class), 3);
+
+            assertTrue(sut.isMethodHandleInvocation());
+            assertEquals(3, sut.getParameterCount());
+            assertEquals(6, sut.invoke(new ReflectionTestOverloadDataSet(), new Object[] { 1, 2, 3 }));
+            assertEquals(6, invokeInt(sut, new ReflectionTestOverloadDataSet(), new Object[] { 1, 2, 3 }));
+        }
+
+        @Test
+        void testWhenNoArgumentIsCollected() throws Exception {
+
+            final MethodInvoker sut = MethodInvoker.ofVariableArity(
+                    getMethod(ReflectionTestOverloadDataSet.class, "join", String.class, String[].class), 1);
+
+            assertEquals("prefix", sut.invokeDirect(null, "prefix"));
+        }
+
+        @Test
+        void testWhenMethodIsNotVariableArity() throws Exception {
+
+            final Method method = getMethod(ReflectionTestOverloadDataSet.class, "twice", int.class);
+
+            assertThrows(IllegalArgumentException.class, () -> MethodInvoker.ofVariableArity(method, 1));
+        }
+
+        @Test
+        void testWhenArgumentsAreTooFew() throws Exception {
+
+            final Method method = getMethod(ReflectionTestOverloadDataSet.class, "join", String.class,
+                    String[].class);
+
+            assertThrows(IllegalArgumentException.class, () -> MethodInvoker.ofVariableArity(method, 0));
+        }
+    }
+
+    /**
+     * Returns the accessible method declared in {@code clazz} .
+     *
+     * @param clazz          The class in which the method is declared
+     * @param methodName     The method name
+     * @param parameterTypes The parameter types
+     * @return The accessible method
+     *
+     * @throws NoSuchMethodException If a matching method is not found
+     */
+    private static Method getMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        final Method method = clazz.getDeclaredMethod(methodName, parameterTypes);
+        method.setAccessible(true);
+        return method;
+    }
+
+    /**
+     * Invokes the method that returns {@code int} by
+     * {@link MethodInvoker#invokeUnboxed(UnboxedType, Object, Object[], long)}
+     * without recording the invocation.
+     *
+     * @param sut       The invoker of the method
+     * @param receiver  The object the method is invoked on
+     * @param arguments The arguments
+     * @return The value returned from the method
+     *
+     * @throws Exception If the invocation fails
+     */
+    private static int invokeInt(final MethodInvoker sut, final Object receiver, final Object[] arguments)
+            throws Exception {
+        return UnboxedType
+                .toInt(sut.invokeUnboxed(UnboxedType.INT, receiver, arguments, ReflectionMetrics.NOT_MEASURED));
+    }
+
+    /**
+     * Invokes the method that returns {@code long} by
+     * {@link MethodInvoker#invokeUnboxed(UnboxedType, Object, Object[], long)}
+     * without recording the invocation.
+     *
+     * @param sut       The invoker of the method
+     * @param receiver  The object the method is invoked on
+     * @param arguments The arguments
+     * @return The value returned from the method
+     *
+     * @throws Exception If the invocation fails
+     */
+    private static long invokeLong(final MethodInvoker sut, final Object receiver, final Object[] arguments)
+            throws Exception {
+        return UnboxedType
+                .toLong(sut.invokeUnboxed(UnboxedType.LONG, receiver, arguments, ReflectionMetrics.NOT_MEASURED));
+    }
+
+    /**
+     * Invokes the method that returns {@code double} by
+     * {@link MethodInvoker#invokeUnboxed(UnboxedType, Object, Object[], long)}
+     * without recording the invocation.
+     *
+     * @param sut       The invoker of the method
+     * @param receiver  The object the method is invoked on
+     * @param arguments The arguments
+     * @return The value returned from the method
+     *
+     * @throws Exception If the invocation fails
+     */
+    private static double invokeDouble(final MethodInvoker sut, final Object receiver, final Object[] arguments)
+            throws Exception {
+        return UnboxedType
+                .toDouble(sut.invokeUnboxed(UnboxedType.DOUBLE, receiver, arguments, ReflectionMetrics.NOT_MEASURED));
+    }
+
+    /**
+     * Invokes the method that returns {@code boolean} by
+     * {@link MethodInvoker#invokeUnboxed(UnboxedType, Object, Object[], long)}
+     * without recording the invocation.
+     *
+     * @param sut       The invoker of the method
+     * @param receiver  The object the method is invoked on
+     * @param arguments The arguments
+     * @return The value returned from the method
+     *
+     * @throws Exception If the invocation fails
+     */
+    private static boolean invokeBoolean(final MethodInvoker sut, final Object receiver, final Object[] arguments)
+            throws Exception {
+        return UnboxedType
+                .toBoolean(sut.invokeUnboxed(UnboxedType.BOOLEAN, receiver, arguments, ReflectionMetrics.NOT_MEASURED));
+    }
+}
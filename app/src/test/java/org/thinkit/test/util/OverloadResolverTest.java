@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link OverloadResolver} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class OverloadResolverTest {
+
+    /**
+     * The nested class for {@link OverloadResolver#resolve(List, Class[])} method.
+     */
+    @Nested
+    class TestResolve {
+
+        @Test
+        void testWhenArgumentIsSubtype() throws Exception {
+            assertEquals(CharSequence.class, resolve("describe", String.class).getParameterTypes()[0]);
+            assertEquals(Object.class, resolve("describe", List.class).getParameterTypes()[0]);
+        }
+
+        @Test
+        void testWhenArgumentIsWidenedPrimitive() throws Exception {
+            assertEquals(long.class, resolve("describe", int.class).getParameterTypes()[0]);
+            assertEquals(long.class, resolve("describe", char.class).getParameterTypes()[0]);
+        }
+
+        @Test
+        void testWhenSubtypingIsPreferredToUnboxing() throws Exception {
+            assertEquals(Object.class, resolve("describe", Integer.class).getParameterTypes()[0]);
+        }
+
+        @Test
+        void testWhenArgumentIsBoxedOrUnboxed() throws Exception {
+            assertEquals(Object.class, resolve("describe", boolean.class).getParameterTypes()[0]);
+            assertEquals(int.class, resolve("twice", Integer.class).getParameterTypes()[0]);
+        }
+
+        @Test
+        void testWhenArgumentsArePassedToVariableArityParameter() throws Exception {
+            assertEquals(int[].class, resolve("sum").getParameterTypes()[0]);
+            assertEquals(int[].class, resolve("sum", int.class, Integer.class, short.class).getParameterTypes()[0]);
+            assertEquals(String[].class, resolve("join", String.class, String.class).getParameterTypes()[1]);
+        }
+
+        @Test
+        void testWhenNoMethodIsApplicable() throws Exception {
+            assertNull(resolve("twice", long.class));
+            assertNull(resolve("twice", String.class));
+            assertNull(resolve("join"));
+        }
+
+        @Test
+        void testWhenResolutionIsAmbiguous() {
+            final NoSuchMethodException exception = assertThrows(NoSuchMethodException.class,
+                    () -> resolve("ambiguous", Integer.class, Integer.class));
+            assertEquals("Ambiguous method call: 2 methods named ambiguous are applicable to the arguments.",
+                    exception.getMessage());
+        }
+
+        @Test
+        void testWhenMoreSpecificMethodIsSelected() throws Exception {
+            assertEquals(Integer.class, resolve("ambiguous", Integer.class, String.class).getParameterTypes()[0]);
+        }
+    }
+
+    /**
+     * The nested class for {@link OverloadResolver#find(List, Class[])} method.
+     */
+    @Nested
+    class TestFind {
+
+        @Test
+        void testWhenResolutionIsAmbiguous() {
+
+            final OverloadResolution<Method> resolution = find("ambiguous", Integer.class, Integer.class);
+
+            assertTrue(resolution.isAmbiguous());
+            assertFalse(resolution.isFound());
+            assertEquals(2, resolution.getCandidates().size());
+            assertThrows(IllegalStateException.class, resolution::get);
+            assertEquals("Ambiguous method call: 2 methods named ambiguous are applicable to the arguments.",
+                    resolution.newAmbiguityException().getMessage());
+        }
+
+        @Test
+        void testWhenNoMethodIsApplicable() {
+
+            final OverloadResolution<Method> resolution = find("twice", String.class);
+
+            assertSame(OverloadResolution.absent(), resolution);
+            assertFalse(resolution.isFound());
+            assertFalse(resolution.isAmbiguous());
+            assertThrows(IllegalStateException.class, resolution::newAmbiguityException);
+        }
+
+        @Test
+        void testWhenMethodIsApplicable() {
+
+            final OverloadResolution<Method> resolution = find("ambiguous", Integer.class, String.class);
+
+            assertTrue(resolution.isFound());
+            assertFalse(resolution.isAmbiguous());
+            assertEquals(Integer.class, resolution.get().getParameterTypes()[0]);
+        }
+    }
+
+    /**
+     * The nested class for
+     * {@link OverloadResolver#isVariableArityInvocation(Method, Class[])} method.
+     */
+    @Nested
+    class TestIsVariableArityInvocation {
+
+        @Test
+        void testWhenArgumentsAreCollected() throws Exception {
+            final Method method = ReflectionTestOverloadDataSet.class.getDeclaredMethod("sum", int[].class);
+            assertTrue(OverloadResolver.isVariableArityInvocation(method, new Class<?>[] { int.class, int.class }));
+            assertTrue(OverloadResolver.isVariableArityInvocation(method, new Class<?>[0]));
+        }
+
+        @Test
+        void testWhenArrayIsPassed() throws Exception {
+            final Method method = ReflectionTestOverloadDataSet.class.getDeclaredMethod("sum", int[].class);
+            assertFalse(OverloadResolver.isVariableArityInvocation(method, new Class<?>[] { int[].class }));
+        }
+    }
+
+    private static Method resolve(final String methodName, final Class<?>... argumentTypes)
+            throws NoSuchMethodException {
+        return OverloadResolver.resolve(getCandidates(methodName), argumentTypes);
+    }
+
+    private static OverloadResolution<Method> find(final String methodName, final Class<?>... argumentTypes) {
+        return OverloadResolver.find(getCandidates(methodName), argumentTypes);
+    }
+
+    private static List<Method> getCandidates(final String methodName) {
+
+        final List<Method> candidates = new ArrayList<>();
+
+        for (final Method method : ReflectionTestOverloadDataSet.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                candidates.add(method);
+            }
+        }
+
+        return candidates;
+    }
+}
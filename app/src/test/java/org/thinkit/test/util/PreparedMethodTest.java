@@ -0,0 +1,382 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link PreparedMethod} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class PreparedMethodTest {
+
+    /**
+     * The nested class for {@link PreparedMethod#invoke()} methods.
+     */
+    @Nested
+    class TestInvoke {
+
+        @Test
+        void testWhenMethodHasNoArgument() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithNoArgument");
+
+            assertEquals("success", sut.invoke());
+            assertEquals("success", sut.invoke(new Object[0]));
+        }
+
+        @Test
+        void testWhenMethodIsInvokedRepeatedly() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithArgument", String.class);
+
+            assertEquals("success", sut.invoke("test"));
+            assertEquals("failure", sut.invoke(""));
+            assertEquals("failure", sut.invoke((Object) null));
+        }
+
+        @Test
+        void testWhenMethodHasSomeArguments() {
+
+            final PreparedMethod<ReflectionTestDataSet, List<String>> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, List<String>>from(ReflectionTestDataSet.class)
+                    .prepare("returnListWithArguments", String.class, String.class, String.class);
+
+            assertEquals(List.of("a", "b", "c"), sut.invoke("a", "b", "c"));
+            assertEquals(List.of("d", "e", "f"), sut.invoke(new Object[] { "d", "e", "f" }));
+        }
+
+        @Test
+        void testWhenMethodIsStatic() {
+
+            final PreparedMethod<ReflectionStaticTestDataSet, Integer> sut = ReflectionTestHelper
+                    .<ReflectionStaticTestDataSet, Integer>from(ReflectionStaticTestDataSet.class)
+                    .prepare("returnIntegerWithArgument", boolean.class);
+
+            final int actualTrue = sut.invoke(true);
+            final int actualFalse = sut.invoke(false);
+
+            assertEquals(1, actualTrue);
+            assertEquals(0, actualFalse);
+        }
+
+        @Test
+        void testWhenPrimitiveValueIsReturnedWithFixedArity() {
+
+            final PreparedMethod<ReflectionTestDataSet, Integer> noArgument = ReflectionTestHelper
+                    .<ReflectionTestDataSet, Integer>from(ReflectionTestDataSet.class)
+                    .prepare("returnIntegerWithNoArgument");
+            final PreparedMethod<ReflectionTestDataSet, Boolean> oneArgument = ReflectionTestHelper
+                    .<ReflectionTestDataSet, Boolean>from(ReflectionTestDataSet.class)
+                    .prepare("returnBooleanWithArgument", int.class);
+            final PreparedMethod<ReflectionTestDataSet, Integer> threeArguments = ReflectionTestHelper
+                    .<ReflectionTestDataSet, Integer>from(ReflectionTestDataSet.class)
+                    .prepare("returnIntegerWithArguments", int.class, String.class, boolean.class);
+
+            assertEquals(1, noArgument.invokeInt());
+            assertEquals(1L, noArgument.invokeLong());
+            assertEquals(1.0d, noArgument.invokeDouble());
+            assertTrue(oneArgument.invokeBoolean(1));
+            assertFalse(oneArgument.invokeBoolean(0));
+            assertEquals(1, threeArguments.invokeInt(1, "test", true));
+            assertEquals(1, threeArguments.invokeInt(new Object[] { 1, "test", true }));
+            assertEquals(1.0d, threeArguments.invokeDouble(1, "test", false));
+        }
+
+        @Test
+        void testWhenNumberOfPrimitiveArgumentsDoesNotMatch() {
+
+            final PreparedMethod<ReflectionTestDataSet, Boolean> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, Boolean>from(ReflectionTestDataSet.class)
+                    .prepare("returnBooleanWithArgument", int.class);
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> sut.invokeBoolean(1, 2));
+            assertTrue(exception.getCause() instanceof IllegalArgumentException);
+            assertThrows(IllegalStateException.class, () -> sut.invokeBoolean());
+        }
+
+        @Test
+        void testWhenNumberOfArgumentsDoesNotMatch() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithArgument", String.class);
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> sut.invoke("a", "b"));
+            assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * The nested class for {@link PreparedMethod#invokeAll(java.util.stream.Stream)}
+     * methods.
+     */
+    @Nested
+    class TestInvokeAll {
+
+        @Test
+        void testWhenTuplesAreStreamed() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithArgument", String.class);
+
+            assertEquals(List.of("success", "failure", "success"),
+                    sut.invokeAll(Stream.of(new Object[] { "a" }, new Object[] { "" }, new Object[] { "b" }))
+                            .collect(Collectors.toList()));
+        }
+
+        @Test
+        void testWhenTuplesAreIterated() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithArguments", String.class, int.class, boolean.class);
+
+            final List<Object[]> tuples = List.of(new Object[] { "test", 1, true }, new Object[] { "", 0, false });
+
+            assertEquals(2, sut.invokeAll(tuples).count());
+        }
+
+        @Test
+        void testWhenTuplesAreInfinite() {
+
+            final PreparedMethod<ReflectionTestOverloadDataSet, Integer> sut = ReflectionTestHelper
+                    .<ReflectionTestOverloadDataSet, Integer>from(ReflectionTestOverloadDataSet.class)
+                    .prepare("twice", int.class);
+
+            final AtomicInteger counter = new AtomicInteger();
+            final Stream<Object[]> tuples = Stream.generate(() -> new Object[] { counter.incrementAndGet() });
+
+            assertEquals(List.of(2, 4, 6), sut.invokeAll(tuples).limit(3).collect(Collectors.toList()));
+            assertEquals(3, counter.get());
+        }
+
+        @Test
+        void testWhenManyTuplesAreStreamed() {
+
+            final PreparedMethod<ReflectionTestOverloadDataSet, Integer> sut = ReflectionTestHelper
+                    .<ReflectionTestOverloadDataSet, Integer>from(ReflectionTestOverloadDataSet.class)
+                    .prepare("twice", int.class);
+
+            final long sum = sut.invokeAll(IntStream.range(0, 100_000).mapToObj(i -> new Object[] { i }))
+                    .mapToLong(Integer::longValue).sum();
+
+            assertEquals(99_999L * 100_000L, sum);
+        }
+
+        @Test
+        void testWhenTupleIsInvalid() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithArgument", String.class);
+
+            final Stream<String> results = sut.invokeAll(Stream.of(new Object[] { "a" }, new Object[0]));
+
+            assertThrows(IllegalStateException.class, () -> results.collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * The nested class for {@link PreparedMethod#invokeAllParallel(List)} methods.
+     */
+    @Nested
+    class TestInvokeAllParallel {
+
+        @Test
+        void testWhenSutIsShared() {
+
+            final PreparedMethod<ReflectionTestOverloadDataSet, Integer> sut = ReflectionTestHelper
+                    .<ReflectionTestOverloadDataSet, Integer>from(ReflectionTestOverloadDataSet.class)
+                    .prepare("twice", int.class);
+
+            final List<Object[]> tuples = IntStream.range(0, 10_000).mapToObj(i -> new Object[] { i })
+                    .collect(Collectors.toList());
+
+            assertEquals(IntStream.range(0, 10_000).mapToObj(i -> i * 2).collect(Collectors.toList()),
+                    sut.invokeAllParallel(tuples));
+        }
+
+        @Test
+        void testWhenSutIsAcquiredPerWorker() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sutPool = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+            final PreparedMethod<ReflectionTestPoolDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestPoolDataSet, String>of(sutPool.acquire()).prepare("echo", String.class);
+
+            final List<String> values = IntStream.range(0, 1_000).mapToObj(String::valueOf)
+                    .collect(Collectors.toList());
+            final List<Object[]> tuples = values.stream().map(value -> new Object[] { value })
+                    .collect(Collectors.toList());
+
+            final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+            try {
+                assertEquals(values, sut.invokeAllParallel(tuples, sutPool, forkJoinPool));
+            } finally {
+                forkJoinPool.shutdown();
+            }
+
+            assertTrue(sutPool.getIdleSize() >= 1);
+        }
+
+        @Test
+        void testWhenMethodIsStatic() {
+
+            final PreparedMethod<ReflectionTestOverloadDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestOverloadDataSet, String>fromStatic(ReflectionTestOverloadDataSet.class)
+                    .prepare("join", String.class, String[].class);
+
+            final List<Object[]> tuples = List.of(new Object[] { "a", new String[] { "b" } },
+                    new Object[] { "c", new String[] { "d", "e" } });
+
+            assertEquals(2, sut.invokeAllParallel(tuples, ForkJoinPool.commonPool()).size());
+        }
+
+        @Test
+        void testWhenBatchIsEmpty() {
+
+            final PreparedMethod<ReflectionTestOverloadDataSet, Integer> sut = ReflectionTestHelper
+                    .<ReflectionTestOverloadDataSet, Integer>from(ReflectionTestOverloadDataSet.class)
+                    .prepare("twice", int.class);
+
+            assertEquals(List.of(), sut.invokeAllParallel(List.of()));
+        }
+
+        @Test
+        void testWhenInvocationFails() {
+
+            final PreparedMethod<ReflectionTestOverloadDataSet, Integer> sut = ReflectionTestHelper
+                    .<ReflectionTestOverloadDataSet, Integer>from(ReflectionTestOverloadDataSet.class)
+                    .prepare("twice", int.class);
+
+            final List<Object[]> tuples = List.of(new Object[] { 1 }, new Object[] { "invalid" });
+
+            assertThrows(IllegalStateException.class, () -> sut.invokeAllParallel(tuples));
+        }
+    }
+
+    /**
+     * The nested class for
+     * {@link PreparedMethod#invokeAllConcurrently(List, ConcurrencyOptions)}
+     * methods.
+     */
+    @Nested
+    class TestInvokeAllConcurrently {
+
+        @Test
+        void testWhenConcurrencyIsLimited() {
+
+            final PreparedMethod<ReflectionTestBlockingDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestBlockingDataSet, String>from(ReflectionTestBlockingDataSet.class)
+                    .prepare("echoLater", String.class, long.class);
+
+            final List<String> values = IntStream.range(0, 20).mapToObj(String::valueOf).collect(Collectors.toList());
+            final List<Object[]> tuples = values.stream().map(value -> new Object[] { value, 10L })
+                    .collect(Collectors.toList());
+
+            ReflectionTestBlockingDataSet.MAX_RUNNING_COUNT.set(0);
+
+            assertEquals(values,
+                    sut.invokeAllConcurrently(tuples, ConcurrencyOptions.newInstance().withMaxConcurrency(3)));
+            assertTrue(ReflectionTestBlockingDataSet.MAX_RUNNING_COUNT.get() <= 3);
+        }
+
+        @Test
+        void testWhenInvocationTimesOut() {
+
+            final PreparedMethod<ReflectionTestBlockingDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestBlockingDataSet, String>from(ReflectionTestBlockingDataSet.class)
+                    .prepare("echoLater", String.class, long.class);
+
+            final List<Object[]> tuples = List.of(new Object[] { "fast", 0L }, new Object[] { "slow", 10_000L });
+            final ConcurrencyOptions options = ConcurrencyOptions.newInstance().withTimeout(Duration.ofMillis(100));
+
+            final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> sut.invokeAllConcurrently(tuples, options));
+            assertTrue(exception.getCause() instanceof TimeoutException);
+        }
+
+        @Test
+        void testWhenInvocationFails() {
+
+            final PreparedMethod<ReflectionTestBlockingDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestBlockingDataSet, String>from(ReflectionTestBlockingDataSet.class)
+                    .prepare("echoLater", String.class, long.class);
+
+            assertThrows(IllegalStateException.class,
+                    () -> sut.invokeAllConcurrently(List.<Object[]>of(new Object[] { "invalid" })));
+            assertEquals(List.of(), sut.invokeAllConcurrently(List.of()));
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionTestHelper#prepare(String, Class...)}
+     * method.
+     */
+    @Nested
+    class TestPrepare {
+
+        @Test
+        void testGetterMethods() {
+
+            final PreparedMethod<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .<ReflectionTestDataSet, String>from(ReflectionTestDataSet.class)
+                    .prepare("returnStringWithArguments", String.class, int.class, boolean.class);
+
+            assertEquals("returnStringWithArguments", sut.getName());
+            assertArrayEquals(new Class<?>[] { String.class, int.class, boolean.class }, sut.getParameterTypes());
+        }
+
+        @Test
+        void testWhenMethodDoesNotExist() {
+            assertThrows(IllegalStateException.class,
+                    () -> ReflectionTestHelper.from(ReflectionTestDataSet.class).prepare("unknownMethod"));
+        }
+
+        @Test
+        void testWhenMethodNameIsEmpty() {
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> ReflectionTestHelper.from(ReflectionTestDataSet.class).prepare(""));
+            assertEquals("Method name must not be empty.", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ReflectionArguments} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ReflectionArgumentsTest {
+
+    /**
+     * The nested class for {@link ReflectionArguments#add(Class, Object)} method.
+     */
+    @Nested
+    class TestAdd {
+
+        @Test
+        void testWhenArgumentsAreAdded() {
+
+            final ReflectionArguments sut = ReflectionArguments.newInstance().add(String.class, "test").addInt(1)
+                    .addLong(2L).addDouble(3.0d).addBoolean(true);
+
+            assertEquals(5, sut.size());
+            assertArrayEquals(new Class<?>[] { String.class, int.class, long.class, double.class, boolean.class },
+                    sut.getParameter().getTypes());
+            assertArrayEquals(new Object[] { "test", 1, 2L, 3.0d, true }, sut.getParameter().getValues());
+        }
+
+        @Test
+        void testWhenArgumentValueIsNull() {
+
+            final ReflectionArguments sut = ReflectionArguments.newInstance().add(String.class, null);
+
+            assertEquals(1, sut.size());
+            assertArrayEquals(new Class<?>[] { String.class }, sut.getParameter().getTypes());
+            assertArrayEquals(new Object[] { null }, sut.getParameter().getValues());
+        }
+
+        @Test
+        void testWhenArgumentTypeIsNull() {
+            assertThrows(NullPointerException.class, () -> ReflectionArguments.newInstance().add(null, "test"));
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionArguments#set(int, Object)} method.
+     */
+    @Nested
+    class TestSet {
+
+        @Test
+        void testWhenIndexIsValid() {
+
+            final ReflectionArguments sut = ReflectionArguments.newInstance().add(String.class, "test");
+
+            assertEquals("changed", sut.set(0, "changed").getParameter().getValues()[0]);
+        }
+
+        @Test
+        void testWhenIndexIsOutOfBounds() {
+            assertThrows(IndexOutOfBoundsException.class, () -> ReflectionArguments.newInstance().set(0, "test"));
+        }
+    }
+}
@@ -65,5 +65,15 @@ public final class ReflectionFieldTest {
 
             assertEquals(expected, actual);
         }
+
+        @Test
+        void testWhenAccessModeIsVolatile() {
+
+            final ReflectionField<TestEntityForReflectionField> sut = ReflectionField
+                    .from(TestEntityForReflectionField.newInstance());
+
+            sut.setFieldValue(TEST_FIELD_NAME, "test", FieldAccessMode.VOLATILE);
+            assertEquals("test", sut.getFieldValue(TEST_FIELD_NAME, FieldAccessMode.VOLATILE));
+        }
     }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ReflectionMemberCache} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ReflectionMemberCacheTest {
+
+    /**
+     * The nested class for {@link ReflectionMemberCache#getField(Class, String)}
+     * method.
+     */
+    @Nested
+    class TestGetField {
+
+        @Test
+        void testWhenFieldExists() throws Exception {
+
+            final Field field = ReflectionMemberCache.getField(TestEntityForReflectionField.class, "testField");
+
+            assertNotNull(field);
+            assertTrue(field.canAccess(TestEntityForReflectionField.newInstance()));
+            assertEquals("testField", field.getName());
+        }
+
+        @Test
+        void testWhenFieldIsResolvedTwice() throws Exception {
+
+            final Field first = ReflectionMemberCache.getField(TestEntityForReflectionField.class, "testField");
+            final Field second = ReflectionMemberCache.getField(TestEntityForReflectionField.class, "testField");
+
+            assertSame(first, second);
+        }
+
+        @Test
+        void testWhenFieldDoesNotExist() {
+            assertThrows(NoSuchFieldException.class,
+                    () -> ReflectionMemberCache.getField(TestEntityForReflectionField.class, "unknownField"));
+        }
+    }
+
+    /**
+     * The nested class for
+     * {@link ReflectionMemberCache#getMethod(Class, String, Class...)} method.
+     */
+    @Nested
+    class TestGetMethod {
+
+        @Test
+        void testWhenMethodExists() throws Exception {
+
+            final Method method = ReflectionMemberCache.getMethod(ReflectionTestDataSet.class,
+                    "returnStringWithArguments", String.class, int.class, boolean.class);
+
+            assertNotNull(method);
+            assertTrue(method.canAccess(new ReflectionTestDataSet()));
+            assertEquals("returnStringWithArguments", method.getName());
+        }
+
+        @Test
+        void testWhenMethodIsResolvedTwice() throws Exception {
+
+            final Method first = ReflectionMemberCache.getMethod(ReflectionTestDataSet.class,
+                    "returnStringWithArgument", String.class);
+            final Method second = ReflectionMemberCache.getMethod(ReflectionTestDataSet.class,
+                    "returnStringWithArgument", new Class<?>[] { String.class });
+
+            assertSame(first, second);
+        }
+
+        @Test
+        void testWhenParameterTypesDoNotMatch() {
+            assertThrows(NoSuchMethodException.class, () -> ReflectionMemberCache
+                    .getMethod(ReflectionTestDataSet.class, "returnStringWithArgument", Integer.class));
+        }
+    }
+
+    /**
+     * The nested class for
+     * {@link ReflectionMemberCache#getConstructorInvoker(Class, Class...)} method.
+     */
+    @Nested
+    class TestGetConstructorInvoker {
+
+        @Test
+        void testWhenConstructorIsResolvedTwice() throws Exception {
+
+            final ConstructorInvoker first = ReflectionMemberCache
+                    .getConstructorInvoker(ReflectionTestWithArgumentConstructor.class, String.class, int.class);
+            final ConstructorInvoker second = ReflectionMemberCache
+                    .getConstructorInvoker(ReflectionTestWithArgumentConstructor.class, String.class, int.class);
+
+            assertSame(first, second);
+            assertEquals(2, first.getConstructor().getParameterCount());
+        }
+
+        @Test
+        void testWhenConstructorDoesNotExist() {
+            assertThrows(NoSuchMethodException.class,
+                    () -> ReflectionMemberCache.getConstructorInvoker(ReflectionTestWithArgumentConstructor.class));
+        }
+    }
+
+    /**
+     * The nested class for
+     * {@link ReflectionMemberCache#findFieldAccessor(Class, String)} method.
+     */
+    @Nested
+    class TestFindFieldAccessor {
+
+        @Test
+        void testWhenFieldExists() throws Exception {
+            assertSame(ReflectionMemberCache.getFieldAccessor(TestEntityForReflectionField.class, "testField"),
+                    ReflectionMemberCache.findFieldAccessor(TestEntityForReflectionField.class, "testField"));
+        }
+
+        @Test
+        void testWhenFieldDoesNotExist() throws Exception {
+
+            assertNull(ReflectionMemberCache.findFieldAccessor(TestEntityForReflectionField.class, "unknownField"));
+            assertNull(ReflectionMemberCache.findFieldAccessor(TestEntityForReflectionField.class, "unknownField"));
+
+            final NoSuchFieldException exception = assertThrows(NoSuchFieldException.class,
+                    () -> ReflectionMemberCache.getFieldAccessor(TestEntityForReflectionField.class, "unknownField"));
+            assertEquals(TestEntityForReflectionField.class.getName() + ".unknownField", exception.getMessage());
+        }
+    }
+
+    /**
+     * The nested class for
+     * {@link ReflectionMemberCache#findMethodInvoker(Class, String, Class...)}
+     * method.
+     */
+    @Nested
+    class TestFindMethodInvoker {
+
+        @Test
+        void testWhenMethodExists() throws Exception {
+            assertSame(
+                    ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class, "returnStringWithArgument",
+                            String.class),
+                    ReflectionMemberCache.findMethodInvoker(ReflectionTestDataSet.class, "returnStringWithArgument",
+                            String.class).get());
+        }
+
+        @Test
+        void testWhenMethodDoesNotExist() throws Exception {
+
+            assertSame(OverloadResolution.absent(),
+                    ReflectionMemberCache.findMethodInvoker(ReflectionTestDataSet.class, "unknownMethod"));
+            assertSame(OverloadResolution.absent(), ReflectionMemberCache
+                    .findMethodInvoker(ReflectionTestDataSet.class, "returnStringWithArgument", int.class));
+
+            assertThrows(NoSuchMethodException.class,
+                    () -> ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class, "unknownMethod"));
+        }
+
+        @Test
+        void testWhenOverloadResolutionIsAmbiguous() throws Exception {
+
+            final OverloadResolution<MethodInvoker> resolution = ReflectionMemberCache
+                    .findMethodInvoker(ReflectionTestOverloadDataSet.class, "ambiguous", Integer.class, Integer.class);
+            assertFalse(resolution.isFound());
+            assertTrue(resolution.isAmbiguous());
+            assertEquals(2, resolution.getCandidates().size());
+
+            final NoSuchMethodException exception = assertThrows(NoSuchMethodException.class,
+                    () -> ReflectionMemberCache.getMethodInvoker(ReflectionTestOverloadDataSet.class, "ambiguous",
+                            Integer.class, Integer.class));
+            assertTrue(exception.getMessage().startsWith("Ambiguous method call"));
+            assertSame(resolution, ReflectionMemberCache.findMethodInvoker(ReflectionTestOverloadDataSet.class,
+                    "ambiguous", Integer.class, Integer.class));
+            assertTrue(assertThrows(NoSuchMethodException.class,
+                    () -> ReflectionMemberCache.getMethodInvoker(ReflectionTestOverloadDataSet.class, "ambiguous",
+                            Integer.class, Integer.class)).getMessage().startsWith("Ambiguous method call"));
+        }
+    }
+}
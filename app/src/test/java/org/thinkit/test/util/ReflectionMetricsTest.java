@@ -0,0 +1,263 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ReflectionMetrics} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ReflectionMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        ReflectionMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionMetrics.disable();
+        ReflectionMetrics.reset();
+    }
+
+    @Test
+    void testWhenMetricsAreDisabled() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertFalse(ReflectionMetrics.isEnabled());
+        assertEquals("success", sut.invokeMethod("returnStringWithNoArgument"));
+        assertEquals(0L, this.findMetrics(MemberKind.METHOD, "returnStringWithNoArgument()").getCount());
+    }
+
+    @Test
+    void testWhenMethodIsMeasured() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        for (int i = 0; i < 3; i++) {
+            sut.invokeMethod("returnStringWithNoArgument");
+        }
+
+        sut.invokeMethod("returnStringWithArgument", ReflectionArguments.newInstance().add(String.class, "test"));
+
+        final MemberMetrics noArgument = this.findMetrics(MemberKind.METHOD, "returnStringWithNoArgument()");
+        assertEquals(ReflectionTestDataSet.class.getName(), noArgument.getDeclaringClassName());
+        assertEquals(3L, noArgument.getCount());
+        assertEquals(0L, noArgument.getFailureCount());
+        assertTrue(noArgument.getMaxNanos() <= noArgument.getTotalNanos());
+
+        final MemberMetrics withArgument = this.findMetrics(MemberKind.METHOD,
+                "returnStringWithArgument(java.lang.String)");
+        assertEquals(1L, withArgument.getCount());
+    }
+
+    @Test
+    void testWhenMethodFails() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.addArgument(String.class, "error");
+
+        assertThrows(IllegalStateException.class, () -> sut.invokeMethod("throwExceptionWithArgument"));
+
+        final MemberMetrics metrics = this.findMetrics(MemberKind.METHOD,
+                "throwExceptionWithArgument(java.lang.String)");
+        assertEquals(1L, metrics.getCount());
+        assertEquals(1L, metrics.getFailureCount());
+    }
+
+    @Test
+    void testWhenFieldIsMeasured() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestStateDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestStateDataSet.class);
+        sut.setFieldValue("name", "changed");
+        sut.setFieldValue("name", "changed again");
+
+        assertEquals("changed again", sut.getFieldValue("name"));
+        assertEquals(2L, this.findMetrics(MemberKind.FIELD_SET, "name").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_GET, "name").getCount());
+    }
+
+    @Test
+    void testWhenPrimitiveMethodIsMeasured() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertEquals(1, sut.invokeInt("returnIntegerWithNoArgument"));
+        assertEquals(1L, sut.invokeLong("returnIntegerWithNoArgument"));
+        assertEquals(1.0d, sut.invokeDouble("returnIntegerWithNoArgument"));
+
+        assertEquals(3L, this.findMetrics(MemberKind.METHOD, "returnIntegerWithNoArgument()").getCount());
+    }
+
+    @Test
+    void testWhenMethodIsProbedOrExpectedToThrow() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertEquals("success", sut.tryInvokeMethod("returnStringWithNoArgument").getValue());
+        sut.addArgument(String.class, "error").invokeExpectingThrow("throwExceptionWithArgument");
+
+        assertEquals(1L, this.findMetrics(MemberKind.METHOD, "returnStringWithNoArgument()").getCount());
+
+        final MemberMetrics metrics = this.findMetrics(MemberKind.METHOD,
+                "throwExceptionWithArgument(java.lang.String)");
+        assertEquals(1L, metrics.getCount());
+        assertEquals(1L, metrics.getFailureCount());
+    }
+
+    @Test
+    void testWhenPreparedMethodAndInvocationSpecAreMeasured() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        final PreparedMethod<ReflectionTestDataSet, Object> preparedMethod = sut.prepare("returnStringWithArgument",
+                String.class);
+        preparedMethod.invoke("test");
+        preparedMethod.invoke(new Object[] { "test" });
+        sut.prepare("returnIntegerWithNoArgument").invokeInt();
+        sut.addArgument(String.class, "test").toInvocationSpec("returnStringWithArgument")
+                .invoke(new ReflectionTestDataSet());
+
+        assertEquals(3L, this.findMetrics(MemberKind.METHOD, "returnStringWithArgument(java.lang.String)").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.METHOD, "returnIntegerWithNoArgument()").getCount());
+    }
+
+    @Test
+    void testWhenPrimitiveFieldIsMeasured() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestStateDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestStateDataSet.class);
+        sut.setIntField("intValue", 10).setLongField("longValue", 10L);
+
+        assertEquals(10, sut.getIntField("intValue"));
+        assertEquals(10L, sut.getLongField("longValue"));
+        assertEquals(true, sut.getBooleanField("booleanValue"));
+        assertEquals("state", sut.getFieldValue(ReflectionTestStateDataSet.class, "name"));
+        sut.setFieldValue(ReflectionTestStateDataSet.class, "name", "changed");
+        sut.setFieldValues(Map.of("doubleValue", 1.5d));
+
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_SET, "intValue").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_GET, "intValue").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_SET, "longValue").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_GET, "booleanValue").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_GET, "name").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_SET, "name").getCount());
+        assertEquals(1L, this.findMetrics(MemberKind.FIELD_SET, "doubleValue").getCount());
+    }
+
+    @Test
+    void testWhenMetricsAreReset() {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.invokeMethod("returnStringWithNoArgument");
+        ReflectionMetrics.reset();
+        sut.invokeMethod("returnStringWithNoArgument");
+
+        assertEquals(1L, this.findMetrics(MemberKind.METHOD, "returnStringWithNoArgument()").getCount());
+    }
+
+    @Test
+    void testWhenMetricsAreReadThroughMXBean() throws Exception {
+
+        ReflectionMetrics.enable();
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.invokeMethod("returnStringWithNoArgument");
+
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = new ObjectName(ReflectionMetrics.OBJECT_NAME);
+
+        assertEquals(Boolean.TRUE, mBeanServer.getAttribute(objectName, "Enabled"));
+
+        final CompositeData[] memberMetrics = (CompositeData[]) mBeanServer.getAttribute(objectName,
+                "MemberMetrics");
+        boolean found = false;
+
+        for (final CompositeData metrics : memberMetrics) {
+            if ("returnStringWithNoArgument()".equals(metrics.get("memberName"))) {
+                assertEquals(1L, metrics.get("count"));
+                found = true;
+            }
+        }
+
+        assertTrue(found);
+    }
+
+    /**
+     * Returns the metrics of the member of {@link ReflectionTestDataSet} or
+     * {@link ReflectionTestStateDataSet} in the snapshot.
+     *
+     * @param kind       The kind of the access
+     * @param memberName The name of the member
+     * @return The metrics of the member, whose count is zero if the member is not
+     *         in the snapshot
+     */
+    private MemberMetrics findMetrics(final MemberKind kind, final String memberName) {
+
+        final List<MemberMetrics> snapshot = ReflectionMetrics.snapshot();
+
+        for (final MemberMetrics metrics : snapshot) {
+            if (metrics.getKind() == kind && metrics.getMemberName().equals(memberName)) {
+                return metrics;
+            }
+        }
+
+        return MemberStats.of(kind, "", memberName).toMemberMetrics();
+    }
+}
@@ -16,7 +16,11 @@ package org.thinkit.test.util;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
@@ -79,6 +83,22 @@ public final class ReflectionParameterTest {
             final Class<?>[] classes = assertDoesNotThrow(() -> ReflectionParameter.newInstance().getTypes());
             assertNotNull(classes);
         }
+
+        @Test
+        void testWhenTypesAreNotChanged() {
+
+            final ReflectionParameter sut = ReflectionParameter.newInstance();
+            sut.add(String.class, "");
+            sut.add(int.class, 0);
+
+            final Class<?>[] types = sut.getTypes();
+            sut.set(0, "test");
+
+            assertSame(types, sut.getTypes());
+
+            sut.add(boolean.class, true);
+            assertNotSame(types, sut.getTypes());
+        }
     }
 
     /**
@@ -127,6 +147,70 @@ public final class ReflectionParameterTest {
         }
     }
 
+    /**
+     * The nested class for {@link ReflectionParameter#set(int, Object)} method.
+     */
+    @Nested
+    class TestSet {
+
+        @Test
+        void testWhenIndexIsValid() {
+
+            final ReflectionParameter sut = ReflectionParameter.newInstance();
+            sut.add(String.class, "");
+            sut.add(int.class, 0);
+
+            final Object[] values = sut.getValues();
+            sut.set(0, "test");
+            sut.set(1, 1);
+
+            assertSame(values, sut.getValues());
+            assertEquals("test", values[0]);
+            assertEquals(1, values[1]);
+        }
+
+        @Test
+        void testWhenIndexIsOutOfBounds() {
+
+            final ReflectionParameter sut = ReflectionParameter.newInstance();
+            sut.add(String.class, "");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> sut.set(1, "test"));
+            assertThrows(IndexOutOfBoundsException.class, () -> sut.set(-1, "test"));
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionParameter#clear()} method.
+     */
+    @Nested
+    class TestClear {
+
+        @Test
+        void testWhenParameterIsSet() {
+
+            final ReflectionParameter sut = ReflectionParameter.newInstance();
+            sut.add(String.class, "test");
+            sut.add(int.class, 1);
+
+            final Class<?>[] types = sut.getTypes();
+            final Object[] values = sut.getValues();
+
+            sut.clear();
+            assertTrue(sut.isEmpty());
+            assertEquals(0, sut.getTypes().length);
+
+            sut.add(boolean.class, true);
+            sut.add(long.class, 2L);
+
+            assertNotSame(types, sut.getTypes());
+            assertEquals(String.class, types[0]);
+            assertEquals("test", values[0]);
+            assertEquals(boolean.class, sut.getTypes()[0]);
+            assertEquals(true, sut.getValues()[0]);
+        }
+    }
+
     /**
      * The nested class for {@link ReflectionParameter#isEmpty()} method.
      */
@@ -146,4 +230,50 @@ public final class ReflectionParameterTest {
             assertTrue(sut.isEmpty());
         }
     }
+
+    /**
+     * The nested class for {@link ReflectionParameter#equals(Object)} ,
+     * {@link ReflectionParameter#hashCode()} and
+     * {@link ReflectionParameter#toString()} methods.
+     */
+    @Nested
+    class TestEquals {
+
+        @Test
+        void testWhenCapacityIsDifferent() {
+
+            final ReflectionParameter trimmed = ReflectionParameter.newInstance();
+            trimmed.add(String.class, "test");
+            trimmed.add(int.class, 1);
+            trimmed.getValues();
+
+            final ReflectionParameter grown = ReflectionParameter.newInstance();
+            grown.add(String.class, "test");
+            grown.add(int.class, 1);
+
+            assertEquals(trimmed, grown);
+            assertEquals(trimmed.hashCode(), grown.hashCode());
+            assertEquals(trimmed.toString(), grown.toString());
+            assertEquals("ReflectionParameter(types=[class java.lang.String, int], values=[test, 1], size=2)",
+                    grown.toString());
+        }
+
+        @Test
+        void testWhenParametersAreDifferent() {
+
+            final ReflectionParameter sut = ReflectionParameter.newInstance();
+            sut.add(String.class, "test");
+
+            final ReflectionParameter other = ReflectionParameter.newInstance();
+            other.add(String.class, "test");
+            other.add(String.class, null);
+
+            assertNotEquals(sut, other);
+            other.clear();
+            other.add(String.class, "other");
+            assertNotEquals(sut, other);
+            assertNotEquals(sut, null);
+            assertEquals(ReflectionParameter.newInstance(), ReflectionParameter.newInstance());
+        }
+    }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ReflectionSutPool} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ReflectionSutPoolTest {
+
+    /**
+     * The nested class for {@link ReflectionSutPool#acquire()} method.
+     */
+    @Nested
+    class TestAcquire {
+
+        @Test
+        void testWhenInstanceIsReleased() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+            final int constructedCount = ReflectionTestPoolDataSet.CONSTRUCTED_COUNT.get();
+
+            for (int i = 0; i < 10; i++) {
+                final ReflectionTestPoolDataSet sutInstance = sut.acquire();
+                final ReflectionTestHelper<ReflectionTestPoolDataSet, Object> helper = ReflectionTestHelper
+                        .of(sutInstance);
+
+                assertEquals("baseline", helper.getFieldValue("name"));
+                assertEquals(0, helper.getIntField("count"));
+
+                helper.addArgument(String.class, "changed").invokeMethod("update");
+                assertEquals("changed", helper.getFieldValue("name"));
+
+                sut.release(sutInstance);
+            }
+
+            assertEquals(constructedCount + 1, ReflectionTestPoolDataSet.CONSTRUCTED_COUNT.get());
+            assertEquals(1, sut.getIdleSize());
+        }
+
+        @Test
+        void testWhenBaselineInstanceIsNotHandedOut() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+
+            assertEquals(0, sut.getIdleSize());
+            assertNotSame(sut.acquire(), sut.acquire());
+        }
+
+        @Test
+        void testWhenContentsOfReferencedObjectsAreChanged() {
+
+            final ReflectionSutPool<ReflectionTestPoolContainerDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolContainerDataSet.class);
+
+            for (int i = 0; i < 2; i++) {
+                final ReflectionTestPoolContainerDataSet sutInstance = sut.acquire();
+                ReflectionTestHelper.of(sutInstance).addArgument(String.class, "leak").invokeMethod("leak");
+                sut.release(sutInstance);
+            }
+
+            final ReflectionTestHelper<ReflectionTestPoolContainerDataSet, Object> helper = ReflectionTestHelper
+                    .of(sut.acquire());
+
+            assertEquals(List.of("baseline"), helper.getFieldValue("names"));
+            assertEquals(Map.of("baseline", 0), helper.getFieldValue("counts"));
+            assertTrue(helper.getFieldValue("counts") instanceof TreeMap);
+            assertArrayEquals(new int[] { 0 }, (int[]) helper.getFieldValue("values"));
+            assertEquals("leak", helper.getFieldValue("log").toString());
+        }
+
+        @Test
+        void testWhenInstancesAreInUseAtOnce() {
+
+            final ReflectionSutPool<ReflectionTestPoolContainerDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolContainerDataSet.class);
+
+            final ReflectionTestPoolContainerDataSet first = sut.acquire();
+            sut.release(sut.acquire());
+            sut.release(first);
+
+            final ReflectionTestHelper<ReflectionTestPoolContainerDataSet, Object> firstHelper = ReflectionTestHelper
+                    .of(sut.acquire());
+            final ReflectionTestHelper<ReflectionTestPoolContainerDataSet, Object> secondHelper = ReflectionTestHelper
+                    .of(sut.acquire());
+
+            firstHelper.addArgument(String.class, "leak").invokeMethod("leak");
+
+            assertEquals(List.of("baseline"), secondHelper.getFieldValue("names"));
+            assertNotSame(firstHelper.getFieldValue("names"), secondHelper.getFieldValue("names"));
+        }
+
+        @Test
+        void testWhenAllInstancesAreInUse() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+
+            final ReflectionTestPoolDataSet first = sut.acquire();
+            final ReflectionTestPoolDataSet second = sut.acquire();
+            assertNotSame(first, second);
+
+            sut.release(second);
+            sut.release(first);
+            assertEquals(2, sut.getIdleSize());
+            assertSame(first, sut.acquire());
+        }
+
+        @Test
+        void testWhenSuperclassFieldIsChanged() throws Exception {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+
+            final ReflectionTestPoolDataSet sutInstance = sut.acquire();
+            ReflectionTestHelper.of(sutInstance).addArgument(String.class, "changed").invokeMethod("update");
+            sut.release(sutInstance);
+
+            assertEquals("parent", ReflectionMemberCache
+                    .getFieldAccessor(ReflectionTestPoolParentDataSet.class, "parentName")
+                    .get(sut.acquire(), FieldAccessMode.PLAIN));
+        }
+
+        @Test
+        void testWhenConstructorHasArguments() {
+
+            final ReflectionSutPool<ReflectionTestWithArgumentConstructor> sut = ReflectionSutPool.of(
+                    ReflectionTestWithArgumentConstructor.class,
+                    ReflectionArguments.newInstance().add(String.class, "test").addInt(2));
+
+            assertEquals("testtest", ReflectionTestHelper.of(sut.acquire()).invokeMethod("repeatName"));
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionSutPool#release(Object)} method.
+     */
+    @Nested
+    class TestRelease {
+
+        @Test
+        void testWhenInstanceIsReleasedTwice() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+
+            final ReflectionTestPoolDataSet sutInstance = sut.acquire();
+            sut.release(sutInstance);
+
+            assertThrows(IllegalArgumentException.class, () -> sut.release(sutInstance));
+            assertEquals(1, sut.getIdleSize());
+            assertSame(sutInstance, sut.acquire());
+            assertNotSame(sutInstance, sut.acquire());
+        }
+
+        @Test
+        void testWhenInstanceIsNotAcquiredFromPool() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+            final ReflectionSutPool<ReflectionTestPoolDataSet> otherPool = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+
+            assertThrows(IllegalArgumentException.class, () -> sut.release(otherPool.acquire()));
+            assertEquals(0, sut.getIdleSize());
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionSutPool#toString()} method.
+     */
+    @Nested
+    class TestToString {
+
+        @Test
+        void testWhenPoolIsPrinted() {
+
+            final ReflectionSutPool<ReflectionTestPoolDataSet> sut = ReflectionSutPool
+                    .of(ReflectionTestPoolDataSet.class);
+            final int constructedCount = ReflectionTestPoolDataSet.CONSTRUCTED_COUNT.get();
+
+            assertEquals("ReflectionSutPool(sutClass=" + ReflectionTestPoolDataSet.class + ", idleSize=0)",
+                    sut.toString());
+            assertEquals(constructedCount, ReflectionTestPoolDataSet.CONSTRUCTED_COUNT.get());
+        }
+    }
+}
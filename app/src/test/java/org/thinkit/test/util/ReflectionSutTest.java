@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The class that manages test case of {@link ReflectionSut} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class ReflectionSutTest {
+
+    /**
+     * The nested class for {@link ReflectionSut#getSutInstance()} method.
+     */
+    @Nested
+    class TestGetSutInstance {
+
+        @Test
+        void testWhenSutIsLazy() {
+
+            final ReflectionSut<ReflectionTestDataSet> sut = ReflectionSut.lazy(ReflectionTestDataSet.class);
+            assertFalse(sut.isInstantiated());
+
+            final ReflectionTestDataSet sutInstance = sut.getSutInstance();
+            assertTrue(sut.isInstantiated());
+            assertSame(sutInstance, sut.getSutInstance());
+        }
+
+        @Test
+        void testWhenSutIsCreatedInAdvance() {
+
+            final ReflectionTestDataSet sutInstance = new ReflectionTestDataSet();
+            final ReflectionSut<ReflectionTestDataSet> sut = ReflectionSut.of(sutInstance);
+
+            assertTrue(sut.isInstantiated());
+            assertSame(sutInstance, sut.getSutInstance());
+        }
+
+        @Test
+        void testWhenSutIsInStaticMode() {
+
+            final ReflectionSut<ReflectionTestDataSet> sut = ReflectionSut.ofStatic(ReflectionTestDataSet.class);
+
+            assertThrows(IllegalStateException.class, () -> sut.getSutInstance());
+            assertFalse(sut.isInstantiated());
+        }
+
+        @Test
+        void testWhenConstructorThrowsException() {
+
+            final ReflectionSut<ReflectionTestWithThrowingConstructor> sut = ReflectionSut
+                    .lazy(ReflectionTestWithThrowingConstructor.class);
+
+            assertThrows(IllegalStateException.class, () -> sut.getSutInstance());
+            assertFalse(sut.isInstantiated());
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionSut#getReceiver(MethodInvoker)}
+     * method.
+     */
+    @Nested
+    class TestGetReceiver {
+
+        @Test
+        void testWhenMethodIsStatic() throws Exception {
+
+            final ReflectionSut<ReflectionTestWithThrowingConstructor> sut = ReflectionSut
+                    .lazy(ReflectionTestWithThrowingConstructor.class);
+
+            assertNull(sut.getReceiver(ReflectionMemberCache.getMethodInvoker(
+                    ReflectionTestWithThrowingConstructor.class, "returnStringWithNoArgument")));
+            assertNull(sut.getReceiver(ReflectionMemberCache
+                    .getFieldAccessor(ReflectionTestWithThrowingConstructor.class, "testStaticField")));
+            assertFalse(sut.isInstantiated());
+        }
+
+        @Test
+        void testWhenMethodIsNotStatic() throws Exception {
+
+            final ReflectionSut<ReflectionTestDataSet> sut = ReflectionSut.lazy(ReflectionTestDataSet.class);
+
+            assertSame(sut.getSutInstance(), sut.getReceiver(
+                    ReflectionMemberCache.getMethodInvoker(ReflectionTestDataSet.class, "returnStringWithNoArgument")));
+        }
+    }
+
+    /**
+     * The nested class for {@link ReflectionSut#toString()} and
+     * {@link ReflectionSut#hashCode()} methods.
+     */
+    @Nested
+    class TestToString {
+
+        @Test
+        void testWhenSutIsLazy() {
+
+            final ReflectionSut<ReflectionTestWithThrowingConstructor> sut = ReflectionSut
+                    .lazy(ReflectionTestWithThrowingConstructor.class);
+
+            assertNotNull(sut.toString());
+            assertEquals(sut.hashCode(), ReflectionSut.lazy(ReflectionTestWithThrowingConstructor.class).hashCode());
+            assertFalse(sut.isInstantiated());
+        }
+
+        @Test
+        void testWhenSutIsInStaticMode() {
+
+            final ReflectionSut<ReflectionTestDataSet> sut = ReflectionSut.ofStatic(ReflectionTestDataSet.class);
+
+            assertNotNull(sut.toString());
+            assertEquals(sut.hashCode(), ReflectionSut.ofStatic(ReflectionTestDataSet.class).hashCode());
+            assertFalse(sut.isInstantiated());
+        }
+    }
+}
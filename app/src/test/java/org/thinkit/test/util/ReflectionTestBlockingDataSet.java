@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The test data set that declares a method blocking for a while, for testing
+ * the concurrent invocation.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@SuppressWarnings("unused")
+final class ReflectionTestBlockingDataSet {
+
+    /**
+     * The number of the invocations running now
+     */
+    static final AtomicInteger RUNNING_COUNT = new AtomicInteger();
+
+    /**
+     * The maximum number of the invocations that have run at the same time
+     */
+    static final AtomicInteger MAX_RUNNING_COUNT = new AtomicInteger();
+
+    /**
+     * Returns {@code value} after sleeping for {@code millis} milliseconds.
+     *
+     * @param value  The value
+     * @param millis The time to sleep in milliseconds
+     * @return {@code value}
+     *
+     * @throws InterruptedException If the current thread is interrupted
+     */
+    private String echoLater(String value, long millis) throws InterruptedException {
+
+        final int runningCount = RUNNING_COUNT.incrementAndGet();
+        MAX_RUNNING_COUNT.accumulateAndGet(runningCount, Math::max);
+
+        try {
+            Thread.sleep(millis);
+            return value;
+        } finally {
+            RUNNING_COUNT.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The test data set that inherits private members from
+ * {@link ReflectionTestParentDataSet} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class ReflectionTestChildDataSet extends ReflectionTestParentDataSet {
+
+    /**
+     * The field that shadows the field of the superclass
+     */
+    @SuppressWarnings("unused")
+    private String shadowedField = "child";
+
+    /**
+     * Returns the string {@code "child"} .
+     *
+     * @return The string {@code "child"}
+     */
+    @SuppressWarnings("unused")
+    private String returnDeclaredString() {
+        return "child";
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.thinkit.test.util;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -73,6 +74,17 @@ final class ReflectionTestDataSet {
         return 1;
     }
 
+    /**
+     * Returns the int {@code 1000} , which is not cached by
+     * {@link Integer#valueOf(int)} , without argument.
+     *
+     * @return The int {@code 1000}
+     */
+    @SuppressWarnings("unused")
+    private int returnUncachedIntegerWithNoArgument() {
+        return 1000;
+    }
+
     /**
      * Returns the int {@code 1} if the argument is {@code true} , otherwise
      * {@code 0} .
@@ -166,4 +178,29 @@ final class ReflectionTestDataSet {
         result.put("result3", arg3);
         return result;
     }
+
+    /**
+     * Throws {@link UnsupportedOperationException} with the message passed as an
+     * argument.
+     *
+     * @param message The message of the exception
+     *
+     * @exception UnsupportedOperationException Always
+     */
+    @SuppressWarnings("unused")
+    private void throwExceptionWithArgument(String message) {
+        throw new UnsupportedOperationException(message);
+    }
+
+    /**
+     * Throws {@link IOException} with the message passed as an argument.
+     *
+     * @param message The message of the exception
+     *
+     * @throws IOException Always
+     */
+    @SuppressWarnings("unused")
+    private void throwCheckedExceptionWithArgument(String message) throws IOException {
+        throw new IOException(message);
+    }
 }
@@ -14,9 +14,21 @@
 
 package org.thinkit.test.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +50,12 @@ public final class ReflectionTestHelperTest {
      */
     private static final String FIELD_NAME_REFLECTION_METHOD = "reflectionMethod";
 
+    /**
+     * The bytes per invocation allowed for the methods that allocate nothing,
+     * which is less than the size of a boxed value
+     */
+    private static final long ALLOCATION_TOLERANCE_BYTES = 8L;
+
     @Test
     void testWhenConstructorIsPublic() {
 
@@ -82,4 +100,582 @@ public final class ReflectionTestHelperTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    void testInvokePrimitiveWithPrimitiveArguments() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Integer> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        sut.addIntArgument(1).addArgument(String.class, "test").addBooleanArgument(true);
+        assertEquals(1, sut.invokeInt("returnIntegerWithArguments"));
+    }
+
+    @Test
+    void testInvokeBoolean() {
+
+        final ReflectionTestHelper<ReflectionStaticTestDataSet, Boolean> sut = ReflectionTestHelper
+                .from(ReflectionStaticTestDataSet.class);
+
+        assertTrue(sut.addIntArgument(1).invokeBoolean("returnBooleanWithArgument"));
+    }
+
+    @Test
+    void testSetAndGetPrimitiveField() {
+
+        final ReflectionTestHelper<TestEntityForReflectionField, Object> sut = ReflectionTestHelper
+                .from(TestEntityForReflectionField.class);
+
+        sut.setIntField("testIntField", 1).setLongField("testLongField", 2L).setDoubleField("testDoubleField", 3.0d)
+                .setBooleanField("testBooleanField", true);
+
+        assertEquals(1, sut.getIntField("testIntField"));
+        assertEquals(2L, sut.getLongField("testLongField"));
+        assertEquals(3.0d, sut.getDoubleField("testDoubleField"));
+        assertTrue(sut.getBooleanField("testBooleanField"));
+    }
+
+    @Test
+    void testInvokeDifferentMethodsWithSameInstance() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertEquals("success", sut.addArgument(String.class, "test").invokeMethod("returnStringWithArgument"));
+        assertEquals(1, sut.clearArguments().addBooleanArgument(true).invokeMethod("returnIntegerWithArgument"));
+        assertEquals(true, sut.clearArguments().invokeMethod("returnBooleanWithNoArgument"));
+    }
+
+    @Test
+    void testInvokeMethodWithArguments() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.addArgument(String.class, "");
+
+        assertEquals("success", sut.invokeMethod("returnStringWithArguments",
+                ReflectionArguments.newInstance().add(String.class, "test").addInt(1).addBoolean(true)));
+        assertEquals(false,
+                sut.invokeMethod("returnBooleanWithArgument", ReflectionArguments.newInstance().addInt(0)));
+        assertEquals("failure", sut.invokeMethod("returnStringWithArgument"));
+    }
+
+    @Test
+    void testWhenNullArgumentIsPassed() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertEquals("failure", sut.invokeMethod("returnStringWithArgument",
+                ReflectionArguments.newInstance().add(String.class, null)));
+        assertEquals("failure", sut.addArgument(String.class, null).invokeMethod("returnStringWithArgument"));
+    }
+
+    @Test
+    void testWhenOnlyStaticMembersAreAccessed() {
+
+        final ReflectionTestHelper<ReflectionTestWithThrowingConstructor, String> sut = ReflectionTestHelper
+                .from(ReflectionTestWithThrowingConstructor.class);
+
+        assertEquals("success", sut.invokeMethod("returnStringWithNoArgument"));
+        assertEquals("static", sut.getFieldValue("testStaticField"));
+        assertThrows(IllegalStateException.class, () -> sut.invokeMethod("returnInstanceString"));
+    }
+
+    @Test
+    void testWhenHelperIsPrinted() {
+
+        final ReflectionTestHelper<ReflectionTestWithThrowingConstructor, String> sut = ReflectionTestHelper
+                .from(ReflectionTestWithThrowingConstructor.class);
+        final ReflectionTestHelper<ReflectionStaticTestDataSet, String> staticSut = ReflectionTestHelper
+                .fromStatic(ReflectionStaticTestDataSet.class);
+
+        assertNotNull(sut.toString());
+        assertNotNull(staticSut.toString());
+        assertEquals(staticSut.hashCode(), ReflectionTestHelper.fromStatic(ReflectionStaticTestDataSet.class).hashCode());
+        assertEquals(sut.hashCode(), sut.hashCode());
+        assertEquals("success", sut.invokeMethod("returnStringWithNoArgument"));
+    }
+
+    @Test
+    void testWhenStaticMode() {
+
+        final ReflectionTestHelper<ReflectionStaticTestDataSet, String> sut = ReflectionTestHelper
+                .fromStatic(ReflectionStaticTestDataSet.class);
+
+        assertEquals("success", sut.addArgument(String.class, "test").invokeMethod("returnStringWithArgument"));
+        assertEquals("success", sut.prepare("returnStringWithArgument", String.class).invoke("test"));
+    }
+
+    @Test
+    void testWhenInstanceMemberIsAccessedInStaticMode() {
+
+        final ReflectionTestHelper<TestEntityForReflectionField, Object> sut = ReflectionTestHelper
+                .fromStatic(TestEntityForReflectionField.class);
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.getFieldValue("testIntField"));
+        assertEquals(TestEntityForReflectionField.class.getName() + " is not instantiated in static mode.",
+                exception.getMessage());
+
+        sut.setFieldValue("testStaticField", "test");
+        assertEquals("test", sut.getFieldValue("testStaticField"));
+        sut.setFieldValue("testStaticField", null);
+    }
+
+    @Test
+    void testWhenSutInstanceIsGiven() {
+
+        final TestEntityForReflectionField sutInstance = TestEntityForReflectionField.newInstance();
+        final ReflectionTestHelper<TestEntityForReflectionField, Object> sut = ReflectionTestHelper.of(sutInstance);
+
+        sut.setIntField("testIntField", 10);
+        assertEquals(10, ReflectionTestHelper.of(sutInstance).getIntField("testIntField"));
+    }
+
+    @Test
+    void testWhenConstructorHasArguments() {
+
+        final ReflectionTestHelper<ReflectionTestWithArgumentConstructor, String> sut = ReflectionTestHelper
+                .from(ReflectionTestWithArgumentConstructor.class,
+                        ReflectionArguments.newInstance().add(String.class, "test").addInt(3));
+
+        assertEquals("testtesttest", sut.invokeMethod("repeatName"));
+        assertEquals(3, sut.getIntField("count"));
+    }
+
+    @Test
+    void testWhenConstructorArgumentsDoNotMatch() {
+
+        final ReflectionTestHelper<ReflectionTestWithArgumentConstructor, String> sut = ReflectionTestHelper
+                .from(ReflectionTestWithArgumentConstructor.class, ReflectionArguments.newInstance().addInt(3));
+
+        assertThrows(IllegalStateException.class, () -> sut.invokeMethod("repeatName"));
+    }
+
+    @Test
+    void testWhenMembersAreDeclaredInSuperclass() {
+
+        final ReflectionTestHelper<ReflectionTestChildDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestChildDataSet.class);
+
+        assertEquals("parent", sut.invokeMethod("returnParentString"));
+        assertEquals("child", sut.invokeMethod("returnDeclaredString"));
+        assertEquals("parent", sut.getFieldValue("parentField"));
+    }
+
+    @Test
+    void testWhenFieldIsShadowed() {
+
+        final ReflectionTestHelper<ReflectionTestChildDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestChildDataSet.class);
+
+        sut.setFieldValue(ReflectionTestParentDataSet.class, "shadowedField", "changed");
+
+        assertEquals("child", sut.getFieldValue("shadowedField"));
+        assertEquals("child", sut.getFieldValue(ReflectionTestChildDataSet.class, "shadowedField"));
+        assertEquals("changed", sut.getFieldValue(ReflectionTestParentDataSet.class, "shadowedField"));
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.getFieldValue(ReflectionTestDataSet.class, "shadowedField"));
+        assertThrows(IllegalArgumentException.class,
+                () -> sut.setFieldValue(ReflectionTestDataSet.class, "shadowedField", "changed"));
+    }
+
+    @Test
+    void testWhenShadowedFieldIsSetToMismatchedType() {
+
+        final ReflectionTestHelper<ReflectionTestChildDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestChildDataSet.class);
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.setFieldValue(ReflectionTestParentDataSet.class, "shadowedField", 1));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        assertEquals("parent", sut.getFieldValue(ReflectionTestParentDataSet.class, "shadowedField"));
+    }
+
+    @Test
+    void testWhenArgumentsAreResolvedToOverloadedMethod() {
+
+        final ReflectionTestHelper<ReflectionTestOverloadDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestOverloadDataSet.class);
+
+        assertEquals("CharSequence", sut.addArgument(String.class, "test").invokeMethod("describe"));
+        assertEquals("long", sut.clearArguments().addIntArgument(1).invokeMethod("describe"));
+        assertEquals("Object", sut.clearArguments().addArgument(Integer.class, 1).invokeMethod("describe"));
+    }
+
+    @Test
+    void testWhenNullArgumentIsResolvedToOverloadedMethod() {
+
+        final ReflectionTestHelper<ReflectionTestOverloadDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestOverloadDataSet.class);
+
+        assertEquals("CharSequence",
+                sut.invokeMethod("describe", ReflectionArguments.newInstance().add(String.class, null)));
+        assertEquals("Object", sut.invokeMethod("describe", ReflectionArguments.newInstance().add(Object.class, null)));
+        assertEquals("CharSequence", sut.addArgument(CharSequence.class, null).invokeMethod("describe"));
+    }
+
+    @Test
+    void testWhenArgumentsArePassedToVariableArityParameter() {
+
+        final ReflectionTestHelper<ReflectionTestOverloadDataSet, Integer> sut = ReflectionTestHelper
+                .from(ReflectionTestOverloadDataSet.class);
+
+        assertEquals(0, sut.invokeInt("sum"));
+        assertEquals(6, sut.addIntArgument(1).addArgument(Integer.class, 2).addIntArgument(3).invokeInt("sum"));
+        assertEquals(6, sut.clearArguments().addArgument(int[].class, new int[] { 1, 2, 3 }).invokeInt("sum"));
+    }
+
+    @Test
+    void testWhenOverloadResolutionIsAmbiguous() {
+
+        final ReflectionTestHelper<ReflectionTestOverloadDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestOverloadDataSet.class);
+
+        sut.addArgument(Integer.class, 1).addArgument(Integer.class, 2);
+
+        assertThrows(IllegalStateException.class, () -> sut.invokeMethod("ambiguous"));
+        assertThrows(IllegalStateException.class, () -> sut.hasMethod("ambiguous"));
+        assertThrows(IllegalStateException.class, () -> sut.tryInvokeMethod("ambiguous"));
+        assertThrows(IllegalStateException.class, () -> sut.hasMethod("ambiguous"));
+    }
+
+    @Test
+    void testWhenMembersAreProbed() {
+
+        final ReflectionTestHelper<ReflectionTestChildDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestChildDataSet.class);
+
+        assertTrue(sut.hasField("parentField"));
+        assertFalse(sut.hasField("unknownField"));
+        assertTrue(sut.hasMethod("returnParentString"));
+        assertFalse(sut.hasMethod("unknownMethod"));
+        assertFalse(sut.hasMethod("returnParentString", String.class));
+        assertFalse(sut.addArgument(String.class, "test").hasMethod("returnParentString"));
+    }
+
+    @Test
+    void testWhenMethodIsTriedToInvoke() {
+
+        final ReflectionTestHelper<ReflectionTestChildDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestChildDataSet.class);
+
+        final InvocationResult<String> result = sut.tryInvokeMethod("returnParentString");
+        assertTrue(result.isInvoked());
+        assertEquals("parent", result.getValue());
+        assertEquals(Optional.of("parent"), result.toOptional());
+
+        final InvocationResult<String> missingResult = sut.tryInvokeMethod("unknownMethod");
+        assertTrue(missingResult.isNotFound());
+        assertThrows(NoSuchElementException.class, () -> missingResult.getValue());
+        assertEquals(Optional.empty(), missingResult.toOptional());
+        assertTrue(sut.tryInvokeMethod("unknownMethod").isNotFound());
+        assertTrue(sut.tryInvokeMethod("returnParentString", ReflectionArguments.newInstance().addInt(1))
+                .isNotFound());
+    }
+
+    @Test
+    void testWhenVoidMethodIsTriedToInvoke() {
+
+        final ReflectionTestStateDataSet instance = new ReflectionTestStateDataSet();
+        final ReflectionTestHelper<ReflectionTestStateDataSet, Object> sut = ReflectionTestHelper.of(instance);
+
+        final InvocationResult<Object> result = sut.tryInvokeMethod("increment");
+
+        assertTrue(result.isInvoked());
+        assertFalse(result.isNotFound());
+        assertNull(result.getValue());
+        assertEquals(Optional.empty(), result.toOptional());
+        assertEquals(5, sut.getFieldValue("intValue"));
+    }
+
+    @Test
+    void testWhenFailureModeIsWrapped() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.addArgument(String.class, "test");
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.invokeMethod("throwExceptionWithArgument"));
+        assertTrue(exception.getCause().getCause() instanceof UnsupportedOperationException);
+    }
+
+    @Test
+    void testWhenFailureModeIsUnwrapped() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .<ReflectionTestDataSet, Object>from(ReflectionTestDataSet.class).setFailureMode(FailureMode.UNWRAPPED);
+        sut.addArgument(String.class, "test");
+
+        final UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                () -> sut.invokeMethod("throwExceptionWithArgument"));
+        assertEquals("test", exception.getMessage());
+        assertThrows(IOException.class, () -> sut.invokeMethod("throwCheckedExceptionWithArgument"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> sut.prepare("throwExceptionWithArgument", String.class).invoke("test"));
+        assertThrows(IllegalStateException.class, () -> sut.invokeMethod("unknownMethod"));
+    }
+
+    @Test
+    void testWhenFailureModeIsUnwrappedAndArgumentTypeDoesNotMatch() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .<ReflectionTestDataSet, Object>from(ReflectionTestDataSet.class).setFailureMode(FailureMode.UNWRAPPED);
+        sut.addBooleanArgument(true).setArgument(0, "oops");
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.invokeMethod("returnIntegerWithArgument"));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testWhenFailureModeIsUnwrappedAndConstructorThrowsException() {
+
+        final ReflectionTestHelper<ReflectionTestWithThrowingConstructor, Object> sut = ReflectionTestHelper
+                .<ReflectionTestWithThrowingConstructor, Object>from(ReflectionTestWithThrowingConstructor.class)
+                .setFailureMode(FailureMode.UNWRAPPED);
+
+        assertThrows(UnsupportedOperationException.class, () -> sut.invokeMethod("toString"));
+    }
+
+    @Test
+    void testWhenFailureModeIsStackless() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .<ReflectionTestDataSet, Object>from(ReflectionTestDataSet.class).setFailureMode(FailureMode.STACKLESS);
+        sut.addArgument(String.class, "test");
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.invokeMethod("throwExceptionWithArgument"));
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getCause().getStackTrace().length);
+        assertTrue(exception.getCause().getCause().getStackTrace().length > 0);
+    }
+
+    @Test
+    void testWhenMethodIsExpectedToThrow() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.addArgument(String.class, "test");
+
+        final Throwable thrown = sut.invokeExpectingThrow("throwExceptionWithArgument");
+        assertTrue(thrown instanceof UnsupportedOperationException);
+        assertEquals("test", thrown.getMessage());
+
+        final IOException checked = sut.invokeExpectingThrow("throwCheckedExceptionWithArgument", IOException.class);
+        assertEquals("test", checked.getMessage());
+
+        assertThrows(IllegalStateException.class,
+                () -> sut.invokeExpectingThrow("throwExceptionWithArgument", IOException.class));
+        assertThrows(IllegalStateException.class, () -> sut.invokeExpectingThrow("returnStringWithArgument"));
+    }
+
+    @Test
+    void testWhenMethodIsExpectedToThrowAndArgumentTypeDoesNotMatch() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.addArgument(String.class, "test").setArgument(0, 1);
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.invokeExpectingThrow("throwExceptionWithArgument"));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        assertThrows(IllegalStateException.class,
+                () -> sut.invokeExpectingThrow("throwExceptionWithArgument", ClassCastException.class));
+    }
+
+    @Test
+    void testWhenFieldValuesAreSetInBulk() {
+
+        final ReflectionTestHelper<ReflectionTestStateDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestStateDataSet.class);
+
+        sut.setFieldValues(Map.of("name", "bulk", "intValue", 10, "values", new int[] { 9 }));
+
+        assertEquals("bulk", sut.getFieldValue("name"));
+        assertEquals(10, sut.getIntField("intValue"));
+        assertArrayEquals(new int[] { 9 }, (int[]) sut.getFieldValue("values"));
+    }
+
+    @Test
+    void testWhenStaticFieldValueIsSetInBulk() {
+
+        final ReflectionTestHelper<TestEntityForReflectionField, Object> sut = ReflectionTestHelper
+                .fromStatic(TestEntityForReflectionField.class);
+
+        sut.setFieldValues(Map.of("testStaticField", "static"));
+        assertEquals("static", sut.getFieldValue("testStaticField"));
+        sut.setFieldValue("testStaticField", null);
+
+        assertThrows(IllegalStateException.class, () -> sut.setFieldValues(Map.of("unknownField", "value")));
+    }
+
+    @Test
+    void testWhenFieldsAreSnapshotted() {
+
+        final ReflectionTestHelper<ReflectionTestStateDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestStateDataSet.class);
+
+        final FieldSnapshot before = sut.snapshotFields();
+        sut.invokeMethod("increment");
+        final FieldSnapshot after = sut.snapshotFields();
+
+        assertEquals(4, before.getInt("intValue"));
+        assertEquals(5, after.getInt("intValue"));
+        assertThrows(IllegalStateException.class,
+                () -> ReflectionTestHelper.fromStatic(ReflectionTestStateDataSet.class).snapshotFields());
+    }
+
+    @Test
+    void testWhenFieldsAreDiffed() {
+
+        final ReflectionTestHelper<ReflectionTestStateDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestStateDataSet.class);
+
+        final FieldSnapshot before = sut.snapshotFields();
+        assertTrue(sut.diffFields(before).isEmpty());
+
+        sut.invokeMethod("increment");
+        final FieldDiff diff = sut.diffFields(before);
+
+        assertEquals(List.of("intValue", "values"), diff.getChangedFieldNames());
+        assertEquals(5, diff.getAfter("intValue"));
+    }
+
+    @Test
+    void testWhenInvocationSpecIsCreated() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        final InvocationSpec<ReflectionTestDataSet, String> spec = sut.addArgument(String.class, "test")
+                .toInvocationSpec("returnStringWithArgument");
+        sut.setArgument(0, "");
+
+        assertEquals("failure", sut.invokeMethod("returnStringWithArgument"));
+        assertEquals("success", spec.invoke(new ReflectionTestDataSet()));
+    }
+
+    @Test
+    void testWhenArgumentIsSetToMismatchedType() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Integer> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        sut.addBooleanArgument(true).setArgument(0, "oops");
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.invokeMethod("returnIntegerWithArgument"));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testWhenConstructorArgumentIsOfMismatchedType() {
+
+        final ReflectionTestHelper<ReflectionTestWithArgumentConstructor, String> sut = ReflectionTestHelper
+                .<ReflectionTestWithArgumentConstructor, String>from(ReflectionTestWithArgumentConstructor.class,
+                        ReflectionArguments.newInstance().add(String.class, 42).addInt(3))
+                .setFailureMode(FailureMode.UNWRAPPED);
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sut.invokeMethod("repeatName"));
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void testWhenMethodIsBenchmarked() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        final BenchmarkResult result = sut.addArgument(String.class, "test").benchmark("returnStringWithArgument",
+                BenchmarkOptions.newInstance().withWarmupIterations(100).withMeasurementIterations(1000));
+
+        assertEquals("returnStringWithArgument(java.lang.String)", result.getMethodName());
+        assertEquals(1000, result.getIterations());
+        assertTrue(result.getMinNanos() <= result.getP50Nanos());
+        assertTrue(result.getP50Nanos() <= result.getP99Nanos());
+        assertTrue(result.getP99Nanos() <= result.getMaxNanos());
+    }
+
+    @Test
+    void testWhenAllocationIsMeasured() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertTrue(sut.measureAllocatedBytes("returnStringWithNoArgument") <= ALLOCATION_TOLERANCE_BYTES);
+        assertEquals(sut, sut.assertAllocatesAtMost("returnStringWithNoArgument", ALLOCATION_TOLERANCE_BYTES));
+
+        sut.addArgument(String.class, "a").addArgument(String.class, "b").addArgument(String.class, "c");
+
+        assertTrue(sut.measureAllocatedBytes("returnListWithArguments") > 0L);
+        assertThrows(AssertionError.class, () -> sut.assertAllocatesNothing("returnListWithArguments"));
+        assertThrows(IllegalArgumentException.class, () -> sut.assertAllocatesAtMost("returnListWithArguments", -1L));
+        assertEquals(sut, sut.assertAllocatesAtMost("returnListWithArguments", 1024L));
+    }
+
+    @Test
+    void testWhenAllocationIsMeasuredWithOptions() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        final AllocationOptions options = AllocationOptions.newInstance().withMeasurementIterations(20000)
+                .withMeasurementRounds(3);
+
+        sut.addArgument(String.class, "a").addArgument(String.class, "b").addArgument(String.class, "c");
+
+        assertTrue(sut.measureAllocatedBytes("returnListWithArguments", options) > 0L);
+        assertThrows(AssertionError.class, () -> sut.assertAllocatesAtMost("returnListWithArguments", 0L, options));
+        assertThrows(NullPointerException.class, () -> sut.measureAllocatedBytes("returnListWithArguments", null));
+        assertEquals(sut, sut.assertAllocatesAtMost("returnListWithArguments", 1024L, options));
+    }
+
+    @Test
+    void testWhenMethodAllocatesNothing() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        for (int i = 0; i < 40; i++) {
+            assertEquals(sut, sut.assertAllocatesNothing("returnStringWithNoArgument"));
+        }
+    }
+
+    @Test
+    void testWhenAllocationOfPrimitiveReturningMethodIsMeasured() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, Object> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+
+        assertTrue(sut.measureAllocatedBytes("returnUncachedIntegerWithNoArgument") <= ALLOCATION_TOLERANCE_BYTES);
+        assertEquals(sut,
+                sut.assertAllocatesAtMost("returnUncachedIntegerWithNoArgument", ALLOCATION_TOLERANCE_BYTES));
+    }
+
+    @Test
+    void testWhenAllocationWithReplacedArgumentIsMeasured() {
+
+        final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                .from(ReflectionTestDataSet.class);
+        sut.addArgument(String.class, "").addIntArgument(0).addBooleanArgument(true);
+
+        final String[] argumentValues = { "even", "odd" };
+        final int[] invocationCount = { 0 };
+
+        final long allocatedBytes = AllocationMeter.measure(() -> sut
+                .setArgument(0, argumentValues[invocationCount[0]++ & 1]).invokeMethod("returnStringWithArguments"),
+                String.class, false, AllocationOptions.newInstance());
+
+        assertTrue(allocatedBytes <= ALLOCATION_TOLERANCE_BYTES,
+                String.format("%d bytes were allocated per invocation.", allocatedBytes));
+
+        for (final String argumentValue : argumentValues) {
+            assertSame(sut, sut.setArgument(0, argumentValue).assertAllocatesAtMost("returnStringWithArguments",
+                    ALLOCATION_TOLERANCE_BYTES));
+        }
+    }
 }
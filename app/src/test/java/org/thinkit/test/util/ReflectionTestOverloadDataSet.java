@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The test data set that declares overloaded methods for the overload
+ * resolution.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@SuppressWarnings("unused")
+final class ReflectionTestOverloadDataSet {
+
+    /**
+     * Returns the name of the parameter type.
+     *
+     * @param value The value
+     * @return The string {@code "Object"}
+     */
+    private String describe(Object value) {
+        return "Object";
+    }
+
+    /**
+     * Returns the name of the parameter type.
+     *
+     * @param value The value
+     * @return The string {@code "CharSequence"}
+     */
+    private String describe(CharSequence value) {
+        return "CharSequence";
+    }
+
+    /**
+     * Returns the name of the parameter type.
+     *
+     * @param value The value
+     * @return The string {@code "long"}
+     */
+    private String describe(long value) {
+        return "long";
+    }
+
+    /**
+     * Returns the doubled value.
+     *
+     * @param value The value
+     * @return The doubled value
+     */
+    private int twice(int value) {
+        return value * 2;
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @param values The values
+     * @return The sum of the values
+     */
+    private int sum(int... values) {
+
+        int sum = 0;
+
+        for (final int value : values) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the values joined with the prefix.
+     *
+     * @param prefix The prefix
+     * @param values The values
+     * @return The joined string
+     */
+    private static String join(String prefix, String... values) {
+        return prefix + String.join(",", values);
+    }
+
+    /**
+     * Returns the name of the parameter types.
+     *
+     * @param first  The first value
+     * @param second The second value
+     * @return The string {@code "Integer,Object"}
+     */
+    private String ambiguous(Integer first, Object second) {
+        return "Integer,Object";
+    }
+
+    /**
+     * Returns the name of the parameter types.
+     *
+     * @param first  The first value
+     * @param second The second value
+     * @return The string {@code "Object,Integer"}
+     */
+    private String ambiguous(Object first, Integer second) {
+        return "Object,Integer";
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The test data set that is inherited by {@link ReflectionTestChildDataSet} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+class ReflectionTestParentDataSet {
+
+    /**
+     * The field declared only in the superclass
+     */
+    @SuppressWarnings("unused")
+    private String parentField = "parent";
+
+    /**
+     * The field shadowed by the subclass
+     */
+    @SuppressWarnings("unused")
+    private String shadowedField = "parent";
+
+    /**
+     * Returns the string {@code "parent"} .
+     *
+     * @return The string {@code "parent"}
+     */
+    @SuppressWarnings("unused")
+    private String returnParentString() {
+        return "parent";
+    }
+
+    /**
+     * Returns the string {@code "parent"} . The subclass declares a method with the
+     * same signature.
+     *
+     * @return The string {@code "parent"}
+     */
+    @SuppressWarnings("unused")
+    private String returnDeclaredString() {
+        return "parent";
+    }
+}
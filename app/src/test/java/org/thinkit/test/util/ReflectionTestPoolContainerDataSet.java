@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+
+package org.thinkit.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The test data set that has the fields referencing mutable objects for testing
+ * {@link ReflectionSutPool} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@SuppressWarnings("unused")
+final class ReflectionTestPoolContainerDataSet {
+
+    private List<String> names = new ArrayList<>(List.of("baseline"));
+
+    private Map<String, Integer> counts = new TreeMap<>(Map.of("baseline", 0));
+
+    private int[] values = { 0 };
+
+    private StringBuilder log = new StringBuilder();
+
+    private void leak(String value) {
+        this.names.add(value);
+        this.counts.put(value, 1);
+        this.values[0]++;
+        this.log.append(value);
+    }
+}
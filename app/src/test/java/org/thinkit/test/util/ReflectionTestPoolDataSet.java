@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The test data set for testing {@link ReflectionSutPool} and
+ * {@link FieldLayout} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class ReflectionTestPoolDataSet extends ReflectionTestPoolParentDataSet {
+
+    /**
+     * The number of the instances constructed so far
+     */
+    static final AtomicInteger CONSTRUCTED_COUNT = new AtomicInteger();
+
+    /**
+     * The name
+     */
+    private String name = "baseline";
+
+    /**
+     * The count
+     */
+    private int count;
+
+    /**
+     * The constructor.
+     */
+    private ReflectionTestPoolDataSet() {
+        CONSTRUCTED_COUNT.incrementAndGet();
+    }
+
+    /**
+     * Updates the state of this instance.
+     *
+     * @param name The name
+     */
+    @SuppressWarnings("unused")
+    private void update(String name) {
+        this.name = name;
+        this.count++;
+        this.setParentName(name);
+    }
+
+    /**
+     * Stores {@code value} to the field and returns the value read back from the
+     * field, which differs from {@code value} only if this instance is shared by
+     * threads.
+     *
+     * @param value The value
+     * @return The value read back from the field
+     */
+    @SuppressWarnings("unused")
+    private String echo(String value) {
+        this.name = value;
+        Thread.yield();
+        return this.name;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The test data set that has the fields of all primitive types, a reference
+ * type and an array type for testing {@link FieldSnapshot} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@SuppressWarnings("unused")
+final class ReflectionTestStateDataSet {
+
+    /**
+     * The byte value
+     */
+    private byte byteValue = 1;
+
+    /**
+     * The short value
+     */
+    private short shortValue = 2;
+
+    /**
+     * The char value
+     */
+    private char charValue = 'c';
+
+    /**
+     * The int value
+     */
+    private int intValue = 4;
+
+    /**
+     * The long value
+     */
+    private long longValue = 5L;
+
+    /**
+     * The float value
+     */
+    private float floatValue = 6.5f;
+
+    /**
+     * The double value
+     */
+    private double doubleValue = 7.5d;
+
+    /**
+     * The boolean value
+     */
+    private boolean booleanValue = true;
+
+    /**
+     * The name
+     */
+    private String name = "state";
+
+    /**
+     * The values
+     */
+    private int[] values = { 1, 2, 3 };
+
+    /**
+     * Increments the int value and the last element of the values.
+     */
+    private void increment() {
+        this.intValue++;
+        this.values[this.values.length - 1]++;
+    }
+}
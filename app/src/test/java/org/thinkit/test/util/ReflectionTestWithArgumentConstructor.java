@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The class that defines data for testing a class that has only a constructor
+ * with arguments.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class ReflectionTestWithArgumentConstructor {
+
+    /**
+     * The name
+     */
+    private final String name;
+
+    /**
+     * The count
+     */
+    private final int count;
+
+    /**
+     * The constructor.
+     *
+     * @param name  The name
+     * @param count The count
+     */
+    private ReflectionTestWithArgumentConstructor(String name, int count) {
+        this.name = name;
+        this.count = count;
+    }
+
+    /**
+     * Returns the name repeated {@code count} times.
+     *
+     * @return The name repeated {@code count} times
+     */
+    @SuppressWarnings("unused")
+    private String repeatName() {
+        return this.name.repeat(this.count);
+    }
+}
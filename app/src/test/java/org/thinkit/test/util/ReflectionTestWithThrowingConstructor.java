@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+/**
+ * The class that defines data for testing a class whose constructor must not
+ * be run.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+final class ReflectionTestWithThrowingConstructor {
+
+    /**
+     * The static field
+     */
+    @SuppressWarnings("unused")
+    private static String testStaticField = "static";
+
+    /**
+     * The instance field
+     */
+    @SuppressWarnings("unused")
+    private String testField = "instance";
+
+    /**
+     * The constructor that always throws an exception.
+     *
+     * @exception UnsupportedOperationException Always
+     */
+    private ReflectionTestWithThrowingConstructor() {
+        throw new UnsupportedOperationException("The constructor must not be run.");
+    }
+
+    /**
+     * Returns the string {@code "success"} without argument.
+     *
+     * @return The string {@code "success"}
+     */
+    @SuppressWarnings("unused")
+    private static String returnStringWithNoArgument() {
+        return "success";
+    }
+
+    /**
+     * Returns the string {@code "success"} with the argument.
+     *
+     * @param arg The argument
+     * @return The string {@code "success"}
+     */
+    @SuppressWarnings("unused")
+    private static String returnStringWithArgument(String arg) {
+        return "success";
+    }
+
+    /**
+     * Returns the string {@code "instance"} without argument.
+     *
+     * @return The string {@code "instance"}
+     */
+    @SuppressWarnings("unused")
+    private String returnInstanceString() {
+        return "instance";
+    }
+}
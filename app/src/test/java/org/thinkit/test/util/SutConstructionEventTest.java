@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * The class that manages test case of {@link SutConstructionEvent} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+public final class SutConstructionEventTest {
+
+    @Test
+    void testWhenSutIsConstructed() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(SutConstructionEvent.NAME, () -> {
+            final ReflectionTestHelper<ReflectionTestDataSet, String> sut = ReflectionTestHelper
+                    .from(ReflectionTestDataSet.class);
+            sut.invokeMethod("returnStringWithNoArgument");
+            sut.invokeMethod("returnStringWithNoArgument");
+        });
+
+        assertEquals(1, events.size());
+        assertEquals(ReflectionTestDataSet.class.getName(), events.get(0).getClass("sutClass").getName());
+        assertEquals(0, events.get(0).getInt("argumentCount"));
+        assertFalse(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    void testWhenConstructorThrows() throws Exception {
+
+        final List<RecordedEvent> events = FlightRecorderTestSupport.record(SutConstructionEvent.NAME, () -> {
+            final ReflectionTestHelper<ReflectionTestWithThrowingConstructor, String> sut = ReflectionTestHelper
+                    .from(ReflectionTestWithThrowingConstructor.class);
+            assertThrows(IllegalStateException.class, () -> sut.invokeMethod("returnInstanceString"));
+        });
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getBoolean("failed"));
+    }
+}
@@ -41,4 +41,34 @@ final class TestEntityForReflectionField implements Serializable {
      * The test field
      */
     private String testField;
+
+    /**
+     * The test int field
+     */
+    private int testIntField;
+
+    /**
+     * The test long field
+     */
+    private long testLongField;
+
+    /**
+     * The test double field
+     */
+    private double testDoubleField;
+
+    /**
+     * The test boolean field
+     */
+    private boolean testBooleanField;
+
+    /**
+     * The test final field
+     */
+    private final Integer testFinalField = Integer.valueOf(0);
+
+    /**
+     * The test static field
+     */
+    private static String testStaticField;
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+/**
+ * The target of the benchmarks, which declares private members in the same way
+ * as the test data sets of the helper.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@SuppressWarnings("unused")
+public final class BenchmarkTarget {
+
+    /**
+     * The private field to be read and written
+     */
+    private String name = "name";
+
+    /**
+     * The private {@code int} field to be read and written
+     */
+    private int count;
+
+    /**
+     * Returns the fixed string.
+     *
+     * @return The fixed string
+     */
+    private String returnStringWithNoArgument() {
+        return "success";
+    }
+
+    /**
+     * Returns the string that depends on the argument.
+     *
+     * @param value The value
+     * @return {@code "success"} if {@code value} is not empty, otherwise
+     *         {@code "failure"}
+     */
+    private String returnStringWithArgument(String value) {
+        return value.isEmpty() ? "failure" : "success";
+    }
+
+    /**
+     * Returns the string that depends on the arguments.
+     *
+     * @param value   The value
+     * @param number  The number
+     * @param enabled The flag
+     * @return {@code "success"} if all arguments are valid, otherwise
+     *         {@code "failure"}
+     */
+    private String returnStringWithArguments(String value, int number, boolean enabled) {
+        return !value.isEmpty() && number > 0 && enabled ? "success" : "failure";
+    }
+
+    /**
+     * Returns the fixed string.
+     *
+     * @return The fixed string
+     */
+    private static String returnStaticStringWithNoArgument() {
+        return "success";
+    }
+}
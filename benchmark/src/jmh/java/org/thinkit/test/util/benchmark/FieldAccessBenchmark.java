@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thinkit.test.util.ReflectionTestHelper;
+
+/**
+ * The benchmark of the access to the private fields through
+ * {@link ReflectionTestHelper} , compared with {@link Field} and
+ * {@link MethodHandle} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+
+    /**
+     * The private field {@code name} of the target
+     */
+    private static final Field NAME_FIELD;
+
+    /**
+     * The getter of the private field {@code name} of the target
+     */
+    private static final MethodHandle NAME_GETTER;
+
+    /**
+     * The setter of the private field {@code name} of the target
+     */
+    private static final MethodHandle NAME_SETTER;
+
+    /**
+     * The getter of the private field {@code count} of the target
+     */
+    private static final MethodHandle COUNT_GETTER;
+
+    static {
+        try {
+            NAME_FIELD = BenchmarkTarget.class.getDeclaredField("name");
+            NAME_FIELD.setAccessible(true);
+
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(BenchmarkTarget.class,
+                    MethodHandles.lookup());
+            NAME_GETTER = lookup.unreflectGetter(NAME_FIELD);
+            NAME_SETTER = lookup.unreflectSetter(NAME_FIELD);
+            COUNT_GETTER = lookup.findGetter(BenchmarkTarget.class, "count", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The target
+     */
+    private BenchmarkTarget target;
+
+    /**
+     * The helper of the target
+     */
+    private ReflectionTestHelper<BenchmarkTarget, Object> helper;
+
+    @Setup
+    public void setUp() {
+        this.target = new BenchmarkTarget();
+        this.helper = ReflectionTestHelper.of(this.target);
+    }
+
+    @Benchmark
+    public Object getFieldValue() {
+        return this.helper.getFieldValue("name");
+    }
+
+    @Benchmark
+    public Object setFieldValue() {
+        return this.helper.setFieldValue("name", "value");
+    }
+
+    @Benchmark
+    public int getIntField() {
+        return this.helper.getIntField("count");
+    }
+
+    @Benchmark
+    public Object baselineFieldGet() throws IllegalAccessException {
+        return NAME_FIELD.get(this.target);
+    }
+
+    @Benchmark
+    public void baselineFieldSet() throws IllegalAccessException {
+        NAME_FIELD.set(this.target, "value");
+    }
+
+    @Benchmark
+    public Object baselineMethodHandleGet() throws Throwable {
+        return (String) NAME_GETTER.invokeExact(this.target);
+    }
+
+    @Benchmark
+    public void baselineMethodHandleSet() throws Throwable {
+        NAME_SETTER.invokeExact(this.target, "value");
+    }
+
+    @Benchmark
+    public int baselineMethodHandleGetInt() throws Throwable {
+        return (int) COUNT_GETTER.invokeExact(this.target);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.thinkit.test.util.ReflectionTestHelper;
+
+/**
+ * The benchmark of the construction of {@link ReflectionTestHelper} , compared
+ * with the construction of the SUT by {@link Constructor#newInstance(Object...)}
+ * and {@link MethodHandle} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+public class HelperConstructionBenchmark {
+
+    /**
+     * The constructor of the target
+     */
+    private static final Constructor<BenchmarkTarget> CONSTRUCTOR;
+
+    /**
+     * The method handle of the constructor of the target
+     */
+    private static final MethodHandle CONSTRUCTOR_HANDLE;
+
+    static {
+        try {
+            CONSTRUCTOR = BenchmarkTarget.class.getDeclaredConstructor();
+            CONSTRUCTOR_HANDLE = MethodHandles.lookup().findConstructor(BenchmarkTarget.class,
+                    MethodType.methodType(void.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Benchmark
+    public Object from() {
+        return ReflectionTestHelper.from(BenchmarkTarget.class);
+    }
+
+    @Benchmark
+    public Object fromAndInvoke() {
+        return ReflectionTestHelper.<BenchmarkTarget, String>from(BenchmarkTarget.class)
+                .invokeMethod("returnStringWithNoArgument");
+    }
+
+    @Benchmark
+    public Object baselineConstructorNewInstance() throws ReflectiveOperationException {
+        return CONSTRUCTOR.newInstance();
+    }
+
+    @Benchmark
+    public Object baselineMethodHandle() throws Throwable {
+        return (BenchmarkTarget) CONSTRUCTOR_HANDLE.invokeExact();
+    }
+}
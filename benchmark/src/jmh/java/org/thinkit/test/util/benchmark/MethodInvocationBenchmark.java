@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thinkit.test.util.InvocationSpec;
+import org.thinkit.test.util.PreparedMethod;
+import org.thinkit.test.util.ReflectionArguments;
+import org.thinkit.test.util.ReflectionTestHelper;
+
+/**
+ * The benchmark of the invocation of the private methods with 0, 1 and 3
+ * arguments through {@link ReflectionTestHelper} , {@link PreparedMethod} and
+ * {@link InvocationSpec} , compared with {@link Method#invoke(Object, Object...)}
+ * and {@link MethodHandle} .
+ *
+ * <p>
+ * The {@code gc.alloc.rate.norm} reported by the {@code gc} profiler is the
+ * proof that the invocation through {@link ReflectionTestHelper} allocates
+ * nothing per call once the JIT compiler has optimized it, including when an
+ * argument is replaced by {@link ReflectionTestHelper#setArgument(int, Object)}
+ * before each invocation.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+public class MethodInvocationBenchmark {
+
+    /**
+     * The private method with no argument
+     */
+    private static final Method NO_ARGUMENT_METHOD;
+
+    /**
+     * The private method with one argument
+     */
+    private static final Method ONE_ARGUMENT_METHOD;
+
+    /**
+     * The private method with three arguments
+     */
+    private static final Method THREE_ARGUMENTS_METHOD;
+
+    /**
+     * The method handle of the private method with no argument
+     */
+    private static final MethodHandle NO_ARGUMENT_HANDLE;
+
+    /**
+     * The method handle of the private method with one argument
+     */
+    private static final MethodHandle ONE_ARGUMENT_HANDLE;
+
+    /**
+     * The method handle of the private method with three arguments
+     */
+    private static final MethodHandle THREE_ARGUMENTS_HANDLE;
+
+    static {
+        try {
+            NO_ARGUMENT_METHOD = BenchmarkTarget.class.getDeclaredMethod("returnStringWithNoArgument");
+            ONE_ARGUMENT_METHOD = BenchmarkTarget.class.getDeclaredMethod("returnStringWithArgument", String.class);
+            THREE_ARGUMENTS_METHOD = BenchmarkTarget.class.getDeclaredMethod("returnStringWithArguments",
+                    String.class, int.class, boolean.class);
+            NO_ARGUMENT_METHOD.setAccessible(true);
+            ONE_ARGUMENT_METHOD.setAccessible(true);
+            THREE_ARGUMENTS_METHOD.setAccessible(true);
+
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(BenchmarkTarget.class,
+                    MethodHandles.lookup());
+            NO_ARGUMENT_HANDLE = lookup.unreflect(NO_ARGUMENT_METHOD);
+            ONE_ARGUMENT_HANDLE = lookup.unreflect(ONE_ARGUMENT_METHOD);
+            THREE_ARGUMENTS_HANDLE = lookup.unreflect(THREE_ARGUMENTS_METHOD);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The target
+     */
+    private BenchmarkTarget target;
+
+    /**
+     * The helper that has no argument
+     */
+    private ReflectionTestHelper<BenchmarkTarget, String> noArgumentHelper;
+
+    /**
+     * The helper that has one argument
+     */
+    private ReflectionTestHelper<BenchmarkTarget, String> oneArgumentHelper;
+
+    /**
+     * The helper that has three arguments
+     */
+    private ReflectionTestHelper<BenchmarkTarget, String> threeArgumentsHelper;
+
+    /**
+     * The helper that has three arguments, whose first argument is replaced
+     * before each invocation
+     */
+    private ReflectionTestHelper<BenchmarkTarget, String> replacedArgumentHelper;
+
+    /**
+     * The number of the invocations with the replaced argument
+     */
+    private int replacedArgumentCount;
+
+    /**
+     * The prepared method with one argument
+     */
+    private PreparedMethod<BenchmarkTarget, String> oneArgumentPreparedMethod;
+
+    /**
+     * The prepared method with three arguments
+     */
+    private PreparedMethod<BenchmarkTarget, String> threeArgumentsPreparedMethod;
+
+    /**
+     * The invocation spec with three arguments
+     */
+    private InvocationSpec<BenchmarkTarget, String> threeArgumentsSpec;
+
+    @Setup
+    public void setUp() {
+        this.target = new BenchmarkTarget();
+        this.noArgumentHelper = ReflectionTestHelper.of(this.target);
+        this.oneArgumentHelper = ReflectionTestHelper.<BenchmarkTarget, String>of(this.target)
+                .addArgument(String.class, "value");
+        this.threeArgumentsHelper = ReflectionTestHelper.<BenchmarkTarget, String>of(this.target)
+                .addArgument(String.class, "value").addIntArgument(1).addBooleanArgument(true);
+        this.replacedArgumentHelper = ReflectionTestHelper.<BenchmarkTarget, String>of(this.target)
+                .addArgument(String.class, "value").addIntArgument(1).addBooleanArgument(true);
+        this.oneArgumentPreparedMethod = this.noArgumentHelper.prepare("returnStringWithArgument", String.class);
+        this.threeArgumentsPreparedMethod = this.noArgumentHelper.prepare("returnStringWithArguments", String.class,
+                int.class, boolean.class);
+        this.threeArgumentsSpec = InvocationSpec.of(BenchmarkTarget.class, "returnStringWithArguments",
+                ReflectionArguments.newInstance().add(String.class, "value").addInt(1).addBoolean(true));
+    }
+
+    @Benchmark
+    public String invokeMethodWithNoArgument() {
+        return this.noArgumentHelper.invokeMethod("returnStringWithNoArgument");
+    }
+
+    @Benchmark
+    public String invokeMethodWithOneArgument() {
+        return this.oneArgumentHelper.invokeMethod("returnStringWithArgument");
+    }
+
+    @Benchmark
+    public String invokeMethodWithThreeArguments() {
+        return this.threeArgumentsHelper.invokeMethod("returnStringWithArguments");
+    }
+
+    @Benchmark
+    public String invokeMethodWithReplacedArgument() {
+        return this.replacedArgumentHelper.setArgument(0, this.replacedArgumentCount++ % 2 == 0 ? "even" : "odd")
+                .invokeMethod("returnStringWithArguments");
+    }
+
+    @Benchmark
+    public String preparedMethodWithOneArgument() {
+        return this.oneArgumentPreparedMethod.invoke("value");
+    }
+
+    @Benchmark
+    public String preparedMethodWithThreeArguments() {
+        return this.threeArgumentsPreparedMethod.invoke("value", 1, true);
+    }
+
+    @Benchmark
+    public String invocationSpecWithThreeArguments() {
+        return this.threeArgumentsSpec.invoke(this.target);
+    }
+
+    @Benchmark
+    public Object baselineMethodInvokeWithNoArgument() throws ReflectiveOperationException {
+        return NO_ARGUMENT_METHOD.invoke(this.target);
+    }
+
+    @Benchmark
+    public Object baselineMethodInvokeWithOneArgument() throws ReflectiveOperationException {
+        return ONE_ARGUMENT_METHOD.invoke(this.target, "value");
+    }
+
+    @Benchmark
+    public Object baselineMethodInvokeWithThreeArguments() throws ReflectiveOperationException {
+        return THREE_ARGUMENTS_METHOD.invoke(this.target, "value", 1, true);
+    }
+
+    @Benchmark
+    public String baselineMethodHandleWithNoArgument() throws Throwable {
+        return (String) NO_ARGUMENT_HANDLE.invokeExact(this.target);
+    }
+
+    @Benchmark
+    public String baselineMethodHandleWithOneArgument() throws Throwable {
+        return (String) ONE_ARGUMENT_HANDLE.invokeExact(this.target, "value");
+    }
+
+    @Benchmark
+    public String baselineMethodHandleWithThreeArguments() throws Throwable {
+        return (String) THREE_ARGUMENTS_HANDLE.invokeExact(this.target, "value", 1, true);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The target of the benchmark of {@link org.thinkit.test.util.ReflectionSutPool}
+ * , whose constructor does a realistic amount of work so that the cost of
+ * constructing the SUT for each helper is visible.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@SuppressWarnings("unused")
+public final class PooledBenchmarkTarget {
+
+    /**
+     * The number of the entries created by the constructor
+     */
+    private static final int ENTRY_COUNT = 64;
+
+    /**
+     * The entries created by the constructor
+     */
+    private final List<String> entries;
+
+    /**
+     * The private field changed by the method
+     */
+    private String name = "baseline";
+
+    /**
+     * The private {@code int} field changed by the method
+     */
+    private int count;
+
+    /**
+     * The constructor.
+     */
+    public PooledBenchmarkTarget() {
+        this.entries = new ArrayList<>(ENTRY_COUNT);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            this.entries.add("entry" + i);
+        }
+    }
+
+    /**
+     * Updates the state of this instance.
+     *
+     * @param name The name
+     * @return The number of the entries
+     */
+    private int update(String name) {
+        this.name = name;
+        this.count++;
+        return this.entries.size();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thinkit.test.util.ReflectionTestHelper;
+
+/**
+ * The benchmark of the invocation of the private static method through
+ * {@link ReflectionTestHelper} in static mode, compared with
+ * {@link Method#invoke(Object, Object...)} and {@link MethodHandle} .
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+public class StaticInvocationBenchmark {
+
+    /**
+     * The private static method
+     */
+    private static final Method STATIC_METHOD;
+
+    /**
+     * The method handle of the private static method
+     */
+    private static final MethodHandle STATIC_HANDLE;
+
+    static {
+        try {
+            STATIC_METHOD = BenchmarkTarget.class.getDeclaredMethod("returnStaticStringWithNoArgument");
+            STATIC_METHOD.setAccessible(true);
+            STATIC_HANDLE = MethodHandles.privateLookupIn(BenchmarkTarget.class, MethodHandles.lookup())
+                    .unreflect(STATIC_METHOD);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The helper in static mode
+     */
+    private ReflectionTestHelper<BenchmarkTarget, String> helper;
+
+    @Setup
+    public void setUp() {
+        this.helper = ReflectionTestHelper.fromStatic(BenchmarkTarget.class);
+    }
+
+    @Benchmark
+    public String invokeStaticMethod() {
+        return this.helper.invokeMethod("returnStaticStringWithNoArgument");
+    }
+
+    @Benchmark
+    public String fromStaticAndInvoke() {
+        return ReflectionTestHelper.<BenchmarkTarget, String>fromStatic(BenchmarkTarget.class)
+                .invokeMethod("returnStaticStringWithNoArgument");
+    }
+
+    @Benchmark
+    public Object baselineMethodInvoke() throws ReflectiveOperationException {
+        return STATIC_METHOD.invoke(null);
+    }
+
+    @Benchmark
+    public String baselineMethodHandle() throws Throwable {
+        return (String) STATIC_HANDLE.invokeExact();
+    }
+}
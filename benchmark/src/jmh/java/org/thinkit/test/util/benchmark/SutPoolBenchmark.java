@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.test.util.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thinkit.test.util.ReflectionSutPool;
+import org.thinkit.test.util.ReflectionTestHelper;
+
+/**
+ * The benchmark of {@link ReflectionSutPool} , which compares a test that
+ * acquires the SUT from the pool with a test that constructs a new SUT for each
+ * helper.
+ *
+ * @author Kato Shinya
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+public class SutPoolBenchmark {
+
+    /**
+     * The method handle of the constructor of the target
+     */
+    private static final MethodHandle CONSTRUCTOR_HANDLE;
+
+    /**
+     * The method handle of the private method of the target
+     */
+    private static final MethodHandle UPDATE_HANDLE;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(PooledBenchmarkTarget.class,
+                    MethodHandles.lookup());
+            CONSTRUCTOR_HANDLE = lookup.findConstructor(PooledBenchmarkTarget.class,
+                    MethodType.methodType(void.class));
+            UPDATE_HANDLE = lookup.findVirtual(PooledBenchmarkTarget.class, "update",
+                    MethodType.methodType(int.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The pool of the target
+     */
+    private ReflectionSutPool<PooledBenchmarkTarget> pool;
+
+    @Setup
+    public void setUp() {
+        this.pool = ReflectionSutPool.of(PooledBenchmarkTarget.class);
+    }
+
+    @Benchmark
+    public Object constructPerHelper() {
+        return ReflectionTestHelper.<PooledBenchmarkTarget, Integer>from(PooledBenchmarkTarget.class)
+                .addArgument(String.class, "changed").invokeMethod("update");
+    }
+
+    @Benchmark
+    public Object acquireFromPool() {
+
+        final PooledBenchmarkTarget sutInstance = this.pool.acquire();
+
+        try {
+            return ReflectionTestHelper.<PooledBenchmarkTarget, Integer>of(sutInstance)
+                    .addArgument(String.class, "changed").invokeMethod("update");
+        } finally {
+            this.pool.release(sutInstance);
+        }
+    }
+
+    @Benchmark
+    public int baselineMethodHandle() throws Throwable {
+        return (int) UPDATE_HANDLE.invokeExact((PooledBenchmarkTarget) CONSTRUCTOR_HANDLE.invokeExact(), "changed");
+    }
+}